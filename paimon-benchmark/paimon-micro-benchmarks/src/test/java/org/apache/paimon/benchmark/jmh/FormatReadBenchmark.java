@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark.jmh;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.format.FileFormat;
+import org.apache.paimon.format.FormatReaderFactory;
+import org.apache.paimon.format.FormatWriter;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.PositionOutputStream;
+import org.apache.paimon.fs.local.LocalFileIO;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.FileIOUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/** Benchmark for full scan throughput of the file formats. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FormatReadBenchmark {
+
+    private static final int NUM_ROWS = 1_000_000;
+
+    private static final RowType ROW_TYPE =
+            RowType.of(
+                    DataTypes.INT(),
+                    DataTypes.BIGINT(),
+                    DataTypes.DOUBLE(),
+                    DataTypes.STRING(),
+                    DataTypes.STRING());
+
+    @Param({"parquet", "orc", "avro"})
+    private String format;
+
+    private File tempDir;
+    private LocalFileIO fileIO;
+    private Path path;
+    private FormatReaderFactory readerFactory;
+
+    @Setup
+    public void setup() throws IOException {
+        tempDir = Files.createTempDirectory("format-read-benchmark").toFile();
+        fileIO = LocalFileIO.create();
+        path = new Path(new File(tempDir, "data." + format).toURI().toString());
+        FileFormat fileFormat = FileFormat.fromIdentifier(format, new Options());
+
+        Random random = new Random(42);
+        try (PositionOutputStream out = fileIO.newOutputStream(path, false)) {
+            FormatWriter writer = fileFormat.createWriterFactory(ROW_TYPE).create(out, null);
+            for (int i = 0; i < NUM_ROWS; i++) {
+                writer.addElement(
+                        GenericRow.of(
+                                i,
+                                random.nextLong(),
+                                random.nextDouble(),
+                                BinaryString.fromString("key-" + random.nextInt(1000)),
+                                BinaryString.fromString(String.valueOf(random.nextLong()))));
+            }
+            writer.finish();
+        }
+        readerFactory = fileFormat.createReaderFactory(ROW_TYPE);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileIOUtils.deleteDirectory(tempDir);
+    }
+
+    @Benchmark
+    public void read(Blackhole blackhole) throws IOException {
+        try (RecordReader<InternalRow> reader = readerFactory.createReader(fileIO, path)) {
+            RecordReader.RecordIterator<InternalRow> batch;
+            while ((batch = reader.readBatch()) != null) {
+                InternalRow row;
+                while ((row = batch.next()) != null) {
+                    blackhole.consume(row.getLong(1));
+                    blackhole.consume(row.getString(3));
+                }
+                batch.releaseBatch();
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark.jmh;
+
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.serializer.RowCompactedSerializer;
+import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.lookup.LookupStoreReader;
+import org.apache.paimon.lookup.LookupStoreWriter;
+import org.apache.paimon.lookup.hash.HashLookupStoreFactory;
+import org.apache.paimon.options.MemorySize;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.FileIOUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/** Benchmark for point lookups of {@link HashLookupStoreFactory} files. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LookupStoreBenchmark {
+
+    private static final int NUM_KEYS = 1_000_000;
+
+    private static final int VALUE_LENGTH = 100;
+
+    /** Whether looked up keys exist in the file. */
+    @Param({"true", "false"})
+    private boolean hit;
+
+    /** Cache memory in MB, a small cache forces pages to be reloaded from the file. */
+    @Param({"256", "4"})
+    private int cacheMemoryMb;
+
+    private File tempDir;
+    private LookupStoreReader reader;
+    private byte[][] lookupKeys;
+    private int next;
+
+    @Setup
+    public void setup() throws IOException {
+        tempDir = Files.createTempDirectory("lookup-store-benchmark").toFile();
+        File file = new File(tempDir, "lookup");
+        RowCompactedSerializer keySerializer =
+                new RowCompactedSerializer(RowType.of(DataTypes.INT()));
+        HashLookupStoreFactory factory =
+                new HashLookupStoreFactory(
+                        new CacheManager(
+                                (int) MemorySize.ofKibiBytes(16).getBytes(),
+                                MemorySize.ofMebiBytes(cacheMemoryMb)),
+                        0.75);
+
+        Random random = new Random(42);
+        byte[] value = new byte[VALUE_LENGTH];
+        try (LookupStoreWriter writer = factory.createWriter(file)) {
+            for (int i = 0; i < NUM_KEYS; i++) {
+                random.nextBytes(value);
+                writer.put(keySerializer.serializeToBytes(GenericRow.of(i * 2)), value);
+            }
+        }
+        reader = factory.createReader(file);
+
+        // odd keys are never written
+        lookupKeys = new byte[NUM_KEYS][];
+        for (int i = 0; i < NUM_KEYS; i++) {
+            int key = random.nextInt(NUM_KEYS) * 2 + (hit ? 0 : 1);
+            lookupKeys[i] = keySerializer.serializeToBytes(GenericRow.of(key));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        reader.close();
+        FileIOUtils.deleteDirectory(tempDir);
+    }
+
+    @Benchmark
+    public byte[] lookup() throws IOException {
+        byte[] key = lookupKeys[next];
+        next = next + 1 == lookupKeys.length ? 0 : next + 1;
+        return reader.lookup(key);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark.jmh;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.manifest.FileKind;
+import org.apache.paimon.manifest.ManifestEntry;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/** Benchmark for {@link ManifestEntry#mergeEntries}, which is executed by every scan and commit. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ManifestEntryMergeBenchmark {
+
+    private static final int NUM_PARTITIONS = 100;
+
+    private static final int NUM_BUCKETS = 16;
+
+    @Param({"100000", "1000000"})
+    private int numFiles;
+
+    /** Percentage of added files which are deleted again by later entries. */
+    @Param({"0", "50"})
+    private int deletePercentage;
+
+    private List<ManifestEntry> entries;
+
+    @Setup
+    public void setup() {
+        InternalRowSerializer partitionSerializer =
+                new InternalRowSerializer(RowType.of(DataTypes.INT()));
+        BinaryRow[] partitions = new BinaryRow[NUM_PARTITIONS];
+        for (int i = 0; i < NUM_PARTITIONS; i++) {
+            partitions[i] = partitionSerializer.toBinaryRow(GenericRow.of(i)).copy();
+        }
+
+        Random random = new Random(42);
+        List<ManifestEntry> added = new ArrayList<>(numFiles);
+        List<ManifestEntry> deleted = new ArrayList<>();
+        for (int i = 0; i < numFiles; i++) {
+            BinaryRow partition = partitions[random.nextInt(NUM_PARTITIONS)];
+            int bucket = random.nextInt(NUM_BUCKETS);
+            DataFileMeta file =
+                    DataFileMeta.forAppend(
+                            "data-" + UUID.randomUUID() + ".orc",
+                            1024,
+                            100,
+                            DataFileMeta.EMPTY_KEY_STATS,
+                            0,
+                            99,
+                            0);
+            added.add(new ManifestEntry(FileKind.ADD, partition, bucket, NUM_BUCKETS, file));
+            if (random.nextInt(100) < deletePercentage) {
+                deleted.add(
+                        new ManifestEntry(FileKind.DELETE, partition, bucket, NUM_BUCKETS, file));
+            }
+        }
+
+        // deletions come after their additions, just like in the manifest files of a snapshot
+        Collections.shuffle(deleted, random);
+        entries = new ArrayList<>(added.size() + deleted.size());
+        entries.addAll(added);
+        entries.addAll(deleted);
+    }
+
+    @Benchmark
+    public Collection<ManifestEntry> mergeEntries() {
+        return ManifestEntry.mergeEntries(entries);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark.jmh;
+
+import org.apache.paimon.index.PartitionIndex;
+import org.apache.paimon.utils.Int2ShortHashMap;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntPredicate;
+
+/**
+ * Benchmark for {@link PartitionIndex#assign} of dynamic bucket mode. New keys are assigned while
+ * most of the existing buckets are already full.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PartitionIndexBenchmark {
+
+    private static final long TARGET_BUCKET_ROW_NUMBER = 2_000_000;
+
+    private static final IntPredicate BUCKET_FILTER = bucket -> true;
+
+    /** Number of already full buckets in the partition. */
+    @Param({"10", "1000"})
+    private int fullBuckets;
+
+    /** Percentage of assigned keys which are already in the index. */
+    @Param({"0", "90"})
+    private int existingKeyPercentage;
+
+    private PartitionIndex index;
+    private Random random;
+    private int[] existingHashes;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        random = new Random(42);
+        Int2ShortHashMap hash2Bucket = new Int2ShortHashMap();
+        existingHashes = new int[100_000];
+        for (int i = 0; i < existingHashes.length; i++) {
+            existingHashes[i] = random.nextInt();
+            hash2Bucket.put(existingHashes[i], (short) (i % fullBuckets));
+        }
+        Map<Integer, Long> bucketInformation = new HashMap<>();
+        for (int i = 0; i < fullBuckets; i++) {
+            bucketInformation.put(i, TARGET_BUCKET_ROW_NUMBER);
+        }
+        index =
+                new PartitionIndex(
+                        hash2Bucket, bucketInformation, TARGET_BUCKET_ROW_NUMBER, BUCKET_FILTER);
+    }
+
+    @Benchmark
+    public int assign() {
+        int hash =
+                random.nextInt(100) < existingKeyPercentage
+                        ? existingHashes[random.nextInt(existingHashes.length)]
+                        : random.nextInt();
+        return index.assign(hash);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark.jmh;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.Decimal;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.Timestamp;
+import org.apache.paimon.data.serializer.RowCompactedSerializer;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/** Benchmark for {@link RowCompactedSerializer}, which encodes keys and values of lookup files. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RowCompactedSerializerBenchmark {
+
+    private static final int NUM_ROWS = 1024;
+
+    private static final RowType ROW_TYPE =
+            RowType.of(
+                    DataTypes.INT(),
+                    DataTypes.BIGINT(),
+                    DataTypes.DOUBLE(),
+                    DataTypes.STRING(),
+                    DataTypes.DECIMAL(10, 2),
+                    DataTypes.TIMESTAMP(3),
+                    DataTypes.BYTES());
+
+    private RowCompactedSerializer serializer;
+    private InternalRow[] rows;
+    private byte[][] serializedRows;
+    private int next;
+
+    @Setup
+    public void setup() {
+        serializer = new RowCompactedSerializer(ROW_TYPE);
+        Random random = new Random(42);
+        rows = new InternalRow[NUM_ROWS];
+        serializedRows = new byte[NUM_ROWS][];
+        for (int i = 0; i < NUM_ROWS; i++) {
+            byte[] bytes = new byte[random.nextInt(64)];
+            random.nextBytes(bytes);
+            rows[i] =
+                    GenericRow.of(
+                            random.nextInt(),
+                            random.nextLong(),
+                            random.nextDouble(),
+                            BinaryString.fromString("value-" + random.nextLong()),
+                            Decimal.fromBigDecimal(BigDecimal.valueOf(random.nextInt(), 2), 10, 2),
+                            Timestamp.fromEpochMillis(random.nextInt()),
+                            bytes);
+            serializedRows[i] = serializer.serializeToBytes(rows[i]);
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        InternalRow row = rows[next];
+        next = (next + 1) % NUM_ROWS;
+        return serializer.serializeToBytes(row);
+    }
+
+    @Benchmark
+    public InternalRow deserialize() {
+        byte[] bytes = serializedRows[next];
+        next = (next + 1) % NUM_ROWS;
+        return serializer.deserialize(bytes);
+    }
+}
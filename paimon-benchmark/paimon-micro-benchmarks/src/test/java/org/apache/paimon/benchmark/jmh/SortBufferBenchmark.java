@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark.jmh;
+
+import org.apache.paimon.codegen.CodeGenUtils;
+import org.apache.paimon.codegen.NormalizedKeyComputer;
+import org.apache.paimon.codegen.RecordComparator;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.BinaryRowSerializer;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.memory.HeapMemorySegmentPool;
+import org.apache.paimon.options.MemorySize;
+import org.apache.paimon.sort.BinaryExternalSortBuffer;
+import org.apache.paimon.sort.BinaryInMemorySortBuffer;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.FileIOUtils;
+import org.apache.paimon.utils.MutableObjectIterator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for sorting rows with {@link BinaryExternalSortBuffer}. With a small buffer memory the
+ * {@link BinaryInMemorySortBuffer} is spilled and the spilled runs are merged when reading.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SortBufferBenchmark {
+
+    private static final int NUM_RECORDS = 500_000;
+
+    private static final int PAGE_SIZE = 32 * 1024;
+
+    private static final RowType ROW_TYPE =
+            RowType.of(DataTypes.INT(), DataTypes.BIGINT(), DataTypes.STRING());
+
+    /** Buffer memory in MB, 256 keeps all records in memory while 8 forces spilling. */
+    @Param({"256", "8"})
+    private int bufferMemoryMb;
+
+    @Param({"1", "4"})
+    private int sortParallelism;
+
+    private File tempDir;
+    private IOManager ioManager;
+    private BinaryExternalSortBuffer sortBuffer;
+    private InternalRow[] rows;
+
+    @Setup
+    public void setup() throws Exception {
+        tempDir = Files.createTempDirectory("sort-buffer-benchmark").toFile();
+        ioManager = IOManager.create(tempDir.getAbsolutePath());
+
+        List<DataType> keyTypes = Collections.singletonList(DataTypes.INT());
+        NormalizedKeyComputer normalizedKeyComputer =
+                CodeGenUtils.newNormalizedKeyComputer(keyTypes, "BenchmarkKeyComputer");
+        RecordComparator comparator =
+                CodeGenUtils.newRecordComparator(keyTypes, "BenchmarkComparator");
+        HeapMemorySegmentPool memoryPool =
+                new HeapMemorySegmentPool(
+                        MemorySize.ofMebiBytes(bufferMemoryMb).getBytes(), PAGE_SIZE);
+        InternalRowSerializer serializer = new InternalRowSerializer(ROW_TYPE);
+        sortBuffer =
+                new BinaryExternalSortBuffer(
+                        new BinaryRowSerializer(ROW_TYPE.getFieldCount()),
+                        comparator,
+                        PAGE_SIZE,
+                        BinaryInMemorySortBuffer.createBuffer(
+                                normalizedKeyComputer,
+                                serializer,
+                                comparator,
+                                memoryPool,
+                                sortParallelism),
+                        ioManager,
+                        128);
+
+        Random random = new Random(42);
+        rows = new InternalRow[NUM_RECORDS];
+        for (int i = 0; i < NUM_RECORDS; i++) {
+            rows[i] =
+                    GenericRow.of(
+                            random.nextInt(),
+                            random.nextLong(),
+                            BinaryString.fromString(String.valueOf(random.nextLong())));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        sortBuffer.clear();
+        ioManager.close();
+        FileIOUtils.deleteDirectory(tempDir);
+    }
+
+    @Benchmark
+    public void writeAndSort(Blackhole blackhole) throws Exception {
+        for (InternalRow row : rows) {
+            if (!sortBuffer.write(row)) {
+                throw new IllegalStateException("Sort buffer is full.");
+            }
+        }
+
+        MutableObjectIterator<BinaryRow> iterator = sortBuffer.sortedIterator();
+        BinaryRow reuse = new BinaryRow(ROW_TYPE.getFieldCount());
+        while ((reuse = iterator.next(reuse)) != null) {
+            blackhole.consume(reuse);
+        }
+        sortBuffer.clear();
+    }
+}
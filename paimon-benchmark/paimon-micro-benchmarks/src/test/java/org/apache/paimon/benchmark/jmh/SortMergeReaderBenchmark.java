@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark.jmh;
+
+import org.apache.paimon.CoreOptions.SortEngine;
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.mergetree.compact.DeduplicateMergeFunction;
+import org.apache.paimon.mergetree.compact.ReducerMergeFunctionWrapper;
+import org.apache.paimon.mergetree.compact.SortMergeReader;
+import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.types.RowKind;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/** Benchmark for merging sorted runs with {@link SortMergeReader} of different sort engines. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SortMergeReaderBenchmark {
+
+    private static final int RECORDS_PER_READER = 100_000;
+
+    private static final Comparator<InternalRow> KEY_COMPARATOR =
+            Comparator.comparingInt(row -> row.getInt(0));
+
+    @Param({"MIN_HEAP", "LOSER_TREE"})
+    private SortEngine sortEngine;
+
+    @Param({"4", "16"})
+    private int numReaders;
+
+    private List<List<KeyValue>> runs;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        runs = new ArrayList<>(numReaders);
+        long sequenceNumber = 0;
+        for (int i = 0; i < numReaders; i++) {
+            // keys of different runs overlap, so that merge function is also exercised
+            TreeSet<Integer> keys = new TreeSet<>();
+            while (keys.size() < RECORDS_PER_READER) {
+                keys.add(random.nextInt(RECORDS_PER_READER * 4));
+            }
+            List<KeyValue> run = new ArrayList<>(RECORDS_PER_READER);
+            for (int key : keys) {
+                run.add(
+                        new KeyValue()
+                                .replace(
+                                        GenericRow.of(key),
+                                        sequenceNumber++,
+                                        RowKind.INSERT,
+                                        GenericRow.of(key, (long) key))
+                                .setLevel(i));
+            }
+            runs.add(run);
+        }
+    }
+
+    @Benchmark
+    public void merge(Blackhole blackhole) throws IOException {
+        List<RecordReader<KeyValue>> readers = new ArrayList<>(numReaders);
+        for (List<KeyValue> run : runs) {
+            readers.add(new ListRecordReader(run));
+        }
+        try (RecordReader<KeyValue> reader =
+                SortMergeReader.createSortMergeReader(
+                        readers,
+                        KEY_COMPARATOR,
+                        new ReducerMergeFunctionWrapper(
+                                DeduplicateMergeFunction.factory().create()),
+                        sortEngine)) {
+            RecordReader.RecordIterator<KeyValue> batch;
+            while ((batch = reader.readBatch()) != null) {
+                KeyValue kv;
+                while ((kv = batch.next()) != null) {
+                    blackhole.consume(kv);
+                }
+                batch.releaseBatch();
+            }
+        }
+    }
+
+    /** A {@link RecordReader} returning a sorted run in batches of fixed size. */
+    private static class ListRecordReader implements RecordReader<KeyValue> {
+
+        private static final int BATCH_SIZE = 1024;
+
+        private final List<KeyValue> records;
+
+        private int nextBatchStart = 0;
+
+        private ListRecordReader(List<KeyValue> records) {
+            this.records = records;
+        }
+
+        @Override
+        public RecordIterator<KeyValue> readBatch() {
+            if (nextBatchStart >= records.size()) {
+                return null;
+            }
+
+            int start = nextBatchStart;
+            int end = Math.min(start + BATCH_SIZE, records.size());
+            nextBatchStart = end;
+            return new RecordIterator<KeyValue>() {
+
+                private int next = start;
+
+                @Override
+                public KeyValue next() {
+                    return next < end ? records.get(next++) : null;
+                }
+
+                @Override
+                public void releaseBatch() {}
+            };
+        }
+
+        @Override
+        public void close() {}
+    }
+}
@@ -23,4 +23,7 @@ import org.apache.paimon.data.InternalArray;
 /** Array column vector. */
 public interface ArrayColumnVector extends ColumnVector {
     InternalArray getArray(int i);
+
+    /** Returns the vector holding the elements of all arrays. */
+    ColumnVector getColumnVector();
 }
@@ -44,6 +44,10 @@ public final class ColumnarArray implements InternalArray, DataSetters, Serializ
         this.numElements = numElements;
     }
 
+    public int getOffset() {
+        return offset;
+    }
+
     @Override
     public int size() {
         return numElements;
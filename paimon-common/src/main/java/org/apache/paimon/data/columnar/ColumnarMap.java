@@ -44,6 +44,10 @@ public final class ColumnarMap implements InternalMap, Serializable {
         this.numElements = numElements;
     }
 
+    public int getOffset() {
+        return offset;
+    }
+
     @Override
     public int size() {
         return numElements;
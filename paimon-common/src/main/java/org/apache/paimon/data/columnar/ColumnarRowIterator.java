@@ -20,6 +20,7 @@ package org.apache.paimon.data.columnar;
 
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.reader.VectorizedRecordIterator;
 import org.apache.paimon.utils.RecyclableIterator;
 
 import javax.annotation.Nullable;
@@ -28,7 +29,8 @@ import javax.annotation.Nullable;
  * A {@link RecordReader.RecordIterator} that returns {@link InternalRow}s. The next row is set by
  * {@link ColumnarRow#setRowId}.
  */
-public class ColumnarRowIterator extends RecyclableIterator<InternalRow> {
+public class ColumnarRowIterator extends RecyclableIterator<InternalRow>
+        implements VectorizedRecordIterator {
 
     private final ColumnarRow rowData;
 
@@ -55,4 +57,9 @@ public class ColumnarRowIterator extends RecyclableIterator<InternalRow> {
             return null;
         }
     }
+
+    @Override
+    public VectorizedColumnBatch batch() {
+        return rowData.batch();
+    }
 }
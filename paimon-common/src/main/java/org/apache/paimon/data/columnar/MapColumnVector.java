@@ -23,4 +23,10 @@ import org.apache.paimon.data.InternalMap;
 /** Map column vector. */
 public interface MapColumnVector extends ColumnVector {
     InternalMap getMap(int i);
+
+    /** Returns the vector holding the keys of all maps. */
+    ColumnVector getKeyColumnVector();
+
+    /** Returns the vector holding the values of all maps. */
+    ColumnVector getValueColumnVector();
 }
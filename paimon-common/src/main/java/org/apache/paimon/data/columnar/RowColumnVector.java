@@ -21,4 +21,7 @@ package org.apache.paimon.data.columnar;
 /** Row column vector. */
 public interface RowColumnVector extends ColumnVector {
     ColumnarRow getRow(int i);
+
+    /** Returns the batch holding the field vectors of all rows. */
+    VectorizedColumnBatch getBatch();
 }
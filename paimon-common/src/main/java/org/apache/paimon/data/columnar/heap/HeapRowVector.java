@@ -45,6 +45,11 @@ public class HeapRowVector extends AbstractHeapVector
         return columnarRow;
     }
 
+    @Override
+    public VectorizedColumnBatch getBatch() {
+        return new VectorizedColumnBatch(fields);
+    }
+
     @Override
     public void reset() {
         super.reset();
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.io;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.data.AbstractPagedInputView;
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.utils.MathUtils;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+
+/**
+ * A {@link SeekableDataInputView} to read bytes from a memory-mapped file. The file is mapped in
+ * regions of at most 1 GB, each region is wrapped as an off-heap {@link MemorySegment}, so a page
+ * miss is served by the operating system page cache without a system call or a copy to the heap.
+ *
+ * <p>The regions are unmapped when the view is closed, so the file can be deleted afterwards, the
+ * mapped memory is not managed by {@link org.apache.paimon.io.cache.CacheManager}.
+ */
+public class MappedRandomInputView extends AbstractPagedInputView
+        implements SeekableDataInputView, Closeable {
+
+    private static final int DEFAULT_REGION_SIZE = 1 << 30;
+
+    private final MemorySegment[] regions;
+    private final int regionSizeBits;
+    private final int regionSizeMask;
+
+    private int currentRegionIndex;
+
+    public MappedRandomInputView(File file) throws IOException {
+        this(file, DEFAULT_REGION_SIZE);
+    }
+
+    @VisibleForTesting
+    MappedRandomInputView(File file, int regionSize) throws IOException {
+        this.regionSizeBits = MathUtils.log2strict(regionSize);
+        this.regionSizeMask = regionSize - 1;
+
+        try (RandomAccessFile accessFile = new RandomAccessFile(file, "r")) {
+            // the mapping stays valid after the channel is closed
+            FileChannel channel = accessFile.getChannel();
+            long fileLength = channel.size();
+            this.regions =
+                    new MemorySegment[(int) ((fileLength + regionSize - 1) >>> regionSizeBits)];
+            for (int i = 0; i < regions.length; i++) {
+                long position = (long) i << regionSizeBits;
+                long size = Math.min(regionSize, fileLength - position);
+                regions[i] =
+                        MemorySegment.wrapOffHeapMemory(
+                                channel.map(FileChannel.MapMode.READ_ONLY, position, size));
+            }
+        }
+
+        this.currentRegionIndex = -1;
+    }
+
+    @Override
+    public void setReadPosition(long position) {
+        final int regionIndex = (int) (position >>> this.regionSizeBits);
+        final int offset = (int) (position & this.regionSizeMask);
+        this.currentRegionIndex = regionIndex;
+        MemorySegment segment = regions[regionIndex];
+        seekInput(segment, offset, getLimitForSegment(segment));
+    }
+
+    @Override
+    protected MemorySegment nextSegment(MemorySegment current) throws EOFException {
+        if (currentRegionIndex + 1 >= regions.length) {
+            throw new EOFException();
+        }
+
+        return regions[++currentRegionIndex];
+    }
+
+    @Override
+    protected int getLimitForSegment(MemorySegment segment) {
+        return segment.size();
+    }
+
+    @VisibleForTesting
+    MemorySegment[] regions() {
+        return regions;
+    }
+
+    @Override
+    public void close() {
+        clear();
+        for (int i = 0; i < regions.length; i++) {
+            if (regions[i] != null) {
+                // unmap the region now instead of when it is garbage collected
+                regions[i].free();
+                regions[i] = null;
+            }
+        }
+    }
+}
@@ -30,53 +30,125 @@ import org.apache.paimon.shade.guava30.com.google.common.util.concurrent.MoreExe
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 
-/** Cache manager to cache bytes to paged {@link MemorySegment}s. */
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+
+/**
+ * Cache manager to cache bytes to paged {@link MemorySegment}s.
+ *
+ * <p>The pages are cached in W-TinyLFU caches, which only admit a new page if it is accessed more
+ * frequently than the page to evict. If the index cache ratio is positive, index pages and data
+ * pages are cached in separate regions, so that scanning data pages never evicts the hot index
+ * pages used by point lookups.
+ */
 public class CacheManager {
 
     private final int pageSize;
-    private final Cache<CacheKey, CacheValue> cache;
+    private final Cache<CacheKey, CacheValue> indexCache;
+    private final Cache<CacheKey, CacheValue> dataCache;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
 
     public CacheManager(int pageSize, MemorySize maxMemorySize) {
+        this(pageSize, maxMemorySize, 0);
+    }
+
+    /**
+     * Creates a cache manager, the {@code indexCacheRatio} of the memory is reserved for index
+     * pages, index pages and data pages share the memory if it is zero.
+     */
+    public CacheManager(int pageSize, MemorySize maxMemorySize, double indexCacheRatio) {
+        checkArgument(
+                indexCacheRatio >= 0 && indexCacheRatio < 1,
+                "Index cache ratio must be in [0, 1), but is %s.",
+                indexCacheRatio);
         this.pageSize = pageSize;
-        this.cache =
-                Caffeine.newBuilder()
-                        .weigher(this::weigh)
-                        .maximumWeight(maxMemorySize.getBytes())
-                        .removalListener(this::onRemoval)
-                        .executor(MoreExecutors.directExecutor())
-                        .build();
+        long indexMemorySize = (long) (maxMemorySize.getBytes() * indexCacheRatio);
+        this.dataCache = createCache(maxMemorySize.getBytes() - indexMemorySize);
+        this.indexCache = indexMemorySize > 0 ? createCache(indexMemorySize) : dataCache;
+    }
+
+    private Cache<CacheKey, CacheValue> createCache(long maxWeight) {
+        return Caffeine.newBuilder()
+                .weigher(this::weigh)
+                .maximumWeight(maxWeight)
+                .removalListener(this::onRemoval)
+                .executor(MoreExecutors.directExecutor())
+                .build();
     }
 
     @VisibleForTesting
     Cache<CacheKey, CacheValue> cache() {
-        return cache;
+        return dataCache;
+    }
+
+    @VisibleForTesting
+    Cache<CacheKey, CacheValue> indexCache() {
+        return indexCache;
     }
 
     public int pageSize() {
         return pageSize;
     }
 
+    /** Number of page requests served by cached pages. */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /** Number of page requests which read pages from files. */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /** Number of pages evicted because of the memory limit. */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
     public MemorySegment getPage(
             RandomAccessFile file, int pageNumber, Consumer<Integer> cleanCallback) {
+        return getPage(file, pageNumber, false, cleanCallback);
+    }
+
+    public MemorySegment getPage(
+            RandomAccessFile file,
+            int pageNumber,
+            boolean isIndex,
+            Consumer<Integer> cleanCallback) {
         CacheKey key = new CacheKey(file, pageNumber);
-        CacheValue value;
-        value =
+        Cache<CacheKey, CacheValue> cache = isIndex ? indexCache : dataCache;
+        // a miss is counted only by the thread which actually reads the page
+        boolean[] loaded = new boolean[1];
+        CacheValue value =
                 cache.get(
                         key,
                         cacheKey -> {
+                            loaded[0] = true;
                             try {
                                 return createValue(key, cleanCallback);
                             } catch (IOException e) {
                                 throw new RuntimeException(e);
                             }
                         });
+        if (loaded[0]) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
         return value.segment;
     }
 
     public void invalidPage(RandomAccessFile file, int pageNumber) {
-        cache.invalidate(new CacheKey(file, pageNumber));
+        CacheKey key = new CacheKey(file, pageNumber);
+        dataCache.invalidate(key);
+        if (indexCache != dataCache) {
+            indexCache.invalidate(key);
+        }
     }
 
     private int weigh(CacheKey cacheKey, CacheValue cacheValue) {
@@ -84,6 +156,9 @@ public class CacheManager {
     }
 
     private void onRemoval(CacheKey key, CacheValue value, RemovalCause cause) {
+        if (cause.wasEvicted()) {
+            evictions.increment();
+        }
         value.cleanCallback.accept(key.pageNumber);
     }
 
@@ -30,9 +30,9 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A {@link SeekableDataInputView} to read bytes from {@link RandomAccessFile}, the bytes can be
@@ -47,15 +47,27 @@ public class CachedRandomInputView extends AbstractPagedInputView
     private final Map<Integer, MemorySegment> segments;
     private final int segmentSizeBits;
     private final int segmentSizeMask;
+    private final long indexLength;
 
     private int currentSegmentIndex;
 
     public CachedRandomInputView(File file, CacheManager cacheManager)
             throws FileNotFoundException {
+        this(file, cacheManager, 0);
+    }
+
+    /**
+     * Creates a view whose first {@code indexLength} bytes are index, the pages containing them are
+     * cached as index pages.
+     */
+    public CachedRandomInputView(File file, CacheManager cacheManager, long indexLength)
+            throws FileNotFoundException {
         this.file = new RandomAccessFile(file, "r");
+        this.indexLength = indexLength;
         this.fileLength = file.length();
         this.cacheManager = cacheManager;
-        this.segments = new HashMap<>();
+        // pages may be evicted by other threads sharing the same cache manager
+        this.segments = new ConcurrentHashMap<>();
         int segmentSize = cacheManager.pageSize();
         this.segmentSizeBits = MathUtils.log2strict(segmentSize);
         this.segmentSizeMask = segmentSize - 1;
@@ -75,7 +87,8 @@ public class CachedRandomInputView extends AbstractPagedInputView
     private MemorySegment getCurrentPage() {
         MemorySegment segment = segments.get(currentSegmentIndex);
         if (segment == null) {
-            segment = cacheManager.getPage(file, currentSegmentIndex, this::invalidPage);
+            boolean isIndex = (long) currentSegmentIndex << segmentSizeBits < indexLength;
+            segment = cacheManager.getPage(file, currentSegmentIndex, isIndex, this::invalidPage);
             segments.put(currentSegmentIndex, segment);
         }
         return segment;
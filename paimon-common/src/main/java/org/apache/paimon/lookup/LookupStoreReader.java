@@ -20,10 +20,24 @@ package org.apache.paimon.lookup;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 /** Reader, lookup value by key bytes. */
 public interface LookupStoreReader extends Closeable {
 
     /** Lookup value by key. */
     byte[] lookup(byte[] key) throws IOException;
+
+    /**
+     * Lookup values by keys, the returned list has the same order as the keys and contains null for
+     * keys which do not exist. Implementations may reorder the accesses to the file.
+     */
+    default List<byte[]> lookup(List<byte[]> keys) throws IOException {
+        List<byte[]> values = new ArrayList<>(keys.size());
+        for (byte[] key : keys) {
+            values.add(lookup(key));
+        }
+        return values;
+    }
 }
@@ -29,10 +29,21 @@ public class HashLookupStoreFactory implements LookupStoreFactory {
 
     private final CacheManager cacheManager;
     private final double loadFactor;
+    private final boolean mmapEnabled;
 
     public HashLookupStoreFactory(CacheManager cacheManager, double loadFactor) {
+        this(cacheManager, loadFactor, false);
+    }
+
+    /**
+     * Creates a factory, the readers read files by memory mapping instead of the pages of {@link
+     * CacheManager} if {@code mmapEnabled} is true.
+     */
+    public HashLookupStoreFactory(
+            CacheManager cacheManager, double loadFactor, boolean mmapEnabled) {
         this.cacheManager = cacheManager;
         this.loadFactor = loadFactor;
+        this.mmapEnabled = mmapEnabled;
     }
 
     @Override
@@ -42,6 +53,6 @@ public class HashLookupStoreFactory implements LookupStoreFactory {
 
     @Override
     public HashLookupStoreReader createReader(File file) throws IOException {
-        return new HashLookupStoreReader(cacheManager, file);
+        return new HashLookupStoreReader(cacheManager, file, mmapEnabled);
     }
 }
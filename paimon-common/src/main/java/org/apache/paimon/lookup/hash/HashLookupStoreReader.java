@@ -18,6 +18,8 @@
 
 package org.apache.paimon.lookup.hash;
 
+import org.apache.paimon.io.MappedRandomInputView;
+import org.apache.paimon.io.SeekableDataInputView;
 import org.apache.paimon.io.cache.CacheManager;
 import org.apache.paimon.io.cache.CachedRandomInputView;
 import org.apache.paimon.lookup.LookupStoreReader;
@@ -28,6 +30,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.BufferedInputStream;
+import java.io.Closeable;
 import java.io.DataInputStream;
 import java.io.File;
 import java.io.FileInputStream;
@@ -35,9 +38,12 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.text.DecimalFormat;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 /** Internal read implementation for hash kv store. */
@@ -58,11 +64,18 @@ public class HashLookupStoreReader
     // Offset of the data for different key length
     private final long[] dataOffsets;
     // File input view
-    private CachedRandomInputView inputView;
+    private SeekableDataInputView inputView;
+    // Closes the file input view
+    private Closeable inputCloser;
     // Buffers
     private final byte[] slotBuffer;
 
     HashLookupStoreReader(CacheManager cacheManager, File file) throws IOException {
+        this(cacheManager, file, false);
+    }
+
+    HashLookupStoreReader(CacheManager cacheManager, File file, boolean mmapEnabled)
+            throws IOException {
         // File path
         if (!file.exists()) {
             throw new FileNotFoundException("File " + file.getAbsolutePath() + " not found");
@@ -127,7 +140,17 @@ public class HashLookupStoreReader
         }
 
         // Create Mapped file in read-only mode
-        inputView = new CachedRandomInputView(file, cacheManager);
+        if (mmapEnabled) {
+            MappedRandomInputView mappedView = new MappedRandomInputView(file);
+            inputView = mappedView;
+            inputCloser = mappedView;
+        } else {
+            // the metadata and the slots before the data are index
+            CachedRandomInputView cachedView =
+                    new CachedRandomInputView(file, cacheManager, dataOffset);
+            inputView = cachedView;
+            inputCloser = cachedView;
+        }
 
         // logging
         DecimalFormat integerFormat = new DecimalFormat("#,##0.00");
@@ -158,6 +181,53 @@ public class HashLookupStoreReader
         if (keyLength >= slots.length || keyCounts[keyLength] == 0) {
             return null;
         }
+        long valuePosition = probe(key);
+        return valuePosition < 0 ? null : getValue(valuePosition);
+    }
+
+    /**
+     * Lookup values by keys. The slots are probed in the order of their positions in the file, and
+     * then the values are read in the order of their positions, so that the pages are accessed
+     * sequentially and each page is fetched at most once per batch in most cases.
+     */
+    @Override
+    public List<byte[]> lookup(List<byte[]> keys) throws IOException {
+        int numKeys = keys.size();
+        long[] positions = new long[numKeys];
+        List<Integer> candidates = new ArrayList<>(numKeys);
+        for (int i = 0; i < numKeys; i++) {
+            byte[] key = keys.get(i);
+            int keyLength = key.length;
+            if (keyLength < slots.length && keyCounts[keyLength] > 0) {
+                int hash = MurmurHashUtils.hashBytesPositive(key);
+                long slot = hash % slots[keyLength];
+                positions[i] = indexOffsets[keyLength] + slot * slotSizes[keyLength];
+                candidates.add(i);
+            }
+        }
+
+        // probe slots in the order of positions, records the positions of found values
+        candidates.sort(Comparator.comparingLong(i -> positions[i]));
+        List<Integer> found = new ArrayList<>(candidates.size());
+        for (int i : candidates) {
+            long valuePosition = probe(keys.get(i));
+            if (valuePosition >= 0) {
+                positions[i] = valuePosition;
+                found.add(i);
+            }
+        }
+
+        byte[][] values = new byte[numKeys][];
+        found.sort(Comparator.comparingLong(i -> positions[i]));
+        for (int i : found) {
+            values[i] = getValue(positions[i]);
+        }
+        return Arrays.asList(values);
+    }
+
+    /** Returns the position of the value of the key, or -1 if the key does not exist. */
+    private long probe(byte[] key) throws IOException {
+        int keyLength = key.length;
         int hash = MurmurHashUtils.hashBytesPositive(key);
         int numSlots = slots[keyLength];
         int slotSize = slotSizes[keyLength];
@@ -171,13 +241,13 @@ public class HashLookupStoreReader
 
             long offset = VarLengthIntUtils.decodeLong(slotBuffer, keyLength);
             if (offset == 0) {
-                return null;
+                return -1;
             }
             if (isKey(slotBuffer, key)) {
-                return getValue(dataOffset + offset);
+                return dataOffset + offset;
             }
         }
-        return null;
+        return -1;
     }
 
     private boolean isKey(byte[] slotBuffer, byte[] key) {
@@ -210,7 +280,8 @@ public class HashLookupStoreReader
 
     @Override
     public void close() throws IOException {
-        inputView.close();
+        inputCloser.close();
+        inputCloser = null;
         inputView = null;
     }
 
@@ -96,6 +96,21 @@ public final class MemorySegment {
         return heapMemory == null;
     }
 
+    /**
+     * Releases the off-heap memory of this segment immediately, the segment must not be accessed
+     * afterwards. Does nothing for heap segments.
+     */
+    public void free() {
+        if (offHeapBuffer != null) {
+            MemoryUtils.freeDirectBuffer(offHeapBuffer);
+            offHeapBuffer = null;
+        }
+    }
+
+    public boolean isFreed() {
+        return heapMemory == null && offHeapBuffer == null;
+    }
+
     public byte[] getArray() {
         if (heapMemory != null) {
             return heapMemory;
@@ -21,6 +21,7 @@ package org.apache.paimon.memory;
 import org.apache.paimon.utils.Preconditions;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
@@ -123,6 +124,32 @@ public class MemoryUtils {
         return offHeapAddress;
     }
 
+    /**
+     * Releases the native memory of the given direct {@link ByteBuffer} immediately instead of
+     * waiting for its garbage collection. The buffer must not be accessed afterwards.
+     */
+    static void freeDirectBuffer(ByteBuffer buffer) {
+        Preconditions.checkArgument(buffer.isDirect(), "Can't free a non-direct ByteBuffer.");
+        try {
+            try {
+                // Java 9+
+                Method invokeCleaner =
+                        UNSAFE.getClass().getMethod("invokeCleaner", ByteBuffer.class);
+                invokeCleaner.invoke(UNSAFE, buffer);
+            } catch (NoSuchMethodException e) {
+                // Java 8
+                Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                Object cleaner = cleanerMethod.invoke(buffer);
+                if (cleaner != null) {
+                    cleaner.getClass().getMethod("clean").invoke(cleaner);
+                }
+            }
+        } catch (Throwable t) {
+            throw new Error("Could not free direct byte buffer.", t);
+        }
+    }
+
     /** Should not be instantiated. */
     private MemoryUtils() {}
 }
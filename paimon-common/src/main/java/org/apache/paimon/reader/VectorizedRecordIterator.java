@@ -0,0 +1,33 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.reader;
+
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+
+/**
+ * A {@link RecordReader.RecordIterator} backed by a {@link VectorizedColumnBatch}. Vectorized
+ * engines can consume the whole batch via {@link #batch()} instead of iterating rows, the batch
+ * must be released by {@link #releaseBatch()} as well.
+ */
+public interface VectorizedRecordIterator extends RecordReader.RecordIterator<InternalRow> {
+
+    /** Returns the {@link VectorizedColumnBatch} which contains all rows of this iterator. */
+    VectorizedColumnBatch batch();
+}
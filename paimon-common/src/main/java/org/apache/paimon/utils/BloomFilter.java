@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.utils;
+
+import org.apache.paimon.memory.MemorySegment;
+
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+
+/**
+ * A bloom filter on 32-bit hash codes, the hash codes are typically computed by {@link
+ * MurmurHashUtils#hashBytes(byte[])} on serialized keys. The probe positions are derived from the
+ * hash code by double hashing.
+ */
+public class BloomFilter {
+
+    private static final int MAX_NUM_BITS = Integer.MAX_VALUE - 63;
+
+    private final int numHashFunctions;
+    private final long[] bits;
+    private final int numBits;
+
+    /**
+     * Creates an empty bloom filter for {@code expectedEntries} entries with a false positive
+     * probability of {@code fpp}.
+     */
+    public BloomFilter(long expectedEntries, double fpp) {
+        checkArgument(expectedEntries > 0, "Expected entries must be positive.");
+        checkArgument(fpp > 0 && fpp < 1, "False positive probability must be in (0, 1).");
+        long optimalNumBits =
+                (long) Math.ceil(-expectedEntries * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        int numWords = (int) ((Math.min(Math.max(optimalNumBits, 64), MAX_NUM_BITS) + 63) >>> 6);
+        this.bits = new long[numWords];
+        this.numBits = numWords << 6;
+        this.numHashFunctions =
+                Math.max(1, (int) Math.round((double) numBits / expectedEntries * Math.log(2)));
+    }
+
+    private BloomFilter(int numHashFunctions, long[] bits) {
+        this.numHashFunctions = numHashFunctions;
+        this.bits = bits;
+        this.numBits = bits.length << 6;
+    }
+
+    public void addHash(int hash1) {
+        int hash2 = MurmurHashUtils.fmix(hash1);
+        for (int i = 1; i <= numHashFunctions; i++) {
+            int position = bitPosition(hash1, hash2, i);
+            bits[position >>> 6] |= 1L << position;
+        }
+    }
+
+    /** Returns false if the hash code was definitely never added to this filter. */
+    public boolean testHash(int hash1) {
+        int hash2 = MurmurHashUtils.fmix(hash1);
+        for (int i = 1; i <= numHashFunctions; i++) {
+            int position = bitPosition(hash1, hash2, i);
+            if ((bits[position >>> 6] & (1L << position)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int bitPosition(int hash1, int hash2, int i) {
+        int combinedHash = hash1 + i * hash2;
+        // flip all the bits if it's negative (guaranteed positive number)
+        if (combinedHash < 0) {
+            combinedHash = ~combinedHash;
+        }
+        return combinedHash % numBits;
+    }
+
+    public int numHashFunctions() {
+        return numHashFunctions;
+    }
+
+    /** Size of this filter in bytes. */
+    public int sizeInBytes() {
+        return bits.length << 3;
+    }
+
+    public byte[] toBytes() {
+        byte[] bytes = new byte[8 + sizeInBytes()];
+        MemorySegment segment = MemorySegment.wrap(bytes);
+        segment.putIntBigEndian(0, numHashFunctions);
+        segment.putIntBigEndian(4, bits.length);
+        for (int i = 0; i < bits.length; i++) {
+            segment.putLongBigEndian(8 + (i << 3), bits[i]);
+        }
+        return bytes;
+    }
+
+    public static BloomFilter fromBytes(byte[] bytes) {
+        checkArgument(bytes.length >= 8, "Illegal bloom filter bytes.");
+        MemorySegment segment = MemorySegment.wrap(bytes);
+        int numHashFunctions = segment.getIntBigEndian(0);
+        int numLongs = segment.getIntBigEndian(4);
+        checkArgument(
+                numLongs >= 0 && bytes.length == 8 + ((long) numLongs << 3),
+                "Illegal bloom filter bytes.");
+        long[] bits = new long[numLongs];
+        for (int i = 0; i < bits.length; i++) {
+            bits[i] = segment.getLongBigEndian(8 + (i << 3));
+        }
+        return new BloomFilter(numHashFunctions, bits);
+    }
+}
@@ -18,15 +18,26 @@
 
 package org.apache.paimon.utils;
 
+import org.apache.paimon.io.DataInputView;
+import org.apache.paimon.io.DataOutputView;
+
+import it.unimi.dsi.fastutil.ints.Int2ShortMap;
 import it.unimi.dsi.fastutil.ints.Int2ShortOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+
+import java.io.IOException;
 
 /** Int to short hash map. */
 public class Int2ShortHashMap {
 
-    private final Int2ShortOpenHashMap map;
+    private final CapacityAwareMap map;
 
     public Int2ShortHashMap() {
-        this.map = new Int2ShortOpenHashMap();
+        this.map = new CapacityAwareMap(Int2ShortOpenHashMap.DEFAULT_INITIAL_SIZE);
+    }
+
+    public Int2ShortHashMap(int capacity) {
+        this.map = new CapacityAwareMap(capacity);
     }
 
     public void put(int key, short value) {
@@ -41,7 +52,49 @@ public class Int2ShortHashMap {
         return map.get(key);
     }
 
+    public short getOrDefault(int key, short defaultValue) {
+        return map.getOrDefault(key, defaultValue);
+    }
+
     public int size() {
         return map.size();
     }
+
+    /** Number of slots of the backing key and value arrays, including the free ones. */
+    public int capacity() {
+        return map.capacity();
+    }
+
+    /** Write all the entries of this map to the output, can be read by {@link #readFrom}. */
+    public void writeTo(DataOutputView out) throws IOException {
+        out.writeInt(map.size());
+        ObjectIterator<Int2ShortMap.Entry> iterator = map.int2ShortEntrySet().fastIterator();
+        while (iterator.hasNext()) {
+            Int2ShortMap.Entry entry = iterator.next();
+            out.writeInt(entry.getIntKey());
+            out.writeShort(entry.getShortValue());
+        }
+    }
+
+    public static Int2ShortHashMap readFrom(DataInputView in) throws IOException {
+        int size = in.readInt();
+        Int2ShortHashMap result = new Int2ShortHashMap(size);
+        for (int i = 0; i < size; i++) {
+            result.put(in.readInt(), in.readShort());
+        }
+        return result;
+    }
+
+    private static class CapacityAwareMap extends Int2ShortOpenHashMap {
+
+        private static final long serialVersionUID = 1L;
+
+        private CapacityAwareMap(int expected) {
+            super(expected);
+        }
+
+        private int capacity() {
+            return key.length;
+        }
+    }
 }
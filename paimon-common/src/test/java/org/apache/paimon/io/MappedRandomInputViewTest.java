@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.io;
+
+import org.apache.paimon.memory.MemorySegment;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Test for {@link MappedRandomInputView}. */
+public class MappedRandomInputViewTest {
+
+    @TempDir Path tempDir;
+
+    private final ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+    @Test
+    public void testMatched() throws IOException {
+        innerTest(1024 * 512, 1024);
+    }
+
+    @Test
+    public void testNotMatched() throws IOException {
+        innerTest(131092, 1024);
+    }
+
+    @Test
+    public void testSingleRegion() throws IOException {
+        innerTest(131092, 1 << 30);
+    }
+
+    @Test
+    public void testRandom() throws IOException {
+        innerTest(rnd.nextInt(5000, 100000), 1024);
+    }
+
+    @Test
+    public void testCloseAndDelete() throws IOException {
+        byte[] bytes = new byte[4096];
+        rnd.nextBytes(bytes);
+        File file = writeFile(bytes);
+
+        MappedRandomInputView view = new MappedRandomInputView(file, 1024);
+        view.setReadPosition(2000);
+        assertThat(view.readByte()).isEqualTo(bytes[2000]);
+
+        MemorySegment[] regions = view.regions().clone();
+        assertThat(regions).hasSize(4);
+        view.close();
+        assertThat(regions).allMatch(MemorySegment::isFreed);
+        // closing again does nothing
+        view.close();
+
+        Files.delete(file.toPath());
+        assertThat(file).doesNotExist();
+    }
+
+    private void innerTest(int len, int regionSize) throws IOException {
+        byte[] bytes = new byte[len];
+        MemorySegment segment = MemorySegment.wrap(bytes);
+        rnd.nextBytes(bytes);
+
+        File file = writeFile(bytes);
+        MappedRandomInputView view = new MappedRandomInputView(file, regionSize);
+
+        // read first one
+        view.setReadPosition(0);
+        assertThat(view.readLong()).isEqualTo(segment.getLongBigEndian(0));
+
+        // read mid
+        int mid = bytes.length / 2;
+        view.setReadPosition(mid);
+        assertThat(view.readLong()).isEqualTo(segment.getLongBigEndian(mid));
+
+        // read across regions
+        view.setReadPosition(1021);
+        assertThat(view.readLong()).isEqualTo(segment.getLongBigEndian(1021));
+        byte[] buffer = new byte[3000];
+        view.setReadPosition(1000);
+        view.readFully(buffer);
+        assertThat(buffer).isEqualTo(Arrays.copyOfRange(bytes, 1000, 4000));
+
+        // read last one
+        view.setReadPosition(bytes.length - 1);
+        assertThat(view.readByte()).isEqualTo(bytes[bytes.length - 1]);
+        assertThatThrownBy(view::readByte).isInstanceOf(EOFException.class);
+
+        // random read
+        for (int i = 0; i < 10000; i++) {
+            int position = rnd.nextInt(bytes.length - 8);
+            view.setReadPosition(position);
+            assertThat(view.readLong()).isEqualTo(segment.getLongBigEndian(position));
+        }
+
+        view.close();
+    }
+
+    private File writeFile(byte[] bytes) throws IOException {
+        File file = new File(tempDir.toFile(), UUID.randomUUID().toString());
+        Files.write(file.toPath(), bytes);
+        return file;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.io.cache;
+
+import org.apache.paimon.options.MemorySize;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Test for {@link CacheManager}. */
+public class CacheManagerTest {
+
+    @TempDir Path tempDir;
+
+    @Test
+    public void testCounters() throws IOException {
+        CacheManager cacheManager = new CacheManager(1024, MemorySize.ofKibiBytes(4));
+        try (RandomAccessFile file = createFile(64)) {
+            cacheManager.getPage(file, 0, page -> {});
+            cacheManager.getPage(file, 0, page -> {});
+            cacheManager.getPage(file, 1, page -> {});
+            assertThat(cacheManager.hitCount()).isEqualTo(1);
+            assertThat(cacheManager.missCount()).isEqualTo(2);
+
+            for (int i = 0; i < 64; i++) {
+                cacheManager.getPage(file, i, page -> {});
+            }
+            cacheManager.cache().cleanUp();
+            assertThat(cacheManager.evictionCount()).isGreaterThan(0);
+
+            // invalidation is not eviction
+            long evictions = cacheManager.evictionCount();
+            for (int i = 0; i < 64; i++) {
+                cacheManager.invalidPage(file, i);
+            }
+            assertThat(cacheManager.cache().asMap()).isEmpty();
+            assertThat(cacheManager.evictionCount()).isEqualTo(evictions);
+        }
+    }
+
+    @Test
+    public void testCountersOfConcurrentRequests() throws Exception {
+        CacheManager cacheManager = new CacheManager(1024, MemorySize.ofKibiBytes(4));
+        int numThreads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+        try (RandomAccessFile file = createFile(1)) {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < numThreads; i++) {
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    start.await();
+                                    return cacheManager.getPage(file, 0, page -> {});
+                                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+
+            // only the request which reads the page is a miss
+            assertThat(cacheManager.missCount()).isEqualTo(1);
+            assertThat(cacheManager.hitCount()).isEqualTo(numThreads - 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testDataPagesDoNotEvictIndexPages() throws IOException {
+        CacheManager cacheManager = new CacheManager(1024, MemorySize.ofKibiBytes(16), 0.25);
+        try (RandomAccessFile file = createFile(256)) {
+            for (int i = 0; i < 4; i++) {
+                cacheManager.getPage(file, i, true, page -> {});
+            }
+
+            // scan data pages
+            for (int i = 4; i < 256; i++) {
+                cacheManager.getPage(file, i, false, page -> {});
+            }
+            cacheManager.cache().cleanUp();
+            assertThat(cacheManager.cache().asMap()).hasSizeLessThanOrEqualTo(12);
+
+            long misses = cacheManager.missCount();
+            for (int i = 0; i < 4; i++) {
+                cacheManager.getPage(file, i, true, page -> {});
+            }
+            assertThat(cacheManager.missCount()).isEqualTo(misses);
+            assertThat(cacheManager.indexCache().asMap()).hasSize(4);
+
+            // invalidation removes pages of both regions
+            cacheManager.invalidPage(file, 0);
+            assertThat(cacheManager.indexCache().asMap()).hasSize(3);
+        }
+    }
+
+    @Test
+    public void testIllegalIndexRatio() {
+        assertThatThrownBy(() -> new CacheManager(1024, MemorySize.ofKibiBytes(16), 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private RandomAccessFile createFile(int numPages) throws IOException {
+        File file = tempDir.resolve("file-" + numPages).toFile();
+        Files.write(file.toPath(), new byte[numPages * 1024]);
+        return new RandomAccessFile(file, "r");
+    }
+}
@@ -37,9 +37,11 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
@@ -286,6 +288,65 @@ public class HashLookupStoreFactoryTest {
         }
     }
 
+    @Test
+    public void testMmapRead() throws IOException {
+        Integer[] keys = generateIntKeys(1000);
+        String[] values = generateStringData(keys.length, 100);
+
+        // Write
+        writeStore(file, keys, values);
+
+        // Read
+        factory =
+                new HashLookupStoreFactory(
+                        new CacheManager(1024, MemorySize.ofMebiBytes(1)), 0.75d, true);
+        HashLookupStoreReader reader = factory.createReader(file);
+        for (int i = 0; i < keys.length; i++) {
+            assertThat(reader.lookup(toBytes(keys[i]))).isEqualTo(toBytes(values[i]));
+        }
+        assertThat(reader.lookup(toBytes(keys.length))).isNull();
+
+        Iterator<Map.Entry<byte[], byte[]>> itr = reader.iterator();
+        int count = 0;
+        while (itr.hasNext()) {
+            Map.Entry<byte[], byte[]> entry = itr.next();
+            assertThat(entry.getValue()).isEqualTo(reader.lookup(entry.getKey()));
+            count++;
+        }
+        assertThat(count).isEqualTo(keys.length);
+        reader.close();
+    }
+
+    @Test
+    public void testBatchLookup() throws IOException {
+        int len = 1000;
+        Object[] keys = new Object[len];
+        Object[] values = new Object[len];
+        for (int i = 0; i < len; i++) {
+            keys[i] = i;
+            values[i] = generateStringData(100);
+        }
+
+        // Write
+        writeStore(file, keys, values);
+
+        // Read with pages smaller than the file
+        factory = new HashLookupStoreFactory(new CacheManager(1024, new MemorySize(8096)), 0.75d);
+        HashLookupStoreReader reader = factory.createReader(file);
+        List<byte[]> batch = new ArrayList<>();
+        List<byte[]> expected = new ArrayList<>();
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        for (int i = 0; i < 500; i++) {
+            // keys of other lengths and not existing keys are also looked up
+            int key = rnd.nextInt(len * 2);
+            batch.add(toBytes(key));
+            expected.add(key < len ? toBytes(values[key]) : null);
+        }
+        assertThat(reader.lookup(batch)).containsExactlyElementsOf(expected);
+        assertThat(reader.lookup(new ArrayList<>())).isEmpty();
+        reader.close();
+    }
+
     @Test
     public void testIterate() throws IOException {
         Integer[] keys = generateIntKeys(100);
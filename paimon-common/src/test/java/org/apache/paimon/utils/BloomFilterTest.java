@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Test for {@link BloomFilter}. */
+public class BloomFilterTest {
+
+    @Test
+    public void testFalsePositiveProbability() {
+        int numEntries = 100_000;
+        BloomFilter filter = new BloomFilter(numEntries, 0.01);
+        for (int i = 0; i < numEntries; i++) {
+            filter.addHash(hash(i));
+        }
+
+        // no false negatives
+        for (int i = 0; i < numEntries; i++) {
+            assertThat(filter.testHash(hash(i))).isTrue();
+        }
+
+        int falsePositives = 0;
+        for (int i = numEntries; i < numEntries * 2; i++) {
+            if (filter.testHash(hash(i))) {
+                falsePositives++;
+            }
+        }
+        assertThat((double) falsePositives / numEntries).isLessThan(0.02);
+    }
+
+    @Test
+    public void testSerialization() {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        int numEntries = rnd.nextInt(1, 1000);
+        BloomFilter filter = new BloomFilter(numEntries, 0.05);
+        for (int i = 0; i < numEntries; i++) {
+            filter.addHash(rnd.nextInt());
+        }
+
+        byte[] bytes = filter.toBytes();
+        assertThat(bytes.length).isEqualTo(8 + filter.sizeInBytes());
+        BloomFilter copy = BloomFilter.fromBytes(bytes);
+        assertThat(copy.numHashFunctions()).isEqualTo(filter.numHashFunctions());
+        assertThat(copy.toBytes()).isEqualTo(bytes);
+    }
+
+    @Test
+    public void testIllegalArguments() {
+        assertThatThrownBy(() -> new BloomFilter(0, 0.01))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(10, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BloomFilter.fromBytes(new byte[4]))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        byte[] truncated = new BloomFilter(100, 0.01).toBytes();
+        assertThatThrownBy(() -> BloomFilter.fromBytes(Arrays.copyOf(truncated, 16)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private int hash(int i) {
+        return MurmurHashUtils.hashBytes(String.valueOf(i).getBytes());
+    }
+}
@@ -18,8 +18,12 @@
 
 package org.apache.paimon.utils;
 
+import org.apache.paimon.io.DataInputDeserializer;
+import org.apache.paimon.io.DataOutputSerializer;
+
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Random;
@@ -29,6 +33,18 @@ import static org.assertj.core.api.Assertions.assertThat;
 /** Test for {@link Int2ShortHashMap}. */
 public class Int2ShortHashMapTest {
 
+    @Test
+    public void testCapacity() {
+        Int2ShortHashMap map = new Int2ShortHashMap();
+        int initialCapacity = map.capacity();
+        for (int i = 0; i < 10000; i++) {
+            map.put(i, (short) i);
+            // the map grows when it is 75% full
+            assertThat(map.capacity()).isGreaterThan((int) (map.size() / 0.75));
+        }
+        assertThat(map.capacity()).isGreaterThan(initialCapacity);
+    }
+
     @Test
     public void testRandom() {
         Map<Integer, Short> values = new HashMap<>();
@@ -53,4 +69,25 @@ public class Int2ShortHashMapTest {
                     assertThat(map.get(k)).isEqualTo(v);
                 });
     }
+
+    @Test
+    public void testWriteAndRead() throws IOException {
+        Map<Integer, Short> values = new HashMap<>();
+        Random rnd = new Random();
+        Int2ShortHashMap map = new Int2ShortHashMap();
+        for (int i = 0; i < 1000; i++) {
+            int key = rnd.nextInt();
+            short value = (short) rnd.nextInt(Short.MAX_VALUE);
+            values.put(key, value);
+            map.put(key, value);
+        }
+
+        DataOutputSerializer out = new DataOutputSerializer(1024);
+        map.writeTo(out);
+        Int2ShortHashMap read =
+                Int2ShortHashMap.readFrom(new DataInputDeserializer(out.getCopyOfBuffer()));
+
+        assertThat(read.size()).isEqualTo(values.size());
+        values.forEach((k, v) -> assertThat(read.get(k)).isEqualTo(v));
+    }
 }
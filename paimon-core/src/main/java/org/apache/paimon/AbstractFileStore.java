@@ -21,6 +21,7 @@ package org.apache.paimon;
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.Path;
 import org.apache.paimon.index.HashIndexFile;
 import org.apache.paimon.index.IndexFileHandler;
 import org.apache.paimon.manifest.IndexManifestFile;
@@ -57,7 +58,8 @@ public abstract class AbstractFileStore<T> implements FileStore<T> {
     protected final CoreOptions options;
     protected final RowType partitionType;
 
-    @Nullable private final SegmentsCache<String> writeManifestCache;
+    @Nullable private final SegmentsCache<Path> writeManifestCache;
+    @Nullable private final SegmentsCache<Path> readManifestCache;
 
     public AbstractFileStore(
             FileIO fileIO,
@@ -75,6 +77,11 @@ public abstract class AbstractFileStore<T> implements FileStore<T> {
                 writeManifestCache.getBytes() == 0
                         ? null
                         : new SegmentsCache<>(options.pageSize(), writeManifestCache);
+        MemorySize readManifestCache = options.manifestCacheMaxMemorySize();
+        this.readManifestCache =
+                readManifestCache.getBytes() == 0
+                        ? null
+                        : SegmentsCache.shared(options.pageSize(), readManifestCache);
     }
 
     public FileStorePathFactory pathFactory() {
@@ -103,7 +110,7 @@ public abstract class AbstractFileStore<T> implements FileStore<T> {
                 options.manifestFormat(),
                 pathFactory(),
                 options.manifestTargetSize().getBytes(),
-                forWrite ? writeManifestCache : null);
+                forWrite ? writeManifestCache : readManifestCache);
     }
 
     @VisibleForTesting
@@ -116,7 +123,7 @@ public abstract class AbstractFileStore<T> implements FileStore<T> {
                 fileIO,
                 options.manifestFormat(),
                 pathFactory(),
-                forWrite ? writeManifestCache : null);
+                forWrite ? writeManifestCache : readManifestCache);
     }
 
     protected IndexManifestFile.Factory indexManifestFileFactory() {
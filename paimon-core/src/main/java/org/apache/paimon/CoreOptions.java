@@ -21,6 +21,7 @@ package org.apache.paimon;
 import org.apache.paimon.annotation.Documentation.ExcludeFromDocumentation;
 import org.apache.paimon.annotation.Documentation.Immutable;
 import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.compression.BlockCompressionFactory;
 import org.apache.paimon.format.FileFormat;
 import org.apache.paimon.format.FileFormatDiscover;
 import org.apache.paimon.fs.Path;
@@ -146,6 +147,19 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "The size threshold for triggering full compaction of manifest.");
 
+    public static final ConfigOption<MemorySize> MANIFEST_CACHE_MAX_MEMORY_SIZE =
+            key("manifest.cache-max-memory-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.ofMebiBytes(0))
+                    .withDescription(
+                            "Max off-heap memory size of the manifest cache shared by all tables "
+                                    + "with the same size and page size in a process, it caches "
+                                    + "manifest files read by scans and commits. Off-heap memory "
+                                    + "of a manifest is released once it is evicted and no scan "
+                                    + "reads it anymore. Set it in the catalog options with "
+                                    + "'table-default.' prefix to share it across all tables of "
+                                    + "the catalog. 0 means disabled.");
+
     public static final ConfigOption<Integer> MANIFEST_MERGE_MIN_COUNT =
             key("manifest.merge-min-count")
                     .intType()
@@ -221,6 +235,33 @@ public class CoreOptions implements Serializable {
                     .defaultValue(MemorySize.parse("64 mb"))
                     .withDescription("Amount of data to spill records to disk in spilled sort.");
 
+    public static final ConfigOption<String> SPILL_COMPRESSION =
+            key("spill-compression")
+                    .stringType()
+                    .defaultValue("lz4")
+                    .withDescription(
+                            "Compression for spill files of the write buffer and spilled sort, "
+                                    + "currently lz4, zstd and snappy are supported.");
+
+    public static final ConfigOption<Integer> SPILL_COMPRESSION_ZSTD_LEVEL =
+            key("spill-compression.zstd-level")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "Compression level of zstd for spill files, a higher level means a better "
+                                    + "compression ratio but a slower speed.");
+
+    public static final ConfigOption<Integer> SPILL_ASYNC_BLOCKS =
+            key("spill-async-blocks")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "Number of blocks read ahead or written behind asynchronously per spill file, "
+                                    + "0 means spill files are read and written synchronously. Each block is an "
+                                    + "extra heap buffer of the spill compression block size (64 kb) per open spill "
+                                    + "file, which is not taken from the write buffer, so a merge of N spill files "
+                                    + "uses N times this number of blocks.");
+
     @Immutable
     public static final ConfigOption<WriteMode> WRITE_MODE =
             key("write-mode")
@@ -265,6 +306,34 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "Whether the write buffer can be spillable. Enabled by default when using object storage.");
 
+    public static final ConfigOption<Boolean> WRITE_BUFFER_ASYNC_FLUSH =
+            key("write-buffer-async-flush")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to flush the write buffer asynchronously. If enabled, the write buffer "
+                                    + "memory is split into two halves, records are written into one half "
+                                    + "while the other one is sorted and flushed in a background thread.");
+
+    public static final ConfigOption<Boolean> WRITE_BUFFER_COMPRESSED =
+            key("write-buffer-compressed")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to compress large records in the write buffer with the codec of "
+                                    + "'spill-compression'. More records "
+                                    + "fit into the write buffer, which results in fewer and larger flushed "
+                                    + "files for wide rows, at the cost of more CPU for writing.");
+
+    public static final ConfigOption<Integer> WRITE_BUFFER_SORT_PARALLELISM =
+            key("write-buffer-sort-parallelism")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "Parallelism to sort the write buffer before flushing. If it is greater than 1, "
+                                    + "a large buffer is split into ranges which are sorted concurrently "
+                                    + "and then merged, which reduces the flush latency of large write buffers.");
+
     public static final ConfigOption<MemorySize> WRITE_MANIFEST_CACHE =
             key("write-manifest-cache")
                     .memoryType()
@@ -272,6 +341,15 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "Cache size for reading manifest files for write initialization.");
 
+    public static final ConfigOption<Boolean> WRITE_BULK_RESTORE =
+            key("write-bulk-restore")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to restore writers of all buckets of a partition with a single scan. "
+                                    + "The existing files of the other buckets are kept in memory until their "
+                                    + "writers are created, which speeds up restoring many buckets.");
+
     public static final ConfigOption<Integer> LOCAL_SORT_MAX_NUM_FILE_HANDLES =
             key("local-sort.max-num-file-handles")
                     .intType()
@@ -359,6 +437,15 @@ public class CoreOptions implements Serializable {
                                     + "for append-only table, even if sum(size(f_i)) < targetFileSize. This value "
                                     + "avoids pending too much small files, which slows down the performance.");
 
+    public static final ConfigOption<Integer> COMPACTION_THREAD_NUM =
+            key("compaction.thread-num")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of threads shared by all writers of a task to run compactions. "
+                                    + "Buckets whose number of sorted runs is closer to "
+                                    + "'num-sorted-run.stop-trigger' are compacted first.");
+
     public static final ConfigOption<ChangelogProducer> CHANGELOG_PRODUCER =
             key("changelog-producer")
                     .enumType(ChangelogProducer.class)
@@ -581,6 +668,33 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "Define partition by table options, cannot define partition on DDL and table options at the same time.");
 
+    public static final ConfigOption<MemorySize> LOOKUP_BLOOM_FILTER_CACHE_MAX_MEMORY_SIZE =
+            key("lookup.bloom-filter.cache-max-memory-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.parse("32 mb"))
+                    .withDescription(
+                            "Max memory size of the key bloom filters cached by the lookups of"
+                                    + " each bucket, the least recently used filters are evicted"
+                                    + " when exceeded.");
+
+    public static final ConfigOption<Boolean> LOOKUP_BLOOM_FILTER_ENABLED =
+            key("lookup.bloom-filter.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to write a bloom filter of the keys for each data file of"
+                                    + " primary key tables. Lookups of the 'lookup' changelog"
+                                    + " producer skip the data files which do not contain the key,"
+                                    + " without building local lookup files for them.");
+
+    public static final ConfigOption<Double> LOOKUP_BLOOM_FILTER_FPP =
+            key("lookup.bloom-filter.fpp")
+                    .doubleType()
+                    .defaultValue(0.01)
+                    .withDescription(
+                            "The false positive probability of the key bloom filters written when"
+                                    + " 'lookup.bloom-filter.enabled' is true.");
+
     public static final ConfigOption<Float> LOOKUP_HASH_LOAD_FACTOR =
             key("lookup.hash-load-factor")
                     .floatType()
@@ -609,6 +723,81 @@ public class CoreOptions implements Serializable {
                     .defaultValue(MemorySize.parse("256 mb"))
                     .withDescription("Max memory size for lookup cache.");
 
+    public static final ConfigOption<Double> LOOKUP_CACHE_INDEX_RATIO =
+            key("lookup.cache-index-ratio")
+                    .doubleType()
+                    .defaultValue(0.0)
+                    .withDescription(
+                            "The fraction of 'lookup.cache-max-memory-size' reserved for the index"
+                                    + " pages of lookup files, so that reading data pages never"
+                                    + " evicts the index pages. Index pages and data pages share"
+                                    + " the memory if it is 0. It only applies to hash lookup files"
+                                    + " read without memory mapping, sort lookup files have no"
+                                    + " index pages and memory mapped files do not use the"
+                                    + " cache.");
+
+    public static final ConfigOption<Boolean> LOOKUP_MMAP_ENABLED =
+            key("lookup.mmap-enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to read the local lookup files by memory mapping. Lookups are"
+                                    + " served by off-heap memory mapped pages instead of copying"
+                                    + " pages into the heap, the mapped memory is not limited by"
+                                    + " 'lookup.cache-max-memory-size'.");
+
+    public static final ConfigOption<String> LOOKUP_LOCAL_FILE_PERSIST_DIR =
+            key("lookup.local-file-persist-dir")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The local directory to persist the lookup files in. The lookup files"
+                                    + " are reused by all writers of the process and after job"
+                                    + " restarts on the same host, instead of being rebuilt from"
+                                    + " the data files. If not set, the lookup files are created in"
+                                    + " the temp directories and deleted when they expire.");
+
+    public static final ConfigOption<MemorySize> LOOKUP_LOCAL_FILE_PERSIST_MAX_DISK_SIZE =
+            key("lookup.local-file-persist-max-disk-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.parse("10 gb"))
+                    .withDescription(
+                            "Max disk size of the lookup files in 'lookup.local-file-persist-dir'"
+                                    + " for each process, the least recently used files not in use"
+                                    + " are deleted when exceeded.");
+
+    public static final ConfigOption<LookupLocalFileType> LOOKUP_LOCAL_FILE_TYPE =
+            key("lookup.local-file-type")
+                    .enumType(LookupLocalFileType.class)
+                    .defaultValue(LookupLocalFileType.HASH)
+                    .withDescription("The local file type for lookup.");
+
+    public static final ConfigOption<MemorySize> LOOKUP_SORT_STORE_BLOCK_SIZE =
+            key("lookup.sort-store.block-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.parse("16 kb"))
+                    .withDescription(
+                            "The uncompressed size of the blocks of sort lookup files, a larger"
+                                    + " block compresses better but needs to scan more records"
+                                    + " for each lookup.");
+
+    public static final ConfigOption<String> LOOKUP_SORT_STORE_COMPRESSION =
+            key("lookup.sort-store.compression")
+                    .stringType()
+                    .defaultValue("lz4")
+                    .withDescription(
+                            "Compression for the blocks of sort lookup files, currently none, lz4,"
+                                    + " zstd and snappy are supported.");
+
+    public static final ConfigOption<Integer> LOOKUP_SORT_STORE_COMPRESSION_ZSTD_LEVEL =
+            key("lookup.sort-store.compression.zstd-level")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "Compression level of zstd for the blocks of sort lookup files, a"
+                                    + " higher level means a better compression ratio but a"
+                                    + " slower speed.");
+
     public static final ConfigOption<Integer> READ_BATCH_SIZE =
             key("read.batch-size")
                     .intType()
@@ -693,6 +882,49 @@ public class CoreOptions implements Serializable {
                                     + " related to the number of initialized bucket, too small will lead to"
                                     + " insufficient processing speed of assigner.");
 
+    public static final ConfigOption<MemorySize> DYNAMIC_BUCKET_INDEX_MEMORY =
+            key("dynamic-bucket.index-memory")
+                    .memoryType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Max memory of the key hash indexes held by one assigner of dynamic "
+                                    + "bucket mode. When exceeded, indexes of the least recently "
+                                    + "used partitions are spilled to local disk and read back "
+                                    + "when they are accessed again. By default the memory is "
+                                    + "not limited.");
+
+    public static final ConfigOption<Integer> DYNAMIC_BUCKET_INDEX_PREFETCH_THREADS =
+            key("dynamic-bucket.index-prefetch-threads")
+                    .intType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Number of threads of one assigner of dynamic bucket mode to load "
+                                    + "partition indexes asynchronously. Records of a partition "
+                                    + "whose index is being loaded are buffered, while records of "
+                                    + "other partitions go on. By default indexes are loaded "
+                                    + "synchronously.");
+
+    public static final ConfigOption<Integer> DYNAMIC_BUCKET_INDEX_PREFETCH_MAX_PENDING_RECORDS =
+            key("dynamic-bucket.index-prefetch-max-pending-records")
+                    .intType()
+                    .defaultValue(10_000)
+                    .withDescription(
+                            "Max number of records buffered by one assigner of dynamic bucket "
+                                    + "mode while partition indexes are being prefetched. When "
+                                    + "exceeded, the assigner waits for the indexes of the "
+                                    + "earliest buffered partitions. Only used when "
+                                    + "'dynamic-bucket.index-prefetch-threads' is set.");
+
+    public static final ConfigOption<Duration> DYNAMIC_BUCKET_INDEX_PREFETCH_DRAIN_INTERVAL =
+            key("dynamic-bucket.index-prefetch-drain-interval")
+                    .durationType()
+                    .defaultValue(Duration.ofMillis(100))
+                    .withDescription(
+                            "Interval at which one assigner of dynamic bucket mode emits the "
+                                    + "buffered records of partitions whose prefetched index is "
+                                    + "loaded, when no new records arrive. Only used when "
+                                    + "'dynamic-bucket.index-prefetch-threads' is set.");
+
     public static final ConfigOption<String> INCREMENTAL_BETWEEN =
             key("incremental-between")
                     .stringType()
@@ -817,6 +1049,14 @@ public class CoreOptions implements Serializable {
         return options.get(WRITE_MANIFEST_CACHE);
     }
 
+    public boolean writeBulkRestore() {
+        return options.get(WRITE_BULK_RESTORE);
+    }
+
+    public MemorySize manifestCacheMaxMemorySize() {
+        return options.get(MANIFEST_CACHE_MAX_MEMORY_SIZE);
+    }
+
     public String partitionDefaultName() {
         return options.get(PARTITION_DEFAULT_NAME);
     }
@@ -882,6 +1122,18 @@ public class CoreOptions implements Serializable {
         return options.get(WRITE_BUFFER_SIZE).getBytes();
     }
 
+    public boolean writeBufferAsyncFlush() {
+        return options.get(WRITE_BUFFER_ASYNC_FLUSH);
+    }
+
+    public boolean writeBufferCompressed() {
+        return options.get(WRITE_BUFFER_COMPRESSED);
+    }
+
+    public int writeBufferSortParallelism() {
+        return options.get(WRITE_BUFFER_SORT_PARALLELISM);
+    }
+
     public boolean writeBufferSpillable(boolean usingObjectStore, boolean isStreaming) {
         // if not streaming mode, we turn spillable on by default.
         return options.getOptional(WRITE_BUFFER_SPILLABLE).orElse(usingObjectStore || !isStreaming);
@@ -891,10 +1143,19 @@ public class CoreOptions implements Serializable {
         return options.get(SORT_SPILL_BUFFER_SIZE).getBytes();
     }
 
+    public BlockCompressionFactory spillCompressionFactory() {
+        return BlockCompressionFactory.create(
+                options.get(SPILL_COMPRESSION), options.get(SPILL_COMPRESSION_ZSTD_LEVEL));
+    }
+
     public Duration continuousDiscoveryInterval() {
         return options.get(CONTINUOUS_DISCOVERY_INTERVAL);
     }
 
+    public int spillAsyncBlocks() {
+        return options.get(SPILL_ASYNC_BLOCKS);
+    }
+
     public int localSortMaxNumFileHandles() {
         return options.get(LOCAL_SORT_MAX_NUM_FILE_HANDLES);
     }
@@ -947,10 +1208,30 @@ public class CoreOptions implements Serializable {
         return options.get(COMPACTION_MAX_FILE_NUM);
     }
 
+    public int compactionThreadNum() {
+        return options.get(COMPACTION_THREAD_NUM);
+    }
+
     public long dynamicBucketTargetRowNum() {
         return options.get(DYNAMIC_BUCKET_TARGET_ROW_NUM);
     }
 
+    public MemorySize dynamicBucketIndexMemory() {
+        return options.get(DYNAMIC_BUCKET_INDEX_MEMORY);
+    }
+
+    public int dynamicBucketIndexPrefetchThreads() {
+        return options.getOptional(DYNAMIC_BUCKET_INDEX_PREFETCH_THREADS).orElse(0);
+    }
+
+    public int dynamicBucketIndexPrefetchMaxPendingRecords() {
+        return options.get(DYNAMIC_BUCKET_INDEX_PREFETCH_MAX_PENDING_RECORDS);
+    }
+
+    public Duration dynamicBucketIndexPrefetchDrainInterval() {
+        return options.get(DYNAMIC_BUCKET_INDEX_PREFETCH_DRAIN_INTERVAL);
+    }
+
     public ChangelogProducer changelogProducer() {
         return options.get(CHANGELOG_PRODUCER);
     }
@@ -1540,6 +1821,33 @@ public class CoreOptions implements Serializable {
         }
     }
 
+    /** Specifies the local file type for lookup. */
+    public enum LookupLocalFileType implements DescribedEnum {
+        HASH("hash", "Construct a hash file for lookup, each lookup reads a slot and a value."),
+        SORT(
+                "sort",
+                "Construct a file of sorted and prefix compressed blocks for lookup, which is much"
+                        + " smaller than the hash file but needs to scan a block for each lookup.");
+
+        private final String value;
+        private final String description;
+
+        LookupLocalFileType(String value, String description) {
+            this.value = value;
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+
+        @Override
+        public InlineElement getDescription() {
+            return text(description);
+        }
+    }
+
     /** Specifies the way of making up time precision for sequence field. */
     public enum SequenceAutoPadding implements DescribedEnum {
         NONE("none", "No padding for sequence field."),
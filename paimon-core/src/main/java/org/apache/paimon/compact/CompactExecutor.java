@@ -0,0 +1,274 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.compact;
+
+import javax.annotation.Nullable;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.apache.paimon.utils.Preconditions.checkNotNull;
+
+/**
+ * A bounded thread pool shared by the compactions of all writers in a task. Pending {@link
+ * CompactTask}s are ordered by {@link CompactTask#priority()}, tasks with the same priority are
+ * executed in submission order.
+ *
+ * <p>The priority of a task may change while it is pending (for example, its writer keeps adding
+ * new files), so it is evaluated when a thread takes the next task from the queue, not when the
+ * task is submitted. Each writer has at most one pending compaction, so the queue is short and is
+ * simply scanned for the most urgent task.
+ */
+public class CompactExecutor extends ThreadPoolExecutor {
+
+    public CompactExecutor(int threadNum, ThreadFactory threadFactory) {
+        super(
+                threadNum,
+                threadNum,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new PriorityTaskQueue(),
+                threadFactory);
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        CompactTask task = callable instanceof CompactTask ? (CompactTask) callable : null;
+        return new PriorityTask<>(callable, task);
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+        return new PriorityTask<>(runnable, value);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        // the queue only accepts prioritized tasks
+        super.execute(command instanceof PriorityTask ? command : newTaskFor(command, (Void) null));
+    }
+
+    private static class PriorityTask<T> extends FutureTask<T> {
+
+        @Nullable private final CompactTask task;
+
+        private PriorityTask(Callable<T> callable, @Nullable CompactTask task) {
+            super(callable);
+            this.task = task;
+        }
+
+        private PriorityTask(Runnable runnable, T value) {
+            super(runnable, value);
+            this.task = null;
+        }
+
+        private double priority() {
+            return task == null ? 0 : task.priority();
+        }
+    }
+
+    /**
+     * An unbounded {@link BlockingQueue} which returns the pending task with the largest current
+     * priority.
+     */
+    private static class PriorityTaskQueue extends AbstractQueue<Runnable>
+            implements BlockingQueue<Runnable> {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition notEmpty = lock.newCondition();
+        private final List<PriorityTask<?>> tasks = new ArrayList<>();
+
+        @Override
+        public boolean offer(Runnable runnable) {
+            checkNotNull(runnable);
+            lock.lock();
+            try {
+                tasks.add((PriorityTask<?>) runnable);
+                notEmpty.signal();
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void put(Runnable runnable) {
+            offer(runnable);
+        }
+
+        @Override
+        public boolean offer(Runnable runnable, long timeout, TimeUnit unit) {
+            return offer(runnable);
+        }
+
+        @Override
+        public Runnable take() throws InterruptedException {
+            lock.lockInterruptibly();
+            try {
+                while (tasks.isEmpty()) {
+                    notEmpty.await();
+                }
+                return tasks.remove(mostUrgent());
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public Runnable poll(long timeout, TimeUnit unit) throws InterruptedException {
+            long nanos = unit.toNanos(timeout);
+            lock.lockInterruptibly();
+            try {
+                while (tasks.isEmpty()) {
+                    if (nanos <= 0) {
+                        return null;
+                    }
+                    nanos = notEmpty.awaitNanos(nanos);
+                }
+                return tasks.remove(mostUrgent());
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public Runnable poll() {
+            lock.lock();
+            try {
+                return tasks.isEmpty() ? null : tasks.remove(mostUrgent());
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public Runnable peek() {
+            lock.lock();
+            try {
+                return tasks.isEmpty() ? null : tasks.get(mostUrgent());
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /** Must be called with the lock held and at least one pending task. */
+        private int mostUrgent() {
+            int result = 0;
+            double resultPriority = tasks.get(0).priority();
+            for (int i = 1; i < tasks.size(); i++) {
+                // tasks are appended in submission order, so ties keep the earliest one
+                double priority = tasks.get(i).priority();
+                if (priority > resultPriority) {
+                    result = i;
+                    resultPriority = priority;
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            lock.lock();
+            try {
+                return tasks.remove(o);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public int size() {
+            lock.lock();
+            try {
+                return tasks.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public int remainingCapacity() {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public int drainTo(Collection<? super Runnable> c) {
+            return drainTo(c, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public int drainTo(Collection<? super Runnable> c, int maxElements) {
+            lock.lock();
+            try {
+                int n = 0;
+                while (n < maxElements && !tasks.isEmpty()) {
+                    c.add(tasks.remove(mostUrgent()));
+                    n++;
+                }
+                return n;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public Iterator<Runnable> iterator() {
+            List<Runnable> snapshot;
+            lock.lock();
+            try {
+                snapshot = new ArrayList<>(tasks);
+            } finally {
+                lock.unlock();
+            }
+            Iterator<Runnable> iterator = snapshot.iterator();
+            return new Iterator<Runnable>() {
+
+                private Runnable current;
+
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Runnable next() {
+                    current = iterator.next();
+                    return current;
+                }
+
+                @Override
+                public void remove() {
+                    PriorityTaskQueue.this.remove(current);
+                }
+            };
+        }
+    }
+}
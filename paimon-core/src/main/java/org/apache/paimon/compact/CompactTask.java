@@ -19,10 +19,13 @@
 package org.apache.paimon.compact;
 
 import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.operation.metrics.CompactionMetrics;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.util.List;
 import java.util.concurrent.Callable;
 
@@ -31,11 +34,25 @@ public abstract class CompactTask implements Callable<CompactResult> {
 
     private static final Logger LOG = LoggerFactory.getLogger(CompactTask.class);
 
+    @Nullable private final CompactionMetrics metrics;
+
+    public CompactTask() {
+        this(null);
+    }
+
+    public CompactTask(@Nullable CompactionMetrics metrics) {
+        this.metrics = metrics;
+    }
+
     @Override
     public CompactResult call() throws Exception {
         long startMillis = System.currentTimeMillis();
         CompactResult result = doCompact();
 
+        if (metrics != null) {
+            metrics.reportCompactionDuration(System.currentTimeMillis() - startMillis);
+        }
+
         if (LOG.isDebugEnabled()) {
             logMetric(startMillis, result.before(), result.after());
         }
@@ -55,6 +72,14 @@ public abstract class CompactTask implements Callable<CompactResult> {
                 collectRewriteSize(compactAfter));
     }
 
+    /**
+     * Priority of this task in a shared {@link CompactExecutor}, tasks with larger priority are
+     * executed first.
+     */
+    public double priority() {
+        return 0;
+    }
+
     /**
      * Perform compaction.
      *
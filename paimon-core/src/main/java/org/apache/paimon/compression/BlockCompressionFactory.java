@@ -27,4 +27,24 @@ public interface BlockCompressionFactory {
     BlockCompressor getCompressor();
 
     BlockDecompressor getDecompressor();
+
+    /**
+     * Creates a {@link BlockCompressionFactory} for the given codec, which is one of lz4, zstd and
+     * snappy. The zstd level is ignored by other codecs.
+     */
+    static BlockCompressionFactory create(String compression, int zstdLevel) {
+        switch (compression.toLowerCase()) {
+            case "lz4":
+                return new Lz4BlockCompressionFactory();
+            case "zstd":
+                return new ZstdBlockCompressionFactory(zstdLevel);
+            case "snappy":
+                return new SnappyBlockCompressionFactory();
+            default:
+                throw new IllegalArgumentException(
+                        "Unsupported block compression: "
+                                + compression
+                                + ", supported are lz4, zstd and snappy.");
+        }
+    }
 }
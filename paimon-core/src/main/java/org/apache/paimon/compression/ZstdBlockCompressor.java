@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.compression;
+
+import com.github.luben.zstd.Zstd;
+
+import static org.apache.paimon.compression.CompressorUtils.HEADER_LENGTH;
+import static org.apache.paimon.compression.CompressorUtils.writeIntLE;
+
+/**
+ * Encode data into zstd format with the same header as {@link Lz4BlockCompressor}. It reads from
+ * and writes to byte arrays provided from the outside, thus reducing copy time.
+ */
+public class ZstdBlockCompressor implements BlockCompressor {
+
+    private final int compressionLevel;
+
+    public ZstdBlockCompressor(int compressionLevel) {
+        this.compressionLevel = compressionLevel;
+    }
+
+    @Override
+    public int getMaxCompressedSize(int srcSize) {
+        return HEADER_LENGTH + (int) Zstd.compressBound(srcSize);
+    }
+
+    @Override
+    public int compress(byte[] src, int srcOff, int srcLen, byte[] dst, int dstOff)
+            throws BufferCompressionException {
+        long compressedLength =
+                Zstd.compressByteArray(
+                        dst,
+                        dstOff + HEADER_LENGTH,
+                        dst.length - dstOff - HEADER_LENGTH,
+                        src,
+                        srcOff,
+                        srcLen,
+                        compressionLevel);
+        if (Zstd.isError(compressedLength)) {
+            throw new BufferCompressionException(Zstd.getErrorName(compressedLength));
+        }
+
+        writeIntLE((int) compressedLength, dst, dstOff);
+        writeIntLE(srcLen, dst, dstOff + 4);
+        return HEADER_LENGTH + (int) compressedLength;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.compression;
+
+import com.github.luben.zstd.Zstd;
+
+import static org.apache.paimon.compression.CompressorUtils.HEADER_LENGTH;
+import static org.apache.paimon.compression.CompressorUtils.readIntLE;
+import static org.apache.paimon.compression.CompressorUtils.validateLength;
+
+/**
+ * Decode data written with {@link ZstdBlockCompressor}. It reads from and writes to byte arrays
+ * provided from the outside, thus reducing copy time.
+ */
+public class ZstdBlockDecompressor implements BlockDecompressor {
+
+    @Override
+    public int decompress(byte[] src, int srcOff, int srcLen, byte[] dst, int dstOff)
+            throws BufferDecompressionException {
+        final int compressedLen = readIntLE(src, srcOff);
+        final int originalLen = readIntLE(src, srcOff + 4);
+        validateLength(compressedLen, originalLen);
+
+        if (dst.length - dstOff < originalLen) {
+            throw new BufferDecompressionException("Buffer length too small");
+        }
+
+        if (src.length - srcOff - HEADER_LENGTH < compressedLen) {
+            throw new BufferDecompressionException(
+                    "Source data is not integral for decompression.");
+        }
+
+        long decompressedLen =
+                Zstd.decompressByteArray(
+                        dst, dstOff, originalLen, src, srcOff + HEADER_LENGTH, compressedLen);
+        if (Zstd.isError(decompressedLen)) {
+            throw new BufferDecompressionException(
+                    "Input is corrupted: " + Zstd.getErrorName(decompressedLen));
+        }
+        if (decompressedLen != originalLen) {
+            throw new BufferDecompressionException("Input is corrupted");
+        }
+
+        return originalLen;
+    }
+}
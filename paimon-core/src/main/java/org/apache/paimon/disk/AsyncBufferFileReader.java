@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.disk;
+
+import org.apache.paimon.memory.Buffer;
+import org.apache.paimon.memory.MemorySegment;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * A {@link BufferFileReader} which reads blocks ahead asynchronously. Up to the given number of
+ * blocks are read in advance by the I/O thread of the channel, a read copies the next block into
+ * the given buffer and requests a new block.
+ *
+ * <p>The requests of a channel are processed in order by a single I/O thread, so the blocks are
+ * read sequentially from the file.
+ */
+public class AsyncBufferFileReader extends BufferFileReaderImpl {
+
+    private final ExecutorService ioExecutor;
+    private final int numReadAheadBlocks;
+    private final ArrayDeque<ReadRequest> requests;
+
+    // only accessed by the I/O thread
+    private boolean endOfFileRequested;
+
+    private boolean hasReachedEndOfFile;
+
+    public AsyncBufferFileReader(ID channelID, ExecutorService ioExecutor, int numReadAheadBlocks)
+            throws IOException {
+        super(channelID);
+        this.ioExecutor = ioExecutor;
+        this.numReadAheadBlocks = numReadAheadBlocks;
+        this.requests = new ArrayDeque<>(numReadAheadBlocks);
+    }
+
+    @Override
+    public void readInto(Buffer buffer) throws IOException {
+        if (requests.isEmpty()) {
+            if (hasReachedEndOfFile) {
+                throw new EOFException();
+            }
+            for (int i = 0; i < numReadAheadBlocks; i++) {
+                request(Buffer.create(MemorySegment.wrap(new byte[buffer.getMaxCapacity()]), 0));
+            }
+        }
+
+        ReadRequest request = requests.poll();
+        Boolean endOfFile = waitFor(request.future);
+        if (endOfFile == null) {
+            throw new EOFException();
+        }
+
+        Buffer block = request.buffer;
+        int size = block.getSize();
+        if (size > buffer.getMaxCapacity()) {
+            throw new IllegalStateException(
+                    "Buffer is too small for data: "
+                            + buffer.getMaxCapacity()
+                            + " bytes available, but "
+                            + size
+                            + " needed.");
+        }
+        block.getMemorySegment().copyTo(0, buffer.getMemorySegment(), 0, size);
+        buffer.setSize(size);
+        hasReachedEndOfFile = endOfFile;
+
+        if (!endOfFile) {
+            block.setSize(0);
+            request(block);
+        }
+    }
+
+    private void request(Buffer block) {
+        CompletableFuture<Boolean> future =
+                CompletableFuture.supplyAsync(
+                        () -> {
+                            if (endOfFileRequested) {
+                                return null;
+                            }
+                            try {
+                                AsyncBufferFileReader.super.readInto(block);
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                            endOfFileRequested = AsyncBufferFileReader.super.hasReachedEndOfFile();
+                            return endOfFileRequested;
+                        },
+                        ioExecutor);
+        requests.add(new ReadRequest(block, future));
+    }
+
+    @Override
+    public boolean hasReachedEndOfFile() {
+        return hasReachedEndOfFile;
+    }
+
+    @Override
+    public void close() throws IOException {
+        // the file channel can only be closed after all pending reads
+        while (!requests.isEmpty()) {
+            try {
+                waitFor(requests.poll().future);
+            } catch (IOException ignored) {
+            }
+        }
+        super.close();
+    }
+
+    static <T> T waitFor(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private static class ReadRequest {
+
+        private final Buffer buffer;
+        private final CompletableFuture<Boolean> future;
+
+        private ReadRequest(Buffer buffer, CompletableFuture<Boolean> future) {
+            this.buffer = buffer;
+            this.future = future;
+        }
+    }
+}
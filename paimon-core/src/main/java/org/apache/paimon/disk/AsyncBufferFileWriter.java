@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.disk;
+
+import org.apache.paimon.memory.Buffer;
+import org.apache.paimon.memory.MemorySegment;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+import static org.apache.paimon.disk.AsyncBufferFileReader.waitFor;
+
+/**
+ * A {@link BufferFileWriter} which writes blocks behind asynchronously. A write copies the block
+ * and hands it to the I/O thread of the channel, it only blocks if the given number of blocks are
+ * in flight. Errors of asynchronous writes are thrown by subsequent writes or by {@link #close}.
+ */
+public class AsyncBufferFileWriter extends BufferFileWriterImpl {
+
+    private final ExecutorService ioExecutor;
+    private final int numWriteBehindBlocks;
+    private final ArrayDeque<WriteRequest> requests;
+    private final ArrayDeque<MemorySegment> freeSegments;
+
+    public AsyncBufferFileWriter(ID channelID, ExecutorService ioExecutor, int numWriteBehindBlocks)
+            throws IOException {
+        super(channelID);
+        this.ioExecutor = ioExecutor;
+        this.numWriteBehindBlocks = numWriteBehindBlocks;
+        this.requests = new ArrayDeque<>(numWriteBehindBlocks);
+        this.freeSegments = new ArrayDeque<>(numWriteBehindBlocks);
+    }
+
+    @Override
+    public void writeBlock(Buffer buffer) throws IOException {
+        while (!requests.isEmpty()
+                && (requests.size() >= numWriteBehindBlocks || requests.peek().future.isDone())) {
+            finishRequest();
+        }
+
+        int size = buffer.getSize();
+        MemorySegment segment = freeSegments.poll();
+        if (segment == null || segment.size() < size) {
+            segment = MemorySegment.wrap(new byte[buffer.getMaxCapacity()]);
+        }
+        buffer.getMemorySegment().copyTo(0, segment, 0, size);
+
+        Buffer block = Buffer.create(segment, size);
+        CompletableFuture<Void> future =
+                CompletableFuture.runAsync(
+                        () -> {
+                            try {
+                                AsyncBufferFileWriter.super.writeBlock(block);
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        },
+                        ioExecutor);
+        requests.add(new WriteRequest(segment, future));
+    }
+
+    private void finishRequest() throws IOException {
+        WriteRequest request = requests.poll();
+        waitFor(request.future);
+        freeSegments.add(request.segment);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            // the file channel can only be closed after all pending writes
+            IOException exception = null;
+            while (!requests.isEmpty()) {
+                try {
+                    finishRequest();
+                } catch (IOException e) {
+                    exception = exception == null ? e : exception;
+                }
+            }
+            if (exception != null) {
+                throw exception;
+            }
+        } finally {
+            super.close();
+        }
+    }
+
+    private static class WriteRequest {
+
+        private final MemorySegment segment;
+        private final CompletableFuture<Void> future;
+
+        private WriteRequest(MemorySegment segment, CompletableFuture<Void> future) {
+            this.segment = segment;
+            this.future = future;
+        }
+    }
+}
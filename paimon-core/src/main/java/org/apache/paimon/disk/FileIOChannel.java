@@ -112,6 +112,11 @@ public interface FileIOChannel {
             return path;
         }
 
+        /** Returns the index of the temporary directory of the file. */
+        public int getBucketNum() {
+            return bucketNum;
+        }
+
         @Override
         public boolean equals(Object obj) {
             if (obj instanceof ID) {
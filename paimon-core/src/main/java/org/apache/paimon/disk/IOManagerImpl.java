@@ -20,6 +20,7 @@ package org.apache.paimon.disk;
 
 import org.apache.paimon.disk.FileIOChannel.Enumerator;
 import org.apache.paimon.disk.FileIOChannel.ID;
+import org.apache.paimon.utils.ExecutorThreadFactory;
 import org.apache.paimon.utils.Preconditions;
 
 import org.slf4j.Logger;
@@ -30,9 +31,19 @@ import javax.annotation.Nonnull;
 import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
-/** The facade for the provided I/O manager services. */
+/**
+ * The facade for the provided I/O manager services.
+ *
+ * <p>If the number of async blocks is positive, buffer file readers read blocks ahead and buffer
+ * file writers write blocks behind asynchronously. Each temporary directory has a reader thread and
+ * a writer thread, which process the requests of the channels in the directory in order.
+ */
 public class IOManagerImpl implements IOManager {
     protected static final Logger LOG = LoggerFactory.getLogger(IOManager.class);
 
@@ -40,18 +51,40 @@ public class IOManagerImpl implements IOManager {
 
     private final FileChannelManager fileChannelManager;
 
+    private final int numAsyncBlocks;
+    private final ExecutorService[] readExecutors;
+    private final ExecutorService[] writeExecutors;
+
     // -------------------------------------------------------------------------
     //               Constructors / Destructors
     // -------------------------------------------------------------------------
 
     /**
-     * Constructs a new IOManager.
+     * Constructs a new IOManager which reads and writes channels synchronously.
      *
      * @param tempDirs The basic directories for files underlying anonymous channels.
      */
     public IOManagerImpl(String... tempDirs) {
+        this(tempDirs, 0);
+    }
+
+    /**
+     * Constructs a new IOManager.
+     *
+     * @param tempDirs The basic directories for files underlying anonymous channels.
+     * @param numAsyncBlocks The number of blocks read ahead or written behind asynchronously per
+     *     channel, 0 means channels are read and written synchronously. Each block is a heap buffer
+     *     of the block size of the channel, see {@link
+     *     org.apache.paimon.CoreOptions#SPILL_ASYNC_BLOCKS}.
+     */
+    public IOManagerImpl(String[] tempDirs, int numAsyncBlocks) {
+        Preconditions.checkArgument(
+                numAsyncBlocks >= 0, "Number of async blocks must not be negative.");
         this.fileChannelManager =
                 new FileChannelManagerImpl(Preconditions.checkNotNull(tempDirs), DIR_NAME_PREFIX);
+        this.numAsyncBlocks = numAsyncBlocks;
+        this.readExecutors = new ExecutorService[fileChannelManager.getPaths().length];
+        this.writeExecutors = new ExecutorService[fileChannelManager.getPaths().length];
         if (LOG.isInfoEnabled()) {
             LOG.info(
                     "Created a new {} for spilling of task related data to disk (joins, sorting, ...). Used directories:\n\t{}",
@@ -65,6 +98,18 @@ public class IOManagerImpl implements IOManager {
     /** Removes all temporary files. */
     @Override
     public void close() throws Exception {
+        synchronized (this) {
+            for (ExecutorService executor : readExecutors) {
+                if (executor != null) {
+                    executor.shutdown();
+                }
+            }
+            for (ExecutorService executor : writeExecutors) {
+                if (executor != null) {
+                    executor.shutdown();
+                }
+            }
+        }
         fileChannelManager.close();
     }
 
@@ -117,12 +162,37 @@ public class IOManagerImpl implements IOManager {
 
     @Override
     public BufferFileWriter createBufferFileWriter(FileIOChannel.ID channelID) throws IOException {
-        return new BufferFileWriterImpl(channelID);
+        return numAsyncBlocks > 0
+                ? new AsyncBufferFileWriter(
+                        channelID, ioExecutor(writeExecutors, channelID, "writer"), numAsyncBlocks)
+                : new BufferFileWriterImpl(channelID);
     }
 
     @Override
     public BufferFileReader createBufferFileReader(FileIOChannel.ID channelID) throws IOException {
-        return new BufferFileReaderImpl(channelID);
+        return numAsyncBlocks > 0
+                ? new AsyncBufferFileReader(
+                        channelID, ioExecutor(readExecutors, channelID, "reader"), numAsyncBlocks)
+                : new BufferFileReaderImpl(channelID);
+    }
+
+    /** Lazily creates the I/O thread of the directory, the thread exits when it is idle. */
+    private synchronized ExecutorService ioExecutor(
+            ExecutorService[] executors, FileIOChannel.ID channelID, String name) {
+        int index = channelID.getBucketNum() % executors.length;
+        if (executors[index] == null) {
+            ThreadPoolExecutor executor =
+                    new ThreadPoolExecutor(
+                            1,
+                            1,
+                            60,
+                            TimeUnit.SECONDS,
+                            new LinkedBlockingQueue<>(),
+                            new ExecutorThreadFactory("paimon-io-" + name + "-" + index));
+            executor.allowCoreThreadTimeOut(true);
+            executors[index] = executor;
+        }
+        return executors[index];
     }
 
     public static String[] splitPaths(@Nonnull String separatedPaths) {
@@ -22,14 +22,14 @@ import org.apache.paimon.CoreOptions;
 import org.apache.paimon.format.FileFormatFactory.FormatContext;
 import org.apache.paimon.options.Options;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /** A class to discover {@link FileFormat}. */
 public interface FileFormatDiscover {
 
     static FileFormatDiscover of(CoreOptions options) {
-        Map<String, FileFormat> formats = new HashMap<>();
+        Map<String, FileFormat> formats = new ConcurrentHashMap<>();
         return new FileFormatDiscover() {
 
             @Override
@@ -21,19 +21,50 @@ package org.apache.paimon.index;
 import org.apache.paimon.Snapshot;
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.disk.FileIOChannel;
+import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.io.DataInputViewStreamWrapper;
+import org.apache.paimon.io.DataOutputViewStreamWrapper;
+import org.apache.paimon.utils.ExecutorThreadFactory;
 import org.apache.paimon.utils.SnapshotManager;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.apache.paimon.utils.Preconditions.checkArgument;
 
-/** Assign bucket for key hashcode. */
+/**
+ * Assign bucket for key hashcode.
+ *
+ * <p>The memory of in-memory partition indexes can be limited, least recently used partition
+ * indexes are spilled to local disk when the limit is exceeded and read back when accessed again.
+ *
+ * <p>Indexes of partitions can be loaded asynchronously by {@link #prefetch}, so that the caller
+ * can go on with records of other partitions while the index files are being read.
+ */
 public class HashBucketAssigner {
 
     private static final Logger LOG = LoggerFactory.getLogger(HashBucketAssigner.class);
@@ -45,7 +76,18 @@ public class HashBucketAssigner {
     private final int assignId;
     private final long targetBucketRowNumber;
 
-    private final Map<BinaryRow, PartitionIndex> partitionIndex;
+    private final long maxIndexMemory;
+    @Nullable private final IOManager ioManager;
+
+    // in access order, so that the least recently used partition comes first
+    private final LinkedHashMap<BinaryRow, PartitionIndex> partitionIndex;
+    private final Map<BinaryRow, SpilledPartitionIndex> spilledIndex;
+
+    @Nullable private final ExecutorService loadExecutor;
+    private final Map<BinaryRow, Future<PartitionIndex>> loadingIndex;
+    private final Queue<BinaryRow> loadedPartitions;
+
+    private long indexMemory;
 
     public HashBucketAssigner(
             SnapshotManager snapshotManager,
@@ -54,13 +96,96 @@ public class HashBucketAssigner {
             int numAssigners,
             int assignId,
             long targetBucketRowNumber) {
+        this(
+                snapshotManager,
+                commitUser,
+                indexFileHandler,
+                numAssigners,
+                assignId,
+                targetBucketRowNumber,
+                Long.MAX_VALUE,
+                null,
+                0);
+    }
+
+    public HashBucketAssigner(
+            SnapshotManager snapshotManager,
+            String commitUser,
+            IndexFileHandler indexFileHandler,
+            int numAssigners,
+            int assignId,
+            long targetBucketRowNumber,
+            long maxIndexMemory,
+            @Nullable IOManager ioManager,
+            int indexLoadThreads) {
+        checkArgument(
+                maxIndexMemory == Long.MAX_VALUE || ioManager != null,
+                "IOManager is required to spill partition indexes.");
         this.snapshotManager = snapshotManager;
         this.commitUser = commitUser;
         this.indexFileHandler = indexFileHandler;
         this.numAssigners = numAssigners;
         this.assignId = assignId;
         this.targetBucketRowNumber = targetBucketRowNumber;
-        this.partitionIndex = new HashMap<>();
+        this.maxIndexMemory = maxIndexMemory;
+        this.ioManager = ioManager;
+        this.partitionIndex = new LinkedHashMap<>(16, 0.75f, true);
+        this.spilledIndex = new HashMap<>();
+        this.loadExecutor =
+                indexLoadThreads > 0
+                        ? Executors.newFixedThreadPool(
+                                indexLoadThreads,
+                                new ExecutorThreadFactory(
+                                        Thread.currentThread().getName() + "-index-load"))
+                        : null;
+        this.loadingIndex = new HashMap<>();
+        this.loadedPartitions = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * Start loading the index of the partition asynchronously if it is not available yet.
+     *
+     * @return whether the index is available, so that {@link #assign} does not block on reading
+     *     index files.
+     */
+    public boolean prefetch(BinaryRow partition) {
+        if (partitionIndex.containsKey(partition) || spilledIndex.containsKey(partition)) {
+            return true;
+        }
+
+        if (loadExecutor == null) {
+            return false;
+        }
+
+        Future<PartitionIndex> future = loadingIndex.get(partition);
+        if (future == null) {
+            BinaryRow copied = partition.copy();
+            loadingIndex.put(
+                    copied,
+                    loadExecutor.submit(
+                            () -> {
+                                try {
+                                    return loadIndex(copied);
+                                } finally {
+                                    loadedPartitions.add(copied);
+                                }
+                            }));
+            return false;
+        }
+        return future.isDone();
+    }
+
+    /**
+     * Returns the partitions whose asynchronous loading started by {@link #prefetch} has finished
+     * since the last call.
+     */
+    public List<BinaryRow> pollLoadedPartitions() {
+        List<BinaryRow> partitions = new ArrayList<>();
+        BinaryRow partition;
+        while ((partition = loadedPartitions.poll()) != null) {
+            partitions.add(partition);
+        }
+        return partitions;
     }
 
     /** Assign a bucket for key hash of a record. */
@@ -75,11 +200,23 @@ public class HashBucketAssigner {
         PartitionIndex index = this.partitionIndex.get(partition);
         if (index == null) {
             partition = partition.copy();
-            index = loadIndex(partition);
+            SpilledPartitionIndex spilled = spilledIndex.remove(partition);
+            if (spilled != null) {
+                index = restoreIndex(spilled);
+            } else {
+                Future<PartitionIndex> future = loadingIndex.remove(partition);
+                index = future == null ? loadIndex(partition) : waitIndex(future);
+            }
             this.partitionIndex.put(partition, index);
+            indexMemory += index.estimatedMemorySize();
         }
 
-        int assigned = index.assign(hash, (bucket) -> computeAssignId(bucket) == assignId);
+        long memoryBefore = index.estimatedMemorySize();
+        int assigned = index.assign(hash);
+        indexMemory += index.estimatedMemorySize() - memoryBefore;
+        if (indexMemory > maxIndexMemory) {
+            spillIndexes();
+        }
         if (LOG.isDebugEnabled()) {
             LOG.debug(
                     "Assign " + assigned + " to the partition " + partition + " key hash " + hash);
@@ -90,10 +227,15 @@ public class HashBucketAssigner {
     /** Prepare commit to clear outdated partition index. */
     public void prepareCommit(long commitIdentifier) {
         long latestCommittedIdentifier;
-        if (partitionIndex.values().stream()
-                        .mapToLong(i -> i.lastAccessedCommitIdentifier)
-                        .max()
-                        .orElse(Long.MIN_VALUE)
+        if (Math.max(
+                        partitionIndex.values().stream()
+                                .mapToLong(i -> i.lastAccessedCommitIdentifier)
+                                .max()
+                                .orElse(Long.MIN_VALUE),
+                        spilledIndex.values().stream()
+                                .mapToLong(i -> i.lastAccessedCommitIdentifier)
+                                .max()
+                                .orElse(Long.MIN_VALUE))
                 == Long.MIN_VALUE) {
             // Optimization for the first commit.
             //
@@ -137,15 +279,106 @@ public class HashBucketAssigner {
                                 commitIdentifier);
                     }
                     iterator.remove();
+                    indexMemory -= index.estimatedMemorySize();
                 }
             }
             index.accessed = false;
         }
+
+        Iterator<SpilledPartitionIndex> spilledIterator = spilledIndex.values().iterator();
+        while (spilledIterator.hasNext()) {
+            SpilledPartitionIndex spilled = spilledIterator.next();
+            if (spilled.accessed) {
+                spilled.lastAccessedCommitIdentifier = commitIdentifier;
+            } else if (spilled.lastAccessedCommitIdentifier <= latestCommittedIdentifier) {
+                spilledIterator.remove();
+                spilled.delete();
+            }
+            spilled.accessed = false;
+        }
+    }
+
+    /** Spill least recently used partition indexes until the memory is below the limit. */
+    private void spillIndexes() {
+        Iterator<Map.Entry<BinaryRow, PartitionIndex>> iterator =
+                partitionIndex.entrySet().iterator();
+        // the most recently used one is kept, it is the one being assigned
+        for (int i = partitionIndex.size(); i > 1 && indexMemory > maxIndexMemory; i--) {
+            Map.Entry<BinaryRow, PartitionIndex> entry = iterator.next();
+            PartitionIndex index = entry.getValue();
+            spilledIndex.put(entry.getKey(), spillIndex(index));
+            iterator.remove();
+            indexMemory -= index.estimatedMemorySize();
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Spilled index for partition {} to disk.", entry.getKey());
+            }
+        }
+    }
+
+    private SpilledPartitionIndex spillIndex(PartitionIndex index) {
+        FileIOChannel.ID channel = ioManager.createChannel();
+        try (DataOutputViewStreamWrapper out =
+                new DataOutputViewStreamWrapper(
+                        new BufferedOutputStream(new FileOutputStream(channel.getPathFile())))) {
+            index.writeTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new SpilledPartitionIndex(
+                channel, index.accessed, index.lastAccessedCommitIdentifier);
+    }
+
+    private PartitionIndex waitIndex(Future<PartitionIndex> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Failed to load partition index.", e.getCause());
+        }
+    }
+
+    private PartitionIndex restoreIndex(SpilledPartitionIndex spilled) {
+        PartitionIndex index;
+        try (DataInputViewStreamWrapper in =
+                new DataInputViewStreamWrapper(
+                        new BufferedInputStream(
+                                new FileInputStream(spilled.channel.getPathFile())))) {
+            index =
+                    PartitionIndex.readFrom(
+                            in,
+                            targetBucketRowNumber,
+                            (bucket) -> computeAssignId(bucket) == assignId);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        spilled.delete();
+        index.lastAccessedCommitIdentifier = spilled.lastAccessedCommitIdentifier;
+        return index;
+    }
+
+    /** Stop loading indexes and delete all the spilled partition indexes. */
+    public void close() {
+        if (loadExecutor != null) {
+            loadExecutor.shutdownNow();
+        }
+        loadingIndex.clear();
+        loadedPartitions.clear();
+        spilledIndex.values().forEach(SpilledPartitionIndex::delete);
+        spilledIndex.clear();
     }
 
     @VisibleForTesting
     Set<BinaryRow> currentPartitions() {
-        return partitionIndex.keySet();
+        Set<BinaryRow> partitions = new HashSet<>(partitionIndex.keySet());
+        partitions.addAll(spilledIndex.keySet());
+        return partitions;
+    }
+
+    @VisibleForTesting
+    Set<BinaryRow> spilledPartitions() {
+        return spilledIndex.keySet();
     }
 
     private int computeAssignId(int hash) {
@@ -157,6 +390,30 @@ public class HashBucketAssigner {
                 indexFileHandler,
                 partition,
                 targetBucketRowNumber,
-                (hash) -> computeAssignId(hash) == assignId);
+                (hash) -> computeAssignId(hash) == assignId,
+                (bucket) -> computeAssignId(bucket) == assignId);
+    }
+
+    /** A partition index spilled to local disk. */
+    private static class SpilledPartitionIndex {
+
+        private final FileIOChannel.ID channel;
+
+        private boolean accessed;
+
+        private long lastAccessedCommitIdentifier;
+
+        private SpilledPartitionIndex(
+                FileIOChannel.ID channel, boolean accessed, long lastAccessedCommitIdentifier) {
+            this.channel = channel;
+            this.accessed = accessed;
+            this.lastAccessedCommitIdentifier = lastAccessedCommitIdentifier;
+        }
+
+        private void delete() {
+            if (!channel.getPathFile().delete()) {
+                LOG.warn("Failed to delete spilled partition index {}.", channel.getPath());
+            }
+        }
     }
 }
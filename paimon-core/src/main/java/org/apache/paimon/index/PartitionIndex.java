@@ -19,6 +19,8 @@
 package org.apache.paimon.index;
 
 import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.io.DataInputView;
+import org.apache.paimon.io.DataOutputView;
 import org.apache.paimon.manifest.IndexManifestEntry;
 import org.apache.paimon.utils.Int2ShortHashMap;
 import org.apache.paimon.utils.IntIterator;
@@ -26,6 +28,7 @@ import org.apache.paimon.utils.IntIterator;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -33,15 +36,38 @@ import java.util.function.IntPredicate;
 
 import static org.apache.paimon.index.HashIndexFile.HASH_INDEX;
 
-/** Bucket Index Per Partition. */
+/**
+ * Bucket Index Per Partition.
+ *
+ * <p>Row numbers of buckets are kept in a primitive array indexed by bucket, and the non-full
+ * buckets owned by this assigner are kept in an ascending free list. New keys always go to the head
+ * of the free list, so both assigning and creating buckets are amortized O(1).
+ */
 public class PartitionIndex {
 
-    public final Int2ShortHashMap hash2Bucket;
+    private static final short NOT_ASSIGNED = -1;
 
-    public final Map<Integer, Long> bucketInformation;
+    /** Bytes of a slot in {@link #hash2Bucket}, an int key and a short value. */
+    private static final int BYTES_PER_SLOT = 4 + 2;
+
+    public final Int2ShortHashMap hash2Bucket;
 
     private final long targetBucketRowNumber;
 
+    private final IntPredicate bucketFilter;
+
+    /** Row number of each bucket, 0 means that the bucket does not exist. */
+    private long[] bucketRowNumbers;
+
+    /** Non-full buckets owned by this assigner, in ascending order. */
+    private int[] nonFullBuckets;
+
+    private int nonFullHead;
+    private int nonFullTail;
+
+    /** All owned buckets below this one exist, it is the start point to create a new bucket. */
+    private int nextNewBucket;
+
     public boolean accessed;
 
     public long lastAccessedCommitIdentifier;
@@ -49,62 +75,145 @@ public class PartitionIndex {
     public PartitionIndex(
             Int2ShortHashMap hash2Bucket,
             Map<Integer, Long> bucketInformation,
-            long targetBucketRowNumber) {
+            long targetBucketRowNumber,
+            IntPredicate bucketFilter) {
         this.hash2Bucket = hash2Bucket;
-        this.bucketInformation = bucketInformation;
         this.targetBucketRowNumber = targetBucketRowNumber;
+        this.bucketFilter = bucketFilter;
         this.lastAccessedCommitIdentifier = Long.MIN_VALUE;
         this.accessed = true;
+
+        int maxBucket = bucketInformation.keySet().stream().mapToInt(i -> i).max().orElse(-1);
+        this.bucketRowNumbers = new long[Math.max(maxBucket + 1, 16)];
+        bucketInformation.forEach((bucket, number) -> bucketRowNumbers[bucket] = number);
+
+        this.nonFullBuckets = new int[16];
+        for (int bucket = 0; bucket <= maxBucket; bucket++) {
+            if (bucketRowNumbers[bucket] > 0
+                    && bucketRowNumbers[bucket] < targetBucketRowNumber
+                    && bucketFilter.test(bucket)) {
+                addNonFullBucket(bucket);
+            }
+        }
+        this.nextNewBucket = 0;
     }
 
-    public int assign(int hash, IntPredicate bucketFilter) {
+    public int assign(int hash) {
         accessed = true;
 
         // 1. is it a key that has appeared before
-        if (hash2Bucket.containsKey(hash)) {
-            return hash2Bucket.get(hash);
+        short assigned = hash2Bucket.getOrDefault(hash, NOT_ASSIGNED);
+        if (assigned != NOT_ASSIGNED) {
+            return assigned;
         }
 
         // 2. find bucket from existing buckets
-        for (Integer bucket : bucketInformation.keySet()) {
-            if (bucketFilter.test(bucket)) {
-                // it is my bucket
-                Long number = bucketInformation.get(bucket);
-                if (number < targetBucketRowNumber) {
-                    bucketInformation.put(bucket, number + 1);
-                    hash2Bucket.put(hash, bucket.shortValue());
-                    return bucket;
-                }
+        if (nonFullHead < nonFullTail) {
+            int bucket = nonFullBuckets[nonFullHead];
+            if (++bucketRowNumbers[bucket] >= targetBucketRowNumber) {
+                nonFullHead++;
             }
+            hash2Bucket.put(hash, (short) bucket);
+            return bucket;
         }
 
         // 3. create a new bucket
-        for (int i = 0; i < Short.MAX_VALUE; i++) {
-            if (bucketFilter.test(i) && !bucketInformation.containsKey(i)) {
-                hash2Bucket.put(hash, (short) i);
-                bucketInformation.put(i, 1L);
-                return i;
+        for (; nextNewBucket < Short.MAX_VALUE; nextNewBucket++) {
+            int bucket = nextNewBucket;
+            if (bucketFilter.test(bucket)
+                    && (bucket >= bucketRowNumbers.length || bucketRowNumbers[bucket] == 0)) {
+                ensureBucketCapacity(bucket);
+                bucketRowNumbers[bucket] = 1;
+                if (targetBucketRowNumber > 1) {
+                    addNonFullBucket(bucket);
+                }
+                hash2Bucket.put(hash, (short) bucket);
+                nextNewBucket++;
+                return bucket;
             }
         }
 
-        @SuppressWarnings("OptionalGetWithoutIsPresent")
-        int maxBucket =
-                bucketInformation.keySet().stream().mapToInt(Integer::intValue).max().getAsInt();
+        int maxBucket = bucketRowNumbers.length - 1;
+        while (maxBucket > 0 && bucketRowNumbers[maxBucket] == 0) {
+            maxBucket--;
+        }
         throw new RuntimeException(
                 String.format(
                         "To more bucket %s, you should increase target bucket row number %s.",
                         maxBucket, targetBucketRowNumber));
     }
 
+    private void addNonFullBucket(int bucket) {
+        if (nonFullHead == nonFullTail) {
+            // reuse the array once all the previous buckets are full
+            nonFullHead = nonFullTail = 0;
+        }
+        if (nonFullTail == nonFullBuckets.length) {
+            nonFullBuckets = Arrays.copyOf(nonFullBuckets, nonFullBuckets.length * 2);
+        }
+        nonFullBuckets[nonFullTail++] = bucket;
+    }
+
+    private void ensureBucketCapacity(int bucket) {
+        if (bucket >= bucketRowNumbers.length) {
+            bucketRowNumbers =
+                    Arrays.copyOf(
+                            bucketRowNumbers,
+                            Math.min(
+                                    Math.max(bucketRowNumbers.length * 2, bucket + 1),
+                                    Short.MAX_VALUE));
+        }
+    }
+
+    /** Estimated memory size of this index in bytes. */
+    public long estimatedMemorySize() {
+        // open hashing allocates all slots of the backing arrays, not only the used ones
+        return (long) hash2Bucket.capacity() * BYTES_PER_SLOT
+                + bucketRowNumbers.length * 8L
+                + nonFullBuckets.length * 4L;
+    }
+
+    /** Write the keys and buckets of this index, can be read by {@link #readFrom}. */
+    public void writeTo(DataOutputView out) throws IOException {
+        hash2Bucket.writeTo(out);
+        int numBuckets = 0;
+        for (long number : bucketRowNumbers) {
+            if (number > 0) {
+                numBuckets++;
+            }
+        }
+        out.writeInt(numBuckets);
+        for (int bucket = 0; bucket < bucketRowNumbers.length; bucket++) {
+            if (bucketRowNumbers[bucket] > 0) {
+                out.writeInt(bucket);
+                out.writeLong(bucketRowNumbers[bucket]);
+            }
+        }
+    }
+
+    public static PartitionIndex readFrom(
+            DataInputView in, long targetBucketRowNumber, IntPredicate bucketFilter)
+            throws IOException {
+        Int2ShortHashMap hash2Bucket = Int2ShortHashMap.readFrom(in);
+        int numBuckets = in.readInt();
+        Map<Integer, Long> buckets = new HashMap<>(numBuckets);
+        for (int i = 0; i < numBuckets; i++) {
+            buckets.put(in.readInt(), in.readLong());
+        }
+        return new PartitionIndex(hash2Bucket, buckets, targetBucketRowNumber, bucketFilter);
+    }
+
     public static PartitionIndex loadIndex(
             IndexFileHandler indexFileHandler,
             BinaryRow partition,
             long targetBucketRowNumber,
-            IntPredicate loadFilter) {
+            IntPredicate loadFilter,
+            IntPredicate bucketFilter) {
         Int2ShortHashMap map = new Int2ShortHashMap();
         List<IndexManifestEntry> files = indexFileHandler.scan(HASH_INDEX, partition);
         Map<Integer, Long> buckets = new HashMap<>();
         for (IndexManifestEntry file : files) {
+            long rowNumber = 0;
             try (IntIterator iterator = indexFileHandler.readHashIndex(file.indexFile())) {
                 while (true) {
                     try {
@@ -112,8 +221,7 @@ public class PartitionIndex {
                         if (loadFilter.test(hash)) {
                             map.put(hash, (short) file.bucket());
                         }
-                        buckets.compute(
-                                file.bucket(), (bucket, number) -> number == null ? 1 : number + 1);
+                        rowNumber++;
                     } catch (EOFException ignored) {
                         break;
                     }
@@ -121,7 +229,10 @@ public class PartitionIndex {
             } catch (IOException e) {
                 throw new UncheckedIOException(e);
             }
+            if (rowNumber > 0) {
+                buckets.merge(file.bucket(), rowNumber, Long::sum);
+            }
         }
-        return new PartitionIndex(map, buckets, targetBucketRowNumber);
+        return new PartitionIndex(map, buckets, targetBucketRowNumber, bucketFilter);
     }
 }
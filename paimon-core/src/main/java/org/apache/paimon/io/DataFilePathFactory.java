@@ -34,6 +34,8 @@ public class DataFilePathFactory {
 
     public static final String CHANGELOG_FILE_PREFIX = "changelog-";
 
+    public static final String KEY_BLOOM_FILTER_FILE_SUFFIX = ".bloom";
+
     private final Path bucketDir;
     private final String uuid;
 
@@ -74,6 +76,10 @@ public class DataFilePathFactory {
         return new Path(tablePath + "/" + partition + "/bucket-" + bucket);
     }
 
+    public static String keyBloomFilterFileName(String dataFileName) {
+        return dataFileName + KEY_BLOOM_FILTER_FILE_SUFFIX;
+    }
+
     public static String formatIdentifier(String fileName) {
         int index = fileName.lastIndexOf('.');
         if (index == -1) {
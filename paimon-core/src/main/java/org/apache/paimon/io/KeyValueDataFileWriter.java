@@ -22,15 +22,20 @@ import org.apache.paimon.CoreOptions;
 import org.apache.paimon.KeyValue;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.Timestamp;
 import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.data.serializer.RowCompactedSerializer;
 import org.apache.paimon.format.FieldStats;
 import org.apache.paimon.format.FormatWriterFactory;
 import org.apache.paimon.format.TableStatsExtractor;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.PositionOutputStream;
 import org.apache.paimon.stats.BinaryTableStats;
 import org.apache.paimon.stats.FieldStatsArraySerializer;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.BloomFilter;
+import org.apache.paimon.utils.MurmurHashUtils;
 import org.apache.paimon.utils.StatsCollectorFactories;
 
 import org.slf4j.Logger;
@@ -39,7 +44,9 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nullable;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.function.Function;
 
 /**
@@ -48,6 +55,9 @@ import java.util.function.Function;
  *
  * <p>NOTE: records given to the writer must be sorted because it does not compare the min max keys
  * to produce {@link DataFileMeta}.
+ *
+ * <p>If a key bloom filter is required, the hash codes of the compacted serialized keys are
+ * collected and written to an extra file of {@link DataFileMeta} when this writer is closed.
  */
 public class KeyValueDataFileWriter
         extends StatsCollectingSingleFileWriter<KeyValue, DataFileMeta> {
@@ -63,6 +73,13 @@ public class KeyValueDataFileWriter
     private final FieldStatsArraySerializer valueStatsConverter;
     private final InternalRowSerializer keySerializer;
 
+    @Nullable private final Path bloomFilterPath;
+    @Nullable private final RowCompactedSerializer bloomFilterKeySerializer;
+    private final double bloomFilterFpp;
+    private int[] keyHashes;
+    private int numKeyHashes;
+    private boolean bloomFilterWritten;
+
     private BinaryRow minKey = null;
     private InternalRow maxKey = null;
     private long minSeqNumber = Long.MAX_VALUE;
@@ -79,7 +96,8 @@ public class KeyValueDataFileWriter
             long schemaId,
             int level,
             String compression,
-            CoreOptions options) {
+            CoreOptions options,
+            boolean writeKeyBloomFilter) {
         super(
                 fileIO,
                 factory,
@@ -99,6 +117,21 @@ public class KeyValueDataFileWriter
         this.keyStatsConverter = new FieldStatsArraySerializer(keyType);
         this.valueStatsConverter = new FieldStatsArraySerializer(valueType);
         this.keySerializer = new InternalRowSerializer(keyType);
+
+        if (writeKeyBloomFilter) {
+            this.bloomFilterPath =
+                    new Path(
+                            path.getParent(),
+                            DataFilePathFactory.keyBloomFilterFileName(path.getName()));
+            this.bloomFilterKeySerializer = new RowCompactedSerializer(keyType);
+            this.bloomFilterFpp =
+                    options.toConfiguration().get(CoreOptions.LOOKUP_BLOOM_FILTER_FPP);
+            this.keyHashes = new int[1024];
+        } else {
+            this.bloomFilterPath = null;
+            this.bloomFilterKeySerializer = null;
+            this.bloomFilterFpp = 0;
+        }
     }
 
     @Override
@@ -111,6 +144,10 @@ public class KeyValueDataFileWriter
         updateMinSeqNumber(kv);
         updateMaxSeqNumber(kv);
 
+        if (bloomFilterKeySerializer != null) {
+            collectKeyHash(kv);
+        }
+
         if (LOG.isDebugEnabled()) {
             LOG.debug("Write to Path " + path + " key value " + kv.toString(keyType, valueType));
         }
@@ -126,6 +163,14 @@ public class KeyValueDataFileWriter
         maxKey = kv.key();
     }
 
+    private void collectKeyHash(KeyValue kv) {
+        if (numKeyHashes == keyHashes.length) {
+            keyHashes = Arrays.copyOf(keyHashes, keyHashes.length * 2);
+        }
+        keyHashes[numKeyHashes++] =
+                MurmurHashUtils.hashBytes(bloomFilterKeySerializer.serializeToBytes(kv.key()));
+    }
+
     private void updateMinSeqNumber(KeyValue kv) {
         minSeqNumber = Math.min(minSeqNumber, kv.sequenceNumber());
     }
@@ -134,6 +179,56 @@ public class KeyValueDataFileWriter
         maxSeqNumber = Math.max(maxSeqNumber, kv.sequenceNumber());
     }
 
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+
+        super.close();
+        if (bloomFilterPath != null && numKeyHashes > 0) {
+            try {
+                writeKeyBloomFilter(bloomFilterPath);
+                bloomFilterWritten = true;
+            } catch (IOException e) {
+                LOG.warn("Exception occurs when writing bloom filter " + bloomFilterPath, e);
+                abort();
+                throw e;
+            }
+        }
+    }
+
+    private void writeKeyBloomFilter(Path bloomFilterPath) throws IOException {
+        BloomFilter bloomFilter = new BloomFilter(numKeyHashes, bloomFilterFpp);
+        for (int i = 0; i < numKeyHashes; i++) {
+            bloomFilter.addHash(keyHashes[i]);
+        }
+        keyHashes = null;
+        try (PositionOutputStream out = fileIO.newOutputStream(bloomFilterPath, false)) {
+            out.write(bloomFilter.toBytes());
+        }
+    }
+
+    @Override
+    public void abort() {
+        super.abort();
+        if (bloomFilterPath != null) {
+            fileIO.deleteQuietly(bloomFilterPath);
+        }
+    }
+
+    @Override
+    public AbortExecutor abortExecutor() {
+        if (bloomFilterPath == null) {
+            return super.abortExecutor();
+        }
+
+        if (!closed) {
+            throw new RuntimeException("Writer should be closed!");
+        }
+        return new AbortExecutor(fileIO, path, bloomFilterPath);
+    }
+
     @Override
     @Nullable
     public DataFileMeta result() throws IOException {
@@ -162,6 +257,10 @@ public class KeyValueDataFileWriter
                 minSeqNumber,
                 maxSeqNumber,
                 schemaId,
-                level);
+                level,
+                bloomFilterWritten
+                        ? Collections.singletonList(bloomFilterPath.getName())
+                        : Collections.emptyList(),
+                Timestamp.fromLocalDateTime(LocalDateTime.now()));
     }
 }
@@ -23,16 +23,23 @@ import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.format.FileFormatDiscover;
 import org.apache.paimon.format.FormatKey;
 import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.SeekableInputStream;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.schema.KeyValueFieldsExtractor;
 import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.schema.TableSchema;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.BloomFilter;
 import org.apache.paimon.utils.BulkFormatMapping;
 import org.apache.paimon.utils.FileStorePathFactory;
+import org.apache.paimon.utils.IOUtils;
 import org.apache.paimon.utils.Projection;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import javax.annotation.Nullable;
 
 import java.io.IOException;
@@ -44,6 +51,8 @@ import java.util.Map;
 /** Factory to create {@link RecordReader}s for reading {@link KeyValue} files. */
 public class KeyValueFileReaderFactory {
 
+    private static final Logger LOG = LoggerFactory.getLogger(KeyValueFileReaderFactory.class);
+
     private final FileIO fileIO;
     private final SchemaManager schemaManager;
     private final long schemaId;
@@ -95,6 +104,45 @@ public class KeyValueFileReaderFactory {
                 bulkFormatMapping.getCastMapping());
     }
 
+    /**
+     * Reads the key bloom filter of the data file, returns null if the file has no bloom filter,
+     * its keys were serialized with a different key type or the bloom filter can not be read, in
+     * which case the data file might contain any key.
+     */
+    @Nullable
+    public BloomFilter readKeyBloomFilter(DataFileMeta file) {
+        String bloomFilterFile = DataFilePathFactory.keyBloomFilterFileName(file.fileName());
+        if (!file.extraFiles().contains(bloomFilterFile) || !sameKeyTypes(file.schemaId())) {
+            return null;
+        }
+
+        Path path = pathFactory.toPath(bloomFilterFile);
+        try {
+            byte[] bytes = new byte[(int) fileIO.getFileSize(path)];
+            try (SeekableInputStream in = fileIO.newInputStream(path)) {
+                IOUtils.readFully(in, bytes);
+            }
+            return BloomFilter.fromBytes(bytes);
+        } catch (Exception e) {
+            LOG.warn("Failed to read key bloom filter " + path + ", ignore it.", e);
+            return null;
+        }
+    }
+
+    private boolean sameKeyTypes(long fileSchemaId) {
+        if (fileSchemaId == schemaId) {
+            return true;
+        }
+
+        TableSchema tableSchema = schemaManager.schema(schemaId);
+        TableSchema dataSchema = schemaManager.schema(fileSchemaId);
+        return !tableSchema.primaryKeys().isEmpty()
+                && tableSchema
+                        .logicalTrimmedPrimaryKeysType()
+                        .getFieldTypes()
+                        .equals(dataSchema.logicalTrimmedPrimaryKeysType().getFieldTypes());
+    }
+
     public static Builder builder(
             FileIO fileIO,
             SchemaManager schemaManager,
@@ -91,7 +91,13 @@ public class KeyValueFileWriterFactory {
 
     public RollingFileWriter<KeyValue, DataFileMeta> createRollingMergeTreeFileWriter(int level) {
         return new RollingFileWriter<>(
-                () -> createDataFileWriter(pathFactory.newPath(), level, getCompression(level)),
+                () ->
+                        createDataFileWriter(
+                                pathFactory.newPath(),
+                                level,
+                                getCompression(level),
+                                options.toConfiguration()
+                                        .get(CoreOptions.LOOKUP_BLOOM_FILTER_ENABLED)),
                 suggestedFileSize);
     }
 
@@ -107,11 +113,15 @@ public class KeyValueFileWriterFactory {
         return new RollingFileWriter<>(
                 () ->
                         createDataFileWriter(
-                                pathFactory.newChangelogPath(), level, getCompression(level)),
+                                pathFactory.newChangelogPath(),
+                                level,
+                                getCompression(level),
+                                false),
                 suggestedFileSize);
     }
 
-    private KeyValueDataFileWriter createDataFileWriter(Path path, int level, String compression) {
+    private KeyValueDataFileWriter createDataFileWriter(
+            Path path, int level, String compression, boolean writeKeyBloomFilter) {
         KeyValueSerializer kvSerializer = new KeyValueSerializer(keyType, valueType);
         return new KeyValueDataFileWriter(
                 fileIO,
@@ -124,11 +134,15 @@ public class KeyValueFileWriterFactory {
                 schemaId,
                 level,
                 compression,
-                options);
+                options,
+                writeKeyBloomFilter);
     }
 
-    public void deleteFile(String filename) {
-        fileIO.deleteQuietly(pathFactory.toPath(filename));
+    public void deleteFile(DataFileMeta file) {
+        fileIO.deleteQuietly(pathFactory.toPath(file.fileName()));
+        for (String extraFile : file.extraFiles()) {
+            fileIO.deleteQuietly(pathFactory.toPath(extraFile));
+        }
     }
 
     public static Builder builder(
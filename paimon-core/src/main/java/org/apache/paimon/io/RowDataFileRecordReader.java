@@ -53,9 +53,11 @@ public class RowDataFileRecordReader implements RecordReader<InternalRow> {
     @Override
     public RecordReader.RecordIterator<InternalRow> readBatch() throws IOException {
         RecordIterator<InternalRow> iterator = reader.readBatch();
-        return iterator == null
-                ? null
-                : new RowDataFileRecordIterator(iterator, indexMapping, castMapping);
+        if (iterator == null || (indexMapping == null && castMapping == null)) {
+            // return the format iterator directly, so that vectorized batches can be exposed
+            return iterator;
+        }
+        return new RowDataFileRecordIterator(iterator, indexMapping, castMapping);
     }
 
     @Override
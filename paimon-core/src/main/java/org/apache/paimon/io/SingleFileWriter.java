@@ -155,19 +155,21 @@ public abstract class SingleFileWriter<T, R> implements FileWriter<T, R> {
         }
     }
 
-    /** Abort executor to just have reference of path instead of whole writer. */
+    /** Abort executor to just have reference of paths instead of whole writer. */
     public static class AbortExecutor {
 
         private final FileIO fileIO;
-        private final Path path;
+        private final Path[] paths;
 
-        private AbortExecutor(FileIO fileIO, Path path) {
+        AbortExecutor(FileIO fileIO, Path... paths) {
             this.fileIO = fileIO;
-            this.path = path;
+            this.paths = paths;
         }
 
         public void abort() {
-            fileIO.deleteQuietly(path);
+            for (Path path : paths) {
+                fileIO.deleteQuietly(path);
+            }
         }
     }
 }
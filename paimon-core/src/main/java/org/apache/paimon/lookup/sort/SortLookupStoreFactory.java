@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.sort;
+
+import org.apache.paimon.compression.BlockCompressionFactory;
+import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.lookup.LookupStoreFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Comparator;
+
+/**
+ * A {@link LookupStoreFactory} which stores records in sorted blocks and finds the block of a key
+ * by a block index. The records must be put in the order of the {@code comparator}.
+ */
+public class SortLookupStoreFactory implements LookupStoreFactory {
+
+    private final Comparator<byte[]> comparator;
+    private final CacheManager cacheManager;
+    private final int blockSize;
+    @Nullable private final BlockCompressionFactory compressionFactory;
+    private final boolean mmapEnabled;
+
+    public SortLookupStoreFactory(
+            Comparator<byte[]> comparator,
+            CacheManager cacheManager,
+            int blockSize,
+            @Nullable BlockCompressionFactory compressionFactory,
+            boolean mmapEnabled) {
+        this.comparator = comparator;
+        this.cacheManager = cacheManager;
+        this.blockSize = blockSize;
+        this.compressionFactory = compressionFactory;
+        this.mmapEnabled = mmapEnabled;
+    }
+
+    @Override
+    public SortLookupStoreWriter createWriter(File file) throws IOException {
+        return new SortLookupStoreWriter(
+                file,
+                blockSize,
+                compressionFactory == null ? null : compressionFactory.getCompressor());
+    }
+
+    @Override
+    public SortLookupStoreReader createReader(File file) throws IOException {
+        return new SortLookupStoreReader(
+                comparator,
+                cacheManager,
+                file,
+                compressionFactory == null ? null : compressionFactory.getDecompressor(),
+                mmapEnabled);
+    }
+}
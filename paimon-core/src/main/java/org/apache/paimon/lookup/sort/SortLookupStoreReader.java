@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.sort;
+
+import org.apache.paimon.compression.BlockDecompressor;
+import org.apache.paimon.io.DataInputDeserializer;
+import org.apache.paimon.io.MappedRandomInputView;
+import org.apache.paimon.io.SeekableDataInputView;
+import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.io.cache.CachedRandomInputView;
+import org.apache.paimon.lookup.LookupStoreReader;
+
+import javax.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Comparator;
+
+import static org.apache.paimon.lookup.sort.SortLookupStoreWriter.COMPRESSED_BLOCK;
+import static org.apache.paimon.lookup.sort.SortLookupStoreWriter.FOOTER_SIZE;
+import static org.apache.paimon.lookup.sort.SortLookupStoreWriter.MAGIC_NUMBER;
+import static org.apache.paimon.lookup.sort.SortLookupStoreWriter.RAW_BLOCK;
+import static org.apache.paimon.utils.VarLengthIntUtils.decodeInt;
+import static org.apache.paimon.utils.VarLengthIntUtils.decodeLong;
+
+/**
+ * Reader of the sort lookup store, see {@link SortLookupStoreWriter} for the file layout. The block
+ * index is kept in memory, a lookup binary searches the block of the key and scans it. The last
+ * decoded block is kept, so lookups of sorted keys decode each block at most once.
+ */
+public class SortLookupStoreReader implements LookupStoreReader {
+
+    private final Comparator<byte[]> comparator;
+    @Nullable private final BlockDecompressor decompressor;
+
+    private final byte[][] lastKeys;
+    private final long[] blockOffsets;
+    private final int[] storedSizes;
+    private final int[] rawSizes;
+
+    private SeekableDataInputView inputView;
+    private Closeable inputCloser;
+
+    private final DataInputDeserializer blockInput = new DataInputDeserializer();
+    private byte[] readBuffer = new byte[0];
+    private byte[] blockBuffer = new byte[0];
+    private byte[] keyBuffer = new byte[0];
+    private int currentBlock = -1;
+
+    SortLookupStoreReader(
+            Comparator<byte[]> comparator,
+            CacheManager cacheManager,
+            File file,
+            @Nullable BlockDecompressor decompressor,
+            boolean mmapEnabled)
+            throws IOException {
+        if (!file.exists()) {
+            throw new FileNotFoundException("File " + file.getAbsolutePath() + " not found");
+        }
+        this.comparator = comparator;
+        this.decompressor = decompressor;
+
+        // read footer and block index
+        byte[] indexBytes;
+        int blockCount;
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            long length = raf.length();
+            if (length < FOOTER_SIZE) {
+                throw new IOException("File " + file + " is not a sort lookup store file.");
+            }
+            raf.seek(length - FOOTER_SIZE);
+            long indexOffset = raf.readLong();
+            int indexSize = raf.readInt();
+            blockCount = raf.readInt();
+            raf.readLong(); // record count
+            if (raf.readInt() != MAGIC_NUMBER) {
+                throw new IOException("File " + file + " is not a sort lookup store file.");
+            }
+            indexBytes = new byte[indexSize];
+            raf.seek(indexOffset);
+            raf.readFully(indexBytes);
+        }
+
+        this.lastKeys = new byte[blockCount][];
+        this.blockOffsets = new long[blockCount];
+        this.storedSizes = new int[blockCount];
+        this.rawSizes = new int[blockCount];
+        DataInputDeserializer indexInput = new DataInputDeserializer(indexBytes);
+        for (int i = 0; i < blockCount; i++) {
+            lastKeys[i] = new byte[decodeInt(indexInput)];
+            indexInput.readFully(lastKeys[i]);
+            blockOffsets[i] = decodeLong(indexInput);
+            storedSizes[i] = decodeInt(indexInput);
+            rawSizes[i] = decodeInt(indexInput);
+        }
+
+        if (mmapEnabled) {
+            MappedRandomInputView mappedView = new MappedRandomInputView(file);
+            inputView = mappedView;
+            inputCloser = mappedView;
+        } else {
+            CachedRandomInputView cachedView = new CachedRandomInputView(file, cacheManager);
+            inputView = cachedView;
+            inputCloser = cachedView;
+        }
+    }
+
+    @Override
+    public byte[] lookup(byte[] key) throws IOException {
+        int block = findBlock(key);
+        if (block < 0) {
+            return null;
+        }
+
+        loadBlock(block);
+        blockInput.setBuffer(blockBuffer, 0, rawSizes[block]);
+        while (blockInput.available() > 0) {
+            int shared = decodeInt(blockInput);
+            int unshared = decodeInt(blockInput);
+            int valueLength = decodeInt(blockInput);
+            int keyLength = shared + unshared;
+            if (keyBuffer.length < keyLength) {
+                byte[] newBuffer = new byte[Math.max(keyLength, keyBuffer.length * 2)];
+                System.arraycopy(keyBuffer, 0, newBuffer, 0, shared);
+                keyBuffer = newBuffer;
+            }
+            blockInput.readFully(keyBuffer, shared, unshared);
+            if (keyLength == key.length && isKey(key)) {
+                byte[] value = new byte[valueLength];
+                blockInput.readFully(value);
+                return value;
+            }
+            blockInput.skipBytesToRead(valueLength);
+        }
+        return null;
+    }
+
+    /** Returns the first block whose last key is not less than the key, or -1 if none. */
+    private int findBlock(byte[] key) {
+        int low = 0;
+        int high = lastKeys.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(lastKeys[mid], key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low < lastKeys.length ? low : -1;
+    }
+
+    private boolean isKey(byte[] key) {
+        for (int i = 0; i < key.length; i++) {
+            if (keyBuffer[i] != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void loadBlock(int block) throws IOException {
+        if (block == currentBlock) {
+            return;
+        }
+
+        int rawSize = rawSizes[block];
+        if (blockBuffer.length < rawSize) {
+            blockBuffer = new byte[rawSize];
+        }
+
+        inputView.setReadPosition(blockOffsets[block]);
+        byte type = inputView.readByte();
+        if (type == RAW_BLOCK) {
+            inputView.readFully(blockBuffer, 0, rawSize);
+        } else if (type == COMPRESSED_BLOCK) {
+            if (decompressor == null) {
+                throw new IOException("Block is compressed, but there is no decompressor.");
+            }
+            int compressedSize = storedSizes[block] - 1;
+            if (readBuffer.length < compressedSize) {
+                readBuffer = new byte[compressedSize];
+            }
+            inputView.readFully(readBuffer, 0, compressedSize);
+            decompressor.decompress(readBuffer, 0, compressedSize, blockBuffer, 0);
+        } else {
+            throw new IOException("Unknown block type: " + type);
+        }
+        currentBlock = block;
+    }
+
+    @Override
+    public void close() throws IOException {
+        inputCloser.close();
+        inputCloser = null;
+        inputView = null;
+    }
+}
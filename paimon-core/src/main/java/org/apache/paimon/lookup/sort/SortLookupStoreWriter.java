@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.sort;
+
+import org.apache.paimon.compression.BlockCompressor;
+import org.apache.paimon.io.DataOutputSerializer;
+import org.apache.paimon.lookup.LookupStoreWriter;
+
+import javax.annotation.Nullable;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import static org.apache.paimon.utils.VarLengthIntUtils.encodeInt;
+import static org.apache.paimon.utils.VarLengthIntUtils.encodeLong;
+
+/**
+ * Writer of the sort lookup store, the file layout is:
+ *
+ * <pre>
+ * +------------------+
+ * | block 0          |  [byte block type][entries, may be compressed]
+ * | ...              |
+ * | block n          |
+ * +------------------+
+ * | block index      |  [var last key length][last key][var offset][var stored size][var raw size] per block
+ * +------------------+
+ * | footer           |  [long index offset][int index size][int block count][long record count][int magic]
+ * +------------------+
+ * </pre>
+ *
+ * <p>An entry is [var shared key length][var unshared key length][var value length][unshared key
+ * bytes][value bytes], the key shares its prefix with the key of the previous entry in the same
+ * block. The keys must be put in sorted order.
+ */
+public class SortLookupStoreWriter implements LookupStoreWriter {
+
+    static final int MAGIC_NUMBER = 0x534c4b56;
+    static final int FOOTER_SIZE = 28;
+    static final byte RAW_BLOCK = 0;
+    static final byte COMPRESSED_BLOCK = 1;
+
+    private final DataOutputStream out;
+    private final int blockSize;
+    @Nullable private final BlockCompressor compressor;
+
+    private final DataOutputSerializer block;
+    private final DataOutputSerializer index;
+
+    private byte[] compressBuffer;
+    private byte[] lastKey;
+    private long position;
+    private int blockCount;
+    private long recordCount;
+
+    SortLookupStoreWriter(File file, int blockSize, @Nullable BlockCompressor compressor)
+            throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+        this.blockSize = blockSize;
+        this.compressor = compressor;
+        this.block = new DataOutputSerializer(blockSize + blockSize / 4);
+        this.index = new DataOutputSerializer(1024);
+    }
+
+    @Override
+    public void put(byte[] key, byte[] value) throws IOException {
+        int shared = block.length() == 0 ? 0 : sharedPrefixLength(lastKey, key);
+        encodeInt(block, shared);
+        encodeInt(block, key.length - shared);
+        encodeInt(block, value.length);
+        block.write(key, shared, key.length - shared);
+        block.write(value);
+        lastKey = key;
+        recordCount++;
+
+        if (block.length() >= blockSize) {
+            flushBlock();
+        }
+    }
+
+    private void flushBlock() throws IOException {
+        int rawSize = block.length();
+        byte[] raw = block.getSharedBuffer();
+        int storedSize = 1 + rawSize;
+        boolean compressed = false;
+        if (compressor != null) {
+            int maxSize = compressor.getMaxCompressedSize(rawSize);
+            if (compressBuffer == null || compressBuffer.length < maxSize) {
+                compressBuffer = new byte[maxSize];
+            }
+            int compressedSize = compressor.compress(raw, 0, rawSize, compressBuffer, 0);
+            // keep the raw bytes if the block is not compressible
+            if (compressedSize < rawSize) {
+                compressed = true;
+                storedSize = 1 + compressedSize;
+            }
+        }
+
+        if (compressed) {
+            out.writeByte(COMPRESSED_BLOCK);
+            out.write(compressBuffer, 0, storedSize - 1);
+        } else {
+            out.writeByte(RAW_BLOCK);
+            out.write(raw, 0, rawSize);
+        }
+
+        encodeInt(index, lastKey.length);
+        index.write(lastKey);
+        encodeLong(index, position);
+        encodeInt(index, storedSize);
+        encodeInt(index, rawSize);
+
+        position += storedSize;
+        blockCount++;
+        block.clear();
+    }
+
+    private static int sharedPrefixLength(byte[] a, byte[] b) {
+        int length = Math.min(a.length, b.length);
+        int i = 0;
+        while (i < length && a[i] == b[i]) {
+            i++;
+        }
+        return i;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (block.length() > 0) {
+                flushBlock();
+            }
+
+            out.write(index.getSharedBuffer(), 0, index.length());
+            out.writeLong(position);
+            out.writeInt(index.length());
+            out.writeInt(blockCount);
+            out.writeLong(recordCount);
+            out.writeInt(MAGIC_NUMBER);
+        } finally {
+            out.close();
+        }
+    }
+}
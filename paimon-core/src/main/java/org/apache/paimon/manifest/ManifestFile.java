@@ -62,7 +62,7 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
             FormatWriterFactory writerFactory,
             PathFactory pathFactory,
             long suggestedFileSize,
-            @Nullable SegmentsCache<String> cache) {
+            @Nullable SegmentsCache<Path> cache) {
         super(fileIO, serializer, readerFactory, writerFactory, pathFactory, cache);
         this.schemaManager = schemaManager;
         this.partitionType = partitionType;
@@ -106,6 +106,12 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
         private long numAddedFiles = 0;
         private long numDeletedFiles = 0;
         private long schemaId = Long.MIN_VALUE;
+        private int minBucket = Integer.MAX_VALUE;
+        private int maxBucket = Integer.MIN_VALUE;
+        private int minLevel = Integer.MAX_VALUE;
+        private int maxLevel = Integer.MIN_VALUE;
+        private int minTotalBuckets = Integer.MAX_VALUE;
+        private int maxTotalBuckets = Integer.MIN_VALUE;
 
         ManifestEntryWriter(FormatWriterFactory factory, Path path, String fileCompression) {
             super(ManifestFile.this.fileIO, factory, path, serializer::toRow, fileCompression);
@@ -129,21 +135,32 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
                     throw new UnsupportedOperationException("Unknown entry kind: " + entry.kind());
             }
             schemaId = Math.max(schemaId, entry.file().schemaId());
+            minBucket = Math.min(minBucket, entry.bucket());
+            maxBucket = Math.max(maxBucket, entry.bucket());
+            minLevel = Math.min(minLevel, entry.file().level());
+            maxLevel = Math.max(maxLevel, entry.file().level());
+            minTotalBuckets = Math.min(minTotalBuckets, entry.totalBuckets());
+            maxTotalBuckets = Math.max(maxTotalBuckets, entry.totalBuckets());
 
             partitionStatsCollector.collect(entry.partition());
         }
 
         @Override
         public ManifestFileMeta result() throws IOException {
+            boolean empty = numAddedFiles + numDeletedFiles == 0;
             return new ManifestFileMeta(
                     path.getName(),
                     fileIO.getFileSize(path),
                     numAddedFiles,
                     numDeletedFiles,
                     partitionStatsSerializer.toBinary(partitionStatsCollector.extract()),
-                    numAddedFiles + numDeletedFiles > 0
-                            ? schemaId
-                            : schemaManager.latest().get().id());
+                    empty ? schemaManager.latest().get().id() : schemaId,
+                    empty ? null : minBucket,
+                    empty ? null : maxBucket,
+                    empty ? null : minLevel,
+                    empty ? null : maxLevel,
+                    empty ? null : minTotalBuckets,
+                    empty ? null : maxTotalBuckets);
         }
     }
 
@@ -156,7 +173,7 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
         private final FileFormat fileFormat;
         private final FileStorePathFactory pathFactory;
         private final long suggestedFileSize;
-        @Nullable private final SegmentsCache<String> cache;
+        @Nullable private final SegmentsCache<Path> cache;
 
         public Factory(
                 FileIO fileIO,
@@ -165,7 +182,7 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
                 FileFormat fileFormat,
                 FileStorePathFactory pathFactory,
                 long suggestedFileSize,
-                @Nullable SegmentsCache<String> cache) {
+                @Nullable SegmentsCache<Path> cache) {
             this.fileIO = fileIO;
             this.schemaManager = schemaManager;
             this.partitionType = partitionType;
@@ -26,6 +26,7 @@ import org.apache.paimon.stats.BinaryTableStats;
 import org.apache.paimon.stats.FieldStatsArraySerializer;
 import org.apache.paimon.types.BigIntType;
 import org.apache.paimon.types.DataField;
+import org.apache.paimon.types.IntType;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.types.VarCharType;
 import org.apache.paimon.utils.RowDataToObjectArrayConverter;
@@ -33,6 +34,8 @@ import org.apache.paimon.utils.RowDataToObjectArrayConverter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -55,6 +58,15 @@ public class ManifestFileMeta {
     private final BinaryTableStats partitionStats;
     private final long schemaId;
 
+    // ranges of buckets, levels and total buckets of the entries, they are null for manifests
+    // written by old versions and for empty manifests
+    @Nullable private final Integer minBucket;
+    @Nullable private final Integer maxBucket;
+    @Nullable private final Integer minLevel;
+    @Nullable private final Integer maxLevel;
+    @Nullable private final Integer minTotalBuckets;
+    @Nullable private final Integer maxTotalBuckets;
+
     public ManifestFileMeta(
             String fileName,
             long fileSize,
@@ -62,12 +74,46 @@ public class ManifestFileMeta {
             long numDeletedFiles,
             BinaryTableStats partitionStats,
             long schemaId) {
+        this(
+                fileName,
+                fileSize,
+                numAddedFiles,
+                numDeletedFiles,
+                partitionStats,
+                schemaId,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null);
+    }
+
+    public ManifestFileMeta(
+            String fileName,
+            long fileSize,
+            long numAddedFiles,
+            long numDeletedFiles,
+            BinaryTableStats partitionStats,
+            long schemaId,
+            @Nullable Integer minBucket,
+            @Nullable Integer maxBucket,
+            @Nullable Integer minLevel,
+            @Nullable Integer maxLevel,
+            @Nullable Integer minTotalBuckets,
+            @Nullable Integer maxTotalBuckets) {
         this.fileName = fileName;
         this.fileSize = fileSize;
         this.numAddedFiles = numAddedFiles;
         this.numDeletedFiles = numDeletedFiles;
         this.partitionStats = partitionStats;
         this.schemaId = schemaId;
+        this.minBucket = minBucket;
+        this.maxBucket = maxBucket;
+        this.minLevel = minLevel;
+        this.maxLevel = maxLevel;
+        this.minTotalBuckets = minTotalBuckets;
+        this.maxTotalBuckets = maxTotalBuckets;
     }
 
     public String fileName() {
@@ -94,6 +140,36 @@ public class ManifestFileMeta {
         return schemaId;
     }
 
+    @Nullable
+    public Integer minBucket() {
+        return minBucket;
+    }
+
+    @Nullable
+    public Integer maxBucket() {
+        return maxBucket;
+    }
+
+    @Nullable
+    public Integer minLevel() {
+        return minLevel;
+    }
+
+    @Nullable
+    public Integer maxLevel() {
+        return maxLevel;
+    }
+
+    @Nullable
+    public Integer minTotalBuckets() {
+        return minTotalBuckets;
+    }
+
+    @Nullable
+    public Integer maxTotalBuckets() {
+        return maxTotalBuckets;
+    }
+
     public static RowType schema() {
         List<DataField> fields = new ArrayList<>();
         fields.add(new DataField(0, "_FILE_NAME", new VarCharType(false, Integer.MAX_VALUE)));
@@ -102,6 +178,13 @@ public class ManifestFileMeta {
         fields.add(new DataField(3, "_NUM_DELETED_FILES", new BigIntType(false)));
         fields.add(new DataField(4, "_PARTITION_STATS", FieldStatsArraySerializer.schema()));
         fields.add(new DataField(5, "_SCHEMA_ID", new BigIntType(false)));
+        // appended as nullable fields to be compatible with manifest lists written before
+        fields.add(new DataField(6, "_MIN_BUCKET", new IntType(true)));
+        fields.add(new DataField(7, "_MAX_BUCKET", new IntType(true)));
+        fields.add(new DataField(8, "_MIN_LEVEL", new IntType(true)));
+        fields.add(new DataField(9, "_MAX_LEVEL", new IntType(true)));
+        fields.add(new DataField(10, "_MIN_TOTAL_BUCKETS", new IntType(true)));
+        fields.add(new DataField(11, "_MAX_TOTAL_BUCKETS", new IntType(true)));
         return new RowType(fields);
     }
 
@@ -116,20 +199,48 @@ public class ManifestFileMeta {
                 && numAddedFiles == that.numAddedFiles
                 && numDeletedFiles == that.numDeletedFiles
                 && Objects.equals(partitionStats, that.partitionStats)
-                && schemaId == that.schemaId;
+                && schemaId == that.schemaId
+                && Objects.equals(minBucket, that.minBucket)
+                && Objects.equals(maxBucket, that.maxBucket)
+                && Objects.equals(minLevel, that.minLevel)
+                && Objects.equals(maxLevel, that.maxLevel)
+                && Objects.equals(minTotalBuckets, that.minTotalBuckets)
+                && Objects.equals(maxTotalBuckets, that.maxTotalBuckets);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(
-                fileName, fileSize, numAddedFiles, numDeletedFiles, partitionStats, schemaId);
+                fileName,
+                fileSize,
+                numAddedFiles,
+                numDeletedFiles,
+                partitionStats,
+                schemaId,
+                minBucket,
+                maxBucket,
+                minLevel,
+                maxLevel,
+                minTotalBuckets,
+                maxTotalBuckets);
     }
 
     @Override
     public String toString() {
         return String.format(
-                "{%s, %d, %d, %d, %s, %d}",
-                fileName, fileSize, numAddedFiles, numDeletedFiles, partitionStats, schemaId);
+                "{%s, %d, %d, %d, %s, %d, %s, %s, %s, %s, %s, %s}",
+                fileName,
+                fileSize,
+                numAddedFiles,
+                numDeletedFiles,
+                partitionStats,
+                schemaId,
+                minBucket,
+                maxBucket,
+                minLevel,
+                maxLevel,
+                minTotalBuckets,
+                maxTotalBuckets);
     }
 
     /**
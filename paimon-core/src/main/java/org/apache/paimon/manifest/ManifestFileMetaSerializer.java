@@ -24,6 +24,8 @@ import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.stats.BinaryTableStats;
 import org.apache.paimon.utils.VersionedObjectSerializer;
 
+import javax.annotation.Nullable;
+
 /** Serializer for {@link ManifestFileMeta}. */
 public class ManifestFileMetaSerializer extends VersionedObjectSerializer<ManifestFileMeta> {
 
@@ -46,7 +48,13 @@ public class ManifestFileMetaSerializer extends VersionedObjectSerializer<Manife
                 meta.numAddedFiles(),
                 meta.numDeletedFiles(),
                 meta.partitionStats().toRowData(),
-                meta.schemaId());
+                meta.schemaId(),
+                meta.minBucket(),
+                meta.maxBucket(),
+                meta.minLevel(),
+                meta.maxLevel(),
+                meta.minTotalBuckets(),
+                meta.maxTotalBuckets());
     }
 
     @Override
@@ -66,6 +74,18 @@ public class ManifestFileMetaSerializer extends VersionedObjectSerializer<Manife
                 row.getLong(2),
                 row.getLong(3),
                 BinaryTableStats.fromRowData(row.getRow(4, 3)),
-                row.getLong(5));
+                row.getLong(5),
+                getNullableInt(row, 6),
+                getNullableInt(row, 7),
+                getNullableInt(row, 8),
+                getNullableInt(row, 9),
+                getNullableInt(row, 10),
+                getNullableInt(row, 11));
+    }
+
+    @Nullable
+    private static Integer getNullableInt(InternalRow row, int pos) {
+        // manifest lists written by old versions do not contain the field
+        return pos >= row.getFieldCount() || row.isNullAt(pos) ? null : row.getInt(pos);
     }
 }
@@ -22,6 +22,7 @@ import org.apache.paimon.format.FileFormat;
 import org.apache.paimon.format.FormatReaderFactory;
 import org.apache.paimon.format.FormatWriterFactory;
 import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.Path;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.FileStorePathFactory;
 import org.apache.paimon.utils.ObjectsFile;
@@ -47,7 +48,7 @@ public class ManifestList extends ObjectsFile<ManifestFileMeta> {
             FormatReaderFactory readerFactory,
             FormatWriterFactory writerFactory,
             PathFactory pathFactory,
-            @Nullable SegmentsCache<String> cache) {
+            @Nullable SegmentsCache<Path> cache) {
         super(fileIO, serializer, readerFactory, writerFactory, pathFactory, cache);
         this.writerFactory = writerFactory;
     }
@@ -67,13 +68,13 @@ public class ManifestList extends ObjectsFile<ManifestFileMeta> {
         private final FileIO fileIO;
         private final FileFormat fileFormat;
         private final FileStorePathFactory pathFactory;
-        @Nullable private final SegmentsCache<String> cache;
+        @Nullable private final SegmentsCache<Path> cache;
 
         public Factory(
                 FileIO fileIO,
                 FileFormat fileFormat,
                 FileStorePathFactory pathFactory,
-                @Nullable SegmentsCache<String> cache) {
+                @Nullable SegmentsCache<Path> cache) {
             this.fileIO = fileIO;
             this.fileFormat = fileFormat;
             this.pathFactory = pathFactory;
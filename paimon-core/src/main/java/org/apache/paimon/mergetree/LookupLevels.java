@@ -28,12 +28,15 @@ import org.apache.paimon.lookup.LookupStoreFactory;
 import org.apache.paimon.lookup.LookupStoreReader;
 import org.apache.paimon.lookup.LookupStoreWriter;
 import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.operation.metrics.CompactionMetrics;
 import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.types.RowKind;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.BloomFilter;
 import org.apache.paimon.utils.FileIOUtils;
 import org.apache.paimon.utils.IOFunction;
+import org.apache.paimon.utils.MurmurHashUtils;
 
 import org.apache.paimon.shade.guava30.com.google.common.cache.Cache;
 import org.apache.paimon.shade.guava30.com.google.common.cache.CacheBuilder;
@@ -46,12 +49,21 @@ import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Supplier;
 
-/** Provide lookup by key. */
+/**
+ * Provide lookup by key. Before building a local lookup file for a data file, the key bloom filter
+ * of the data file, if any, is checked to skip files which do not contain the key.
+ *
+ * <p>If {@link PersistedLookupFiles} is given, the local lookup files are reused from it and kept
+ * in it after use, otherwise they are created by the local file factory and deleted after use.
+ */
 public class LookupLevels implements Levels.DropFileCallback, Closeable {
 
     private final Levels levels;
@@ -59,10 +71,14 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
     private final RowCompactedSerializer keySerializer;
     private final RowCompactedSerializer valueSerializer;
     private final IOFunction<DataFileMeta, RecordReader<KeyValue>> fileReaderFactory;
+    private final IOFunction<DataFileMeta, BloomFilter> bloomFilterReader;
     private final Supplier<File> localFileFactory;
     private final LookupStoreFactory lookupStoreFactory;
+    @Nullable private final PersistedLookupFiles persistedFiles;
+    @Nullable private final CompactionMetrics metrics;
 
     private final Cache<String, LookupFile> lookupFiles;
+    private final Cache<String, Optional<BloomFilter>> bloomFilters;
 
     public LookupLevels(
             Levels levels,
@@ -70,17 +86,24 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
             RowType keyType,
             RowType valueType,
             IOFunction<DataFileMeta, RecordReader<KeyValue>> fileReaderFactory,
+            IOFunction<DataFileMeta, BloomFilter> bloomFilterReader,
             Supplier<File> localFileFactory,
             LookupStoreFactory lookupStoreFactory,
+            @Nullable PersistedLookupFiles persistedFiles,
             Duration fileRetention,
-            MemorySize maxDiskSize) {
+            MemorySize maxDiskSize,
+            MemorySize maxBloomFilterMemory,
+            @Nullable CompactionMetrics metrics) {
         this.levels = levels;
         this.keyComparator = keyComparator;
         this.keySerializer = new RowCompactedSerializer(keyType);
         this.valueSerializer = new RowCompactedSerializer(valueType);
         this.fileReaderFactory = fileReaderFactory;
+        this.bloomFilterReader = bloomFilterReader;
         this.localFileFactory = localFileFactory;
         this.lookupStoreFactory = lookupStoreFactory;
+        this.persistedFiles = persistedFiles;
+        this.metrics = metrics;
         this.lookupFiles =
                 CacheBuilder.newBuilder()
                         .expireAfterAccess(fileRetention)
@@ -88,6 +111,12 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
                         .weigher(this::fileWeigh)
                         .removalListener(this::removalCallback)
                         .build();
+        this.bloomFilters =
+                CacheBuilder.newBuilder()
+                        .expireAfterAccess(fileRetention)
+                        .maximumWeight(maxBloomFilterMemory.getBytes())
+                        .weigher(this::bloomFilterWeigh)
+                        .build();
         levels.addDropFileCallback(this);
     }
 
@@ -99,6 +128,7 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
     @Override
     public void notifyDropFile(String file) {
         lookupFiles.invalidate(file);
+        bloomFilters.invalidate(file);
     }
 
     @Nullable
@@ -107,10 +137,11 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
             throw new IllegalArgumentException("Start level can not be zero.");
         }
 
+        byte[] keyBytes = keySerializer.serializeToBytes(key);
         KeyValue kv = null;
         for (int i = startLevel; i < levels.numberOfLevels(); i++) {
             SortedRun level = levels.runOfLevel(i);
-            kv = lookup(key, level);
+            kv = lookup(key, keyBytes, level);
             if (kv != null) {
                 break;
             }
@@ -119,8 +150,109 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
         return kv;
     }
 
+    /**
+     * Lookup a batch of keys, the returned list has the same order as the keys and contains null
+     * for keys which do not exist.
+     *
+     * <p>The keys are sorted and grouped by their target files in each level, so that each file is
+     * checked and probed once with all its keys, and keys found in a level are not looked up in
+     * deeper levels.
+     */
+    public List<KeyValue> lookup(List<InternalRow> keys, int startLevel) throws IOException {
+        if (startLevel == 0) {
+            throw new IllegalArgumentException("Start level can not be zero.");
+        }
+
+        byte[][] keyBytes = new byte[keys.size()][];
+        List<Integer> pending = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            keyBytes[i] = keySerializer.serializeToBytes(keys.get(i));
+            pending.add(i);
+        }
+        pending.sort((i1, i2) -> keyComparator.compare(keys.get(i1), keys.get(i2)));
+
+        KeyValue[] results = new KeyValue[keys.size()];
+        for (int i = startLevel; i < levels.numberOfLevels() && !pending.isEmpty(); i++) {
+            pending = lookup(keys, keyBytes, pending, levels.runOfLevel(i), results);
+        }
+        return Arrays.asList(results);
+    }
+
+    /** Lookup the sorted pending keys in the level, returns the keys not found in sorted order. */
+    private List<Integer> lookup(
+            List<InternalRow> keys,
+            byte[][] keyBytes,
+            List<Integer> pending,
+            SortedRun level,
+            KeyValue[] results)
+            throws IOException {
+        List<DataFileMeta> files = level.files();
+        List<Integer> notFound = new ArrayList<>();
+        List<Integer> fileKeys = new ArrayList<>();
+        int fileIndex = 0;
+        for (int k : pending) {
+            // the keys of a file are all collected once a key is larger than its max key
+            while (fileIndex < files.size()
+                    && keyComparator.compare(files.get(fileIndex).maxKey(), keys.get(k)) < 0) {
+                lookup(keys, keyBytes, fileKeys, files.get(fileIndex), results, notFound);
+                fileKeys.clear();
+                fileIndex++;
+            }
+
+            if (fileIndex < files.size()) {
+                fileKeys.add(k);
+            } else {
+                // the key does not exist in this level
+                notFound.add(k);
+            }
+        }
+
+        if (fileIndex < files.size()) {
+            lookup(keys, keyBytes, fileKeys, files.get(fileIndex), results, notFound);
+        }
+        return notFound;
+    }
+
+    private void lookup(
+            List<InternalRow> keys,
+            byte[][] keyBytes,
+            List<Integer> fileKeys,
+            DataFileMeta file,
+            KeyValue[] results,
+            List<Integer> notFound)
+            throws IOException {
+        List<Integer> candidates = new ArrayList<>(fileKeys.size());
+        List<byte[]> candidateBytes = new ArrayList<>(fileKeys.size());
+        for (int k : fileKeys) {
+            if (mightContain(keyBytes[k], file)) {
+                candidates.add(k);
+                candidateBytes.add(keyBytes[k]);
+            }
+        }
+
+        if (!candidates.isEmpty()) {
+            LookupFile lookupFile = getOrCreateLookupFile(file);
+            List<byte[]> values = lookupFile.get(candidateBytes);
+            for (int i = 0; i < candidates.size(); i++) {
+                byte[] valueBytes = values.get(i);
+                if (valueBytes != null) {
+                    int k = candidates.get(i);
+                    results[k] = toKeyValue(keys.get(k), valueBytes, lookupFile);
+                }
+            }
+        }
+
+        // fileKeys are sorted, so are the keys not found
+        for (int k : fileKeys) {
+            if (results[k] == null) {
+                notFound.add(k);
+            }
+        }
+    }
+
     @Nullable
-    private KeyValue lookup(InternalRow target, SortedRun level) throws IOException {
+    private KeyValue lookup(InternalRow target, byte[] targetBytes, SortedRun level)
+            throws IOException {
         List<DataFileMeta> files = level.files();
         int left = 0;
         int right = files.size() - 1;
@@ -151,22 +283,43 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
         }
 
         // if files does not have a next, it means the key does not exist in this level
-        return index < files.size() ? lookup(target, files.get(index)) : null;
+        return index < files.size() ? lookup(target, targetBytes, files.get(index)) : null;
     }
 
     @Nullable
-    private KeyValue lookup(InternalRow key, DataFileMeta file) throws IOException {
+    private KeyValue lookup(InternalRow key, byte[] keyBytes, DataFileMeta file)
+            throws IOException {
+        if (!mightContain(keyBytes, file)) {
+            return null;
+        }
+
+        LookupFile lookupFile = getOrCreateLookupFile(file);
+        byte[] valueBytes = lookupFile.get(keyBytes);
+        return valueBytes == null ? null : toKeyValue(key, valueBytes, lookupFile);
+    }
+
+    private LookupFile getOrCreateLookupFile(DataFileMeta file) throws IOException {
+        // a miss is counted only by the thread which actually runs the loader
+        boolean[] loaded = new boolean[1];
         LookupFile lookupFile;
         try {
-            lookupFile = lookupFiles.get(file.fileName(), () -> createLookupFile(file));
+            lookupFile =
+                    lookupFiles.get(
+                            file.fileName(),
+                            () -> {
+                                loaded[0] = true;
+                                return createLookupFile(file);
+                            });
         } catch (ExecutionException e) {
             throw new IOException(e);
         }
-        byte[] keyBytes = keySerializer.serializeToBytes(key);
-        byte[] valueBytes = lookupFile.get(keyBytes);
-        if (valueBytes == null) {
-            return null;
+        if (metrics != null) {
+            metrics.reportLookupFileCache(!loaded[0]);
         }
+        return lookupFile;
+    }
+
+    private KeyValue toKeyValue(InternalRow key, byte[] valueBytes, LookupFile lookupFile) {
         InternalRow value = valueSerializer.deserialize(valueBytes);
         long sequenceNumber = MemorySegment.wrap(valueBytes).getLong(valueBytes.length - 9);
         RowKind rowKind = RowKind.fromByteValue(valueBytes[valueBytes.length - 1]);
@@ -175,6 +328,28 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
                 .setLevel(lookupFile.remoteFile().level());
     }
 
+    private boolean mightContain(byte[] keyBytes, DataFileMeta file) throws IOException {
+        if (file.extraFiles().isEmpty()) {
+            return true;
+        }
+
+        Optional<BloomFilter> bloomFilter;
+        try {
+            bloomFilter =
+                    bloomFilters.get(
+                            file.fileName(),
+                            () -> Optional.ofNullable(bloomFilterReader.apply(file)));
+        } catch (ExecutionException e) {
+            throw new IOException(e);
+        }
+        return !bloomFilter.isPresent()
+                || bloomFilter.get().testHash(MurmurHashUtils.hashBytes(keyBytes));
+    }
+
+    private int bloomFilterWeigh(String file, Optional<BloomFilter> bloomFilter) {
+        return bloomFilter.map(BloomFilter::sizeInBytes).orElse(0);
+    }
+
     private int fileWeigh(String file, LookupFile lookupFile) {
         return lookupFile.fileKibiBytes();
     }
@@ -191,10 +366,47 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
     }
 
     private LookupFile createLookupFile(DataFileMeta file) throws IOException {
+        if (persistedFiles != null) {
+            return createPersistedLookupFile(file, persistedFiles);
+        }
+
         File localFile = localFileFactory.get();
         if (!localFile.createNewFile()) {
             throw new IOException("Can not create new file: " + localFile);
         }
+        buildLookupFile(localFile, file);
+        return new LookupFile(localFile, file, lookupStoreFactory.createReader(localFile), null);
+    }
+
+    private LookupFile createPersistedLookupFile(
+            DataFileMeta file, PersistedLookupFiles persistedFiles) throws IOException {
+        File localFile = persistedFiles.acquire(file.fileName());
+        if (localFile != null) {
+            try {
+                return new LookupFile(
+                        localFile,
+                        file,
+                        lookupStoreFactory.createReader(localFile),
+                        persistedFiles);
+            } catch (IOException e) {
+                // the persisted file is broken, build it again
+                persistedFiles.discard(localFile);
+            }
+        }
+
+        File tempFile = persistedFiles.createTempFile(file.fileName());
+        buildLookupFile(tempFile, file);
+        localFile = persistedFiles.commit(file.fileName(), tempFile);
+        try {
+            return new LookupFile(
+                    localFile, file, lookupStoreFactory.createReader(localFile), persistedFiles);
+        } catch (IOException e) {
+            persistedFiles.discard(localFile);
+            throw e;
+        }
+    }
+
+    private void buildLookupFile(File localFile, DataFileMeta file) throws IOException {
         try (LookupStoreWriter kvWriter = lookupStoreFactory.createWriter(localFile);
                 RecordReader<KeyValue> reader = fileReaderFactory.apply(file)) {
             DataOutputSerializer valueOut = new DataOutputSerializer(32);
@@ -216,13 +428,12 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
             FileIOUtils.deleteFileOrDirectory(localFile);
             throw e;
         }
-
-        return new LookupFile(localFile, file, lookupStoreFactory.createReader(localFile));
     }
 
     @Override
     public void close() throws IOException {
         lookupFiles.invalidateAll();
+        bloomFilters.invalidateAll();
     }
 
     private static class LookupFile implements Closeable {
@@ -230,11 +441,17 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
         private final File localFile;
         private final DataFileMeta remoteFile;
         private final LookupStoreReader reader;
+        @Nullable private final PersistedLookupFiles persistedFiles;
 
-        public LookupFile(File localFile, DataFileMeta remoteFile, LookupStoreReader reader) {
+        public LookupFile(
+                File localFile,
+                DataFileMeta remoteFile,
+                LookupStoreReader reader,
+                @Nullable PersistedLookupFiles persistedFiles) {
             this.localFile = localFile;
             this.remoteFile = remoteFile;
             this.reader = reader;
+            this.persistedFiles = persistedFiles;
         }
 
         @Nullable
@@ -242,6 +459,10 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
             return reader.lookup(key);
         }
 
+        public List<byte[]> get(List<byte[]> keys) throws IOException {
+            return reader.lookup(keys);
+        }
+
         public int fileKibiBytes() {
             long kibiBytes = localFile.length() >> 10;
             if (kibiBytes > Integer.MAX_VALUE) {
@@ -257,8 +478,15 @@ public class LookupLevels implements Levels.DropFileCallback, Closeable {
 
         @Override
         public void close() throws IOException {
-            reader.close();
-            FileIOUtils.deleteFileOrDirectory(localFile);
+            try {
+                reader.close();
+            } finally {
+                if (persistedFiles != null) {
+                    persistedFiles.release(localFile);
+                } else {
+                    FileIOUtils.deleteFileOrDirectory(localFile);
+                }
+            }
         }
     }
 }
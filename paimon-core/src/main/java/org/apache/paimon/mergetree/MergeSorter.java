@@ -24,6 +24,7 @@ import org.apache.paimon.KeyValue;
 import org.apache.paimon.codegen.CodeGenUtils;
 import org.apache.paimon.codegen.NormalizedKeyComputer;
 import org.apache.paimon.codegen.RecordComparator;
+import org.apache.paimon.compression.BlockCompressionFactory;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
@@ -72,6 +73,7 @@ public class MergeSorter {
     private final SortEngine sortEngine;
     private final int spillThreshold;
     private final int spillSortMaxNumFiles;
+    private final BlockCompressionFactory spillCompressionFactory;
 
     private final MemorySegmentPool memoryPool;
 
@@ -85,6 +87,7 @@ public class MergeSorter {
         this.sortEngine = options.sortEngine();
         this.spillThreshold = options.sortSpillThreshold();
         this.spillSortMaxNumFiles = options.localSortMaxNumFileHandles();
+        this.spillCompressionFactory = options.spillCompressionFactory();
         this.keyType = keyType;
         this.valueType = valueType;
         this.memoryPool =
@@ -208,7 +211,8 @@ public class MergeSorter {
                             BinaryInMemorySortBuffer.createBuffer(
                                     normalizedKeyComputer, serializer, keyComparator, memoryPool),
                             ioManager,
-                            spillSortMaxNumFiles);
+                            spillSortMaxNumFiles,
+                            spillCompressionFactory);
         }
 
         public boolean put(KeyValue keyValue) throws IOException {
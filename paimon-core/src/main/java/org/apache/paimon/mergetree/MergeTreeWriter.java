@@ -23,6 +23,7 @@ import org.apache.paimon.KeyValue;
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.compact.CompactManager;
 import org.apache.paimon.compact.CompactResult;
+import org.apache.paimon.compression.BlockCompressionFactory;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.io.CompactIncrement;
@@ -31,8 +32,10 @@ import org.apache.paimon.io.KeyValueFileWriterFactory;
 import org.apache.paimon.io.NewFilesIncrement;
 import org.apache.paimon.io.RollingFileWriter;
 import org.apache.paimon.memory.MemoryOwner;
+import org.apache.paimon.memory.MemorySegment;
 import org.apache.paimon.memory.MemorySegmentPool;
 import org.apache.paimon.mergetree.compact.MergeFunction;
+import org.apache.paimon.operation.metrics.WriterMetrics;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.CommitIncrement;
 import org.apache.paimon.utils.RecordWriter;
@@ -41,19 +44,32 @@ import javax.annotation.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
-/** A {@link RecordWriter} to write records and generate {@link CompactIncrement}. */
+/**
+ * A {@link RecordWriter} to write records and generate {@link CompactIncrement}.
+ *
+ * <p>If a flush executor is given, the memory is split into two write buffers. When the current
+ * buffer is full, it is flushed in the executor while records are written into the other buffer.
+ */
 public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     private final boolean writeBufferSpillable;
     private final int sortMaxFan;
+    private final int sortParallelism;
+    @Nullable private final BlockCompressionFactory writeBufferCompressionFactory;
+    private final BlockCompressionFactory spillCompressionFactory;
+    @Nullable private final ExecutorService flushExecutor;
     private final IOManager ioManager;
 
     private final RowType keyType;
@@ -64,6 +80,7 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
     private final KeyValueFileWriterFactory writerFactory;
     private final boolean commitForceCompact;
     private final ChangelogProducer changelogProducer;
+    @Nullable private final WriterMetrics metrics;
 
     private final LinkedHashSet<DataFileMeta> newFiles;
     private final LinkedHashSet<DataFileMeta> newFilesChangelog;
@@ -74,9 +91,17 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
     private long newSequenceNumber;
     private WriteBuffer writeBuffer;
 
+    // only for async flush, the buffer being flushed or to be switched to
+    private WriteBuffer spareWriteBuffer;
+    @Nullable private Future<FlushResult> flushing;
+
     public MergeTreeWriter(
             boolean writeBufferSpillable,
             int sortMaxFan,
+            int sortParallelism,
+            @Nullable BlockCompressionFactory writeBufferCompressionFactory,
+            BlockCompressionFactory spillCompressionFactory,
+            @Nullable ExecutorService flushExecutor,
             IOManager ioManager,
             CompactManager compactManager,
             long maxSequenceNumber,
@@ -85,9 +110,14 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
             KeyValueFileWriterFactory writerFactory,
             boolean commitForceCompact,
             ChangelogProducer changelogProducer,
-            @Nullable CommitIncrement increment) {
+            @Nullable CommitIncrement increment,
+            @Nullable WriterMetrics metrics) {
         this.writeBufferSpillable = writeBufferSpillable;
         this.sortMaxFan = sortMaxFan;
+        this.sortParallelism = sortParallelism;
+        this.writeBufferCompressionFactory = writeBufferCompressionFactory;
+        this.spillCompressionFactory = spillCompressionFactory;
+        this.flushExecutor = flushExecutor;
         this.ioManager = ioManager;
         this.keyType = writerFactory.keyType();
         this.valueType = writerFactory.valueType();
@@ -98,6 +128,7 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
         this.writerFactory = writerFactory;
         this.commitForceCompact = commitForceCompact;
         this.changelogProducer = changelogProducer;
+        this.metrics = metrics;
 
         this.newFiles = new LinkedHashSet<>();
         this.newFilesChangelog = new LinkedHashSet<>();
@@ -127,25 +158,45 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     @Override
     public void setMemoryPool(MemorySegmentPool memoryPool) {
-        this.writeBuffer =
-                new SortBufferWriteBuffer(
-                        keyType,
-                        valueType,
-                        memoryPool,
-                        writeBufferSpillable,
-                        sortMaxFan,
-                        ioManager);
+        if (flushExecutor == null) {
+            this.writeBuffer = createWriteBuffer(memoryPool);
+        } else {
+            int maxPages = memoryPool.freePages() / 2;
+            this.writeBuffer = createWriteBuffer(new SplitMemoryPool(memoryPool, maxPages));
+            this.spareWriteBuffer = createWriteBuffer(new SplitMemoryPool(memoryPool, maxPages));
+        }
+    }
+
+    private WriteBuffer createWriteBuffer(MemorySegmentPool memoryPool) {
+        return new SortBufferWriteBuffer(
+                keyType,
+                valueType,
+                memoryPool,
+                writeBufferSpillable,
+                sortMaxFan,
+                sortParallelism,
+                writeBufferCompressionFactory,
+                spillCompressionFactory,
+                ioManager);
     }
 
     @Override
     public void write(KeyValue kv) throws Exception {
+        if (flushing != null && flushing.isDone()) {
+            finishAsyncFlush();
+        }
+
         long sequenceNumber =
                 kv.sequenceNumber() == KeyValue.UNKNOWN_SEQUENCE
                         ? newSequenceNumber()
                         : kv.sequenceNumber();
         boolean success = writeBuffer.put(sequenceNumber, kv.valueKind(), kv.key(), kv.value());
         if (!success) {
-            flushWriteBuffer(false, false);
+            if (flushExecutor == null) {
+                flushWriteBuffer(false, false);
+            } else {
+                asyncFlushWriteBuffer();
+            }
             success = writeBuffer.put(sequenceNumber, kv.valueKind(), kv.key(), kv.value());
             if (!success) {
                 throw new RuntimeException("Mem table is too small to hold a single element.");
@@ -170,7 +221,10 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     @Override
     public long memoryOccupancy() {
-        return writeBuffer.memoryOccupancy();
+        // the spare buffer holds its memory until the async flush finishes
+        return spareWriteBuffer == null
+                ? writeBuffer.memoryOccupancy()
+                : writeBuffer.memoryOccupancy() + spareWriteBuffer.memoryOccupancy();
     }
 
     @Override
@@ -183,45 +237,102 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     private void flushWriteBuffer(boolean waitForLatestCompaction, boolean forcedFullCompaction)
             throws Exception {
+        if (flushing != null) {
+            waitAsyncFlush();
+        }
+
         if (writeBuffer.size() > 0) {
             if (compactManager.shouldWaitForLatestCompaction()) {
                 waitForLatestCompaction = true;
             }
 
-            final RollingFileWriter<KeyValue, DataFileMeta> changelogWriter =
-                    changelogProducer == ChangelogProducer.INPUT
-                            ? writerFactory.createRollingChangelogFileWriter(0)
-                            : null;
-            final RollingFileWriter<KeyValue, DataFileMeta> dataWriter =
-                    writerFactory.createRollingMergeTreeFileWriter(0);
+            FlushResult result = flush(writeBuffer);
+            writeBuffer.clear();
+            addFlushResult(result);
+        }
 
-            try {
-                writeBuffer.forEach(
-                        keyComparator,
-                        mergeFunction,
-                        changelogWriter == null ? null : changelogWriter::write,
-                        dataWriter::write);
-            } finally {
-                if (changelogWriter != null) {
-                    changelogWriter.close();
-                }
-                dataWriter.close();
-            }
+        trySyncLatestCompaction(waitForLatestCompaction);
+        compactManager.triggerCompaction(forcedFullCompaction);
+    }
 
+    /** Switch to the spare write buffer and flush the full buffer in the flush executor. */
+    private void asyncFlushWriteBuffer() throws Exception {
+        if (flushing != null) {
+            finishAsyncFlush();
+        }
+
+        WriteBuffer buffer = writeBuffer;
+        writeBuffer = spareWriteBuffer;
+        spareWriteBuffer = buffer;
+        flushing = flushExecutor.submit(() -> flush(buffer));
+    }
+
+    private void finishAsyncFlush() throws Exception {
+        waitAsyncFlush();
+        trySyncLatestCompaction(compactManager.shouldWaitForLatestCompaction());
+        compactManager.triggerCompaction(false);
+    }
+
+    private void waitAsyncFlush() throws Exception {
+        FlushResult result;
+        try {
+            result = flushing.get();
+        } finally {
+            // a failed flush must not be waited for again
+            flushing = null;
+            spareWriteBuffer.clear();
+        }
+        addFlushResult(result);
+    }
+
+    private FlushResult flush(WriteBuffer buffer) throws Exception {
+        long startMillis = System.currentTimeMillis();
+        long bufferSize = buffer.memoryOccupancy();
+
+        final RollingFileWriter<KeyValue, DataFileMeta> changelogWriter =
+                changelogProducer == ChangelogProducer.INPUT
+                        ? writerFactory.createRollingChangelogFileWriter(0)
+                        : null;
+        final RollingFileWriter<KeyValue, DataFileMeta> dataWriter =
+                writerFactory.createRollingMergeTreeFileWriter(0);
+
+        try {
+            buffer.forEach(
+                    keyComparator,
+                    mergeFunction,
+                    changelogWriter == null ? null : changelogWriter::write,
+                    dataWriter::write);
+        } catch (Throwable e) {
+            // delete the files of the failed flush, they are not known to the writer
             if (changelogWriter != null) {
-                newFilesChangelog.addAll(changelogWriter.result());
+                changelogWriter.abort();
             }
+            dataWriter.abort();
+            throw e;
+        }
 
-            for (DataFileMeta fileMeta : dataWriter.result()) {
-                newFiles.add(fileMeta);
-                compactManager.addNewFile(fileMeta);
-            }
+        if (changelogWriter != null) {
+            changelogWriter.close();
+        }
+        dataWriter.close();
 
-            writeBuffer.clear();
+        return new FlushResult(
+                dataWriter.result(),
+                changelogWriter == null ? Collections.emptyList() : changelogWriter.result(),
+                System.currentTimeMillis() - startMillis,
+                bufferSize);
+    }
+
+    private void addFlushResult(FlushResult result) {
+        newFilesChangelog.addAll(result.changelogFiles);
+        for (DataFileMeta fileMeta : result.dataFiles) {
+            newFiles.add(fileMeta);
+            compactManager.addNewFile(fileMeta);
         }
 
-        trySyncLatestCompaction(waitForLatestCompaction);
-        compactManager.triggerCompaction(forcedFullCompaction);
+        if (metrics != null) {
+            metrics.reportFlush(result.durationMillis, result.bufferSize);
+        }
     }
 
     @Override
@@ -236,6 +347,9 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     @Override
     public void sync() throws Exception {
+        if (flushing != null) {
+            waitAsyncFlush();
+        }
         trySyncLatestCompaction(true);
     }
 
@@ -270,7 +384,7 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
                 // 2. This file is not the input of upgraded.
                 if (!compactBefore.containsKey(file.fileName())
                         && !afterFiles.contains(file.fileName())) {
-                    writerFactory.deleteFile(file.fileName());
+                    writerFactory.deleteFile(file);
                 }
             } else {
                 compactBefore.put(file.fileName(), file);
@@ -287,6 +401,15 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     @Override
     public void close() throws Exception {
+        if (flushing != null) {
+            // wait for the async flush, so that its files are deleted below, the files of a failed
+            // flush are already aborted in flush
+            try {
+                waitAsyncFlush();
+            } catch (Exception ignored) {
+            }
+        }
+
         // cancel compaction so that it does not block job cancelling
         compactManager.cancelCompaction();
         sync();
@@ -297,7 +420,7 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
         newFiles.clear();
 
         for (DataFileMeta file : newFilesChangelog) {
-            writerFactory.deleteFile(file.fileName());
+            writerFactory.deleteFile(file);
         }
         newFilesChangelog.clear();
 
@@ -312,12 +435,103 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
         compactAfter.clear();
 
         for (DataFileMeta file : compactChangelog) {
-            writerFactory.deleteFile(file.fileName());
+            writerFactory.deleteFile(file);
         }
         compactChangelog.clear();
 
         for (DataFileMeta file : delete) {
-            writerFactory.deleteFile(file.fileName());
+            writerFactory.deleteFile(file);
+        }
+    }
+
+    /** Files and statistics of a flushed write buffer. */
+    private static class FlushResult {
+
+        private final List<DataFileMeta> dataFiles;
+        private final List<DataFileMeta> changelogFiles;
+        private final long durationMillis;
+        private final long bufferSize;
+
+        private FlushResult(
+                List<DataFileMeta> dataFiles,
+                List<DataFileMeta> changelogFiles,
+                long durationMillis,
+                long bufferSize) {
+            this.dataFiles = dataFiles;
+            this.changelogFiles = changelogFiles;
+            this.durationMillis = durationMillis;
+            this.bufferSize = bufferSize;
+        }
+    }
+
+    /**
+     * A {@link MemorySegmentPool} limited to a part of the writer memory. Memory returned from the
+     * flush thread is kept until the writer thread requests memory again, because the underlying
+     * pool is not thread safe.
+     */
+    private static class SplitMemoryPool implements MemorySegmentPool {
+
+        private final MemorySegmentPool pool;
+        private final int maxPages;
+        private final Thread writerThread;
+        private final ConcurrentLinkedQueue<MemorySegment> returnedSegments;
+
+        private int allocatedPages;
+
+        private SplitMemoryPool(MemorySegmentPool pool, int maxPages) {
+            this.pool = pool;
+            this.maxPages = maxPages;
+            this.writerThread = Thread.currentThread();
+            this.returnedSegments = new ConcurrentLinkedQueue<>();
+        }
+
+        @Override
+        public int pageSize() {
+            return pool.pageSize();
+        }
+
+        @Override
+        public void returnAll(List<MemorySegment> memory) {
+            if (Thread.currentThread() == writerThread) {
+                allocatedPages -= memory.size();
+                pool.returnAll(memory);
+            } else {
+                returnedSegments.addAll(memory);
+            }
+        }
+
+        @Override
+        public int freePages() {
+            releaseReturnedSegments();
+            return maxPages - allocatedPages;
+        }
+
+        @Override
+        public MemorySegment nextSegment() {
+            releaseReturnedSegments();
+            if (allocatedPages >= maxPages) {
+                return null;
+            }
+
+            MemorySegment segment = pool.nextSegment();
+            if (segment != null) {
+                allocatedPages++;
+            }
+            return segment;
+        }
+
+        private void releaseReturnedSegments() {
+            if (returnedSegments.isEmpty()) {
+                return;
+            }
+
+            List<MemorySegment> segments = new ArrayList<>();
+            MemorySegment segment;
+            while ((segment = returnedSegments.poll()) != null) {
+                segments.add(segment);
+            }
+            allocatedPages -= segments.size();
+            pool.returnAll(segments);
         }
     }
 }
@@ -0,0 +1,299 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.mergetree;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.options.MemorySize;
+import org.apache.paimon.utils.StringUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local lookup files persisted in a directory, which are reused by all {@link LookupLevels} of the
+ * process and by the writers after job restarts on the same host.
+ *
+ * <p>The files are addressed by the name of their data files and a digest of the format, which
+ * contains everything that determines the content of a lookup file, such as the key and value types
+ * and the options of the lookup store. A file is built in a temporary file and renamed when it is
+ * complete, so a file with the final name is always readable.
+ *
+ * <p>All instances of the same directory share the bookkeeping of the files. Files in use are never
+ * deleted, the least recently used files are deleted when the total size exceeds the max disk size.
+ */
+public class PersistedLookupFiles {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PersistedLookupFiles.class);
+
+    private static final String LOOKUP_FILE_SUFFIX = ".lookup";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private static final Map<File, Directory> DIRECTORIES = new ConcurrentHashMap<>();
+
+    private final Directory directory;
+    private final String formatDigest;
+
+    @VisibleForTesting
+    PersistedLookupFiles(Directory directory, String formatIdentifier) {
+        this.directory = directory;
+        this.formatDigest = digest(formatIdentifier);
+    }
+
+    /**
+     * Creates persisted lookup files in the directory, the directory is shared with other instances
+     * of the process, the max disk size of the first instance is used.
+     */
+    public static PersistedLookupFiles create(
+            File dir, MemorySize maxDiskSize, String formatIdentifier) {
+        Directory directory =
+                DIRECTORIES.computeIfAbsent(
+                        dir.getAbsoluteFile(), d -> new Directory(d, maxDiskSize.getBytes()));
+        return new PersistedLookupFiles(directory, formatIdentifier);
+    }
+
+    /**
+     * Acquires the lookup file of the data file, returns null if it does not exist. The file must
+     * be released by {@link #release} after use.
+     */
+    @Nullable
+    public File acquire(String dataFileName) {
+        return directory.acquire(fileName(dataFileName));
+    }
+
+    /** Creates a temporary file to build the lookup file of the data file. */
+    public File createTempFile(String dataFileName) throws IOException {
+        return directory.createTempFile(fileName(dataFileName));
+    }
+
+    /**
+     * Publishes the built temporary file as the lookup file of the data file and acquires it. If
+     * the lookup file has been published concurrently, the temporary file is discarded.
+     */
+    public File commit(String dataFileName, File tempFile) throws IOException {
+        return directory.commit(fileName(dataFileName), tempFile);
+    }
+
+    /** Releases an acquired lookup file, the file is kept for reuse. */
+    public void release(File file) {
+        directory.release(file.getName());
+    }
+
+    /** Releases an acquired lookup file and deletes it, for example if it can not be read. */
+    public void discard(File file) {
+        directory.discard(file.getName());
+    }
+
+    private String fileName(String dataFileName) {
+        return dataFileName + "-" + formatDigest + LOOKUP_FILE_SUFFIX;
+    }
+
+    private static String digest(String formatIdentifier) {
+        try {
+            byte[] digest =
+                    MessageDigest.getInstance("SHA-256")
+                            .digest(formatIdentifier.getBytes(StandardCharsets.UTF_8));
+            return StringUtils.byteToHexString(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /** Bookkeeping of the lookup files in a directory. */
+    @VisibleForTesting
+    static class Directory {
+
+        /** Temporary files older than this are left by failed processes. */
+        private static final long STALE_TEMP_FILE_MILLIS = 60 * 60 * 1000;
+
+        private final File dir;
+        private final long maxDiskSize;
+
+        // in the access order, the least recently used file first
+        private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private long totalSize;
+
+        Directory(File dir, long maxDiskSize) {
+            this.dir = dir;
+            this.maxDiskSize = maxDiskSize;
+            if (!dir.exists() && !dir.mkdirs() && !dir.exists()) {
+                throw new RuntimeException("Can not create lookup file directory: " + dir);
+            }
+            recover();
+        }
+
+        private void recover() {
+            File[] files = dir.listFiles();
+            if (files == null) {
+                return;
+            }
+
+            Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+            long now = System.currentTimeMillis();
+            for (File file : files) {
+                String name = file.getName();
+                if (name.endsWith(LOOKUP_FILE_SUFFIX)) {
+                    addEntry(name, file.length());
+                } else if (name.endsWith(TEMP_FILE_SUFFIX)
+                        && now - file.lastModified() > STALE_TEMP_FILE_MILLIS) {
+                    deleteFile(file);
+                }
+            }
+            LOG.info(
+                    "Recovered {} lookup files of {} bytes from {}.",
+                    entries.size(),
+                    totalSize,
+                    dir);
+            evict();
+        }
+
+        @Nullable
+        synchronized File acquire(String name) {
+            File file = new File(dir, name);
+            Entry entry = entries.get(name);
+            if (!file.exists()) {
+                // deleted by another process sharing the directory
+                if (entry != null) {
+                    removeEntry(name);
+                }
+                return null;
+            }
+
+            if (entry == null) {
+                // published by another process sharing the directory
+                entry = addEntry(name, file.length());
+                evict();
+            }
+            entry.refCount++;
+            return file;
+        }
+
+        File createTempFile(String name) throws IOException {
+            File file = new File(dir, name + "." + UUID.randomUUID() + TEMP_FILE_SUFFIX);
+            if (!file.createNewFile()) {
+                throw new IOException("Can not create new file: " + file);
+            }
+            return file;
+        }
+
+        File commit(String name, File tempFile) throws IOException {
+            File file = new File(dir, name);
+            // make sure the content is durable before the file is visible
+            try (FileChannel channel =
+                    FileChannel.open(tempFile.toPath(), StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+
+            synchronized (this) {
+                if (file.exists()) {
+                    deleteFile(tempFile);
+                } else {
+                    Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+                }
+                Entry entry = entries.get(name);
+                if (entry == null) {
+                    entry = addEntry(name, file.length());
+                }
+                entry.refCount++;
+                evict();
+                return file;
+            }
+        }
+
+        synchronized void release(String name) {
+            Entry entry = entries.get(name);
+            if (entry != null) {
+                entry.refCount--;
+                evict();
+            }
+        }
+
+        synchronized void discard(String name) {
+            Entry entry = entries.get(name);
+            if (entry != null && --entry.refCount == 0) {
+                removeEntry(name);
+                deleteFile(new File(dir, name));
+            }
+        }
+
+        private Entry addEntry(String name, long size) {
+            Entry entry = new Entry(size);
+            entries.put(name, entry);
+            totalSize += size;
+            return entry;
+        }
+
+        private void removeEntry(String name) {
+            Entry entry = entries.remove(name);
+            totalSize -= entry.size;
+        }
+
+        private void evict() {
+            Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+            while (totalSize > maxDiskSize && iterator.hasNext()) {
+                Map.Entry<String, Entry> next = iterator.next();
+                Entry entry = next.getValue();
+                if (entry.refCount == 0) {
+                    iterator.remove();
+                    totalSize -= entry.size;
+                    deleteFile(new File(dir, next.getKey()));
+                }
+            }
+        }
+
+        @VisibleForTesting
+        synchronized long totalSize() {
+            return totalSize;
+        }
+
+        private static void deleteFile(File file) {
+            if (!file.delete() && file.exists()) {
+                LOG.warn("Failed to delete lookup file {}.", file);
+            }
+        }
+    }
+
+    private static class Entry {
+
+        private final long size;
+        private int refCount;
+
+        private Entry(long size) {
+            this.size = size;
+        }
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.codegen.CodeGenUtils;
 import org.apache.paimon.codegen.NormalizedKeyComputer;
 import org.apache.paimon.codegen.RecordComparator;
+import org.apache.paimon.compression.BlockCompressionFactory;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.serializer.BinaryRowSerializer;
@@ -63,6 +64,9 @@ public class SortBufferWriteBuffer implements WriteBuffer {
             MemorySegmentPool memoryPool,
             boolean spillable,
             int sortMaxFan,
+            int sortParallelism,
+            @Nullable BlockCompressionFactory bufferCompressionFactory,
+            BlockCompressionFactory spillCompressionFactory,
             IOManager ioManager) {
         this.keyType = keyType;
         this.valueType = valueType;
@@ -86,7 +90,12 @@ public class SortBufferWriteBuffer implements WriteBuffer {
                 InternalSerializers.create(KeyValue.schema(keyType, valueType));
         BinaryInMemorySortBuffer inMemorySortBuffer =
                 BinaryInMemorySortBuffer.createBuffer(
-                        normalizedKeyComputer, serializer, keyComparator, memoryPool);
+                        normalizedKeyComputer,
+                        serializer,
+                        keyComparator,
+                        memoryPool,
+                        sortParallelism,
+                        bufferCompressionFactory);
         this.buffer =
                 ioManager != null && spillable
                         ? new BinaryExternalSortBuffer(
@@ -95,7 +104,8 @@ public class SortBufferWriteBuffer implements WriteBuffer {
                                 memoryPool.pageSize(),
                                 inMemorySortBuffer,
                                 ioManager,
-                                sortMaxFan)
+                                sortMaxFan,
+                                spillCompressionFactory)
                         : inMemorySortBuffer;
     }
 
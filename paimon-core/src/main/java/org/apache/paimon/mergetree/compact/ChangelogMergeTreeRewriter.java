@@ -34,6 +34,7 @@ import org.apache.paimon.reader.RecordReaderIterator;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 
 /** A {@link MergeTreeCompactRewriter} which produces changelog files for the compaction. */
@@ -62,6 +63,12 @@ public abstract class ChangelogMergeTreeRewriter extends MergeTreeCompactRewrite
 
     protected abstract MergeFunctionWrapper<ChangelogResult> createMergeWrapper(int outputLevel);
 
+    /** Completes the results of the merge wrappers before they are written. */
+    protected Iterator<ChangelogResult> completeResults(
+            int outputLevel, Iterator<ChangelogResult> results) {
+        return results;
+    }
+
     @Override
     public CompactResult rewrite(
             int outputLevel, boolean dropDelete, List<List<SortedRun>> sections) throws Exception {
@@ -95,8 +102,9 @@ public abstract class ChangelogMergeTreeRewriter extends MergeTreeCompactRewrite
             compactFileWriter = writerFactory.createRollingMergeTreeFileWriter(outputLevel);
             changelogFileWriter = writerFactory.createRollingChangelogFileWriter(outputLevel);
 
-            while (iterator.hasNext()) {
-                ChangelogResult result = iterator.next();
+            Iterator<ChangelogResult> results = completeResults(outputLevel, iterator);
+            while (results.hasNext()) {
+                ChangelogResult result = results.next();
                 if (result.result() != null) {
                     compactFileWriter.write(result.result());
                 }
@@ -23,6 +23,8 @@ import org.apache.paimon.codegen.RecordEqualiser;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.types.RowKind;
 
+import javax.annotation.Nullable;
+
 import java.util.function.Function;
 
 import static org.apache.paimon.utils.Preconditions.checkArgument;
@@ -41,14 +43,18 @@ import static org.apache.paimon.utils.Preconditions.checkArgument;
  *   <li>With level-0 record, without level-x record, need to lookup the history value of the upper
  *       level as BEFORE.
  * </ul>
+ *
+ * <p>Without a lookup function, the results which need to lookup the BEFORE record are returned
+ * with {@link #lookupRequired} and without changelog, the caller looks up their keys in batches and
+ * completes them by {@link #resolve}.
  */
 public class LookupChangelogMergeFunctionWrapper implements MergeFunctionWrapper<ChangelogResult> {
 
     private final LookupMergeFunction mergeFunction;
     private final MergeFunction<KeyValue> mergeFunction2;
-    private final Function<InternalRow, KeyValue> lookup;
+    @Nullable private final Function<InternalRow, KeyValue> lookup;
 
-    private final ChangelogResult reusedResult = new ChangelogResult();
+    private final LookupChangelogResult reusedResult = new LookupChangelogResult();
     private final KeyValue reusedBefore = new KeyValue();
     private final KeyValue reusedAfter = new KeyValue();
     private final RecordEqualiser valueEqualiser;
@@ -56,7 +62,7 @@ public class LookupChangelogMergeFunctionWrapper implements MergeFunctionWrapper
 
     public LookupChangelogMergeFunctionWrapper(
             MergeFunctionFactory<KeyValue> mergeFunctionFactory,
-            Function<InternalRow, KeyValue> lookup,
+            @Nullable Function<InternalRow, KeyValue> lookup,
             RecordEqualiser valueEqualiser,
             boolean changelogRowDeduplicate) {
         MergeFunction<KeyValue> mergeFunction = mergeFunctionFactory.create();
@@ -102,7 +108,25 @@ public class LookupChangelogMergeFunctionWrapper implements MergeFunctionWrapper
         }
 
         // 3. Lookup to find the latest high level record
-        highLevel = lookup.apply(result.key());
+        if (lookup == null) {
+            reusedResult.lookupRequired = true;
+            return reusedResult.setResult(result);
+        }
+        return resolve(result, lookup.apply(result.key()));
+    }
+
+    /** Returns true if the BEFORE record of the result has to be looked up by the caller. */
+    static boolean lookupRequired(ChangelogResult result) {
+        return result instanceof LookupChangelogResult
+                && ((LookupChangelogResult) result).lookupRequired;
+    }
+
+    /**
+     * Merges the result with the looked up high level record and produces the changelog, the
+     * returned result is reused by the next call.
+     */
+    ChangelogResult resolve(KeyValue result, @Nullable KeyValue highLevel) {
+        reusedResult.reset();
         if (highLevel != null) {
             mergeFunction2.reset();
             mergeFunction2.add(highLevel);
@@ -147,4 +171,15 @@ public class LookupChangelogMergeFunctionWrapper implements MergeFunctionWrapper
     private boolean isAdd(KeyValue kv) {
         return kv.valueKind() == RowKind.INSERT || kv.valueKind() == RowKind.UPDATE_AFTER;
     }
+
+    private static class LookupChangelogResult extends ChangelogResult {
+
+        private boolean lookupRequired;
+
+        @Override
+        public void reset() {
+            super.reset();
+            lookupRequired = false;
+        }
+    }
 }
@@ -21,6 +21,7 @@ package org.apache.paimon.mergetree.compact;
 import org.apache.paimon.KeyValue;
 import org.apache.paimon.codegen.RecordEqualiser;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.io.KeyValueFileReaderFactory;
 import org.apache.paimon.io.KeyValueFileWriterFactory;
@@ -30,16 +31,30 @@ import org.apache.paimon.mergetree.SortedRun;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.apache.paimon.mergetree.compact.LookupChangelogMergeFunctionWrapper.lookupRequired;
 
 /**
  * A {@link MergeTreeCompactRewriter} which produces changelog files by lookup for the compaction
  * involving level 0 files.
+ *
+ * <p>The keys which need to lookup their BEFORE records are collected and looked up in batches of
+ * {@link #LOOKUP_BATCH_SIZE} results, so that each lookup file is probed once per batch.
  */
 public class LookupMergeTreeCompactRewriter extends ChangelogMergeTreeRewriter {
 
+    private static final int LOOKUP_BATCH_SIZE = 1024;
+
     private final LookupLevels lookupLevels;
+    private final InternalRowSerializer keySerializer;
+    private final InternalRowSerializer valueSerializer;
 
     public LookupMergeTreeCompactRewriter(
             LookupLevels lookupLevels,
@@ -59,6 +74,8 @@ public class LookupMergeTreeCompactRewriter extends ChangelogMergeTreeRewriter {
                 valueEqualiser,
                 changelogRowDeduplicate);
         this.lookupLevels = lookupLevels;
+        this.keySerializer = new InternalRowSerializer(writerFactory.keyType());
+        this.valueSerializer = new InternalRowSerializer(writerFactory.valueType());
     }
 
     @Override
@@ -87,21 +104,122 @@ public class LookupMergeTreeCompactRewriter extends ChangelogMergeTreeRewriter {
 
     @Override
     protected MergeFunctionWrapper<ChangelogResult> createMergeWrapper(int outputLevel) {
+        return createLookupWrapper();
+    }
+
+    private LookupChangelogMergeFunctionWrapper createLookupWrapper() {
         return new LookupChangelogMergeFunctionWrapper(
-                mfFactory,
-                key -> {
-                    try {
-                        return lookupLevels.lookup(key, outputLevel + 1);
-                    } catch (IOException e) {
-                        throw new UncheckedIOException(e);
-                    }
-                },
-                valueEqualiser,
-                changelogRowDeduplicate);
+                mfFactory, null, valueEqualiser, changelogRowDeduplicate);
+    }
+
+    @Override
+    protected Iterator<ChangelogResult> completeResults(
+            int outputLevel, Iterator<ChangelogResult> results) {
+        return new BatchLookupIterator(outputLevel, results);
     }
 
     @Override
     public void close() throws IOException {
         lookupLevels.close();
     }
+
+    /**
+     * Passes through the results until one needs lookup, then buffers copies of the following
+     * results and looks up the collected keys at once.
+     */
+    private class BatchLookupIterator implements Iterator<ChangelogResult> {
+
+        private final int outputLevel;
+        private final Iterator<ChangelogResult> results;
+        private final LookupChangelogMergeFunctionWrapper resolver;
+        private final Deque<ChangelogResult> buffer = new ArrayDeque<>();
+
+        private ChangelogResult next;
+
+        private BatchLookupIterator(int outputLevel, Iterator<ChangelogResult> results) {
+            this.outputLevel = outputLevel;
+            this.results = results;
+            this.resolver = createLookupWrapper();
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next != null) {
+                return true;
+            }
+            if (buffer.isEmpty()) {
+                if (!results.hasNext()) {
+                    return false;
+                }
+                ChangelogResult result = results.next();
+                if (!lookupRequired(result)) {
+                    next = result;
+                    return true;
+                }
+                lookupBatch(result);
+            }
+            next = buffer.poll();
+            return true;
+        }
+
+        @Override
+        public ChangelogResult next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            ChangelogResult result = next;
+            next = null;
+            return result;
+        }
+
+        private void lookupBatch(ChangelogResult first) {
+            List<ChangelogResult> pending = new ArrayList<>();
+            List<InternalRow> keys = new ArrayList<>();
+            ChangelogResult result = first;
+            while (true) {
+                ChangelogResult copied = copy(result, new ChangelogResult());
+                buffer.add(copied);
+                if (lookupRequired(result)) {
+                    pending.add(copied);
+                    keys.add(copied.result().key());
+                }
+                if (buffer.size() >= LOOKUP_BATCH_SIZE || !results.hasNext()) {
+                    break;
+                }
+                result = results.next();
+            }
+
+            List<KeyValue> highLevels;
+            try {
+                highLevels = lookupLevels.lookup(keys, outputLevel + 1);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            for (int i = 0; i < pending.size(); i++) {
+                ChangelogResult target = pending.get(i);
+                copy(resolver.resolve(target.result(), highLevels.get(i)), target);
+            }
+        }
+
+        /** Copies the result and changelogs of the source into the reset target. */
+        private ChangelogResult copy(ChangelogResult source, ChangelogResult target) {
+            target.reset();
+            KeyValue result = source.result();
+            target.setResult(result == null ? null : copy(result));
+            for (KeyValue changelog : source.changelogs()) {
+                target.addChangelog(copy(changelog));
+            }
+            return target;
+        }
+
+        private KeyValue copy(KeyValue kv) {
+            return new KeyValue()
+                    .replace(
+                            keySerializer.copy(kv.key()),
+                            kv.sequenceNumber(),
+                            kv.valueKind(),
+                            valueSerializer.copy(kv.value()))
+                    .setLevel(kv.level());
+        }
+    }
 }
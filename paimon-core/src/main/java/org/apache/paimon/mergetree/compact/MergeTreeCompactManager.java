@@ -27,11 +27,14 @@ import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.mergetree.LevelSortedRun;
 import org.apache.paimon.mergetree.Levels;
+import org.apache.paimon.operation.metrics.CompactionMetrics;
 import org.apache.paimon.utils.Preconditions;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.util.Comparator;
 import java.util.List;
@@ -52,6 +55,10 @@ public class MergeTreeCompactManager extends CompactFutureManager {
     private final long minFileSize;
     private final int numSortedRunStopTrigger;
     private final CompactRewriter rewriter;
+    @Nullable private final CompactionMetrics metrics;
+
+    // read by the threads of a shared compact executor, see updatePriority
+    private volatile double priority;
 
     public MergeTreeCompactManager(
             ExecutorService executor,
@@ -60,7 +67,8 @@ public class MergeTreeCompactManager extends CompactFutureManager {
             Comparator<InternalRow> keyComparator,
             long minFileSize,
             int numSortedRunStopTrigger,
-            CompactRewriter rewriter) {
+            CompactRewriter rewriter,
+            @Nullable CompactionMetrics metrics) {
         this.executor = executor;
         this.levels = levels;
         this.strategy = strategy;
@@ -68,6 +76,8 @@ public class MergeTreeCompactManager extends CompactFutureManager {
         this.numSortedRunStopTrigger = numSortedRunStopTrigger;
         this.keyComparator = keyComparator;
         this.rewriter = rewriter;
+        this.metrics = metrics;
+        updatePriority();
     }
 
     @Override
@@ -84,6 +94,7 @@ public class MergeTreeCompactManager extends CompactFutureManager {
     @Override
     public void addNewFile(DataFileMeta file) {
         levels.addLevel0File(file);
+        updatePriority();
     }
 
     @Override
@@ -154,6 +165,14 @@ public class MergeTreeCompactManager extends CompactFutureManager {
                 });
     }
 
+    /**
+     * Buckets closer to stopping writes are more urgent to compact. The priority of a pending task
+     * follows the files added after it was submitted, so it is refreshed whenever levels change.
+     */
+    private void updatePriority() {
+        priority = (double) levels.numberOfSortedRuns() / numSortedRunStopTrigger;
+    }
+
     @VisibleForTesting
     public Levels levels() {
         return levels;
@@ -161,7 +180,14 @@ public class MergeTreeCompactManager extends CompactFutureManager {
 
     private void submitCompaction(CompactUnit unit, boolean dropDelete) {
         MergeTreeCompactTask task =
-                new MergeTreeCompactTask(keyComparator, minFileSize, rewriter, unit, dropDelete);
+                new MergeTreeCompactTask(
+                        keyComparator,
+                        minFileSize,
+                        rewriter,
+                        unit,
+                        dropDelete,
+                        () -> priority,
+                        metrics);
         if (LOG.isDebugEnabled()) {
             LOG.debug(
                     "Pick these files (name, level, size) for compaction: {}",
@@ -190,6 +216,7 @@ public class MergeTreeCompactManager extends CompactFutureManager {
                                 r.after());
                     }
                     levels.update(r.before(), r.after());
+                    updatePriority();
                     if (LOG.isDebugEnabled()) {
                         LOG.debug(
                                 "Levels in compact manager updated. Current runs are\n{}",
@@ -24,10 +24,14 @@ import org.apache.paimon.compact.CompactUnit;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.mergetree.SortedRun;
+import org.apache.paimon.operation.metrics.CompactionMetrics;
+
+import javax.annotation.Nullable;
 
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.DoubleSupplier;
 
 import static java.util.Collections.singletonList;
 
@@ -42,6 +46,8 @@ public class MergeTreeCompactTask extends CompactTask {
 
     private final boolean dropDelete;
 
+    private final DoubleSupplier priority;
+
     // metric
     private int upgradeFilesNum;
 
@@ -50,16 +56,25 @@ public class MergeTreeCompactTask extends CompactTask {
             long minFileSize,
             CompactRewriter rewriter,
             CompactUnit unit,
-            boolean dropDelete) {
+            boolean dropDelete,
+            DoubleSupplier priority,
+            @Nullable CompactionMetrics metrics) {
+        super(metrics);
         this.minFileSize = minFileSize;
         this.rewriter = rewriter;
         this.outputLevel = unit.outputLevel();
         this.partitioned = new IntervalPartition(unit.files(), keyComparator).partition();
         this.dropDelete = dropDelete;
+        this.priority = priority;
 
         this.upgradeFilesNum = 0;
     }
 
+    @Override
+    public double priority() {
+        return priority.getAsDouble();
+    }
+
     @Override
     protected CompactResult doCompact() throws Exception {
         List<List<SortedRun>> candidate = new ArrayList<>();
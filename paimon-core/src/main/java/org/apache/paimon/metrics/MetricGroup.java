@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.metrics;
+
+import org.apache.paimon.annotation.Public;
+
+import java.util.Map;
+
+/**
+ * A MetricGroup is a named container for {@link Metric Metrics}, its variables (for example the
+ * table name) identify the metrics of different groups with the same group name.
+ *
+ * @since 0.5.0
+ */
+@Public
+public interface MetricGroup {
+
+    /**
+     * Creates and registers a new {@link Counter}.
+     *
+     * @param name name of the counter
+     * @return the created counter
+     */
+    Counter counter(String name);
+
+    /**
+     * Registers a new {@link Gauge}.
+     *
+     * @param name name of the gauge
+     * @param gauge gauge to register
+     * @param <T> return type of the gauge
+     * @return the given gauge
+     */
+    <T> Gauge<T> gauge(String name, Gauge<T> gauge);
+
+    /**
+     * Creates and registers a new {@link Histogram} which keeps the latest values in a sliding
+     * window.
+     *
+     * @param name name of the histogram
+     * @param windowSize number of the latest values kept by the histogram
+     * @return the created histogram
+     */
+    Histogram histogram(String name, int windowSize);
+
+    /** Returns the variables of this group, for example the table name. */
+    Map<String, String> getAllVariables();
+
+    /** Returns the name of this group. */
+    String getGroupName();
+
+    /** Returns all registered metrics of this group. */
+    Map<String, Metric> getMetrics();
+
+    /** Closes this group, its metrics are unregistered. */
+    void close();
+}
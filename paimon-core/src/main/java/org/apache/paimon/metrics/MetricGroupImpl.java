@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** Default {@link MetricGroup} which keeps its metrics in memory. */
+public class MetricGroupImpl implements MetricGroup {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MetricGroupImpl.class);
+
+    private final String groupName;
+    private final Map<String, String> variables;
+    private final Map<String, Metric> metrics;
+
+    public MetricGroupImpl(String groupName) {
+        this(groupName, Collections.emptyMap());
+    }
+
+    public MetricGroupImpl(String groupName, Map<String, String> variables) {
+        this.groupName = groupName;
+        this.variables = variables;
+        this.metrics = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public Counter counter(String name) {
+        return addMetric(name, new SimpleCounter());
+    }
+
+    @Override
+    public <T> Gauge<T> gauge(String name, Gauge<T> gauge) {
+        return addMetric(name, gauge);
+    }
+
+    @Override
+    public Histogram histogram(String name, int windowSize) {
+        return addMetric(name, new DescriptiveStatisticsHistogram(windowSize));
+    }
+
+    private <M extends Metric> M addMetric(String name, M metric) {
+        Metric prior = metrics.putIfAbsent(name, metric);
+        if (prior != null) {
+            // the metric still works, it is just not reported
+            LOG.warn(
+                    "Name collision: group {} already contains a metric with the name {}, "
+                            + "the new metric will not be reported.",
+                    groupName,
+                    name);
+        }
+        return metric;
+    }
+
+    @Override
+    public Map<String, String> getAllVariables() {
+        return Collections.unmodifiableMap(variables);
+    }
+
+    @Override
+    public String getGroupName() {
+        return groupName;
+    }
+
+    @Override
+    public Map<String, Metric> getMetrics() {
+        return Collections.unmodifiableMap(metrics);
+    }
+
+    @Override
+    public void close() {
+        metrics.clear();
+    }
+}
@@ -27,6 +27,7 @@ import org.apache.paimon.manifest.ManifestEntrySerializer;
 import org.apache.paimon.manifest.ManifestFile;
 import org.apache.paimon.manifest.ManifestFileMeta;
 import org.apache.paimon.manifest.ManifestList;
+import org.apache.paimon.operation.metrics.ScanMetrics;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.predicate.PredicateBuilder;
 import org.apache.paimon.schema.SchemaManager;
@@ -47,6 +48,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -78,6 +80,8 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
     private ManifestCacheFilter manifestCacheFilter = null;
     private final Integer scanManifestParallelism;
 
+    private ScanMetrics scanMetrics = null;
+
     public AbstractFileStoreScan(
             RowType partitionType,
             ScanBucketFilter bucketFilter,
@@ -180,6 +184,12 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
         return this;
     }
 
+    @Override
+    public FileStoreScan withMetrics(ScanMetrics metrics) {
+        this.scanMetrics = metrics;
+        return this;
+    }
+
     @Override
     public Plan plan() {
 
@@ -210,6 +220,7 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
 
     private Pair<Snapshot, List<ManifestEntry>> doPlan(
             Function<ManifestFileMeta, List<ManifestEntry>> readManifest) {
+        long startMillis = System.currentTimeMillis();
         List<ManifestFileMeta> manifests = specifiedManifests;
         Snapshot snapshot = null;
         if (manifests == null) {
@@ -224,11 +235,19 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
             }
         }
 
+        LongAdder skippedManifests = new LongAdder();
         Iterable<ManifestEntry> entries =
                 ParallellyExecuteUtils.parallelismBatchIterable(
                         files ->
                                 files.parallelStream()
-                                        .filter(this::filterManifestFileMeta)
+                                        .filter(
+                                                m -> {
+                                                    if (filterManifestFileMeta(m)) {
+                                                        return true;
+                                                    }
+                                                    skippedManifests.increment();
+                                                    return false;
+                                                })
                                         .flatMap(m -> readManifest.apply(m).stream())
                                         .filter(this::filterByStats)
                                         .collect(Collectors.toList()),
@@ -264,6 +283,12 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
                 files.add(file);
             }
         }
+
+        if (scanMetrics != null) {
+            long skipped = skippedManifests.sum();
+            scanMetrics.reportScan(
+                    System.currentTimeMillis() - startMillis, manifests.size() - skipped, skipped);
+        }
         return Pair.of(snapshot, files);
     }
 
@@ -304,10 +329,51 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
 
     /** Note: Keep this thread-safe. */
     private boolean filterManifestFileMeta(ManifestFileMeta manifest) {
-        return partitionFilter == null
-                || partitionFilter.test(
-                        manifest.numAddedFiles() + manifest.numDeletedFiles(),
-                        manifest.partitionStats().fields(partitionStatsConverter));
+        return filterManifestByBucket(manifest)
+                && filterManifestByLevel(manifest)
+                && (partitionFilter == null
+                        || partitionFilter.test(
+                                manifest.numAddedFiles() + manifest.numDeletedFiles(),
+                                manifest.partitionStats().fields(partitionStatsConverter)));
+    }
+
+    /** Note: Keep this thread-safe. */
+    private boolean filterManifestByBucket(ManifestFileMeta manifest) {
+        Integer minBucket = manifest.minBucket();
+        Integer maxBucket = manifest.maxBucket();
+        if (specifiedBucket == null || minBucket == null || maxBucket == null) {
+            return true;
+        }
+
+        // like filterByBucket, buckets of entries written with an old number of buckets must not
+        // be compared with the specified bucket, otherwise the check of the bucket number
+        // would never see these entries
+        Integer minTotalBuckets = manifest.minTotalBuckets();
+        Integer maxTotalBuckets = manifest.maxTotalBuckets();
+        if (minTotalBuckets == null
+                || maxTotalBuckets == null
+                || minTotalBuckets != numOfBuckets
+                || maxTotalBuckets != numOfBuckets) {
+            return true;
+        }
+        return specifiedBucket >= minBucket && specifiedBucket <= maxBucket;
+    }
+
+    /** Note: Keep this thread-safe. */
+    private boolean filterManifestByLevel(ManifestFileMeta manifest) {
+        Integer minLevel = manifest.minLevel();
+        Integer maxLevel = manifest.maxLevel();
+        if (levelFilter == null || minLevel == null || maxLevel == null) {
+            return true;
+        }
+
+        // the number of levels is small, just test each level in the range
+        for (int level = minLevel; level <= maxLevel; level++) {
+            if (levelFilter.test(level)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /** Note: Keep this thread-safe. */
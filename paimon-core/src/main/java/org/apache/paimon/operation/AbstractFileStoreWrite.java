@@ -20,6 +20,7 @@ package org.apache.paimon.operation;
 
 import org.apache.paimon.Snapshot;
 import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.compact.CompactExecutor;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.index.IndexFileMeta;
@@ -28,6 +29,9 @@ import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.io.IndexIncrement;
 import org.apache.paimon.manifest.ManifestEntry;
 import org.apache.paimon.memory.MemorySegmentPool;
+import org.apache.paimon.metrics.MetricRegistry;
+import org.apache.paimon.operation.metrics.CompactionMetrics;
+import org.apache.paimon.operation.metrics.WriterMetrics;
 import org.apache.paimon.table.sink.CommitMessage;
 import org.apache.paimon.table.sink.CommitMessageImpl;
 import org.apache.paimon.utils.CommitIncrement;
@@ -43,12 +47,15 @@ import javax.annotation.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.apache.paimon.utils.Preconditions.checkState;
 
 /**
  * Base {@link FileStoreWrite} implementation.
@@ -64,26 +71,41 @@ public abstract class AbstractFileStoreWrite<T>
     protected final SnapshotManager snapshotManager;
     private final FileStoreScan scan;
     @Nullable private final IndexMaintainer.Factory<T> indexFactory;
+    private final int compactionThreadNum;
+    private final boolean bulkRestore;
 
     @Nullable protected IOManager ioManager;
 
     protected final Map<BinaryRow, Map<Integer, WriterContainer<T>>> writers;
 
+    // existing files of partitions scanned for bulk restore, grouped by bucket, they are valid
+    // only for the snapshot of restoreSnapshotId
+    private final Map<BinaryRow, Map<Integer, List<DataFileMeta>>> restoreFiles;
+    @Nullable private Long restoreSnapshotId;
+
     private ExecutorService lazyCompactExecutor;
     private boolean ignorePreviousFiles = false;
     protected boolean isStreamingMode = false;
 
+    @Nullable protected WriterMetrics writerMetrics = null;
+    @Nullable protected CompactionMetrics compactionMetrics = null;
+
     protected AbstractFileStoreWrite(
             String commitUser,
             SnapshotManager snapshotManager,
             FileStoreScan scan,
-            @Nullable IndexMaintainer.Factory<T> indexFactory) {
+            @Nullable IndexMaintainer.Factory<T> indexFactory,
+            int compactionThreadNum,
+            boolean bulkRestore) {
         this.commitUser = commitUser;
         this.snapshotManager = snapshotManager;
         this.scan = scan;
         this.indexFactory = indexFactory;
+        this.compactionThreadNum = compactionThreadNum;
+        this.bulkRestore = bulkRestore;
 
         this.writers = new HashMap<>();
+        this.restoreFiles = new HashMap<>();
     }
 
     @Override
@@ -102,6 +124,18 @@ public abstract class AbstractFileStoreWrite<T>
         this.ignorePreviousFiles = ignorePreviousFiles;
     }
 
+    @Override
+    public FileStoreWrite<T> withMetricRegistry(MetricRegistry registry) {
+        checkState(
+                writerMetrics == null && writers.isEmpty(),
+                "Metric registry must be set once before any writer is created.");
+        String tableName = snapshotManager.tablePath().getName();
+        this.writerMetrics = new WriterMetrics(registry, tableName);
+        this.compactionMetrics =
+                new CompactionMetrics(registry, tableName, this::compactionQueueDepth);
+        return this;
+    }
+
     @Override
     public void write(BinaryRow partition, int bucket, T data) throws Exception {
         WriterContainer<T> container = getWriterWrapper(partition, bucket);
@@ -137,6 +171,9 @@ public abstract class AbstractFileStoreWrite<T>
     @Override
     public List<CommitMessage> prepareCommit(boolean waitCompaction, long commitIdentifier)
             throws Exception {
+        // restored files are outdated once this commit succeeds
+        clearRestoreFiles();
+
         long latestCommittedIdentifier;
         if (writers.values().stream()
                         .map(Map::values)
@@ -231,9 +268,22 @@ public abstract class AbstractFileStoreWrite<T>
             }
         }
         writers.clear();
+        clearRestoreFiles();
         if (lazyCompactExecutor != null) {
             lazyCompactExecutor.shutdownNow();
         }
+        closeMetrics();
+    }
+
+    private void closeMetrics() {
+        if (writerMetrics != null) {
+            writerMetrics.close();
+            writerMetrics = null;
+        }
+        if (compactionMetrics != null) {
+            compactionMetrics.close();
+            compactionMetrics = null;
+        }
     }
 
     @Override
@@ -338,6 +388,10 @@ public abstract class AbstractFileStoreWrite<T>
 
     private List<DataFileMeta> scanExistingFileMetas(
             long snapshotId, BinaryRow partition, int bucket) {
+        if (bulkRestore) {
+            return bulkScanExistingFileMetas(snapshotId, partition, bucket);
+        }
+
         List<DataFileMeta> existingFileMetas = new ArrayList<>();
         // Concat all the DataFileMeta of existing files into existingFileMetas.
         scan.withSnapshot(snapshotId).withPartitionBucket(partition, bucket).plan().files().stream()
@@ -346,16 +400,60 @@ public abstract class AbstractFileStoreWrite<T>
         return existingFileMetas;
     }
 
+    /**
+     * Scan existing files of all buckets of the partition at once, so that restoring the writers of
+     * the other buckets of this partition on the same snapshot does not need to scan again.
+     */
+    private List<DataFileMeta> bulkScanExistingFileMetas(
+            long snapshotId, BinaryRow partition, int bucket) {
+        if (restoreSnapshotId == null || restoreSnapshotId != snapshotId) {
+            clearRestoreFiles();
+            restoreSnapshotId = snapshotId;
+        }
+
+        Map<Integer, List<DataFileMeta>> bucketFiles = restoreFiles.get(partition);
+        if (bucketFiles == null) {
+            bucketFiles = new HashMap<>();
+            for (ManifestEntry entry :
+                    scan.withSnapshot(snapshotId)
+                            .withPartitionFilter(Collections.singletonList(partition))
+                            .plan()
+                            .files()) {
+                bucketFiles
+                        .computeIfAbsent(entry.bucket(), k -> new ArrayList<>())
+                        .add(entry.file());
+            }
+            restoreFiles.put(partition, bucketFiles);
+        }
+
+        // the files are still kept for restoring a closed writer again on the same snapshot
+        List<DataFileMeta> files = bucketFiles.get(bucket);
+        return files == null ? new ArrayList<>() : new ArrayList<>(files);
+    }
+
+    private void clearRestoreFiles() {
+        restoreFiles.clear();
+        restoreSnapshotId = null;
+    }
+
     private ExecutorService compactExecutor() {
         if (lazyCompactExecutor == null) {
             lazyCompactExecutor =
-                    Executors.newSingleThreadScheduledExecutor(
+                    new CompactExecutor(
+                            compactionThreadNum,
                             new ExecutorThreadFactory(
                                     Thread.currentThread().getName() + "-compaction"));
         }
         return lazyCompactExecutor;
     }
 
+    private int compactionQueueDepth() {
+        ExecutorService executor = lazyCompactExecutor;
+        return executor instanceof ThreadPoolExecutor
+                ? ((ThreadPoolExecutor) executor).getQueue().size()
+                : 0;
+    }
+
     protected void notifyNewWriter(RecordWriter<T> writer) {}
 
     protected abstract RecordWriter<T> createWriter(
@@ -46,9 +46,9 @@ import javax.annotation.Nullable;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.apache.paimon.predicate.PredicateBuilder.splitAnd;
 
@@ -80,7 +80,8 @@ public class AppendOnlyFileStoreRead implements FileStoreRead<InternalRow> {
         this.schemaId = schemaId;
         this.formatDiscover = formatDiscover;
         this.pathFactory = pathFactory;
-        this.bulkFormatMappings = new HashMap<>();
+        // readers may be created concurrently by compaction threads of different buckets
+        this.bulkFormatMappings = new ConcurrentHashMap<>();
 
         this.projection = Projection.range(0, rowType.getFieldCount()).toNestedIndexes();
     }
@@ -82,7 +82,13 @@ public class AppendOnlyFileStoreWrite extends AbstractFileStoreWrite<InternalRow
             SnapshotManager snapshotManager,
             FileStoreScan scan,
             CoreOptions options) {
-        super(commitUser, snapshotManager, scan, null);
+        super(
+                commitUser,
+                snapshotManager,
+                scan,
+                null,
+                options.compactionThreadNum(),
+                options.writeBulkRestore());
         this.fileIO = fileIO;
         this.read = read;
         this.schemaId = schemaId;
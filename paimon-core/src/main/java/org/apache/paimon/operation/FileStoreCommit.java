@@ -20,6 +20,7 @@ package org.apache.paimon.operation;
 
 import org.apache.paimon.Snapshot;
 import org.apache.paimon.manifest.ManifestCommittable;
+import org.apache.paimon.operation.metrics.CommitMetrics;
 import org.apache.paimon.table.sink.CommitMessage;
 
 import java.util.List;
@@ -35,6 +36,9 @@ public interface FileStoreCommit {
 
     FileStoreCommit ignoreEmptyCommit(boolean ignoreEmptyCommit);
 
+    /** Reports the commits to the given {@link CommitMetrics}. */
+    FileStoreCommit withMetrics(CommitMetrics metrics);
+
     /** Find out which manifest committable need to be retried when recovering from the failure. */
     default List<ManifestCommittable> filterCommitted(List<ManifestCommittable> committableList) {
         Set<Long> identifiers =
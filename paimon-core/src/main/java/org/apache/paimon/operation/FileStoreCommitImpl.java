@@ -34,6 +34,7 @@ import org.apache.paimon.manifest.ManifestEntry;
 import org.apache.paimon.manifest.ManifestFile;
 import org.apache.paimon.manifest.ManifestFileMeta;
 import org.apache.paimon.manifest.ManifestList;
+import org.apache.paimon.operation.metrics.CommitMetrics;
 import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.predicate.PredicateBuilder;
@@ -59,6 +60,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -111,6 +113,10 @@ public class FileStoreCommitImpl implements FileStoreCommit {
 
     @Nullable private Lock lock;
     private boolean ignoreEmptyCommit;
+    @Nullable private CommitMetrics metrics;
+
+    // entries checked by the last commit, later commits only need to read the snapshot deltas
+    @Nullable private CheckedEntries lastCheckedEntries;
 
     public FileStoreCommitImpl(
             FileIO fileIO,
@@ -149,6 +155,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
 
         this.lock = null;
         this.ignoreEmptyCommit = true;
+        this.metrics = null;
     }
 
     @Override
@@ -163,6 +170,12 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         return this;
     }
 
+    @Override
+    public FileStoreCommit withMetrics(CommitMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
     @Override
     public Set<Long> filterCommitted(Set<Long> commitIdentifiers) {
         // nothing to filter, fast exit
@@ -192,9 +205,10 @@ public class FileStoreCommitImpl implements FileStoreCommit {
             LOG.debug("Ready to commit\n" + committable.toString());
         }
 
-        Snapshot latestSnapshot = null;
-        Long safeLatestSnapshotId = null;
-        List<ManifestEntry> baseEntries = new ArrayList<>();
+        CheckedEntries checkedEntries = null;
+        // the entries are modified in place, drop them if this commit fails
+        CheckedEntries lastCheckedEntries = this.lastCheckedEntries;
+        this.lastCheckedEntries = null;
 
         List<ManifestEntry> appendTableFiles = new ArrayList<>();
         List<ManifestEntry> appendChangelog = new ArrayList<>();
@@ -215,56 +229,62 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                 || !appendIndexFiles.isEmpty()) {
             // Optimization for common path.
             // Step 1:
-            // Read manifest entries from changed partitions here and check for conflicts.
-            // If there are no other jobs committing at the same time,
-            // we can skip conflict checking in tryCommit method.
+            // Read manifest entries from changed buckets here, tryCommit checks the changes for
+            // conflicts against them and only reads the deltas of the snapshots committed since.
             // This optimization is mainly used to decrease the number of times we read from files.
-            latestSnapshot = snapshotManager.latestSnapshot();
+            Snapshot latestSnapshot = snapshotManager.latestSnapshot();
             if (latestSnapshot != null) {
-                // it is possible that some partitions only have compact changes,
+                // it is possible that some buckets only have compact changes,
                 // so we need to contain all changes
-                baseEntries.addAll(
-                        readAllEntriesFromChangedPartitions(
-                                latestSnapshot, appendTableFiles, compactTableFiles));
-                noConflictsOrFail(latestSnapshot.commitUser(), baseEntries, appendTableFiles);
-                safeLatestSnapshotId = latestSnapshot.id();
+                checkedEntries =
+                        readCheckedEntries(
+                                latestSnapshot,
+                                changedBuckets(appendTableFiles, compactTableFiles),
+                                lastCheckedEntries);
             }
 
-            tryCommit(
-                    appendTableFiles,
-                    appendChangelog,
-                    appendIndexFiles,
-                    committable.identifier(),
-                    committable.watermark(),
-                    committable.logOffsets(),
-                    Snapshot.CommitKind.APPEND,
-                    safeLatestSnapshotId);
+            checkedEntries =
+                    tryCommit(
+                            appendTableFiles,
+                            appendChangelog,
+                            appendIndexFiles,
+                            committable.identifier(),
+                            committable.watermark(),
+                            committable.logOffsets(),
+                            Snapshot.CommitKind.APPEND,
+                            checkedEntries);
         }
 
         if (!compactTableFiles.isEmpty() || !compactChangelog.isEmpty()) {
             // Optimization for common path.
             // Step 2:
-            // Add appendChanges to the manifest entries read above and check for conflicts.
-            // If there are no other jobs committing at the same time,
-            // we can skip conflict checking in tryCommit method.
+            // The manifest entries read above already contain appendChanges committed by tryCommit,
+            // tryCommit checks the compact changes for conflicts against them.
             // This optimization is mainly used to decrease the number of times we read from files.
-            if (safeLatestSnapshotId != null) {
-                baseEntries.addAll(appendTableFiles);
-                noConflictsOrFail(latestSnapshot.commitUser(), baseEntries, compactTableFiles);
-                // assume this compact commit follows just after the append commit created above
-                safeLatestSnapshotId += 1;
+            if (checkedEntries == null) {
+                Snapshot latestSnapshot = snapshotManager.latestSnapshot();
+                if (latestSnapshot != null) {
+                    checkedEntries =
+                            readCheckedEntries(
+                                    latestSnapshot,
+                                    changedBuckets(compactTableFiles),
+                                    lastCheckedEntries);
+                }
             }
 
-            tryCommit(
-                    compactTableFiles,
-                    compactChangelog,
-                    Collections.emptyList(),
-                    committable.identifier(),
-                    committable.watermark(),
-                    committable.logOffsets(),
-                    Snapshot.CommitKind.COMPACT,
-                    safeLatestSnapshotId);
+            checkedEntries =
+                    tryCommit(
+                            compactTableFiles,
+                            compactChangelog,
+                            Collections.emptyList(),
+                            committable.identifier(),
+                            committable.watermark(),
+                            committable.logOffsets(),
+                            Snapshot.CommitKind.COMPACT,
+                            checkedEntries);
         }
+
+        this.lastCheckedEntries = checkedEntries == null ? lastCheckedEntries : checkedEntries;
     }
 
     @Override
@@ -481,7 +501,14 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                 kind, commitMessage.partition(), commitMessage.bucket(), numBucket, file);
     }
 
-    private void tryCommit(
+    /**
+     * Try to commit until success. The given {@link CheckedEntries} are reused across retries, so
+     * that a retry only reads the changes of snapshots committed since the last attempt.
+     *
+     * @return the {@link CheckedEntries} of the committed snapshot, null if unknown
+     */
+    @Nullable
+    private CheckedEntries tryCommit(
             List<ManifestEntry> tableFiles,
             List<ManifestEntry> changelogFiles,
             List<IndexManifestEntry> indexFiles,
@@ -489,20 +516,33 @@ public class FileStoreCommitImpl implements FileStoreCommit {
             @Nullable Long watermark,
             Map<Integer, Long> logOffsets,
             Snapshot.CommitKind commitKind,
-            Long safeLatestSnapshotId) {
+            @Nullable CheckedEntries checkedEntries) {
+        long startMillis = System.currentTimeMillis();
         while (true) {
             Snapshot latestSnapshot = snapshotManager.latestSnapshot();
-            if (tryCommitOnce(
-                    tableFiles,
-                    changelogFiles,
-                    indexFiles,
-                    identifier,
-                    watermark,
-                    logOffsets,
-                    commitKind,
-                    latestSnapshot,
-                    safeLatestSnapshotId)) {
-                break;
+            Long safeLatestSnapshotId = null;
+            if (latestSnapshot != null) {
+                checkedEntries = noConflictsOrFail(latestSnapshot, tableFiles, checkedEntries);
+                safeLatestSnapshotId = latestSnapshot.id();
+            }
+            Snapshot newSnapshot =
+                    tryCommitOnce(
+                            tableFiles,
+                            changelogFiles,
+                            indexFiles,
+                            identifier,
+                            watermark,
+                            logOffsets,
+                            commitKind,
+                            latestSnapshot,
+                            safeLatestSnapshotId);
+            if (newSnapshot != null) {
+                reportCommitDuration(startMillis);
+                if (safeLatestSnapshotId == null) {
+                    return null;
+                }
+                checkedEntries.apply(tableFiles, newSnapshot);
+                return checkedEntries;
             }
         }
     }
@@ -514,6 +554,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
             long identifier,
             @Nullable Long watermark,
             Map<Integer, Long> logOffsets) {
+        long startMillis = System.currentTimeMillis();
         while (true) {
             Snapshot latestSnapshot = snapshotManager.latestSnapshot();
 
@@ -553,22 +594,36 @@ public class FileStoreCommitImpl implements FileStoreCommit {
             indexChangesWithOverwrite.addAll(indexFiles);
 
             if (tryCommitOnce(
-                    changesWithOverwrite,
-                    Collections.emptyList(),
-                    indexChangesWithOverwrite,
-                    identifier,
-                    watermark,
-                    logOffsets,
-                    Snapshot.CommitKind.OVERWRITE,
-                    latestSnapshot,
-                    null)) {
+                            changesWithOverwrite,
+                            Collections.emptyList(),
+                            indexChangesWithOverwrite,
+                            identifier,
+                            watermark,
+                            logOffsets,
+                            Snapshot.CommitKind.OVERWRITE,
+                            latestSnapshot,
+                            null)
+                    != null) {
+                reportCommitDuration(startMillis);
                 break;
             }
         }
     }
 
+    private void reportCommitDuration(long startMillis) {
+        if (metrics != null) {
+            metrics.reportCommitDuration(System.currentTimeMillis() - startMillis);
+        }
+    }
+
+    /**
+     * Try to commit a new snapshot once.
+     *
+     * @return the committed snapshot, null if the atomic commit failed and should be retried
+     */
     @VisibleForTesting
-    public boolean tryCommitOnce(
+    @Nullable
+    public Snapshot tryCommitOnce(
             List<ManifestEntry> tableFiles,
             List<ManifestEntry> changelogFiles,
             List<IndexManifestEntry> indexFiles,
@@ -578,6 +633,9 @@ public class FileStoreCommitImpl implements FileStoreCommit {
             Snapshot.CommitKind commitKind,
             Snapshot latestSnapshot,
             Long safeLatestSnapshotId) {
+        if (metrics != null) {
+            metrics.reportCommitAttempt();
+        }
         long newSnapshotId =
                 latestSnapshot == null ? Snapshot.FIRST_SNAPSHOT_ID : latestSnapshot.id() + 1;
         Path newSnapshotPath = snapshotManager.snapshotPath(newSnapshotId);
@@ -750,7 +808,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                                 identifier,
                                 commitKind.name()));
             }
-            return true;
+            return newSnapshot;
         }
 
         // atomic rename fails, clean up and try again
@@ -768,25 +826,51 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                 oldMetas,
                 newMetas,
                 changelogMetas);
-        return false;
+        return null;
+    }
+
+    @SafeVarargs
+    private static List<BinaryRow> changedPartitions(List<ManifestEntry>... changes) {
+        return Arrays.stream(changes)
+                .flatMap(Collection::stream)
+                .map(ManifestEntry::partition)
+                .distinct()
+                .collect(Collectors.toList());
     }
 
     @SafeVarargs
-    private final List<ManifestEntry> readAllEntriesFromChangedPartitions(
-            Snapshot snapshot, List<ManifestEntry>... changes) {
-        List<BinaryRow> changedPartitions =
-                Arrays.stream(changes)
-                        .flatMap(Collection::stream)
-                        .map(ManifestEntry::partition)
-                        .distinct()
-                        .collect(Collectors.toList());
+    private static List<Pair<BinaryRow, Integer>> changedBuckets(List<ManifestEntry>... changes) {
+        return Arrays.stream(changes)
+                .flatMap(Collection::stream)
+                .map(entry -> Pair.of(entry.partition(), entry.bucket()))
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    private static List<BinaryRow> partitions(Collection<Pair<BinaryRow, Integer>> buckets) {
+        return buckets.stream().map(Pair::getLeft).distinct().collect(Collectors.toList());
+    }
+
+    private List<ManifestEntry> readAllEntriesFromChangedPartitions(
+            Snapshot snapshot, List<BinaryRow> changedPartitions) {
+        return readEntriesFromChangedPartitions(snapshot, ScanKind.ALL, changedPartitions);
+    }
+
+    private List<ManifestEntry> readEntriesFromChangedPartitions(
+            Snapshot snapshot, ScanKind scanKind, List<BinaryRow> changedPartitions) {
+        if (changedPartitions.isEmpty()) {
+            return Collections.emptyList();
+        }
         try {
             return scan.withSnapshot(snapshot)
+                    .withKind(scanKind)
                     .withPartitionFilter(changedPartitions)
                     .plan()
                     .files();
         } catch (Throwable e) {
             throw new RuntimeException("Cannot read manifest entries from changed partitions.", e);
+        } finally {
+            scan.withKind(ScanKind.ALL);
         }
     }
 
@@ -794,10 +878,120 @@ public class FileStoreCommitImpl implements FileStoreCommit {
             String baseCommitUser, Snapshot latestSnapshot, List<ManifestEntry> changes) {
         noConflictsOrFail(
                 baseCommitUser,
-                readAllEntriesFromChangedPartitions(latestSnapshot, changes),
+                readAllEntriesFromChangedPartitions(latestSnapshot, changedPartitions(changes)),
                 changes);
     }
 
+    /**
+     * Check for conflicts between the changes and the latest snapshot. If the {@link
+     * CheckedEntries} of an earlier snapshot are given, only the delta manifests of the snapshots
+     * committed in between are read.
+     *
+     * @return the {@link CheckedEntries} of the latest snapshot
+     */
+    private CheckedEntries noConflictsOrFail(
+            Snapshot latestSnapshot,
+            List<ManifestEntry> changes,
+            @Nullable CheckedEntries checkedEntries) {
+        if (checkedEntries == null || !catchUp(checkedEntries, latestSnapshot)) {
+            List<Pair<BinaryRow, Integer>> buckets =
+                    checkedEntries == null
+                            ? changedBuckets(changes)
+                            : new ArrayList<>(checkedEntries.buckets());
+            checkedEntries =
+                    new CheckedEntries(
+                            latestSnapshot,
+                            buckets,
+                            readAllEntriesFromChangedPartitions(
+                                    latestSnapshot, partitions(buckets)));
+        }
+        noConflictsOrFail(latestSnapshot.commitUser(), checkedEntries.entries(), changes);
+        return checkedEntries;
+    }
+
+    /**
+     * Bring the {@link CheckedEntries} up to the latest snapshot.
+     *
+     * @return false if they can not be brought up to date and need to be read again
+     */
+    private boolean catchUp(CheckedEntries checkedEntries, Snapshot latestSnapshot) {
+        return isValid(checkedEntries, latestSnapshot)
+                && (checkedEntries.snapshotId() == latestSnapshot.id()
+                        || readDeltaEntries(checkedEntries, latestSnapshot));
+    }
+
+    /**
+     * Apply the delta manifests of the snapshots after {@link CheckedEntries#snapshotId()} up to
+     * the latest snapshot.
+     *
+     * @return false if some of these snapshots have expired
+     */
+    private boolean readDeltaEntries(CheckedEntries checkedEntries, Snapshot latestSnapshot) {
+        List<Snapshot> snapshots = new ArrayList<>();
+        for (long id = checkedEntries.snapshotId() + 1; id < latestSnapshot.id(); id++) {
+            if (!snapshotManager.snapshotExists(id)) {
+                return false;
+            }
+            snapshots.add(snapshotManager.snapshot(id));
+        }
+        snapshots.add(latestSnapshot);
+
+        List<ManifestEntry> deltaEntries = new ArrayList<>();
+        for (Snapshot snapshot : snapshots) {
+            deltaEntries.addAll(
+                    readEntriesFromChangedPartitions(
+                            snapshot, ScanKind.DELTA, partitions(checkedEntries.buckets())));
+        }
+        checkedEntries.apply(deltaEntries, latestSnapshot);
+        return true;
+    }
+
+    /**
+     * Read the merged entries of the changed buckets from the latest snapshot. The entries checked
+     * by the last commit are reused if its snapshot is still valid: only the snapshot deltas since
+     * then and the partitions of the buckets it does not contain are read.
+     */
+    private CheckedEntries readCheckedEntries(
+            Snapshot latestSnapshot,
+            List<Pair<BinaryRow, Integer>> changedBuckets,
+            @Nullable CheckedEntries lastCheckedEntries) {
+        if (lastCheckedEntries != null && catchUp(lastCheckedEntries, latestSnapshot)) {
+            // keep the memory bounded by the buckets of the current commit
+            lastCheckedEntries.retainBuckets(changedBuckets);
+            List<Pair<BinaryRow, Integer>> missingBuckets =
+                    changedBuckets.stream()
+                            .filter(b -> !lastCheckedEntries.buckets().contains(b))
+                            .collect(Collectors.toList());
+            if (!missingBuckets.isEmpty()) {
+                lastCheckedEntries.addBuckets(
+                        missingBuckets,
+                        readAllEntriesFromChangedPartitions(
+                                latestSnapshot, partitions(missingBuckets)));
+            }
+            return lastCheckedEntries;
+        }
+
+        return new CheckedEntries(
+                latestSnapshot,
+                changedBuckets,
+                readAllEntriesFromChangedPartitions(latestSnapshot, partitions(changedBuckets)));
+    }
+
+    /** The snapshot of the {@link CheckedEntries} may be gone by expiration or rollback. */
+    private boolean isValid(CheckedEntries checkedEntries, Snapshot latestSnapshot) {
+        long snapshotId = checkedEntries.snapshotId();
+        if (snapshotId > latestSnapshot.id()) {
+            return false;
+        }
+        Snapshot snapshot =
+                snapshotId == latestSnapshot.id()
+                        ? latestSnapshot
+                        : snapshotManager.snapshotExists(snapshotId)
+                                ? snapshotManager.snapshot(snapshotId)
+                                : null;
+        return snapshot != null && checkedEntries.isSnapshot(snapshot);
+    }
+
     private void noConflictsOrFail(
             String baseCommitUser, List<ManifestEntry> baseEntries, List<ManifestEntry> changes) {
         List<ManifestEntry> allEntries = new ArrayList<>(baseEntries);
@@ -862,6 +1056,9 @@ public class FileStoreCommitImpl implements FileStoreCommit {
             List<ManifestEntry> baseEntries,
             List<ManifestEntry> changes,
             Throwable cause) {
+        if (metrics != null) {
+            metrics.reportCommitConflict();
+        }
         String possibleCauses =
                 String.join(
                         "\n",
@@ -945,6 +1142,77 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         }
     }
 
+    /**
+     * Merged manifest entries of some buckets at a snapshot, they have no conflicts with the
+     * changes checked so far. Entries of other buckets are not needed to check changes of these
+     * buckets, so they are not kept even if their partitions are read.
+     */
+    private static class CheckedEntries {
+
+        private final Set<Pair<BinaryRow, Integer>> buckets;
+        private final Map<ManifestEntry.Identifier, ManifestEntry> entries;
+        private Snapshot snapshot;
+
+        private CheckedEntries(
+                Snapshot snapshot,
+                List<Pair<BinaryRow, Integer>> buckets,
+                List<ManifestEntry> entries) {
+            this.snapshot = snapshot;
+            this.buckets = new HashSet<>(buckets);
+            this.entries = new LinkedHashMap<>();
+            merge(entries, this.buckets);
+        }
+
+        private long snapshotId() {
+            return snapshot.id();
+        }
+
+        private boolean isSnapshot(Snapshot other) {
+            return snapshot.id() == other.id()
+                    && snapshot.timeMillis() == other.timeMillis()
+                    && Objects.equals(snapshot.commitUser(), other.commitUser());
+        }
+
+        private Set<Pair<BinaryRow, Integer>> buckets() {
+            return buckets;
+        }
+
+        private List<ManifestEntry> entries() {
+            return new ArrayList<>(entries.values());
+        }
+
+        /** Apply the changes of the snapshots up to the given one. */
+        private void apply(List<ManifestEntry> changes, Snapshot newSnapshot) {
+            merge(changes, buckets);
+            snapshot = newSnapshot;
+        }
+
+        /** Add the entries of new buckets read from the current snapshot. */
+        private void addBuckets(
+                List<Pair<BinaryRow, Integer>> newBuckets, List<ManifestEntry> newEntries) {
+            buckets.addAll(newBuckets);
+            merge(newEntries, new HashSet<>(newBuckets));
+        }
+
+        private void retainBuckets(List<Pair<BinaryRow, Integer>> retained) {
+            if (buckets.retainAll(retained)) {
+                entries.values().removeIf(entry -> !buckets.contains(bucketOf(entry)));
+            }
+        }
+
+        private void merge(List<ManifestEntry> newEntries, Set<Pair<BinaryRow, Integer>> filter) {
+            ManifestEntry.mergeEntries(
+                    newEntries.stream()
+                            .filter(entry -> filter.contains(bucketOf(entry)))
+                            .collect(Collectors.toList()),
+                    entries);
+        }
+
+        private static Pair<BinaryRow, Integer> bucketOf(ManifestEntry entry) {
+            return Pair.of(entry.partition(), entry.bucket());
+        }
+    }
+
     private static class LevelIdentifier {
 
         private final BinaryRow partition;
@@ -25,6 +25,7 @@ import org.apache.paimon.manifest.FileKind;
 import org.apache.paimon.manifest.ManifestCacheFilter;
 import org.apache.paimon.manifest.ManifestEntry;
 import org.apache.paimon.manifest.ManifestFileMeta;
+import org.apache.paimon.operation.metrics.ScanMetrics;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.utils.Filter;
 
@@ -59,6 +60,9 @@ public interface FileStoreScan {
 
     FileStoreScan withManifestCacheFilter(ManifestCacheFilter manifestFilter);
 
+    /** Reports the plannings to the given {@link ScanMetrics}. */
+    FileStoreScan withMetrics(ScanMetrics metrics);
+
     /** Produce a {@link Plan}. */
     Plan plan();
 
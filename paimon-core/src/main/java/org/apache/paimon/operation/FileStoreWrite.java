@@ -23,6 +23,7 @@ import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.memory.MemorySegmentPool;
+import org.apache.paimon.metrics.MetricRegistry;
 import org.apache.paimon.table.sink.CommitMessage;
 import org.apache.paimon.table.sink.SinkRecord;
 import org.apache.paimon.utils.RecordWriter;
@@ -53,6 +54,13 @@ public interface FileStoreWrite<T> {
      */
     void withIgnorePreviousFiles(boolean ignorePreviousFiles);
 
+    /**
+     * Reports the metrics of writers and compactions to the given {@link MetricRegistry}. Must be
+     * called at most once and before any writer is created, because writers keep the metric
+     * instances they are created with.
+     */
+    FileStoreWrite<T> withMetricRegistry(MetricRegistry registry);
+
     /**
      * Write the data to the store according to the partition and bucket.
      *
@@ -26,19 +26,24 @@ import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.codegen.RecordEqualiser;
 import org.apache.paimon.compact.CompactManager;
 import org.apache.paimon.compact.NoopCompactManager;
+import org.apache.paimon.compression.BlockCompressionFactory;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.RowCompactedSerializer;
 import org.apache.paimon.format.FileFormatDiscover;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.index.IndexMaintainer;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.io.KeyValueFileReaderFactory;
 import org.apache.paimon.io.KeyValueFileWriterFactory;
+import org.apache.paimon.lookup.LookupStoreFactory;
 import org.apache.paimon.lookup.hash.HashLookupStoreFactory;
+import org.apache.paimon.lookup.sort.SortLookupStoreFactory;
 import org.apache.paimon.mergetree.Levels;
 import org.apache.paimon.mergetree.LookupLevels;
 import org.apache.paimon.mergetree.MergeSorter;
 import org.apache.paimon.mergetree.MergeTreeWriter;
+import org.apache.paimon.mergetree.PersistedLookupFiles;
 import org.apache.paimon.mergetree.compact.CompactRewriter;
 import org.apache.paimon.mergetree.compact.CompactStrategy;
 import org.apache.paimon.mergetree.compact.FullChangelogMergeTreeCompactRewriter;
@@ -48,11 +53,14 @@ import org.apache.paimon.mergetree.compact.MergeFunctionFactory;
 import org.apache.paimon.mergetree.compact.MergeTreeCompactManager;
 import org.apache.paimon.mergetree.compact.MergeTreeCompactRewriter;
 import org.apache.paimon.mergetree.compact.UniversalCompaction;
+import org.apache.paimon.options.Options;
 import org.apache.paimon.schema.KeyValueFieldsExtractor;
 import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.CommitIncrement;
+import org.apache.paimon.utils.ExecutorThreadFactory;
 import org.apache.paimon.utils.FileStorePathFactory;
+import org.apache.paimon.utils.JsonSerdeUtil;
 import org.apache.paimon.utils.SnapshotManager;
 
 import org.slf4j.Logger;
@@ -60,9 +68,11 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
 
+import java.io.File;
 import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 
 import static org.apache.paimon.io.DataFileMeta.getMaxSequenceNumber;
@@ -82,6 +92,8 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
     private final RowType keyType;
     private final RowType valueType;
 
+    private ExecutorService lazyFlushExecutor;
+
     public KeyValueFileStoreWrite(
             FileIO fileIO,
             SchemaManager schemaManager,
@@ -162,9 +174,14 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                         : universalCompaction;
         CompactManager compactManager =
                 createCompactManager(partition, bucket, compactStrategy, compactExecutor, levels);
+        BlockCompressionFactory spillCompressionFactory = options.spillCompressionFactory();
         return new MergeTreeWriter(
                 bufferSpillable(),
                 options.localSortMaxNumFileHandles(),
+                options.writeBufferSortParallelism(),
+                options.writeBufferCompressed() ? spillCompressionFactory : null,
+                spillCompressionFactory,
+                options.writeBufferAsyncFlush() ? flushExecutor() : null,
                 ioManager,
                 compactManager,
                 getMaxSequenceNumber(restoreFiles),
@@ -173,7 +190,25 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                 writerFactory,
                 options.commitForceCompact(),
                 options.changelogProducer(),
-                restoreIncrement);
+                restoreIncrement,
+                writerMetrics);
+    }
+
+    private ExecutorService flushExecutor() {
+        if (lazyFlushExecutor == null) {
+            lazyFlushExecutor =
+                    Executors.newSingleThreadExecutor(
+                            new ExecutorThreadFactory(Thread.currentThread().getName() + "-flush"));
+        }
+        return lazyFlushExecutor;
+    }
+
+    @Override
+    public void close() throws Exception {
+        super.close();
+        if (lazyFlushExecutor != null) {
+            lazyFlushExecutor.shutdownNow();
+        }
     }
 
     @VisibleForTesting
@@ -199,7 +234,8 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                     keyComparator,
                     options.targetFileSize(),
                     options.numSortedRunStopTrigger(),
-                    rewriter);
+                    rewriter,
+                    compactionMetrics);
         }
     }
 
@@ -256,11 +292,77 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                 file ->
                         readerFactory.createRecordReader(
                                 file.schemaId(), file.fileName(), file.level()),
+                readerFactory::readKeyBloomFilter,
                 () -> ioManager.createChannel().getPathFile(),
-                new HashLookupStoreFactory(
-                        cacheManager,
-                        options.toConfiguration().get(CoreOptions.LOOKUP_HASH_LOAD_FACTOR)),
+                createLookupStoreFactory(),
+                createPersistedLookupFiles(),
                 options.toConfiguration().get(CoreOptions.LOOKUP_CACHE_FILE_RETENTION),
-                options.toConfiguration().get(CoreOptions.LOOKUP_CACHE_MAX_DISK_SIZE));
+                options.toConfiguration().get(CoreOptions.LOOKUP_CACHE_MAX_DISK_SIZE),
+                options.toConfiguration()
+                        .get(CoreOptions.LOOKUP_BLOOM_FILTER_CACHE_MAX_MEMORY_SIZE),
+                compactionMetrics);
+    }
+
+    private LookupStoreFactory createLookupStoreFactory() {
+        Options conf = options.toConfiguration();
+        boolean mmapEnabled = conf.get(CoreOptions.LOOKUP_MMAP_ENABLED);
+        switch (conf.get(CoreOptions.LOOKUP_LOCAL_FILE_TYPE)) {
+            case SORT:
+                RowCompactedSerializer keySerializer = new RowCompactedSerializer(keyType);
+                Comparator<InternalRow> comparator = keyComparatorSupplier.get();
+                String compression = conf.get(CoreOptions.LOOKUP_SORT_STORE_COMPRESSION);
+                return new SortLookupStoreFactory(
+                        (a, b) ->
+                                comparator.compare(
+                                        keySerializer.deserialize(a), keySerializer.deserialize(b)),
+                        cacheManager,
+                        (int) conf.get(CoreOptions.LOOKUP_SORT_STORE_BLOCK_SIZE).getBytes(),
+                        "none".equalsIgnoreCase(compression)
+                                ? null
+                                : BlockCompressionFactory.create(
+                                        compression,
+                                        conf.get(
+                                                CoreOptions
+                                                        .LOOKUP_SORT_STORE_COMPRESSION_ZSTD_LEVEL)),
+                        mmapEnabled);
+            case HASH:
+            default:
+                return new HashLookupStoreFactory(
+                        cacheManager, conf.get(CoreOptions.LOOKUP_HASH_LOAD_FACTOR), mmapEnabled);
+        }
+    }
+
+    @Nullable
+    private PersistedLookupFiles createPersistedLookupFiles() {
+        Options conf = options.toConfiguration();
+        String dir = conf.get(CoreOptions.LOOKUP_LOCAL_FILE_PERSIST_DIR);
+        if (dir == null) {
+            return null;
+        }
+
+        // everything which determines the content of a lookup file
+        StringBuilder format = new StringBuilder();
+        format.append(JsonSerdeUtil.toFlatJson(keyType))
+                .append('|')
+                .append(JsonSerdeUtil.toFlatJson(valueType))
+                .append('|')
+                .append(conf.get(CoreOptions.LOOKUP_LOCAL_FILE_TYPE));
+        switch (conf.get(CoreOptions.LOOKUP_LOCAL_FILE_TYPE)) {
+            case SORT:
+                format.append('|')
+                        .append(conf.get(CoreOptions.LOOKUP_SORT_STORE_BLOCK_SIZE).getBytes())
+                        .append('|')
+                        .append(conf.get(CoreOptions.LOOKUP_SORT_STORE_COMPRESSION))
+                        .append('|')
+                        .append(conf.get(CoreOptions.LOOKUP_SORT_STORE_COMPRESSION_ZSTD_LEVEL));
+                break;
+            case HASH:
+            default:
+                format.append('|').append(conf.get(CoreOptions.LOOKUP_HASH_LOAD_FACTOR));
+        }
+        return PersistedLookupFiles.create(
+                new File(dir),
+                conf.get(CoreOptions.LOOKUP_LOCAL_FILE_PERSIST_MAX_DISK_SIZE),
+                format.toString());
     }
 }
@@ -19,12 +19,15 @@
 package org.apache.paimon.operation;
 
 import org.apache.paimon.CoreOptions;
+import org.apache.paimon.CoreOptions.LookupLocalFileType;
 import org.apache.paimon.index.IndexMaintainer;
 import org.apache.paimon.io.cache.CacheManager;
 import org.apache.paimon.memory.HeapMemorySegmentPool;
 import org.apache.paimon.memory.MemoryOwner;
 import org.apache.paimon.memory.MemoryPoolFactory;
 import org.apache.paimon.memory.MemorySegmentPool;
+import org.apache.paimon.metrics.MetricRegistry;
+import org.apache.paimon.options.Options;
 import org.apache.paimon.utils.RecordWriter;
 import org.apache.paimon.utils.SnapshotManager;
 
@@ -38,7 +41,10 @@ import javax.annotation.Nullable;
 import java.util.Iterator;
 import java.util.Map;
 
+import static org.apache.paimon.CoreOptions.LOOKUP_CACHE_INDEX_RATIO;
 import static org.apache.paimon.CoreOptions.LOOKUP_CACHE_MAX_MEMORY_SIZE;
+import static org.apache.paimon.CoreOptions.LOOKUP_LOCAL_FILE_TYPE;
+import static org.apache.paimon.CoreOptions.LOOKUP_MMAP_ENABLED;
 
 /**
  * Base {@link FileStoreWrite} implementation which supports using shared memory and preempting
@@ -59,12 +65,27 @@ public abstract class MemoryFileStoreWrite<T> extends AbstractFileStoreWrite<T>
             FileStoreScan scan,
             CoreOptions options,
             @Nullable IndexMaintainer.Factory<T> indexFactory) {
-        super(commitUser, snapshotManager, scan, indexFactory);
+        super(
+                commitUser,
+                snapshotManager,
+                scan,
+                indexFactory,
+                options.compactionThreadNum(),
+                options.writeBulkRestore());
         this.options = options;
         this.cacheManager =
                 new CacheManager(
                         options.pageSize(),
-                        options.toConfiguration().get(LOOKUP_CACHE_MAX_MEMORY_SIZE));
+                        options.toConfiguration().get(LOOKUP_CACHE_MAX_MEMORY_SIZE),
+                        lookupCacheIndexRatio(options.toConfiguration()));
+    }
+
+    private static double lookupCacheIndexRatio(Options conf) {
+        // only hash lookup files read through the cache have index pages
+        return conf.get(LOOKUP_LOCAL_FILE_TYPE) == LookupLocalFileType.HASH
+                        && !conf.get(LOOKUP_MMAP_ENABLED)
+                ? conf.get(LOOKUP_CACHE_INDEX_RATIO)
+                : 0;
     }
 
     @Override
@@ -94,6 +115,13 @@ public abstract class MemoryFileStoreWrite<T> extends AbstractFileStoreWrite<T>
                 });
     }
 
+    @Override
+    public FileStoreWrite<T> withMetricRegistry(MetricRegistry registry) {
+        super.withMetricRegistry(registry);
+        compactionMetrics.registerLookupPageCache(cacheManager);
+        return this;
+    }
+
     @Override
     protected void notifyNewWriter(RecordWriter<T> writer) {
         if (!(writer instanceof MemoryOwner)) {
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation.metrics;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.metrics.Counter;
+import org.apache.paimon.metrics.Histogram;
+import org.apache.paimon.metrics.MetricGroup;
+import org.apache.paimon.metrics.MetricRegistry;
+import org.apache.paimon.operation.FileStoreCommit;
+
+/** Metrics of {@link FileStoreCommit}. */
+public class CommitMetrics {
+
+    public static final String GROUP_NAME = "commit";
+
+    public static final String COMMIT_DURATION = "commitDuration";
+    public static final String COMMIT_ATTEMPTS = "commitAttempts";
+    public static final String COMMIT_CONFLICTS = "commitConflicts";
+
+    private static final int HISTOGRAM_WINDOW_SIZE = 100;
+
+    private final MetricGroup metricGroup;
+    private final Histogram commitDuration;
+    private final Counter commitAttempts;
+    private final Counter commitConflicts;
+
+    public CommitMetrics(MetricRegistry registry, String tableName) {
+        this.metricGroup = registry.tableMetricGroup(GROUP_NAME, tableName);
+        this.commitDuration = metricGroup.histogram(COMMIT_DURATION, HISTOGRAM_WINDOW_SIZE);
+        this.commitAttempts = metricGroup.counter(COMMIT_ATTEMPTS);
+        this.commitConflicts = metricGroup.counter(COMMIT_CONFLICTS);
+    }
+
+    @VisibleForTesting
+    public MetricGroup getMetricGroup() {
+        return metricGroup;
+    }
+
+    /** Reports the duration of a successful commit of a snapshot, including its retries. */
+    public void reportCommitDuration(long durationMillis) {
+        commitDuration.update(durationMillis);
+    }
+
+    /** Reports an attempt to commit a snapshot, it fails if another job commits first. */
+    public void reportCommitAttempt() {
+        commitAttempts.inc();
+    }
+
+    /** Reports a conflict with files committed by other jobs, the commit is given up. */
+    public void reportCommitConflict() {
+        commitConflicts.inc();
+    }
+
+    public void close() {
+        metricGroup.close();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation.metrics;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.metrics.Gauge;
+import org.apache.paimon.metrics.Histogram;
+import org.apache.paimon.metrics.MetricGroup;
+import org.apache.paimon.metrics.MetricRegistry;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of compactions, including the lookups of {@link org.apache.paimon.mergetree.LookupLevels}
+ * during compactions.
+ *
+ * <p>NOTE: The methods are called by compaction threads concurrently.
+ */
+public class CompactionMetrics {
+
+    public static final String GROUP_NAME = "compaction";
+
+    public static final String COMPACTION_DURATION = "compactionDuration";
+    public static final String COMPACTION_QUEUE_DEPTH = "compactionQueueDepth";
+    public static final String LOOKUP_FILE_CACHE_HITS = "lookupFileCacheHits";
+    public static final String LOOKUP_FILE_CACHE_MISSES = "lookupFileCacheMisses";
+    public static final String LOOKUP_FILE_CACHE_HIT_RATE = "lookupFileCacheHitRate";
+    public static final String LOOKUP_PAGE_CACHE_HITS = "lookupPageCacheHits";
+    public static final String LOOKUP_PAGE_CACHE_MISSES = "lookupPageCacheMisses";
+    public static final String LOOKUP_PAGE_CACHE_EVICTIONS = "lookupPageCacheEvictions";
+    public static final String LOOKUP_PAGE_CACHE_HIT_RATE = "lookupPageCacheHitRate";
+
+    private static final int HISTOGRAM_WINDOW_SIZE = 100;
+
+    private final MetricGroup metricGroup;
+    private final Histogram compactionDuration;
+    private final LongAdder lookupFileCacheHits;
+    private final LongAdder lookupFileCacheMisses;
+
+    public CompactionMetrics(
+            MetricRegistry registry, String tableName, Gauge<Integer> compactionQueueDepth) {
+        this.metricGroup = registry.tableMetricGroup(GROUP_NAME, tableName);
+        this.compactionDuration = metricGroup.histogram(COMPACTION_DURATION, HISTOGRAM_WINDOW_SIZE);
+        metricGroup.gauge(COMPACTION_QUEUE_DEPTH, compactionQueueDepth);
+
+        // counters of metric systems are usually not thread safe
+        this.lookupFileCacheHits = new LongAdder();
+        this.lookupFileCacheMisses = new LongAdder();
+        metricGroup.gauge(LOOKUP_FILE_CACHE_HITS, lookupFileCacheHits::sum);
+        metricGroup.gauge(LOOKUP_FILE_CACHE_MISSES, lookupFileCacheMisses::sum);
+        metricGroup.gauge(LOOKUP_FILE_CACHE_HIT_RATE, this::lookupFileCacheHitRate);
+    }
+
+    @VisibleForTesting
+    public MetricGroup getMetricGroup() {
+        return metricGroup;
+    }
+
+    public void reportCompactionDuration(long durationMillis) {
+        compactionDuration.update(durationMillis);
+    }
+
+    /** Reports a lookup of a key in a data file, whose local lookup file is cached or not. */
+    public void reportLookupFileCache(boolean hit) {
+        if (hit) {
+            lookupFileCacheHits.increment();
+        } else {
+            lookupFileCacheMisses.increment();
+        }
+    }
+
+    /** Registers the metrics of the page cache of local lookup files. */
+    public void registerLookupPageCache(CacheManager cacheManager) {
+        metricGroup.gauge(LOOKUP_PAGE_CACHE_HITS, cacheManager::hitCount);
+        metricGroup.gauge(LOOKUP_PAGE_CACHE_MISSES, cacheManager::missCount);
+        metricGroup.gauge(LOOKUP_PAGE_CACHE_EVICTIONS, cacheManager::evictionCount);
+        metricGroup.gauge(
+                LOOKUP_PAGE_CACHE_HIT_RATE,
+                () -> {
+                    long hits = cacheManager.hitCount();
+                    long total = hits + cacheManager.missCount();
+                    return total == 0 ? 0 : (double) hits / total;
+                });
+    }
+
+    private double lookupFileCacheHitRate() {
+        long hits = lookupFileCacheHits.sum();
+        long total = hits + lookupFileCacheMisses.sum();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    public void close() {
+        metricGroup.close();
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation.metrics;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.metrics.Counter;
+import org.apache.paimon.metrics.Histogram;
+import org.apache.paimon.metrics.MetricGroup;
+import org.apache.paimon.metrics.MetricRegistry;
+import org.apache.paimon.operation.FileStoreScan;
+
+/** Metrics of {@link FileStoreScan}. */
+public class ScanMetrics {
+
+    public static final String GROUP_NAME = "scan";
+
+    public static final String SCAN_DURATION = "scanDuration";
+    public static final String SCANNED_MANIFESTS = "scannedManifests";
+    public static final String SKIPPED_MANIFESTS = "skippedManifests";
+
+    private static final int HISTOGRAM_WINDOW_SIZE = 100;
+
+    private final MetricGroup metricGroup;
+    private final Histogram scanDuration;
+    private final Counter scannedManifests;
+    private final Counter skippedManifests;
+
+    public ScanMetrics(MetricRegistry registry, String tableName) {
+        this.metricGroup = registry.tableMetricGroup(GROUP_NAME, tableName);
+        this.scanDuration = metricGroup.histogram(SCAN_DURATION, HISTOGRAM_WINDOW_SIZE);
+        this.scannedManifests = metricGroup.counter(SCANNED_MANIFESTS);
+        this.skippedManifests = metricGroup.counter(SKIPPED_MANIFESTS);
+    }
+
+    @VisibleForTesting
+    public MetricGroup getMetricGroup() {
+        return metricGroup;
+    }
+
+    /**
+     * Reports a planning, manifests are skipped if they are filtered out by their statistics
+     * without being read.
+     */
+    public void reportScan(long durationMillis, long scannedManifests, long skippedManifests) {
+        this.scanDuration.update(durationMillis);
+        this.scannedManifests.inc(scannedManifests);
+        this.skippedManifests.inc(skippedManifests);
+    }
+
+    public void close() {
+        metricGroup.close();
+    }
+}
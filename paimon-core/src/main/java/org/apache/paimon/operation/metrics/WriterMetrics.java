@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation.metrics;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.mergetree.MergeTreeWriter;
+import org.apache.paimon.metrics.Histogram;
+import org.apache.paimon.metrics.MetricGroup;
+import org.apache.paimon.metrics.MetricRegistry;
+
+/** Metrics of the writers, for example {@link MergeTreeWriter}. */
+public class WriterMetrics {
+
+    public static final String GROUP_NAME = "writer";
+
+    public static final String FLUSH_DURATION = "flushDuration";
+    public static final String FLUSHED_BUFFER_SIZE = "flushedBufferSize";
+
+    private static final int HISTOGRAM_WINDOW_SIZE = 100;
+
+    private final MetricGroup metricGroup;
+    private final Histogram flushDuration;
+    private final Histogram flushedBufferSize;
+
+    public WriterMetrics(MetricRegistry registry, String tableName) {
+        this.metricGroup = registry.tableMetricGroup(GROUP_NAME, tableName);
+        this.flushDuration = metricGroup.histogram(FLUSH_DURATION, HISTOGRAM_WINDOW_SIZE);
+        this.flushedBufferSize = metricGroup.histogram(FLUSHED_BUFFER_SIZE, HISTOGRAM_WINDOW_SIZE);
+    }
+
+    @VisibleForTesting
+    public MetricGroup getMetricGroup() {
+        return metricGroup;
+    }
+
+    /** Reports a flush of the write buffer, the buffer size shows how full the buffer was. */
+    public void reportFlush(long durationMillis, long bufferSize) {
+        flushDuration.update(durationMillis);
+        flushedBufferSize.update(bufferSize);
+    }
+
+    public void close() {
+        metricGroup.close();
+    }
+}
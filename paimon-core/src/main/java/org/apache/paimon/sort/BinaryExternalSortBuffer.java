@@ -61,12 +61,30 @@ public class BinaryExternalSortBuffer implements SortBuffer {
             BinaryInMemorySortBuffer inMemorySortBuffer,
             IOManager ioManager,
             int maxNumFileHandles) {
+        this(
+                serializer,
+                comparator,
+                pageSize,
+                inMemorySortBuffer,
+                ioManager,
+                maxNumFileHandles,
+                new Lz4BlockCompressionFactory());
+    }
+
+    public BinaryExternalSortBuffer(
+            BinaryRowSerializer serializer,
+            RecordComparator comparator,
+            int pageSize,
+            BinaryInMemorySortBuffer inMemorySortBuffer,
+            IOManager ioManager,
+            int maxNumFileHandles,
+            BlockCompressionFactory compressionCodecFactory) {
         this.serializer = serializer;
         this.inMemorySortBuffer = inMemorySortBuffer;
         this.ioManager = ioManager;
         this.channelManager = new SpillChannelManager();
         this.maxNumFileHandles = maxNumFileHandles;
-        this.compressionCodecFactory = new Lz4BlockCompressionFactory();
+        this.compressionCodecFactory = compressionCodecFactory;
         this.compressionBlockSize = (int) MemorySize.parse("64 kb").getBytes();
         this.merger =
                 new BinaryExternalMerger(
@@ -189,8 +207,7 @@ public class BinaryExternalSortBuffer implements SortBuffer {
             output =
                     FileChannelUtil.createOutputView(
                             ioManager, channel, compressionCodecFactory, compressionBlockSize);
-            new QuickSort().sort(inMemorySortBuffer);
-            inMemorySortBuffer.writeToOutput(output);
+            inMemorySortBuffer.sortAndWriteToOutput(output);
             bytesInLastBuffer = output.close();
             blockCount = output.getBlockCount();
         } catch (IOException e) {
@@ -18,10 +18,14 @@
 
 package org.apache.paimon.sort;
 
+import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.codegen.NormalizedKeyComputer;
 import org.apache.paimon.codegen.RecordComparator;
+import org.apache.paimon.compression.BlockCompressionFactory;
+import org.apache.paimon.data.AbstractPagedOutputView;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.RandomAccessInputView;
 import org.apache.paimon.data.SimpleCollectingOutputView;
 import org.apache.paimon.data.serializer.AbstractRowDataSerializer;
 import org.apache.paimon.data.serializer.BinaryRowSerializer;
@@ -29,9 +33,14 @@ import org.apache.paimon.memory.MemorySegment;
 import org.apache.paimon.memory.MemorySegmentPool;
 import org.apache.paimon.utils.MutableObjectIterator;
 
+import javax.annotation.Nullable;
+
 import java.io.EOFException;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import static org.apache.paimon.utils.Preconditions.checkArgument;
 
@@ -42,14 +51,31 @@ import static org.apache.paimon.utils.Preconditions.checkArgument;
  *   <li>{@link #clear}: Clean all memory.
  *   <li>{@link #tryInitialize}: initialize memory before write and read in buffer.
  * </ul>
+ *
+ * <p>If sort parallelism is greater than 1, large buffers are split into ranges which are sorted
+ * concurrently, and the sorted ranges are merged by a {@link BinaryMergeIterator}. If the
+ * normalized key fully determines the order, e.g. for keys of fixed-width types, records are sorted
+ * by {@link RadixSort} instead of {@link QuickSort}.
+ *
+ * <p>If a compression factory is given, large records are compressed one by one in the record area,
+ * while the index of pointers and normalized keys stays raw. More records fit into the same memory,
+ * at the cost of decompressing records when they are compared or read.
  */
 public class BinaryInMemorySortBuffer extends BinaryIndexedSortable implements SortBuffer {
 
     private static final int MIN_REQUIRED_BUFFERS = 3;
 
+    // ranges smaller than this are not worth to be sorted in another thread
+    @VisibleForTesting static final int MIN_RECORDS_PER_SORT_RANGE = 8192;
+
+    // quick sort is faster for a few records
+    private static final int MIN_RADIX_SORT_RECORDS = 256;
+
     private final AbstractRowDataSerializer<InternalRow> inputSerializer;
-    private final ArrayList<MemorySegment> recordBufferSegments;
     private final SimpleCollectingOutputView recordCollector;
+    @Nullable private final RecordCompression.Writer recordWriter;
+    private final int sortParallelism;
+    private final boolean useRadixSort;
 
     private long currentDataBufferOffset;
     private long sortIndexBytes;
@@ -61,7 +87,33 @@ public class BinaryInMemorySortBuffer extends BinaryIndexedSortable implements S
             AbstractRowDataSerializer<InternalRow> serializer,
             RecordComparator comparator,
             MemorySegmentPool memoryPool) {
+        return createBuffer(normalizedKeyComputer, serializer, comparator, memoryPool, 1);
+    }
+
+    /** Create a memory sorter in `insert` way, sorting with the given parallelism. */
+    public static BinaryInMemorySortBuffer createBuffer(
+            NormalizedKeyComputer normalizedKeyComputer,
+            AbstractRowDataSerializer<InternalRow> serializer,
+            RecordComparator comparator,
+            MemorySegmentPool memoryPool,
+            int sortParallelism) {
+        return createBuffer(
+                normalizedKeyComputer, serializer, comparator, memoryPool, sortParallelism, null);
+    }
+
+    /**
+     * Create a memory sorter in `insert` way, sorting with the given parallelism and compressing
+     * records with the given compression factory if it is not null.
+     */
+    public static BinaryInMemorySortBuffer createBuffer(
+            NormalizedKeyComputer normalizedKeyComputer,
+            AbstractRowDataSerializer<InternalRow> serializer,
+            RecordComparator comparator,
+            MemorySegmentPool memoryPool,
+            int sortParallelism,
+            @Nullable BlockCompressionFactory recordCompressionFactory) {
         checkArgument(memoryPool.freePages() >= MIN_REQUIRED_BUFFERS);
+        checkArgument(sortParallelism > 0, "Sort parallelism must be positive.");
         ArrayList<MemorySegment> recordBufferSegments = new ArrayList<>(16);
         return new BinaryInMemorySortBuffer(
                 normalizedKeyComputer,
@@ -70,7 +122,9 @@ public class BinaryInMemorySortBuffer extends BinaryIndexedSortable implements S
                 recordBufferSegments,
                 new SimpleCollectingOutputView(
                         recordBufferSegments, memoryPool, memoryPool.pageSize()),
-                memoryPool);
+                memoryPool,
+                sortParallelism,
+                recordCompressionFactory);
     }
 
     private BinaryInMemorySortBuffer(
@@ -79,16 +133,21 @@ public class BinaryInMemorySortBuffer extends BinaryIndexedSortable implements S
             RecordComparator comparator,
             ArrayList<MemorySegment> recordBufferSegments,
             SimpleCollectingOutputView recordCollector,
-            MemorySegmentPool pool) {
+            MemorySegmentPool pool,
+            int sortParallelism,
+            @Nullable BlockCompressionFactory recordCompressionFactory) {
         super(
                 normalizedKeyComputer,
                 new BinaryRowSerializer(inputSerializer.getArity()),
                 comparator,
                 recordBufferSegments,
-                pool);
+                pool,
+                recordCompressionFactory);
         this.inputSerializer = inputSerializer;
-        this.recordBufferSegments = recordBufferSegments;
         this.recordCollector = recordCollector;
+        this.recordWriter = recordCompression == null ? null : recordCompression.newWriter();
+        this.sortParallelism = sortParallelism;
+        this.useRadixSort = RadixSort.isSupported(this);
         // The memory will be initialized in super()
         this.isInitialized = true;
         this.clear();
@@ -171,9 +230,13 @@ public class BinaryInMemorySortBuffer extends BinaryIndexedSortable implements S
         }
 
         // serialize the record into the data buffers
-        int skip;
+        int skip = 0;
         try {
-            skip = this.inputSerializer.serializeToPages(record, this.recordCollector);
+            if (recordWriter == null) {
+                skip = this.inputSerializer.serializeToPages(record, this.recordCollector);
+            } else {
+                recordWriter.write(inputSerializer.toBinaryRow(record), this.recordCollector);
+            }
         } catch (EOFException e) {
             return false;
         }
@@ -188,15 +251,19 @@ public class BinaryInMemorySortBuffer extends BinaryIndexedSortable implements S
         return true;
     }
 
-    private BinaryRow getRecordFromBuffer(BinaryRow reuse, long pointer) throws IOException {
+    private BinaryRow getRecordFromBuffer(
+            BinaryRow reuse, long pointer, @Nullable RecordCompression.Reader reader)
+            throws IOException {
         this.recordBuffer.setReadPosition(pointer);
-        return this.serializer.mapFromPages(reuse, this.recordBuffer);
+        return readRecord(reuse, this.recordBuffer, this.serializer, reader);
     }
 
     // -------------------------------------------------------------------------
 
     /**
-     * Gets an iterator over all records in this buffer in their logical order.
+     * Gets an iterator over all records in this buffer in their logical order. Compressed records
+     * are read by two readers alternately, so the previously returned record is still valid after
+     * the next one is read.
      *
      * @return An iterator returning the records in their logical order.
      */
@@ -212,6 +279,9 @@ public class BinaryInMemorySortBuffer extends BinaryIndexedSortable implements S
 
             private MemorySegment currentIndexSegment = sortIndex.get(0);
 
+            private final RecordCompression.Reader[] readers =
+                    new RecordCompression.Reader[] {newRecordReader(), newRecordReader()};
+
             @Override
             public BinaryRow next(BinaryRow target) {
                 if (this.current < this.size) {
@@ -225,7 +295,7 @@ public class BinaryInMemorySortBuffer extends BinaryIndexedSortable implements S
                     this.currentOffset += indexEntrySize;
 
                     try {
-                        return getRecordFromBuffer(target, pointer);
+                        return getRecordFromBuffer(target, pointer, readers[current & 1]);
                     } catch (IOException ioe) {
                         throw new RuntimeException(ioe);
                     }
@@ -241,9 +311,122 @@ public class BinaryInMemorySortBuffer extends BinaryIndexedSortable implements S
         };
     }
 
+    /**
+     * Gets an iterator over the records of index range [start, end) with its own read view. The
+     * reused row is ignored, two rows are used alternately instead, so the previously returned row
+     * of the range is still valid after the next one is read.
+     */
+    private MutableObjectIterator<BinaryRow> rangeIterator(int start, int end) {
+        RandomAccessInputView view =
+                new RandomAccessInputView(recordBufferSegments, memorySegmentPool.pageSize());
+        BinaryRowSerializer rangeSerializer = serializer.duplicate();
+        BinaryRow[] rows =
+                new BinaryRow[] {
+                    rangeSerializer.createInstance(), rangeSerializer.createInstance()
+                };
+        RecordCompression.Reader[] readers =
+                new RecordCompression.Reader[] {newRecordReader(), newRecordReader()};
+
+        return new MutableObjectIterator<BinaryRow>() {
+            private int current = start;
+
+            @Override
+            public BinaryRow next(BinaryRow reuse) throws IOException {
+                return next();
+            }
+
+            @Override
+            public BinaryRow next() throws IOException {
+                if (current >= end) {
+                    return null;
+                }
+
+                MemorySegment segment = sortIndex.get(current / indexEntriesPerSegment);
+                long pointer = segment.getLong((current % indexEntriesPerSegment) * indexEntrySize);
+                view.setReadPosition(pointer);
+                BinaryRow row = rows[current & 1];
+                RecordCompression.Reader reader = readers[current & 1];
+                current++;
+                return readRecord(row, view, rangeSerializer, reader);
+            }
+        };
+    }
+
+    private int numSortRanges() {
+        return Math.max(1, Math.min(sortParallelism, numRecords / MIN_RECORDS_PER_SORT_RANGE));
+    }
+
+    /**
+     * Sorts the index ranges concurrently and returns an iterator merging them, the index is not
+     * totally sorted afterwards.
+     */
+    private MutableObjectIterator<BinaryRow> parallelSortedIterator(int numRanges)
+            throws IOException {
+        int rangeSize = (numRecords + numRanges - 1) / numRanges;
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(numRanges - 1);
+        for (int i = 1; i < numRanges; i++) {
+            int start = i * rangeSize;
+            int end = Math.min(numRecords, start + rangeSize);
+            IndexedSortable sortable = duplicateForSort();
+            tasks.add(SortPool.POOL.submit(() -> sort(sortable, start, end)));
+        }
+        // sort the first range in the current thread
+        sort(this, 0, rangeSize);
+        for (ForkJoinTask<?> task : tasks) {
+            task.join();
+        }
+
+        List<MutableObjectIterator<BinaryRow>> iterators = new ArrayList<>(numRanges);
+        List<BinaryRow> reusableEntries = new ArrayList<>(numRanges);
+        for (int i = 0; i < numRanges; i++) {
+            iterators.add(rangeIterator(i * rangeSize, Math.min(numRecords, (i + 1) * rangeSize)));
+            reusableEntries.add(serializer.createInstance());
+        }
+        return new BinaryMergeIterator<>(iterators, reusableEntries, comparator::compare);
+    }
+
     @Override
-    public final MutableObjectIterator<BinaryRow> sortedIterator() {
-        new QuickSort().sort(this);
+    public final MutableObjectIterator<BinaryRow> sortedIterator() throws IOException {
+        int numRanges = numSortRanges();
+        if (numRanges > 1) {
+            return parallelSortedIterator(numRanges);
+        }
+
+        sort(this, 0, numRecords);
         return iterator();
     }
+
+    /** Spill: Sort and write all records to a {@link AbstractPagedOutputView}. */
+    public void sortAndWriteToOutput(AbstractPagedOutputView output) throws IOException {
+        int numRanges = numSortRanges();
+        if (numRanges == 1) {
+            sort(this, 0, numRecords);
+            writeToOutput(output);
+            return;
+        }
+
+        MutableObjectIterator<BinaryRow> iterator = parallelSortedIterator(numRanges);
+        BinaryRow row;
+        while ((row = iterator.next()) != null) {
+            serializer.serialize(row, output);
+        }
+    }
+
+    /**
+     * Sort the index range with the given sortable, which must share the index with this buffer. If
+     * the normalized key fully determines the order, radix sort is used.
+     */
+    private void sort(IndexedSortable sortable, int start, int end) {
+        if (useRadixSort && end - start >= MIN_RADIX_SORT_RECORDS) {
+            RadixSort.sort(this, start, end);
+        } else {
+            new QuickSort().sort(sortable, start, end);
+        }
+    }
+
+    /** Lazily created pool shared by all buffers to sort ranges. */
+    private static class SortPool {
+        private static final ForkJoinPool POOL =
+                new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
 }
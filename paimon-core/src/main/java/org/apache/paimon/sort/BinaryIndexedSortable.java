@@ -20,6 +20,7 @@ package org.apache.paimon.sort;
 
 import org.apache.paimon.codegen.NormalizedKeyComputer;
 import org.apache.paimon.codegen.RecordComparator;
+import org.apache.paimon.compression.BlockCompressionFactory;
 import org.apache.paimon.data.AbstractPagedOutputView;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.InternalRow;
@@ -28,6 +29,8 @@ import org.apache.paimon.data.serializer.BinaryRowSerializer;
 import org.apache.paimon.memory.MemorySegment;
 import org.apache.paimon.memory.MemorySegmentPool;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.util.ArrayList;
 
@@ -43,10 +46,14 @@ public abstract class BinaryIndexedSortable implements IndexedSortable {
     protected final BinaryRowSerializer serializer;
 
     // if normalized key not fully determines, need compare record.
-    private final RecordComparator comparator;
+    protected final RecordComparator comparator;
 
+    protected final ArrayList<MemorySegment> recordBufferSegments;
     protected final RandomAccessInputView recordBuffer;
-    private final RandomAccessInputView recordBufferForComparison;
+
+    // compression of the records, null if records are stored raw
+    @Nullable protected final RecordCompression recordCompression;
+    @Nullable private final RecordCompression.Reader recordReader;
 
     // segments
     protected MemorySegment currentSortIndexSegment;
@@ -56,16 +63,13 @@ public abstract class BinaryIndexedSortable implements IndexedSortable {
     // normalized key attributes
     private final int numKeyBytes;
     protected final int indexEntrySize;
-    private final int indexEntriesPerSegment;
+    protected final int indexEntriesPerSegment;
     protected final int lastIndexEntryOffset;
     private final boolean normalizedKeyFullyDetermines;
     private final boolean useNormKeyUninverted;
 
     // for serialized comparison
-    protected final BinaryRowSerializer serializer1;
-    private final BinaryRowSerializer serializer2;
-    protected final BinaryRow row1;
-    private final BinaryRow row2;
+    private final RecordComparison recordComparison;
 
     // runtime variables
     protected int currentSortIndexOffset;
@@ -77,6 +81,22 @@ public abstract class BinaryIndexedSortable implements IndexedSortable {
             RecordComparator comparator,
             ArrayList<MemorySegment> recordBufferSegments,
             MemorySegmentPool memorySegmentPool) {
+        this(
+                normalizedKeyComputer,
+                serializer,
+                comparator,
+                recordBufferSegments,
+                memorySegmentPool,
+                null);
+    }
+
+    public BinaryIndexedSortable(
+            NormalizedKeyComputer normalizedKeyComputer,
+            BinaryRowSerializer serializer,
+            RecordComparator comparator,
+            ArrayList<MemorySegment> recordBufferSegments,
+            MemorySegmentPool memorySegmentPool,
+            @Nullable BlockCompressionFactory recordCompressionFactory) {
         if (normalizedKeyComputer == null || serializer == null) {
             throw new NullPointerException();
         }
@@ -89,9 +109,13 @@ public abstract class BinaryIndexedSortable implements IndexedSortable {
         this.numKeyBytes = normalizedKeyComputer.getNumKeyBytes();
 
         int segmentSize = memorySegmentPool.pageSize();
+        this.recordBufferSegments = recordBufferSegments;
         this.recordBuffer = new RandomAccessInputView(recordBufferSegments, segmentSize);
-        this.recordBufferForComparison =
-                new RandomAccessInputView(recordBufferSegments, segmentSize);
+        this.recordCompression =
+                recordCompressionFactory == null
+                        ? null
+                        : new RecordCompression(recordCompressionFactory);
+        this.recordReader = newRecordReader();
 
         this.normalizedKeyFullyDetermines = normalizedKeyComputer.isKeyFullyDetermines();
 
@@ -100,10 +124,7 @@ public abstract class BinaryIndexedSortable implements IndexedSortable {
         this.indexEntriesPerSegment = segmentSize / this.indexEntrySize;
         this.lastIndexEntryOffset = (this.indexEntriesPerSegment - 1) * this.indexEntrySize;
 
-        this.serializer1 = serializer.duplicate();
-        this.serializer2 = serializer.duplicate();
-        this.row1 = this.serializer1.createInstance();
-        this.row2 = this.serializer2.createInstance();
+        this.recordComparison = new RecordComparison();
 
         // set to initial state
         this.sortIndex = new ArrayList<>(16);
@@ -158,6 +179,16 @@ public abstract class BinaryIndexedSortable implements IndexedSortable {
     @Override
     public int compare(
             int segmentNumberI, int segmentOffsetI, int segmentNumberJ, int segmentOffsetJ) {
+        return compare(
+                segmentNumberI, segmentOffsetI, segmentNumberJ, segmentOffsetJ, recordComparison);
+    }
+
+    private int compare(
+            int segmentNumberI,
+            int segmentOffsetI,
+            int segmentNumberJ,
+            int segmentOffsetJ,
+            RecordComparison recordComparison) {
         final MemorySegment segI = this.sortIndex.get(segmentNumberI);
         final MemorySegment segJ = this.sortIndex.get(segmentNumberJ);
 
@@ -172,20 +203,7 @@ public abstract class BinaryIndexedSortable implements IndexedSortable {
         final long pointerI = segI.getLong(segmentOffsetI);
         final long pointerJ = segJ.getLong(segmentOffsetJ);
 
-        return compareRecords(pointerI, pointerJ);
-    }
-
-    private int compareRecords(long pointer1, long pointer2) {
-        this.recordBuffer.setReadPosition(pointer1);
-        this.recordBufferForComparison.setReadPosition(pointer2);
-
-        try {
-            return this.comparator.compare(
-                    serializer1.mapFromPages(row1, recordBuffer),
-                    serializer2.mapFromPages(row2, recordBufferForComparison));
-        } catch (IOException ioex) {
-            throw new RuntimeException("Error comparing two records.", ioex);
-        }
+        return recordComparison.compare(pointerI, pointerJ);
     }
 
     @Override
@@ -220,6 +238,18 @@ public abstract class BinaryIndexedSortable implements IndexedSortable {
         return this.numRecords;
     }
 
+    int numKeyBytes() {
+        return numKeyBytes;
+    }
+
+    boolean isNormalizedKeyFullyDetermines() {
+        return normalizedKeyFullyDetermines;
+    }
+
+    boolean isNormalizedKeyInverted() {
+        return !useNormKeyUninverted;
+    }
+
     @Override
     public int recordSize() {
         return indexEntrySize;
@@ -230,11 +260,21 @@ public abstract class BinaryIndexedSortable implements IndexedSortable {
         return indexEntriesPerSegment;
     }
 
+    /**
+     * Creates an {@link IndexedSortable} on the same index and records, but with its own state for
+     * comparing records. Disjoint ranges of the index can be sorted concurrently with different
+     * duplicates.
+     */
+    protected IndexedSortable duplicateForSort() {
+        return new DuplicatedSortable();
+    }
+
     /** Spill: Write all records to a {@link AbstractPagedOutputView}. */
     public void writeToOutput(AbstractPagedOutputView output) throws IOException {
         final int numRecords = this.numRecords;
         int currentMemSeg = 0;
         int currentRecord = 0;
+        BinaryRow row = recordReader == null ? null : serializer.createInstance();
 
         while (currentRecord < numRecords) {
             final MemorySegment currentIndexSegment = this.sortIndex.get(currentMemSeg++);
@@ -245,8 +285,122 @@ public abstract class BinaryIndexedSortable implements IndexedSortable {
                     currentRecord++, offset += this.indexEntrySize) {
                 final long pointer = currentIndexSegment.getLong(offset);
                 this.recordBuffer.setReadPosition(pointer);
-                this.serializer.copyFromPagesToView(this.recordBuffer, output);
+                if (recordReader == null) {
+                    this.serializer.copyFromPagesToView(this.recordBuffer, output);
+                } else {
+                    this.serializer.serialize(recordReader.read(row, this.recordBuffer), output);
+                }
+            }
+        }
+    }
+
+    /** Creates a reader of compressed records, or null if records are stored raw. */
+    @Nullable
+    protected final RecordCompression.Reader newRecordReader() {
+        return recordCompression == null ? null : recordCompression.newReader();
+    }
+
+    /**
+     * Reads the record at the read position of the view. A compressed record is decompressed into
+     * the memory of the reader, so it is only valid until the next read of the reader.
+     */
+    protected static BinaryRow readRecord(
+            BinaryRow reuse,
+            RandomAccessInputView view,
+            BinaryRowSerializer serializer,
+            @Nullable RecordCompression.Reader reader)
+            throws IOException {
+        return reader == null ? serializer.mapFromPages(reuse, view) : reader.read(reuse, view);
+    }
+
+    /** Compares two records by their pointers, holds the reused views and rows. */
+    private class RecordComparison {
+
+        private final RandomAccessInputView buffer1;
+        private final RandomAccessInputView buffer2;
+        private final BinaryRowSerializer serializer1;
+        private final BinaryRowSerializer serializer2;
+        private final BinaryRow row1;
+        private final BinaryRow row2;
+        @Nullable private final RecordCompression.Reader reader1;
+        @Nullable private final RecordCompression.Reader reader2;
+
+        private RecordComparison() {
+            int segmentSize = memorySegmentPool.pageSize();
+            this.buffer1 = new RandomAccessInputView(recordBufferSegments, segmentSize);
+            this.buffer2 = new RandomAccessInputView(recordBufferSegments, segmentSize);
+            this.serializer1 = serializer.duplicate();
+            this.serializer2 = serializer.duplicate();
+            this.row1 = serializer1.createInstance();
+            this.row2 = serializer2.createInstance();
+            this.reader1 = newRecordReader();
+            this.reader2 = newRecordReader();
+        }
+
+        private int compare(long pointer1, long pointer2) {
+            buffer1.setReadPosition(pointer1);
+            buffer2.setReadPosition(pointer2);
+
+            try {
+                return comparator.compare(
+                        readRecord(row1, buffer1, serializer1, reader1),
+                        readRecord(row2, buffer2, serializer2, reader2));
+            } catch (IOException ioex) {
+                throw new RuntimeException("Error comparing two records.", ioex);
             }
         }
     }
+
+    /** A {@link IndexedSortable} sharing the index with the outer sortable. */
+    private class DuplicatedSortable implements IndexedSortable {
+
+        private final RecordComparison recordComparison = new RecordComparison();
+
+        @Override
+        public int compare(int i, int j) {
+            return compare(
+                    i / indexEntriesPerSegment,
+                    (i % indexEntriesPerSegment) * indexEntrySize,
+                    j / indexEntriesPerSegment,
+                    (j % indexEntriesPerSegment) * indexEntrySize);
+        }
+
+        @Override
+        public int compare(
+                int segmentNumberI, int segmentOffsetI, int segmentNumberJ, int segmentOffsetJ) {
+            return BinaryIndexedSortable.this.compare(
+                    segmentNumberI,
+                    segmentOffsetI,
+                    segmentNumberJ,
+                    segmentOffsetJ,
+                    recordComparison);
+        }
+
+        @Override
+        public void swap(int i, int j) {
+            BinaryIndexedSortable.this.swap(i, j);
+        }
+
+        @Override
+        public void swap(
+                int segmentNumberI, int segmentOffsetI, int segmentNumberJ, int segmentOffsetJ) {
+            BinaryIndexedSortable.this.swap(
+                    segmentNumberI, segmentOffsetI, segmentNumberJ, segmentOffsetJ);
+        }
+
+        @Override
+        public int size() {
+            return BinaryIndexedSortable.this.size();
+        }
+
+        @Override
+        public int recordSize() {
+            return BinaryIndexedSortable.this.recordSize();
+        }
+
+        @Override
+        public int recordsPerSegment() {
+            return BinaryIndexedSortable.this.recordsPerSegment();
+        }
+    }
 }
@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.sort;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.memory.MemorySegment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.paimon.sort.BinaryIndexedSortable.OFFSET_LEN;
+
+/**
+ * LSD radix sort for a {@link BinaryIndexedSortable} whose normalized key fully determines the
+ * order, the records are sorted by the bytes of their normalized keys without any comparison.
+ *
+ * <p>The records of the range are sorted by a permutation, which is computed with one counting pass
+ * per key byte, starting from the least significant one. Bytes which are equal for all records are
+ * skipped. The index entries are then moved into their positions by following the cycles of the
+ * permutation.
+ */
+public class RadixSort {
+
+    private static final int NUM_DIGITS = 256;
+
+    // the chunk sizes in which the generated normalized key computer compares the key bytes
+    private static final int[] CHUNK_SIZES = {8, 4, 2, 1};
+
+    private RadixSort() {}
+
+    /** Whether the records of the sortable can be sorted by {@link #sort}. */
+    public static boolean isSupported(BinaryIndexedSortable sortable) {
+        return sortable.isNormalizedKeyFullyDetermines() && sortable.numKeyBytes() > 0;
+    }
+
+    /** Sort the records of index range [start, end). */
+    public static void sort(BinaryIndexedSortable sortable, int start, int end) {
+        int size = end - start;
+        if (size < 2) {
+            return;
+        }
+
+        int[] keyByteOffsets = keyByteOffsets(sortable.numKeyBytes());
+        boolean inverted = sortable.isNormalizedKeyInverted();
+        int[][] counts = countDigits(sortable, start, end, keyByteOffsets, inverted);
+
+        int[] permutation = new int[size];
+        for (int i = 0; i < size; i++) {
+            permutation[i] = start + i;
+        }
+        int[] buffer = new int[size];
+        int[] offsets = new int[NUM_DIGITS];
+        for (int i = 0; i < keyByteOffsets.length; i++) {
+            int[] digitCounts = counts[i];
+            if (isSingleDigit(digitCounts, size)) {
+                continue;
+            }
+
+            int offset = 0;
+            for (int digit = 0; digit < NUM_DIGITS; digit++) {
+                offsets[digit] = offset;
+                offset += digitCounts[digit];
+            }
+            for (int index : permutation) {
+                buffer[offsets[digit(sortable, index, keyByteOffsets[i], inverted)]++] = index;
+            }
+
+            int[] tmp = permutation;
+            permutation = buffer;
+            buffer = tmp;
+        }
+
+        permute(sortable, start, permutation);
+    }
+
+    /**
+     * Offsets of the normalized key bytes in the order of their significance, least significant
+     * first. The generated key computer reverses each chunk on little endian machines, so that the
+     * chunks can be compared as unsigned numbers in native byte order.
+     */
+    static int[] keyByteOffsets(int numKeyBytes) {
+        List<int[]> chunks = new ArrayList<>();
+        int chunkOffset = 0;
+        int remaining = numKeyBytes;
+        for (int chunkSize : CHUNK_SIZES) {
+            while (remaining >= chunkSize) {
+                chunks.add(new int[] {chunkOffset, chunkSize});
+                chunkOffset += chunkSize;
+                remaining -= chunkSize;
+            }
+        }
+
+        int[] offsets = new int[numKeyBytes];
+        int i = 0;
+        for (int c = chunks.size() - 1; c >= 0; c--) {
+            int offset = chunks.get(c)[0];
+            int chunkSize = chunks.get(c)[1];
+            for (int b = 0; b < chunkSize; b++) {
+                offsets[i++] = BinaryRow.LITTLE_ENDIAN ? offset + b : offset + chunkSize - 1 - b;
+            }
+        }
+        return offsets;
+    }
+
+    private static int[][] countDigits(
+            BinaryIndexedSortable sortable,
+            int start,
+            int end,
+            int[] keyByteOffsets,
+            boolean inverted) {
+        int[][] counts = new int[keyByteOffsets.length][NUM_DIGITS];
+        int entriesPerSegment = sortable.indexEntriesPerSegment;
+        int entrySize = sortable.indexEntrySize;
+        int index = start;
+        while (index < end) {
+            MemorySegment segment = sortable.sortIndex.get(index / entriesPerSegment);
+            int entryOffset = (index % entriesPerSegment) * entrySize + OFFSET_LEN;
+            int segmentEnd = Math.min(end, (index / entriesPerSegment + 1) * entriesPerSegment);
+            for (; index < segmentEnd; index++, entryOffset += entrySize) {
+                for (int i = 0; i < keyByteOffsets.length; i++) {
+                    int digit = segment.get(entryOffset + keyByteOffsets[i]) & 0xFF;
+                    counts[i][inverted ? NUM_DIGITS - 1 - digit : digit]++;
+                }
+            }
+        }
+        return counts;
+    }
+
+    private static boolean isSingleDigit(int[] digitCounts, int size) {
+        for (int count : digitCounts) {
+            if (count != 0) {
+                return count == size;
+            }
+        }
+        return true;
+    }
+
+    private static int digit(
+            BinaryIndexedSortable sortable, int index, int keyByteOffset, boolean inverted) {
+        int digit =
+                segmentOf(sortable, index)
+                                .get(offsetOf(sortable, index) + OFFSET_LEN + keyByteOffset)
+                        & 0xFF;
+        return inverted ? NUM_DIGITS - 1 - digit : digit;
+    }
+
+    /**
+     * Moves the entries into their sorted positions, the entry at index start + i is taken from
+     * index permutation[i].
+     */
+    private static void permute(BinaryIndexedSortable sortable, int start, int[] permutation) {
+        int entrySize = sortable.indexEntrySize;
+        MemorySegment tmp = MemorySegment.allocateHeapMemory(entrySize);
+        for (int i = 0; i < permutation.length; i++) {
+            if (permutation[i] < 0 || permutation[i] == start + i) {
+                continue;
+            }
+
+            // rotate the cycle starting from i
+            int first = start + i;
+            segmentOf(sortable, first).copyTo(offsetOf(sortable, first), tmp, 0, entrySize);
+            int target = first;
+            while (true) {
+                int source = permutation[target - start];
+                permutation[target - start] = -1;
+                if (source == first) {
+                    tmp.copyTo(
+                            0, segmentOf(sortable, target), offsetOf(sortable, target), entrySize);
+                    break;
+                }
+                segmentOf(sortable, source)
+                        .copyTo(
+                                offsetOf(sortable, source),
+                                segmentOf(sortable, target),
+                                offsetOf(sortable, target),
+                                entrySize);
+                target = source;
+            }
+        }
+    }
+
+    private static MemorySegment segmentOf(BinaryIndexedSortable sortable, int index) {
+        return sortable.sortIndex.get(index / sortable.indexEntriesPerSegment);
+    }
+
+    private static int offsetOf(BinaryIndexedSortable sortable, int index) {
+        return (index % sortable.indexEntriesPerSegment) * sortable.indexEntrySize;
+    }
+}
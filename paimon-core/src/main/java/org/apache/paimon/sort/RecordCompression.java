@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.sort;
+
+import org.apache.paimon.compression.BlockCompressionFactory;
+import org.apache.paimon.compression.BlockCompressor;
+import org.apache.paimon.compression.BlockDecompressor;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.io.DataInputView;
+import org.apache.paimon.io.DataOutputView;
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.memory.MemorySegmentUtils;
+
+import java.io.IOException;
+
+/**
+ * Compression of the records in the record area of a sort buffer. Records are compressed one by one
+ * instead of page by page, so that they can still be read randomly by their pointers while sorting.
+ *
+ * <p>A record is stored as its length followed by its bytes. Records smaller than {@link
+ * #MIN_COMPRESS_SIZE} or not compressible are stored raw, otherwise the length is negative and
+ * followed by the raw length and the compressed bytes.
+ */
+final class RecordCompression {
+
+    // small records are hardly compressible
+    static final int MIN_COMPRESS_SIZE = 128;
+
+    private final BlockCompressionFactory compressionFactory;
+
+    RecordCompression(BlockCompressionFactory compressionFactory) {
+        this.compressionFactory = compressionFactory;
+    }
+
+    Writer newWriter() {
+        return new Writer(compressionFactory.getCompressor());
+    }
+
+    Reader newReader() {
+        return new Reader(compressionFactory.getDecompressor());
+    }
+
+    /** Writer of records, not thread safe. */
+    static final class Writer {
+
+        private final BlockCompressor compressor;
+
+        private byte[] rawBytes = new byte[0];
+        private byte[] compressedBytes = new byte[0];
+
+        private Writer(BlockCompressor compressor) {
+            this.compressor = compressor;
+        }
+
+        void write(BinaryRow row, DataOutputView out) throws IOException {
+            int rawLength = row.getSizeInBytes();
+            if (rawLength < MIN_COMPRESS_SIZE) {
+                writeRaw(row, out);
+                return;
+            }
+
+            if (rawBytes.length < rawLength) {
+                rawBytes = new byte[rawLength];
+            }
+            MemorySegmentUtils.copyToBytes(
+                    row.getSegments(), row.getOffset(), rawBytes, 0, rawLength);
+
+            int maxCompressedLength = compressor.getMaxCompressedSize(rawLength);
+            if (compressedBytes.length < maxCompressedLength) {
+                compressedBytes = new byte[maxCompressedLength];
+            }
+            int compressedLength = compressor.compress(rawBytes, 0, rawLength, compressedBytes, 0);
+            if (compressedLength + 4 >= rawLength) {
+                out.writeInt(rawLength);
+                out.write(rawBytes, 0, rawLength);
+            } else {
+                out.writeInt(-compressedLength);
+                out.writeInt(rawLength);
+                out.write(compressedBytes, 0, compressedLength);
+            }
+        }
+
+        private void writeRaw(BinaryRow row, DataOutputView out) throws IOException {
+            int length = row.getSizeInBytes();
+            out.writeInt(length);
+            MemorySegment[] segments = row.getSegments();
+            if (segments.length == 1) {
+                segments[0].get(out, row.getOffset(), length);
+            } else {
+                out.write(MemorySegmentUtils.copyToBytes(segments, row.getOffset(), length));
+            }
+        }
+    }
+
+    /**
+     * Reader of records, not thread safe. A read row points to the memory of the reader, it is
+     * valid until the next read of the same reader.
+     */
+    static final class Reader {
+
+        private final BlockDecompressor decompressor;
+
+        private byte[] compressedBytes = new byte[0];
+        private MemorySegment rowSegment = MemorySegment.wrap(new byte[0]);
+
+        private Reader(BlockDecompressor decompressor) {
+            this.decompressor = decompressor;
+        }
+
+        BinaryRow read(BinaryRow reuse, DataInputView in) throws IOException {
+            int length = in.readInt();
+            if (length >= 0) {
+                byte[] rowBytes = ensureRowCapacity(length);
+                in.readFully(rowBytes, 0, length);
+            } else {
+                int compressedLength = -length;
+                length = in.readInt();
+                if (compressedBytes.length < compressedLength) {
+                    compressedBytes = new byte[compressedLength];
+                }
+                in.readFully(compressedBytes, 0, compressedLength);
+                byte[] rowBytes = ensureRowCapacity(length);
+                decompressor.decompress(compressedBytes, 0, compressedLength, rowBytes, 0);
+            }
+            reuse.pointTo(rowSegment, 0, length);
+            return reuse;
+        }
+
+        private byte[] ensureRowCapacity(int length) {
+            if (rowSegment.size() < length) {
+                rowSegment = MemorySegment.wrap(new byte[length]);
+            }
+            return rowSegment.getArray();
+        }
+    }
+}
@@ -244,7 +244,8 @@ public abstract class AbstractFileStoreTable implements FileStoreTable {
                 coreOptions().writeOnly() ? null : store().newPartitionExpire(commitUser),
                 lockFactory.create(),
                 CoreOptions.fromMap(options()).consumerExpireTime(),
-                new ConsumerManager(fileIO, path));
+                new ConsumerManager(fileIO, path),
+                name());
     }
 
     private Optional<TableSchema> tryTimeTravel(Options options) {
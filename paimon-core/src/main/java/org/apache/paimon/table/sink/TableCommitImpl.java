@@ -20,10 +20,12 @@ package org.apache.paimon.table.sink;
 
 import org.apache.paimon.consumer.ConsumerManager;
 import org.apache.paimon.manifest.ManifestCommittable;
+import org.apache.paimon.metrics.MetricRegistry;
 import org.apache.paimon.operation.FileStoreCommit;
 import org.apache.paimon.operation.FileStoreExpire;
 import org.apache.paimon.operation.Lock;
 import org.apache.paimon.operation.PartitionExpire;
+import org.apache.paimon.operation.metrics.CommitMetrics;
 import org.apache.paimon.utils.IOUtils;
 
 import javax.annotation.Nullable;
@@ -54,8 +56,10 @@ public class TableCommitImpl implements InnerTableCommit {
 
     @Nullable private final Duration consumerExpireTime;
     private final ConsumerManager consumerManager;
+    private final String tableName;
 
     @Nullable private Map<String, String> overwritePartition = null;
+    @Nullable private CommitMetrics commitMetrics = null;
 
     private boolean batchCommitted = false;
 
@@ -66,7 +70,8 @@ public class TableCommitImpl implements InnerTableCommit {
             @Nullable PartitionExpire partitionExpire,
             Lock lock,
             @Nullable Duration consumerExpireTime,
-            ConsumerManager consumerManager) {
+            ConsumerManager consumerManager,
+            String tableName) {
         commit.withLock(lock);
         if (expire != null) {
             expire.withLock(lock);
@@ -83,6 +88,7 @@ public class TableCommitImpl implements InnerTableCommit {
 
         this.consumerExpireTime = consumerExpireTime;
         this.consumerManager = consumerManager;
+        this.tableName = tableName;
     }
 
     @Override
@@ -97,6 +103,16 @@ public class TableCommitImpl implements InnerTableCommit {
         return this;
     }
 
+    /** Reports the metrics of commits to the given {@link MetricRegistry}. */
+    public TableCommitImpl withMetricRegistry(MetricRegistry registry) {
+        if (commitMetrics != null) {
+            commitMetrics.close();
+        }
+        commitMetrics = new CommitMetrics(registry, tableName);
+        commit.withMetrics(commitMetrics);
+        return this;
+    }
+
     @Override
     public Set<Long> filterCommitted(Set<Long> commitIdentifiers) {
         return commit.filterCommitted(commitIdentifiers);
@@ -212,6 +228,9 @@ public class TableCommitImpl implements InnerTableCommit {
             IOUtils.closeQuietly(commitCallback);
         }
         IOUtils.closeQuietly(lock);
+        if (commitMetrics != null) {
+            commitMetrics.close();
+        }
     }
 
     @Override
@@ -25,6 +25,7 @@ import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.memory.MemorySegmentPool;
+import org.apache.paimon.metrics.MetricRegistry;
 import org.apache.paimon.operation.AbstractFileStoreWrite;
 import org.apache.paimon.operation.FileStoreWrite;
 import org.apache.paimon.utils.Restorable;
@@ -80,6 +81,12 @@ public class TableWriteImpl<T>
         return this;
     }
 
+    /** Reports the metrics of writers and compactions to the given {@link MetricRegistry}. */
+    public TableWriteImpl<T> withMetricRegistry(MetricRegistry registry) {
+        write.withMetricRegistry(registry);
+        return this;
+    }
+
     @Override
     public BinaryRow getPartition(InternalRow row) {
         keyAndBucketExtractor.setRecord(row);
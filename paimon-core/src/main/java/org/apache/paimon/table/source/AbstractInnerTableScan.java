@@ -24,6 +24,7 @@ import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.consumer.Consumer;
 import org.apache.paimon.consumer.ConsumerManager;
 import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.metrics.MetricRegistry;
 import org.apache.paimon.operation.FileStoreScan;
 import org.apache.paimon.table.source.snapshot.CompactedStartingScanner;
 import org.apache.paimon.table.source.snapshot.ContinuousCompactorStartingScanner;
@@ -60,6 +61,12 @@ public abstract class AbstractInnerTableScan implements InnerTableScan {
         this.snapshotReader = snapshotReader;
     }
 
+    @Override
+    public AbstractInnerTableScan withMetricRegistry(MetricRegistry registry) {
+        snapshotReader.withMetricRegistry(registry);
+        return this;
+    }
+
     @VisibleForTesting
     public AbstractInnerTableScan withBucket(int bucket) {
         snapshotReader.withBucket(bucket);
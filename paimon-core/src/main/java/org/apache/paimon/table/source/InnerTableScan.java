@@ -18,10 +18,17 @@
 
 package org.apache.paimon.table.source;
 
+import org.apache.paimon.metrics.MetricRegistry;
 import org.apache.paimon.predicate.Predicate;
 
 /** Inner {@link TableScan} contains filter push down. */
 public interface InnerTableScan extends TableScan {
 
     InnerTableScan withFilter(Predicate predicate);
+
+    /** Reports the metrics of plannings to the given {@link MetricRegistry}. */
+    default InnerTableScan withMetricRegistry(MetricRegistry registry) {
+        // do nothing, scans of system tables do not report metrics by default
+        return this;
+    }
 }
@@ -21,6 +21,7 @@ package org.apache.paimon.table.source.snapshot;
 import org.apache.paimon.Snapshot;
 import org.apache.paimon.consumer.ConsumerManager;
 import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.metrics.MetricRegistry;
 import org.apache.paimon.operation.ScanKind;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.table.source.DataSplit;
@@ -55,6 +56,9 @@ public interface SnapshotReader {
 
     SnapshotReader withBucket(int bucket);
 
+    /** Reports the metrics of plannings to the given {@link MetricRegistry}. */
+    SnapshotReader withMetricRegistry(MetricRegistry registry);
+
     /** Get splits plan from snapshot. */
     Plan read();
 
@@ -28,9 +28,11 @@ import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.manifest.FileKind;
 import org.apache.paimon.manifest.ManifestEntry;
+import org.apache.paimon.metrics.MetricRegistry;
 import org.apache.paimon.operation.DefaultValueAssiger;
 import org.apache.paimon.operation.FileStoreScan;
 import org.apache.paimon.operation.ScanKind;
+import org.apache.paimon.operation.metrics.ScanMetrics;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.predicate.PredicateBuilder;
 import org.apache.paimon.schema.TableSchema;
@@ -73,6 +75,8 @@ public class SnapshotReaderImpl implements SnapshotReader {
 
     private DefaultValueAssiger defaultValueAssiger;
 
+    @Nullable private ScanMetrics scanMetrics = null;
+
     public SnapshotReaderImpl(
             FileStoreScan scan,
             TableSchema tableSchema,
@@ -168,6 +172,16 @@ public class SnapshotReaderImpl implements SnapshotReader {
         return this;
     }
 
+    @Override
+    public SnapshotReader withMetricRegistry(MetricRegistry registry) {
+        if (scanMetrics != null) {
+            scanMetrics.close();
+        }
+        scanMetrics = new ScanMetrics(registry, snapshotManager.tablePath().getName());
+        scan.withMetrics(scanMetrics);
+        return this;
+    }
+
     /** Get splits from {@link FileKind#ADD} files. */
     @Override
     public Plan read() {
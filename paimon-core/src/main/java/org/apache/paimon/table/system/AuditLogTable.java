@@ -26,6 +26,7 @@ import org.apache.paimon.data.BinaryString;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
+import org.apache.paimon.metrics.MetricRegistry;
 import org.apache.paimon.operation.ScanKind;
 import org.apache.paimon.predicate.LeafPredicate;
 import org.apache.paimon.predicate.Predicate;
@@ -232,6 +233,12 @@ public class AuditLogTable implements DataTable, ReadonlyTable {
             return this;
         }
 
+        @Override
+        public SnapshotReader withMetricRegistry(MetricRegistry registry) {
+            snapshotReader.withMetricRegistry(registry);
+            return this;
+        }
+
         @Override
         public Plan read() {
             return snapshotReader.read();
@@ -267,6 +274,12 @@ public class AuditLogTable implements DataTable, ReadonlyTable {
             return this;
         }
 
+        @Override
+        public InnerTableScan withMetricRegistry(MetricRegistry registry) {
+            batchScan.withMetricRegistry(registry);
+            return this;
+        }
+
         @Override
         public Plan plan() {
             return batchScan.plan();
@@ -292,6 +305,12 @@ public class AuditLogTable implements DataTable, ReadonlyTable {
             return this;
         }
 
+        @Override
+        public InnerTableScan withMetricRegistry(MetricRegistry registry) {
+            streamScan.withMetricRegistry(registry);
+            return this;
+        }
+
         @Override
         public Plan plan() {
             return streamScan.plan();
@@ -53,20 +53,26 @@ public class ObjectsCache<K, V> {
 
     public List<V> read(K key, Filter<InternalRow> loadFilter, Filter<InternalRow> readFilter)
             throws IOException {
-        Segments segments = cache.getSegments(key, k -> readSegments(k, loadFilter));
-        List<V> entries = new ArrayList<>();
-        RandomAccessInputView view =
-                new RandomAccessInputView(
-                        segments.segments(), cache.pageSize(), segments.limitInLastSegment());
-        BinaryRow binaryRow = new BinaryRow(rowSerializer.getArity());
-        while (true) {
-            try {
-                rowSerializer.mapFromPages(binaryRow, view);
-                if (readFilter.test(binaryRow)) {
-                    entries.add(serializer.fromRow(binaryRow));
+        try (SegmentsCache.CachedSegments cached =
+                cache.getSegments(key, k -> readSegments(k, loadFilter))) {
+            Segments segments = cached.segments();
+            List<V> entries = new ArrayList<>();
+            RandomAccessInputView view =
+                    new RandomAccessInputView(
+                            segments.segments(), cache.pageSize(), segments.limitInLastSegment());
+            BinaryRow binaryRow = new BinaryRow(rowSerializer.getArity());
+            while (true) {
+                try {
+                    rowSerializer.mapFromPages(binaryRow, view);
+                    if (readFilter.test(binaryRow)) {
+                        // objects may point to the memory of the row, off-heap segments are
+                        // released on eviction, so the row must be copied to the heap first
+                        entries.add(
+                                serializer.fromRow(cache.offHeap() ? binaryRow.copy() : binaryRow));
+                    }
+                } catch (EOFException e) {
+                    return entries;
                 }
-            } catch (EOFException e) {
-                return entries;
             }
         }
     }
@@ -74,8 +80,7 @@ public class ObjectsCache<K, V> {
     private Segments readSegments(K key, Filter<InternalRow> loadFilter) {
         try (CloseableIterator<InternalRow> iterator = reader.apply(key)) {
             ArrayList<MemorySegment> segments = new ArrayList<>();
-            MemorySegmentSource segmentSource =
-                    () -> MemorySegment.allocateHeapMemory(cache.pageSize());
+            MemorySegmentSource segmentSource = cache::allocateSegment;
             SimpleCollectingOutputView output =
                     new SimpleCollectingOutputView(segments, segmentSource, cache.pageSize());
             while (iterator.hasNext()) {
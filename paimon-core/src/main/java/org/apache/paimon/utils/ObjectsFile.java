@@ -48,7 +48,7 @@ public abstract class ObjectsFile<T> {
     protected final FormatWriterFactory writerFactory;
     protected final PathFactory pathFactory;
 
-    @Nullable private final ObjectsCache<String, T> cache;
+    @Nullable private final ObjectsCache<Path, T> cache;
 
     protected ObjectsFile(
             FileIO fileIO,
@@ -56,7 +56,7 @@ public abstract class ObjectsFile<T> {
             FormatReaderFactory readerFactory,
             FormatWriterFactory writerFactory,
             PathFactory pathFactory,
-            @Nullable SegmentsCache<String> cache) {
+            @Nullable SegmentsCache<Path> cache) {
         this.fileIO = fileIO;
         this.serializer = serializer;
         this.readerFactory = readerFactory;
@@ -90,7 +90,7 @@ public abstract class ObjectsFile<T> {
             String fileName, Filter<InternalRow> loadFilter, Filter<InternalRow> readFilter) {
         try {
             if (cache != null) {
-                return cache.read(fileName, loadFilter, readFilter);
+                return cache.read(pathFactory.toPath(fileName), loadFilter, readFilter);
             }
 
             RecordReader<InternalRow> reader =
@@ -133,10 +133,9 @@ public abstract class ObjectsFile<T> {
         }
     }
 
-    private CloseableIterator<InternalRow> createIterator(String fileName) {
+    private CloseableIterator<InternalRow> createIterator(Path path) {
         try {
-            return createFormatReader(fileIO, readerFactory, pathFactory.toPath(fileName))
-                    .toCloseableIterator();
+            return createFormatReader(fileIO, readerFactory, path).toCloseableIterator();
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -36,7 +36,8 @@ import java.util.function.Function;
  */
 public class ParallellyExecuteUtils {
 
-    // reduce memory usage by batch iterable process, the cached result in memory will be queueSize
+    // reduce memory usage by batch iterable process, the cached result in memory will be at most
+    // two batches of queueSize: the batch being consumed and the next batch being processed
     public static <T, U> Iterable<T> parallelismBatchIterable(
             Function<List<U>, List<T>> processor, List<U> input, @Nullable Integer queueSize) {
         if (queueSize == null) {
@@ -50,6 +51,7 @@ public class ParallellyExecuteUtils {
         return () ->
                 new Iterator<T>() {
                     List<T> activeList = null;
+                    CompletableFuture<List<T>> nextFuture = null;
                     private int index = 0;
 
                     @Override
@@ -69,20 +71,26 @@ public class ParallellyExecuteUtils {
 
                     private void advanceIfNeeded() {
                         while ((activeList == null || index >= activeList.size())
-                                && stack.size() > 0) {
+                                && (nextFuture != null || stack.size() > 0)) {
                             // reset index
                             index = 0;
+                            CompletableFuture<List<T>> currentFuture =
+                                    nextFuture == null ? processAsync() : nextFuture;
+                            // pipeline: process the next batch while the current one is consumed
+                            nextFuture = stack.isEmpty() ? null : processAsync();
                             try {
-                                activeList =
-                                        CompletableFuture.supplyAsync(
-                                                        () -> processor.apply(stack.poll()),
-                                                        FileUtils.COMMON_IO_FORK_JOIN_POOL)
-                                                .get();
+                                activeList = currentFuture.get();
                             } catch (Exception e) {
                                 throw new RuntimeException(e);
                             }
                         }
                     }
+
+                    private CompletableFuture<List<T>> processAsync() {
+                        List<U> batch = stack.poll();
+                        return CompletableFuture.supplyAsync(
+                                () -> processor.apply(batch), FileUtils.COMMON_IO_FORK_JOIN_POOL);
+                    }
                 };
     }
 }
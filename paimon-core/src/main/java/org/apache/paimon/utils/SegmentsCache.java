@@ -19,28 +19,53 @@
 package org.apache.paimon.utils;
 
 import org.apache.paimon.data.Segments;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.memory.MemorySegment;
 import org.apache.paimon.options.MemorySize;
 
 import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Cache;
 import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.RemovalCause;
 import org.apache.paimon.shade.guava30.com.google.common.util.concurrent.MoreExecutors;
 
+import java.io.Closeable;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
-/** Cache {@link Segments}. */
+/**
+ * Cache {@link Segments}.
+ *
+ * <p>Cached segments are reference counted, a reader holds a {@link CachedSegments} until it has
+ * read them. Off-heap segments are released as soon as their entry is removed from the cache and no
+ * reader holds it anymore.
+ */
 public class SegmentsCache<T> {
 
     private static final int OBJECT_MEMORY_SIZE = 1000;
 
+    /**
+     * Shared caches keyed by page size and memory size. Values are weak, a shared cache is dropped
+     * once no file store uses it anymore.
+     */
+    private static final Cache<Pair<Integer, MemorySize>, SegmentsCache<Path>> SHARED_CACHES =
+            Caffeine.newBuilder().weakValues().executor(MoreExecutors.directExecutor()).build();
+
     private final int pageSize;
-    private final Cache<T, Segments> cache;
+    private final boolean offHeap;
+    private final Cache<T, CachedSegments> cache;
 
     public SegmentsCache(int pageSize, MemorySize maxMemorySize) {
+        this(pageSize, maxMemorySize, false);
+    }
+
+    public SegmentsCache(int pageSize, MemorySize maxMemorySize, boolean offHeap) {
         this.pageSize = pageSize;
+        this.offHeap = offHeap;
         this.cache =
                 Caffeine.newBuilder()
                         .weigher(this::weigh)
                         .maximumWeight(maxMemorySize.getBytes())
+                        .removalListener(this::onRemoval)
                         .executor(MoreExecutors.directExecutor())
                         .build();
     }
@@ -49,11 +74,93 @@ public class SegmentsCache<T> {
         return pageSize;
     }
 
-    public Segments getSegments(T key, Function<T, Segments> viewFunction) {
-        return cache.get(key, viewFunction);
+    public boolean offHeap() {
+        return offHeap;
+    }
+
+    public MemorySegment allocateSegment() {
+        return offHeap
+                ? MemorySegment.allocateOffHeapMemory(pageSize)
+                : MemorySegment.allocateHeapMemory(pageSize);
+    }
+
+    /**
+     * Returns the cached segments of the key, the returned {@link CachedSegments} must be closed
+     * after reading.
+     */
+    public CachedSegments getSegments(T key, Function<T, Segments> viewFunction) {
+        while (true) {
+            // loaded segments are retained before they are put into the cache, so an entry which
+            // is larger than the cache and evicted right away can still be read by its loader
+            CachedSegments[] loaded = new CachedSegments[1];
+            CachedSegments segments =
+                    cache.get(
+                            key,
+                            k -> loaded[0] = new CachedSegments(viewFunction.apply(k), offHeap, 2));
+            if (segments == loaded[0] || segments.retain()) {
+                return segments;
+            }
+            // the entry has just been removed and released, load it again
+        }
+    }
+
+    private int weigh(T cacheKey, CachedSegments segments) {
+        return OBJECT_MEMORY_SIZE + segments.segments().segments().size() * pageSize;
     }
 
-    private int weigh(T cacheKey, Segments segments) {
-        return OBJECT_MEMORY_SIZE + segments.segments().size() * pageSize;
+    private void onRemoval(T key, CachedSegments segments, RemovalCause cause) {
+        if (segments != null) {
+            segments.close();
+        }
+    }
+
+    /**
+     * Returns the off-heap cache of files shared by the whole process, files are keyed by their
+     * paths, so they must be immutable. Tables configured with the same page size and memory size
+     * share the same cache.
+     */
+    public static SegmentsCache<Path> shared(int pageSize, MemorySize maxMemorySize) {
+        return SHARED_CACHES.get(
+                Pair.of(pageSize, maxMemorySize),
+                key -> new SegmentsCache<>(key.getLeft(), key.getRight(), true));
+    }
+
+    /** Reference counted {@link Segments} in the cache. */
+    public static class CachedSegments implements Closeable {
+
+        private final Segments segments;
+        private final boolean offHeap;
+
+        /** One reference is held by the cache itself, the others by readers. */
+        private final AtomicInteger refCount;
+
+        private CachedSegments(Segments segments, boolean offHeap, int refCount) {
+            this.segments = segments;
+            this.offHeap = offHeap;
+            this.refCount = new AtomicInteger(refCount);
+        }
+
+        public Segments segments() {
+            return segments;
+        }
+
+        private boolean retain() {
+            while (true) {
+                int count = refCount.get();
+                if (count == 0) {
+                    return false;
+                }
+                if (refCount.compareAndSet(count, count + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            if (refCount.decrementAndGet() == 0 && offHeap) {
+                segments.segments().forEach(MemorySegment::free);
+            }
+        }
     }
 }
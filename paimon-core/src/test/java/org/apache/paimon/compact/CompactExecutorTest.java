@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.compact;
+
+import org.apache.paimon.utils.ExecutorThreadFactory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link CompactExecutor}. */
+public class CompactExecutorTest {
+
+    @Test
+    public void testPriority() throws Exception {
+        CompactExecutor executor =
+                new CompactExecutor(1, new ExecutorThreadFactory("compact-executor-test"));
+        try {
+            // block the only thread, so that the following tasks are queued
+            CountDownLatch latch = new CountDownLatch(1);
+            executor.submit(
+                    () -> {
+                        latch.await();
+                        return null;
+                    });
+
+            List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+            double[] priorities = {0.2, 0.8, 0.5, 0.8, 0};
+            List<Future<CompactResult>> futures = new ArrayList<>();
+            for (int i = 0; i < priorities.length; i++) {
+                futures.add(executor.submit(new TestCompactTask(i, priorities[i], executed)));
+            }
+            latch.countDown();
+            for (Future<CompactResult> future : futures) {
+                future.get();
+            }
+
+            assertThat(executed).isEqualTo(Arrays.asList(1, 3, 2, 0, 4));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testPriorityChangedAfterSubmit() throws Exception {
+        CompactExecutor executor =
+                new CompactExecutor(1, new ExecutorThreadFactory("compact-executor-test"));
+        try {
+            CountDownLatch latch = new CountDownLatch(1);
+            executor.submit(
+                    () -> {
+                        latch.await();
+                        return null;
+                    });
+
+            List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+            TestCompactTask task0 = new TestCompactTask(0, 0.5, executed);
+            TestCompactTask task1 = new TestCompactTask(1, 0.2, executed);
+            Future<CompactResult> future0 = executor.submit(task0);
+            Future<CompactResult> future1 = executor.submit(task1);
+
+            // the writer of task1 keeps adding files while its compaction is pending
+            task1.priority = 0.9;
+            latch.countDown();
+            future0.get();
+            future1.get();
+
+            assertThat(executed).isEqualTo(Arrays.asList(1, 0));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testExecuteRunnable() throws Exception {
+        CompactExecutor executor =
+                new CompactExecutor(2, new ExecutorThreadFactory("compact-executor-test"));
+        try {
+            CountDownLatch latch = new CountDownLatch(2);
+            executor.execute(latch::countDown);
+            executor.execute(latch::countDown);
+            latch.await();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static class TestCompactTask extends CompactTask {
+
+        private final int id;
+        private volatile double priority;
+        private final List<Integer> executed;
+
+        private TestCompactTask(int id, double priority, List<Integer> executed) {
+            this.id = id;
+            this.priority = priority;
+            this.executed = executed;
+        }
+
+        @Override
+        public double priority() {
+            return priority;
+        }
+
+        @Override
+        protected CompactResult doCompact() {
+            executed.add(id);
+            return new CompactResult();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.compression;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Tests for {@link BlockCompressor} and {@link BlockDecompressor}. */
+public class BlockCompressionTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"lz4", "zstd", "snappy"})
+    public void testCompressAndDecompress(String compression) {
+        BlockCompressionFactory factory = BlockCompressionFactory.create(compression, 1);
+        BlockCompressor compressor = factory.getCompressor();
+        BlockDecompressor decompressor = factory.getDecompressor();
+
+        Random random = new Random();
+        int originalLen = 32 * 1024;
+        byte[] data = new byte[originalLen + 16];
+        for (int i = 0; i < originalLen; i++) {
+            // compressible data
+            data[i + 16] = (byte) random.nextInt(8);
+        }
+
+        byte[] compressed = new byte[compressor.getMaxCompressedSize(originalLen) + 8];
+        int compressedLen = compressor.compress(data, 16, originalLen, compressed, 8);
+        assertThat(compressedLen).isLessThan(originalLen);
+
+        byte[] decompressed = new byte[originalLen + 4];
+        int decompressedLen =
+                decompressor.decompress(compressed, 8, compressedLen, decompressed, 4);
+        assertThat(decompressedLen).isEqualTo(originalLen);
+        for (int i = 0; i < originalLen; i++) {
+            assertThat(decompressed[i + 4]).isEqualTo(data[i + 16]);
+        }
+
+        assertThatThrownBy(
+                        () ->
+                                decompressor.decompress(
+                                        compressed, 8, compressedLen, new byte[originalLen - 1], 0))
+                .isInstanceOf(BufferDecompressionException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 9})
+    public void testZstdLevels(int level) {
+        BlockCompressionFactory factory = new ZstdBlockCompressionFactory(level);
+        byte[] data = new byte[4096];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i % 13);
+        }
+
+        BlockCompressor compressor = factory.getCompressor();
+        byte[] compressed = new byte[compressor.getMaxCompressedSize(data.length)];
+        int compressedLen = compressor.compress(data, 0, data.length, compressed, 0);
+
+        byte[] decompressed = new byte[data.length];
+        factory.getDecompressor().decompress(compressed, 0, compressedLen, decompressed, 0);
+        assertThat(decompressed).isEqualTo(data);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"gzip", "none"})
+    public void testUnsupportedCompression(String compression) {
+        assertThatThrownBy(() -> BlockCompressionFactory.create(compression, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unsupported block compression");
+    }
+}
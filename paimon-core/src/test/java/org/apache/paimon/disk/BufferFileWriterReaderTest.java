@@ -22,10 +22,12 @@ import org.apache.paimon.memory.Buffer;
 import org.apache.paimon.memory.MemorySegment;
 
 import org.junit.jupiter.api.AfterEach;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.LinkedList;
@@ -33,6 +35,7 @@ import java.util.Random;
 
 import static org.apache.paimon.utils.Preconditions.checkArgument;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.fail;
 
 /** Test for {@link BufferFileReader} and {@link BufferFileWriter}. */
@@ -63,9 +66,10 @@ public class BufferFileWriterReaderTest {
         ioManager.close();
     }
 
-    @BeforeEach
-    public void setUpWriterAndReader() {
-        this.ioManager = IOManager.create(tempDir.toFile().getAbsolutePath());
+    private void setUpWriterAndReader(int numAsyncBlocks) {
+        this.ioManager =
+                new IOManagerImpl(
+                        new String[] {tempDir.toFile().getAbsolutePath()}, numAsyncBlocks);
         FileIOChannel.ID channel = ioManager.createChannel();
 
         try {
@@ -84,8 +88,10 @@ public class BufferFileWriterReaderTest {
         }
     }
 
-    @Test
-    public void testWriteRead() throws IOException {
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 4})
+    public void testWriteRead(int numAsyncBlocks) throws IOException {
+        setUpWriterAndReader(numAsyncBlocks);
         int numBuffers = 1024;
         int currentNumber = 0;
 
@@ -108,9 +114,12 @@ public class BufferFileWriterReaderTest {
         writer.close();
 
         // Read buffers back in...
+        LinkedList<Buffer> readBuffers = new LinkedList<>();
         for (int i = 0; i < numBuffers; i++) {
             assertThat(reader.hasReachedEndOfFile()).isFalse();
-            reader.readInto(createBuffer());
+            Buffer buffer = createBuffer();
+            reader.readInto(buffer);
+            readBuffers.add(buffer);
         }
 
         reader.close();
@@ -119,19 +128,63 @@ public class BufferFileWriterReaderTest {
 
         // Verify that the content is the same
         assertThat(numBuffers).isEqualTo(buffers.size());
+        assertThat(numBuffers).isEqualTo(readBuffers.size());
 
         currentNumber = 0;
         Buffer buffer;
 
         while ((buffer = buffers.poll()) != null) {
+            Buffer readBuffer = readBuffers.poll();
+            assertThat(readBuffer.getSize()).isEqualTo(buffer.getSize());
+            verifyBufferFilledWithAscendingNumbers(readBuffer, currentNumber);
             currentNumber = verifyBufferFilledWithAscendingNumbers(buffer, currentNumber);
         }
     }
 
+    @Test
+    public void testReadAheadMoreBlocksThanFile() throws IOException {
+        setUpWriterAndReader(4);
+
+        // the written buffer can be reused after writing
+        Buffer buffer = createBuffer();
+        int currentNumber = fillBufferWithAscendingNumbers(buffer, 0, 1024);
+        writer.writeBlock(buffer);
+        buffer.setSize(0);
+        fillBufferWithAscendingNumbers(buffer, currentNumber, 1024);
+        writer.writeBlock(buffer);
+        writer.close();
+
+        Buffer readBuffer = createBuffer();
+        reader.readInto(readBuffer);
+        assertThat(reader.hasReachedEndOfFile()).isFalse();
+        currentNumber = verifyBufferFilledWithAscendingNumbers(readBuffer, 0);
+
+        readBuffer = createBuffer();
+        reader.readInto(readBuffer);
+        assertThat(reader.hasReachedEndOfFile()).isTrue();
+        assertThat(verifyBufferFilledWithAscendingNumbers(readBuffer, currentNumber))
+                .isEqualTo(512);
+
+        assertThatThrownBy(() -> reader.readInto(createBuffer())).isInstanceOf(EOFException.class);
+        reader.close();
+    }
+
     private int getRandomNumberInRange(int min, int max) {
         return random.nextInt((max - min) + 1) + min;
     }
 
+    @Test
+    public void testSynchronousByDefault() throws IOException {
+        this.ioManager = new IOManagerImpl(tempDir.toFile().getAbsolutePath());
+        FileIOChannel.ID channel = ioManager.createChannel();
+        writer = ioManager.createBufferFileWriter(channel);
+        reader = ioManager.createBufferFileReader(channel);
+        assertThat(writer).isInstanceOf(BufferFileWriterImpl.class);
+        assertThat(reader).isInstanceOf(BufferFileReaderImpl.class);
+        writer.close();
+        reader.close();
+    }
+
     private int getNextMultipleOf(int number, int multiple) {
         final int mod = number % multiple;
 
@@ -20,6 +20,7 @@ package org.apache.paimon.index;
 
 import org.apache.paimon.catalog.PrimaryKeyTableTestBase;
 import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.io.CompactIncrement;
 import org.apache.paimon.io.IndexIncrement;
 import org.apache.paimon.io.NewFilesIncrement;
@@ -29,7 +30,9 @@ import org.apache.paimon.table.sink.StreamTableCommit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
 
@@ -163,4 +166,88 @@ public class HashBucketAssignerTest extends PrimaryKeyTableTestBase {
         assigner.prepareCommit(3);
         assertThat(assigner.currentPartitions()).isEmpty();
     }
+
+    @Test
+    public void testSpillIndex(@TempDir Path ioDir) throws Exception {
+        try (IOManager ioManager = IOManager.create(ioDir.toString())) {
+            // every partition index exceeds the memory, only the current one is kept
+            HashBucketAssigner assigner =
+                    new HashBucketAssigner(
+                            table.snapshotManager(),
+                            commitUser,
+                            fileHandler,
+                            1,
+                            0,
+                            2,
+                            1,
+                            ioManager,
+                            0);
+
+            assertThat(assigner.assign(row(1), 0)).isEqualTo(0);
+            assertThat(assigner.assign(row(1), 1)).isEqualTo(0);
+            assertThat(assigner.assign(row(2), 2)).isEqualTo(0);
+            assertThat(assigner.spilledPartitions()).containsExactlyInAnyOrder(row(1));
+
+            // read back from disk
+            assertThat(assigner.assign(row(1), 1)).isEqualTo(0);
+            assertThat(assigner.assign(row(1), 3)).isEqualTo(1);
+            assertThat(assigner.spilledPartitions()).containsExactlyInAnyOrder(row(2));
+            assertThat(assigner.currentPartitions()).containsExactlyInAnyOrder(row(1), row(2));
+
+            // spilled partitions are also eliminated
+            assigner.prepareCommit(0);
+            assertThat(assigner.assign(row(1), 4)).isEqualTo(1);
+            assigner.prepareCommit(1);
+            commit.commit(
+                    1,
+                    Collections.singletonList(
+                            createCommitMessage(
+                                    row(1), 1, fileHandler.writeHashIndex(new int[] {3, 4}))));
+            assertThat(assigner.assign(row(1), 4)).isEqualTo(1);
+            assigner.prepareCommit(2);
+            assertThat(assigner.currentPartitions()).containsExactlyInAnyOrder(row(1));
+            assertThat(assigner.spilledPartitions()).isEmpty();
+
+            assigner.close();
+        }
+    }
+
+    @Test
+    public void testPrefetch() throws Exception {
+        commit.commit(
+                0,
+                Collections.singletonList(
+                        createCommitMessage(
+                                row(1), 0, fileHandler.writeHashIndex(new int[] {0, 1}))));
+
+        HashBucketAssigner assigner =
+                new HashBucketAssigner(
+                        table.snapshotManager(),
+                        commitUser,
+                        fileHandler,
+                        1,
+                        0,
+                        5,
+                        Long.MAX_VALUE,
+                        null,
+                        2);
+        try {
+            while (!assigner.prefetch(row(1))) {
+                Thread.sleep(10);
+            }
+            assertThat(assigner.pollLoadedPartitions()).containsExactly(row(1));
+            assertThat(assigner.pollLoadedPartitions()).isEmpty();
+            assertThat(assigner.prefetch(row(2))).isFalse();
+
+            // wait for the loading index
+            assertThat(assigner.assign(row(2), 0)).isEqualTo(0);
+            assertThat(assigner.prefetch(row(2))).isTrue();
+
+            assertThat(assigner.assign(row(1), 1)).isEqualTo(0);
+            assertThat(assigner.assign(row(1), 2)).isEqualTo(0);
+            assertThat(assigner.currentPartitions()).containsExactlyInAnyOrder(row(1), row(2));
+        } finally {
+            assigner.close();
+        }
+    }
 }
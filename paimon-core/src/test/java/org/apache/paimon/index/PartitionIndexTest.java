@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.index;
+
+import org.apache.paimon.utils.Int2ShortHashMap;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Test for {@link PartitionIndex}. */
+public class PartitionIndexTest {
+
+    @Test
+    public void testAssignToNonFullBuckets() {
+        Int2ShortHashMap hash2Bucket = new Int2ShortHashMap();
+        hash2Bucket.put(100, (short) 4);
+        Map<Integer, Long> buckets = new HashMap<>();
+        buckets.put(0, 3L); // full
+        buckets.put(2, 2L);
+        buckets.put(4, 1L);
+        buckets.put(5, 1L); // not mine
+        PartitionIndex index = new PartitionIndex(hash2Bucket, buckets, 3, b -> b % 2 == 0);
+
+        // read assigned
+        assertThat(index.assign(100)).isEqualTo(4);
+
+        // fill non-full buckets in ascending order
+        assertThat(index.assign(1)).isEqualTo(2);
+        assertThat(index.assign(2)).isEqualTo(4);
+        assertThat(index.assign(3)).isEqualTo(4);
+
+        // create new buckets, skipping existing and not owned ones
+        assertThat(index.assign(4)).isEqualTo(6);
+        assertThat(index.assign(5)).isEqualTo(6);
+        assertThat(index.assign(6)).isEqualTo(6);
+        assertThat(index.assign(7)).isEqualTo(8);
+
+        // assigned keys are stable
+        assertThat(index.assign(1)).isEqualTo(2);
+        assertThat(index.assign(5)).isEqualTo(6);
+    }
+
+    @Test
+    public void testTooManyBuckets() {
+        PartitionIndex index =
+                new PartitionIndex(new Int2ShortHashMap(), new HashMap<>(), 1, b -> b < 3);
+        assertThat(index.assign(1)).isEqualTo(0);
+        assertThat(index.assign(2)).isEqualTo(1);
+        assertThat(index.assign(3)).isEqualTo(2);
+        assertThatThrownBy(() -> index.assign(4))
+                .hasMessageContaining("To more bucket 2, you should increase target bucket");
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.sort;
+
+import org.apache.paimon.compression.BlockCompressionFactory;
+import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.lookup.LookupStoreWriter;
+import org.apache.paimon.lookup.hash.HashLookupStoreFactory;
+import org.apache.paimon.options.MemorySize;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Test for {@link SortLookupStoreFactory}. */
+public class SortLookupStoreFactoryTest {
+
+    private static final Comparator<byte[]> COMPARATOR =
+            (a, b) -> {
+                int length = Math.min(a.length, b.length);
+                for (int i = 0; i < length; i++) {
+                    int cmp = Byte.compare(a[i], b[i]);
+                    if (cmp != 0) {
+                        return cmp;
+                    }
+                }
+                return Integer.compare(a.length, b.length);
+            };
+
+    @TempDir Path tempDir;
+
+    private final CacheManager cacheManager = new CacheManager(1024, MemorySize.ofMebiBytes(1));
+
+    @Test
+    public void testEmpty() throws IOException {
+        SortLookupStoreFactory factory = createFactory(null, false);
+        File file = newFile();
+        factory.createWriter(file).close();
+
+        try (SortLookupStoreReader reader = factory.createReader(file)) {
+            assertThat(reader.lookup(key(1))).isNull();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"none", "lz4", "zstd"})
+    public void testLookup(String compression) throws IOException {
+        testLookup(compression, false);
+    }
+
+    @Test
+    public void testMmapLookup() throws IOException {
+        testLookup("lz4", true);
+    }
+
+    private void testLookup(String compression, boolean mmapEnabled) throws IOException {
+        SortLookupStoreFactory factory =
+                createFactory(
+                        "none".equals(compression)
+                                ? null
+                                : BlockCompressionFactory.create(compression, 1),
+                        mmapEnabled);
+        File file = newFile();
+        int numRecords = 10000;
+        try (SortLookupStoreWriter writer = factory.createWriter(file)) {
+            // only even keys, odd keys are absent
+            for (int i = 0; i < numRecords; i++) {
+                writer.put(key(i * 2), value(i * 2));
+            }
+        }
+
+        try (SortLookupStoreReader reader = factory.createReader(file)) {
+            for (int i = 0; i < numRecords * 2; i++) {
+                byte[] value = reader.lookup(key(i));
+                if (i % 2 == 0) {
+                    assertThat(value).isEqualTo(value(i));
+                } else {
+                    assertThat(value).isNull();
+                }
+            }
+            assertThat(reader.lookup(key(-1))).isNull();
+            assertThat(reader.lookup(key(numRecords * 2))).isNull();
+
+            // lookup in random order
+            List<byte[]> keys = new ArrayList<>();
+            List<byte[]> expected = new ArrayList<>();
+            for (int i = numRecords * 2 - 1; i >= 0; i -= 7) {
+                keys.add(key(i));
+                expected.add(i % 2 == 0 ? value(i) : null);
+            }
+            assertThat(reader.lookup(keys)).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    public void testSmallerThanHashStore() throws IOException {
+        int numRecords = 10000;
+        File sortFile = newFile();
+        try (SortLookupStoreWriter writer =
+                createFactory(BlockCompressionFactory.create("lz4", 1), false)
+                        .createWriter(sortFile)) {
+            for (int i = 0; i < numRecords; i++) {
+                writer.put(key(i), value(i));
+            }
+        }
+
+        File hashFile = newFile();
+        try (LookupStoreWriter writer =
+                new HashLookupStoreFactory(cacheManager, 0.75).createWriter(hashFile)) {
+            for (int i = 0; i < numRecords; i++) {
+                writer.put(key(i), value(i));
+            }
+        }
+
+        assertThat(sortFile.length()).isLessThan(hashFile.length());
+    }
+
+    @Test
+    public void testCompressedWithoutDecompressor() throws IOException {
+        File file = newFile();
+        try (SortLookupStoreWriter writer =
+                createFactory(BlockCompressionFactory.create("lz4", 1), false).createWriter(file)) {
+            for (int i = 0; i < 1000; i++) {
+                writer.put(key(i), value(i));
+            }
+        }
+
+        try (SortLookupStoreReader reader = createFactory(null, false).createReader(file)) {
+            assertThatThrownBy(() -> reader.lookup(key(1)))
+                    .hasMessageContaining("there is no decompressor");
+        }
+    }
+
+    private SortLookupStoreFactory createFactory(
+            BlockCompressionFactory compressionFactory, boolean mmapEnabled) {
+        return new SortLookupStoreFactory(
+                COMPARATOR, cacheManager, 256, compressionFactory, mmapEnabled);
+    }
+
+    private File newFile() {
+        return new File(tempDir.toFile(), UUID.randomUUID().toString());
+    }
+
+    private static byte[] key(int i) {
+        return String.format("key-%08d", i).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] value(int i) {
+        byte[] value = new byte[i % 20];
+        Arrays.fill(value, (byte) i);
+        return value;
+    }
+}
@@ -91,7 +91,13 @@ public abstract class ManifestFileMetaTestBase {
                 writtenMeta.numAddedFiles(),
                 writtenMeta.numDeletedFiles(),
                 writtenMeta.partitionStats(),
-                0);
+                0,
+                writtenMeta.minBucket(),
+                writtenMeta.maxBucket(),
+                writtenMeta.minLevel(),
+                writtenMeta.maxLevel(),
+                writtenMeta.minTotalBuckets(),
+                writtenMeta.maxTotalBuckets());
     }
 
     abstract ManifestFile getManifestFile();
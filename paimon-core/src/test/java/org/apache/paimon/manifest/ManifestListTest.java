@@ -20,13 +20,19 @@ package org.apache.paimon.manifest;
 
 import org.apache.paimon.CoreOptions;
 import org.apache.paimon.TestKeyValueGenerator;
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.format.FileFormat;
+import org.apache.paimon.format.FormatWriter;
 import org.apache.paimon.fs.FileIOFinder;
 import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.PositionOutputStream;
 import org.apache.paimon.fs.local.LocalFileIO;
 import org.apache.paimon.options.Options;
+import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.FailingFileIO;
 import org.apache.paimon.utils.FileStorePathFactory;
+import org.apache.paimon.utils.VersionedObjectSerializer;
 
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
@@ -75,6 +81,45 @@ public class ManifestListTest {
         }
     }
 
+    @Test
+    public void testReadManifestListWithoutBucketAndLevelStats() throws IOException {
+        ManifestFileMeta meta = generateData().get(0);
+
+        // manifest lists written by old versions do not contain bucket and level stats
+        RowType oldType =
+                new RowType(
+                        VersionedObjectSerializer.versionType(ManifestFileMeta.schema())
+                                .getFields()
+                                .subList(0, 7));
+        Path path = new Path(tempDir.toString(), "manifest/manifest-list-old");
+        LocalFileIO fileIO = LocalFileIO.create();
+        try (PositionOutputStream out = fileIO.newOutputStream(path, false)) {
+            FormatWriter writer = avro.createWriterFactory(oldType).create(out, null);
+            writer.addElement(
+                    GenericRow.of(
+                            2,
+                            BinaryString.fromString(meta.fileName()),
+                            meta.fileSize(),
+                            meta.numAddedFiles(),
+                            meta.numDeletedFiles(),
+                            meta.partitionStats().toRowData(),
+                            meta.schemaId()));
+            writer.finish();
+        }
+
+        List<ManifestFileMeta> actualMetas =
+                createManifestList(tempDir.toString()).read("manifest-list-old");
+        assertThat(actualMetas)
+                .containsExactly(
+                        new ManifestFileMeta(
+                                meta.fileName(),
+                                meta.fileSize(),
+                                meta.numAddedFiles(),
+                                meta.numDeletedFiles(),
+                                meta.partitionStats(),
+                                meta.schemaId()));
+    }
+
     @Test
     public void testManifestListNaming() {
         List<ManifestFileMeta> metas = generateData();
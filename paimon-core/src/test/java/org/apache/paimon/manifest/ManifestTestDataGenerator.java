@@ -99,8 +99,20 @@ public class ManifestTestDataGenerator {
 
         long numAddedFiles = 0;
         long numDeletedFiles = 0;
+        int minBucket = Integer.MAX_VALUE;
+        int maxBucket = Integer.MIN_VALUE;
+        int minLevel = Integer.MAX_VALUE;
+        int maxLevel = Integer.MIN_VALUE;
+        int minTotalBuckets = Integer.MAX_VALUE;
+        int maxTotalBuckets = Integer.MIN_VALUE;
         for (ManifestEntry entry : entries) {
             collector.collect(entry.partition());
+            minBucket = Math.min(minBucket, entry.bucket());
+            maxBucket = Math.max(maxBucket, entry.bucket());
+            minLevel = Math.min(minLevel, entry.file().level());
+            maxLevel = Math.max(maxLevel, entry.file().level());
+            minTotalBuckets = Math.min(minTotalBuckets, entry.totalBuckets());
+            maxTotalBuckets = Math.max(maxTotalBuckets, entry.totalBuckets());
             if (entry.kind() == FileKind.ADD) {
                 numAddedFiles++;
             } else {
@@ -114,7 +126,13 @@ public class ManifestTestDataGenerator {
                 numAddedFiles,
                 numDeletedFiles,
                 serializer.toBinary(collector.extract()),
-                0);
+                0,
+                minBucket,
+                maxBucket,
+                minLevel,
+                maxLevel,
+                minTotalBuckets,
+                maxTotalBuckets);
     }
 
     private void mergeLevelsIfNeeded(BinaryRow partition, int bucket) {
@@ -20,20 +20,31 @@ package org.apache.paimon.mergetree;
 
 import org.apache.paimon.CoreOptions;
 import org.apache.paimon.KeyValue;
+import org.apache.paimon.compression.BlockCompressionFactory;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.RowCompactedSerializer;
 import org.apache.paimon.format.FlushingFileFormat;
+import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.FileIOFinder;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.io.DataFilePathFactory;
 import org.apache.paimon.io.KeyValueFileReaderFactory;
 import org.apache.paimon.io.KeyValueFileWriterFactory;
 import org.apache.paimon.io.RollingFileWriter;
 import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.lookup.LookupStoreFactory;
 import org.apache.paimon.lookup.hash.HashLookupStoreFactory;
+import org.apache.paimon.lookup.sort.SortLookupStoreFactory;
+import org.apache.paimon.metrics.Gauge;
+import org.apache.paimon.metrics.Metric;
+import org.apache.paimon.metrics.MetricRegistryImpl;
+import org.apache.paimon.operation.metrics.CompactionMetrics;
 import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.options.Options;
+import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.schema.KeyValueFieldsExtractor;
 import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.schema.TableSchema;
@@ -43,9 +54,14 @@ import org.apache.paimon.types.DataTypes;
 import org.apache.paimon.types.RowKind;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.FileStorePathFactory;
+import org.apache.paimon.utils.IOFunction;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import javax.annotation.Nullable;
 
 import java.io.File;
 import java.io.IOException;
@@ -57,7 +73,9 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.apache.paimon.CoreOptions.TARGET_FILE_SIZE;
 import static org.apache.paimon.KeyValue.UNKNOWN_SEQUENCE;
@@ -79,8 +97,9 @@ public class LookupLevelsTest {
                     DataTypes.FIELD(0, "key", DataTypes.INT()),
                     DataTypes.FIELD(1, "value", DataTypes.INT()));
 
-    @Test
-    public void testMultiLevels() throws IOException {
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    public void testMultiLevels(boolean mmapEnabled) throws IOException {
         Levels levels =
                 new Levels(
                         comparator,
@@ -88,7 +107,8 @@ public class LookupLevelsTest {
                                 newFile(1, kv(1, 11), kv(3, 33), kv(5, 5)),
                                 newFile(2, kv(2, 22), kv(5, 55))),
                         3);
-        LookupLevels lookupLevels = createLookupLevels(levels, MemorySize.ofMebiBytes(10));
+        LookupLevels lookupLevels =
+                createLookupLevels(levels, MemorySize.ofMebiBytes(10), null, mmapEnabled);
 
         // only in level 1
         KeyValue kv = lookupLevels.lookup(row(1), 1);
@@ -198,17 +218,303 @@ public class LookupLevelsTest {
         assertThat(lookupLevels.lookupFiles().size()).isEqualTo(0);
     }
 
+    @Test
+    public void testSortLookupStore() throws IOException {
+        int numKeys = 2000;
+        List<KeyValue> level1 = new ArrayList<>();
+        List<KeyValue> level2 = new ArrayList<>();
+        for (int i = 0; i < numKeys; i++) {
+            if (i % 3 == 0) {
+                level1.add(kv(i, i + 1));
+            }
+            if (i % 2 == 0) {
+                level2.add(kv(i, i + 2));
+            }
+        }
+        Levels levels =
+                new Levels(
+                        comparator,
+                        Arrays.asList(
+                                newFile(1, level1.toArray(new KeyValue[0])),
+                                newFile(2, level2.toArray(new KeyValue[0]))),
+                        3);
+        RowCompactedSerializer keySerializer = new RowCompactedSerializer(keyType);
+        LookupLevels lookupLevels =
+                createLookupLevels(
+                        levels,
+                        MemorySize.ofMebiBytes(10),
+                        null,
+                        new SortLookupStoreFactory(
+                                (a, b) ->
+                                        comparator.compare(
+                                                keySerializer.deserialize(a),
+                                                keySerializer.deserialize(b)),
+                                new CacheManager(2048, MemorySize.ofMebiBytes(1)),
+                                512,
+                                BlockCompressionFactory.create("lz4", 1),
+                                false));
+
+        for (int i = 0; i < numKeys; i++) {
+            KeyValue kv = lookupLevels.lookup(row(i), 1);
+            if (i % 3 == 0) {
+                assertThat(kv).isNotNull();
+                assertThat(kv.level()).isEqualTo(1);
+                assertThat(kv.value().getInt(1)).isEqualTo(i + 1);
+            } else if (i % 2 == 0) {
+                assertThat(kv).isNotNull();
+                assertThat(kv.level()).isEqualTo(2);
+                assertThat(kv.value().getInt(1)).isEqualTo(i + 2);
+            } else {
+                assertThat(kv).isNull();
+            }
+        }
+
+        lookupLevels.close();
+        assertThat(lookupLevels.lookupFiles().size()).isEqualTo(0);
+    }
+
+    @Test
+    public void testPersistedLookupFiles() throws IOException {
+        DataFileMeta file1 = newFile(1, kv(1, 11), kv(3, 33), kv(5, 5));
+        DataFileMeta file2 = newFile(2, kv(2, 22), kv(5, 55));
+        File persistDir = new File(tempDir.toFile(), "persist");
+        AtomicInteger numBuilds = new AtomicInteger();
+        IOFunction<DataFileMeta, RecordReader<KeyValue>> fileReaderFactory =
+                file -> {
+                    numBuilds.incrementAndGet();
+                    return createReaderFactory()
+                            .createRecordReader(0, file.fileName(), file.level());
+                };
+
+        // the second round simulates a restart of the process
+        for (int round = 0; round < 2; round++) {
+            PersistedLookupFiles persistedFiles =
+                    new PersistedLookupFiles(
+                            new PersistedLookupFiles.Directory(persistDir, Long.MAX_VALUE),
+                            keyType + "|" + rowType);
+            // the lookup levels of the same process share the files
+            for (int i = 0; i < 2; i++) {
+                LookupLevels lookupLevels =
+                        createLookupLevels(
+                                new Levels(comparator, Arrays.asList(file1, file2), 3),
+                                MemorySize.ofMebiBytes(10),
+                                null,
+                                new HashLookupStoreFactory(
+                                        new CacheManager(2048, MemorySize.ofMebiBytes(1)), 0.75),
+                                persistedFiles,
+                                fileReaderFactory);
+
+                KeyValue kv = lookupLevels.lookup(row(2), 1);
+                assertThat(kv).isNotNull();
+                assertThat(kv.value().getInt(1)).isEqualTo(22);
+                kv = lookupLevels.lookup(row(5), 1);
+                assertThat(kv).isNotNull();
+                assertThat(kv.value().getInt(1)).isEqualTo(5);
+                assertThat(lookupLevels.lookup(row(4), 1)).isNull();
+
+                lookupLevels.close();
+                assertThat(persistDir.list()).hasSize(2);
+            }
+        }
+        assertThat(numBuilds.get()).isEqualTo(2);
+    }
+
     private LookupLevels createLookupLevels(Levels levels, MemorySize maxDiskSize) {
+        return createLookupLevels(levels, maxDiskSize, null);
+    }
+
+    private LookupLevels createLookupLevels(
+            Levels levels, MemorySize maxDiskSize, @Nullable CompactionMetrics metrics) {
+        return createLookupLevels(levels, maxDiskSize, metrics, false);
+    }
+
+    private LookupLevels createLookupLevels(
+            Levels levels,
+            MemorySize maxDiskSize,
+            @Nullable CompactionMetrics metrics,
+            boolean mmapEnabled) {
+        return createLookupLevels(
+                levels,
+                maxDiskSize,
+                metrics,
+                new HashLookupStoreFactory(
+                        new CacheManager(2048, MemorySize.ofMebiBytes(1)), 0.75, mmapEnabled));
+    }
+
+    private LookupLevels createLookupLevels(
+            Levels levels,
+            MemorySize maxDiskSize,
+            @Nullable CompactionMetrics metrics,
+            LookupStoreFactory lookupStoreFactory) {
+        return createLookupLevels(
+                levels,
+                maxDiskSize,
+                metrics,
+                lookupStoreFactory,
+                null,
+                file -> createReaderFactory().createRecordReader(0, file.fileName(), file.level()));
+    }
+
+    private LookupLevels createLookupLevels(
+            Levels levels,
+            MemorySize maxDiskSize,
+            @Nullable CompactionMetrics metrics,
+            LookupStoreFactory lookupStoreFactory,
+            @Nullable PersistedLookupFiles persistedFiles,
+            IOFunction<DataFileMeta, RecordReader<KeyValue>> fileReaderFactory) {
         return new LookupLevels(
                 levels,
                 comparator,
                 keyType,
                 rowType,
-                file -> createReaderFactory().createRecordReader(0, file.fileName(), file.level()),
+                fileReaderFactory,
+                file -> createReaderFactory().readKeyBloomFilter(file),
                 () -> new File(tempDir.toFile(), LOOKUP_FILE_PREFIX + UUID.randomUUID()),
-                new HashLookupStoreFactory(new CacheManager(2048, MemorySize.ofMebiBytes(1)), 0.75),
+                lookupStoreFactory,
+                persistedFiles,
                 Duration.ofHours(1),
-                maxDiskSize);
+                maxDiskSize,
+                MemorySize.ofMebiBytes(1),
+                metrics);
+    }
+
+    @Test
+    public void testLookupFileCacheMetrics() throws IOException {
+        Levels levels =
+                new Levels(
+                        comparator,
+                        Arrays.asList(
+                                newFile(1, kv(1, 11), kv(3, 33), kv(5, 5)),
+                                newFile(2, kv(2, 22), kv(5, 55))),
+                        3);
+        CompactionMetrics metrics =
+                new CompactionMetrics(new MetricRegistryImpl(), "myTable", () -> 0);
+        LookupLevels lookupLevels = createLookupLevels(levels, MemorySize.ofMebiBytes(10), metrics);
+
+        // creates the lookup file of level 1
+        lookupLevels.lookup(row(1), 1);
+        // level 1 is cached, creates the lookup file of level 2
+        lookupLevels.lookup(row(2), 1);
+        // level 1 is cached
+        lookupLevels.lookup(row(5), 1);
+
+        Map<String, Metric> registered = metrics.getMetricGroup().getMetrics();
+        assertThat(gaugeValue(registered, CompactionMetrics.LOOKUP_FILE_CACHE_HITS)).isEqualTo(2L);
+        assertThat(gaugeValue(registered, CompactionMetrics.LOOKUP_FILE_CACHE_MISSES))
+                .isEqualTo(2L);
+        assertThat(gaugeValue(registered, CompactionMetrics.LOOKUP_FILE_CACHE_HIT_RATE))
+                .isEqualTo(0.5);
+
+        lookupLevels.close();
+        metrics.close();
+    }
+
+    @Test
+    public void testBatchLookup() throws IOException {
+        Levels levels =
+                new Levels(
+                        comparator,
+                        Arrays.asList(
+                                newFile(1, kv(1, 11), kv(3, 33), kv(5, 5)),
+                                newFile(1, kv(7, 77), kv(9, 99)),
+                                newFile(2, kv(2, 22), kv(5, 55), kv(8, 88)),
+                                newFile(3, kv(10, 100))),
+                        4);
+        LookupLevels lookupLevels = createLookupLevels(levels, MemorySize.ofMebiBytes(10));
+
+        List<InternalRow> keys = new ArrayList<>();
+        for (int i = 11; i >= 0; i--) {
+            keys.add(row(i));
+        }
+        // duplicated keys
+        keys.add(row(5));
+
+        List<KeyValue> results = lookupLevels.lookup(keys, 1);
+        assertThat(results).hasSize(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            KeyValue expected = lookupLevels.lookup(keys.get(i), 1);
+            KeyValue kv = results.get(i);
+            if (expected == null) {
+                assertThat(kv).isNull();
+            } else {
+                assertThat(kv).isNotNull();
+                assertThat(kv.key().getInt(0)).isEqualTo(expected.key().getInt(0));
+                assertThat(kv.level()).isEqualTo(expected.level());
+                assertThat(kv.value().getInt(1)).isEqualTo(expected.value().getInt(1));
+            }
+        }
+        assertThat(results.get(keys.size() - 1).value().getInt(1)).isEqualTo(5);
+        assertThat(results.stream().filter(Objects::nonNull).count()).isEqualTo(9);
+
+        // start from a deeper level
+        results = lookupLevels.lookup(Arrays.asList(row(5), row(1), row(10)), 2);
+        assertThat(results.get(0).value().getInt(1)).isEqualTo(55);
+        assertThat(results.get(1)).isNull();
+        assertThat(results.get(2).level()).isEqualTo(3);
+
+        lookupLevels.close();
+    }
+
+    @Test
+    public void testKeyBloomFilter() throws IOException {
+        Options options = new Options();
+        options.set(CoreOptions.LOOKUP_BLOOM_FILTER_ENABLED, true);
+        DataFileMeta file1 = newFile(options, 1, kv(1, 11), kv(3, 33), kv(5, 5));
+        DataFileMeta file2 = newFile(options, 2, kv(2, 22), kv(5, 55));
+        assertThat(file1.extraFiles())
+                .containsExactly(DataFilePathFactory.keyBloomFilterFileName(file1.fileName()));
+
+        Levels levels = new Levels(comparator, Arrays.asList(file1, file2), 3);
+        LookupLevels lookupLevels = createLookupLevels(levels, MemorySize.ofMebiBytes(10));
+
+        // in the key range of both files, but skipped by the bloom filters
+        assertThat(lookupLevels.lookup(row(4), 1)).isNull();
+        assertThat(lookupLevels.lookupFiles().size()).isEqualTo(0);
+
+        // skip level 1
+        KeyValue kv = lookupLevels.lookup(row(2), 1);
+        assertThat(kv).isNotNull();
+        assertThat(kv.level()).isEqualTo(2);
+        assertThat(kv.value().getInt(1)).isEqualTo(22);
+        assertThat(lookupLevels.lookupFiles().asMap().keySet()).containsExactly(file2.fileName());
+
+        kv = lookupLevels.lookup(row(5), 1);
+        assertThat(kv).isNotNull();
+        assertThat(kv.level()).isEqualTo(1);
+        assertThat(kv.value().getInt(1)).isEqualTo(5);
+        lookupLevels.close();
+
+        // bloom filter files are deleted with data files
+        KeyValueFileWriterFactory writerFactory = createWriterFactory(options);
+        Path bloomFilterPath = writerFactory.pathFactory().toPath(file1.extraFiles().get(0));
+        FileIO fileIO = FileIOFinder.find(bloomFilterPath);
+        assertThat(fileIO.exists(bloomFilterPath)).isTrue();
+        writerFactory.deleteFile(file1);
+        assertThat(fileIO.exists(bloomFilterPath)).isFalse();
+    }
+
+    @Test
+    public void testMissingKeyBloomFilter() throws IOException {
+        Options options = new Options();
+        options.set(CoreOptions.LOOKUP_BLOOM_FILTER_ENABLED, true);
+        DataFileMeta file = newFile(options, 1, kv(1, 11), kv(3, 33));
+        KeyValueFileWriterFactory writerFactory = createWriterFactory(options);
+        Path bloomFilterPath = writerFactory.pathFactory().toPath(file.extraFiles().get(0));
+        FileIOFinder.find(bloomFilterPath).deleteQuietly(bloomFilterPath);
+        assertThat(createReaderFactory().readKeyBloomFilter(file)).isNull();
+
+        // the data file might contain any key without bloom filter
+        Levels levels = new Levels(comparator, Collections.singletonList(file), 2);
+        LookupLevels lookupLevels = createLookupLevels(levels, MemorySize.ofMebiBytes(10));
+        KeyValue kv = lookupLevels.lookup(row(3), 1);
+        assertThat(kv).isNotNull();
+        assertThat(kv.value().getInt(1)).isEqualTo(33);
+        assertThat(lookupLevels.lookup(row(2), 1)).isNull();
+        lookupLevels.close();
+    }
+
+    private Object gaugeValue(Map<String, Metric> metrics, String name) {
+        return ((Gauge<?>) metrics.get(name)).getValue();
     }
 
     private KeyValue kv(int key, int value) {
@@ -217,8 +523,13 @@ public class LookupLevelsTest {
     }
 
     private DataFileMeta newFile(int level, KeyValue... records) throws IOException {
+        return newFile(new Options(), level, records);
+    }
+
+    private DataFileMeta newFile(Options options, int level, KeyValue... records)
+            throws IOException {
         RollingFileWriter<KeyValue, DataFileMeta> writer =
-                createWriterFactory().createRollingMergeTreeFileWriter(level);
+                createWriterFactory(options).createRollingMergeTreeFileWriter(level);
         for (KeyValue kv : records) {
             writer.write(kv);
         }
@@ -226,7 +537,7 @@ public class LookupLevelsTest {
         return writer.result().get(0);
     }
 
-    private KeyValueFileWriterFactory createWriterFactory() {
+    private KeyValueFileWriterFactory createWriterFactory(Options options) {
         Path path = new Path(tempDir.toUri().toString());
         return KeyValueFileWriterFactory.builder(
                         FileIOFinder.find(path),
@@ -236,7 +547,7 @@ public class LookupLevelsTest {
                         new FlushingFileFormat("avro"),
                         new FileStorePathFactory(path),
                         TARGET_FILE_SIZE.defaultValue().getBytes())
-                .build(BinaryRow.EMPTY_ROW, 0, null, null, new CoreOptions(new Options()));
+                .build(BinaryRow.EMPTY_ROW, 0, null, null, new CoreOptions(options));
     }
 
     private KeyValueFileReaderFactory createReaderFactory() {
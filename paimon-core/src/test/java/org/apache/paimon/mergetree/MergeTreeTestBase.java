@@ -23,6 +23,7 @@ import org.apache.paimon.CoreOptions.ChangelogProducer;
 import org.apache.paimon.CoreOptions.SortEngine;
 import org.apache.paimon.KeyValue;
 import org.apache.paimon.compact.CompactResult;
+import org.apache.paimon.compression.Lz4BlockCompressionFactory;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
@@ -41,6 +42,7 @@ import org.apache.paimon.mergetree.compact.CompactRewriter;
 import org.apache.paimon.mergetree.compact.CompactStrategy;
 import org.apache.paimon.mergetree.compact.DeduplicateMergeFunction;
 import org.apache.paimon.mergetree.compact.IntervalPartition;
+import org.apache.paimon.mergetree.compact.MergeFunction;
 import org.apache.paimon.mergetree.compact.MergeTreeCompactManager;
 import org.apache.paimon.mergetree.compact.UniversalCompaction;
 import org.apache.paimon.options.MemorySize;
@@ -84,16 +86,20 @@ import java.util.TreeMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 /** Tests for {@link MergeTreeReaders} and {@link MergeTreeWriter}. */
 public abstract class MergeTreeTestBase {
 
     @TempDir java.nio.file.Path tempDir;
     private static ExecutorService service;
+    private static ExecutorService flushService;
     private Path path;
     private FileStorePathFactory pathFactory;
     private Comparator<InternalRow> comparator;
@@ -135,7 +141,9 @@ public abstract class MergeTreeTestBase {
 
     private void recreateMergeTree(long targetFileSize) {
         Options configuration = new Options();
-        configuration.set(CoreOptions.WRITE_BUFFER_SIZE, new MemorySize(4096 * 3));
+        // async flush splits the buffer into two halves
+        configuration.set(
+                CoreOptions.WRITE_BUFFER_SIZE, new MemorySize(4096 * 3 * (asyncFlush() ? 2 : 1)));
         configuration.set(CoreOptions.PAGE_SIZE, new MemorySize(4096));
         configuration.set(CoreOptions.TARGET_FILE_SIZE, new MemorySize(targetFileSize));
         options = new CoreOptions(configuration);
@@ -202,12 +210,15 @@ public abstract class MergeTreeTestBase {
     @BeforeAll
     public static void before() {
         service = Executors.newSingleThreadExecutor();
+        flushService = Executors.newSingleThreadExecutor();
     }
 
     @AfterAll
     public static void after() {
         service.shutdownNow();
         service = null;
+        flushService.shutdownNow();
+        flushService = null;
     }
 
     @Test
@@ -272,6 +283,8 @@ public abstract class MergeTreeTestBase {
                     createCompactManager(service, new ArrayList<>());
             writer = createMergeTreeWriter(dataFileMetas, compactManager);
             writeBatch(200);
+            // wait for the async flush
+            writer.sync();
             newFiles.addAll(writer.dataFiles());
         }
         return newFiles;
@@ -366,6 +379,52 @@ public abstract class MergeTreeTestBase {
         assertRecords(expected, compactedFiles, true);
     }
 
+    @Test
+    public void testCloseAfterFailedAsyncFlush() throws Exception {
+        assumeTrue(asyncFlush());
+
+        AtomicBoolean fail = new AtomicBoolean(false);
+        MergeFunction<KeyValue> deduplicate = DeduplicateMergeFunction.factory().create();
+        MergeFunction<KeyValue> mergeFunction =
+                new MergeFunction<KeyValue>() {
+                    @Override
+                    public void reset() {
+                        deduplicate.reset();
+                    }
+
+                    @Override
+                    public void add(KeyValue kv) {
+                        if (fail.get()) {
+                            throw new RuntimeException("Mock flush failure.");
+                        }
+                        deduplicate.add(kv);
+                    }
+
+                    @Override
+                    public KeyValue getResult() {
+                        return deduplicate.getResult();
+                    }
+                };
+        writer =
+                createMergeTreeWriter(
+                        Collections.emptyList(),
+                        createCompactManager(service, Collections.emptyList()),
+                        mergeFunction);
+
+        // flush a file which should be deleted when closing
+        writeBatch();
+        writer.compact(false);
+        writer.sync();
+        assertThat(listBucketFiles()).isNotEmpty();
+
+        // write until the failure of the async flush is thrown
+        fail.set(true);
+        assertThatThrownBy(() -> writeBatch(100_000)).hasRootCauseMessage("Mock flush failure.");
+
+        writer.close();
+        assertThat(listBucketFiles()).isEmpty();
+    }
+
     @Test
     public void testWriteMany() throws Exception {
         doTestWriteRead(3, 20_000);
@@ -406,37 +465,53 @@ public abstract class MergeTreeTestBase {
 
         writer.close();
 
-        Path bucketDir = writerFactory.pathFactory().toPath("ignore").getParent();
-        Set<String> files =
-                Arrays.stream(LocalFileIO.create().listStatus(bucketDir))
-                        .map(FileStatus::getPath)
-                        .map(Path::getName)
-                        .collect(Collectors.toSet());
+        Set<String> files = listBucketFiles();
         newFiles.stream().map(DataFileMeta::fileName).forEach(files::remove);
         compactedFiles.stream().map(DataFileMeta::fileName).forEach(files::remove);
         assertThat(files).isEqualTo(Collections.emptySet());
     }
 
+    private Set<String> listBucketFiles() throws IOException {
+        Path bucketDir = writerFactory.pathFactory().toPath("ignore").getParent();
+        return Arrays.stream(LocalFileIO.create().listStatus(bucketDir))
+                .map(FileStatus::getPath)
+                .map(Path::getName)
+                .collect(Collectors.toSet());
+    }
+
     private MergeTreeWriter createMergeTreeWriter(List<DataFileMeta> files) {
         return createMergeTreeWriter(files, createCompactManager(service, files));
     }
 
     private MergeTreeWriter createMergeTreeWriter(
             List<DataFileMeta> files, MergeTreeCompactManager compactManager) {
+        return createMergeTreeWriter(
+                files, compactManager, DeduplicateMergeFunction.factory().create());
+    }
+
+    private MergeTreeWriter createMergeTreeWriter(
+            List<DataFileMeta> files,
+            MergeTreeCompactManager compactManager,
+            MergeFunction<KeyValue> mergeFunction) {
         long maxSequenceNumber =
                 files.stream().map(DataFileMeta::maxSequenceNumber).max(Long::compare).orElse(-1L);
         MergeTreeWriter writer =
                 new MergeTreeWriter(
                         false,
                         128,
+                        1,
+                        null,
+                        new Lz4BlockCompressionFactory(),
+                        asyncFlush() ? flushService : null,
                         null,
                         compactManager,
                         maxSequenceNumber,
                         comparator,
-                        DeduplicateMergeFunction.factory().create(),
+                        mergeFunction,
                         writerFactory,
                         options.commitForceCompact(),
                         ChangelogProducer.NONE,
+                        null,
                         null);
         writer.setMemoryPool(
                 new HeapMemorySegmentPool(options.writeBufferSize(), options.pageSize()));
@@ -457,7 +532,8 @@ public abstract class MergeTreeTestBase {
                 comparator,
                 options.targetFileSize(),
                 options.numSortedRunStopTrigger(),
-                new TestRewriter());
+                new TestRewriter(),
+                null);
     }
 
     static class MockFailResultCompactionManager extends MergeTreeCompactManager {
@@ -476,7 +552,8 @@ public abstract class MergeTreeTestBase {
                     keyComparator,
                     minFileSize,
                     numSortedRunStopTrigger,
-                    rewriter);
+                    rewriter,
+                    null);
         }
 
         protected CompactResult obtainCompactResult() throws ExecutionException {
@@ -502,7 +579,7 @@ public abstract class MergeTreeTestBase {
             assertThat(remove).isTrue();
             // See MergeTreeWriter.updateCompactResult
             if (!newFileNames.contains(file.fileName()) && !afterFiles.contains(file.fileName())) {
-                compactWriterFactory.deleteFile(file.fileName());
+                compactWriterFactory.deleteFile(file);
             }
         }
         compactedFiles.addAll(increment.compactIncrement().compactAfter());
@@ -645,6 +722,24 @@ public abstract class MergeTreeTestBase {
         }
     }
 
+    protected boolean asyncFlush() {
+        return false;
+    }
+
+    /** {@link MergeTreeTestBase} with async flush of the write buffer. */
+    public static class MergeTreeTestWithAsyncFlush extends MergeTreeTestBase {
+
+        @Override
+        protected SortEngine getSortEngine() {
+            return CoreOptions.SORT_ENGINE.defaultValue();
+        }
+
+        @Override
+        protected boolean asyncFlush() {
+            return true;
+        }
+    }
+
     /** {@link MergeTreeTestBase} with {@link SortEngine#LOSER_TREE}. */
     public static class MergeTreeTestWithLoserTree extends MergeTreeTestBase {
 
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.mergetree;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link PersistedLookupFiles}. */
+public class PersistedLookupFilesTest {
+
+    @TempDir Path tempDir;
+
+    @Test
+    public void testAcquireAndRelease() throws IOException {
+        PersistedLookupFiles files = create(Long.MAX_VALUE, "format");
+        assertThat(files.acquire("data-1")).isNull();
+
+        File file = build(files, "data-1", 10);
+        assertThat(file).hasSize(10);
+        files.release(file);
+
+        File acquired = files.acquire("data-1");
+        assertThat(acquired).isEqualTo(file);
+        files.release(acquired);
+
+        // the files of different formats are different
+        assertThat(create(Long.MAX_VALUE, "another").acquire("data-1")).isNull();
+    }
+
+    @Test
+    public void testEvictUnusedFiles() throws IOException {
+        PersistedLookupFiles.Directory directory =
+                new PersistedLookupFiles.Directory(tempDir.toFile(), 25);
+        PersistedLookupFiles files = new PersistedLookupFiles(directory, "format");
+
+        File file1 = build(files, "data-1", 10);
+        File file2 = build(files, "data-2", 10);
+        files.release(file1);
+        files.release(file2);
+        // touch file1, file2 is the least recently used
+        files.release(files.acquire("data-1"));
+
+        File file3 = build(files, "data-3", 10);
+        assertThat(file1).exists();
+        assertThat(file2).doesNotExist();
+        assertThat(directory.totalSize()).isEqualTo(20);
+
+        // files in use are not evicted
+        File file4 = build(files, "data-4", 10);
+        File file5 = build(files, "data-5", 10);
+        assertThat(file1).doesNotExist();
+        assertThat(file3).exists();
+        assertThat(file4).exists();
+        assertThat(file5).exists();
+        assertThat(directory.totalSize()).isEqualTo(30);
+
+        files.release(file3);
+        assertThat(file3).doesNotExist();
+        assertThat(directory.totalSize()).isEqualTo(20);
+    }
+
+    @Test
+    public void testRecover() throws IOException {
+        PersistedLookupFiles files = create(Long.MAX_VALUE, "format");
+        files.release(build(files, "data-1", 10));
+        File tempFile = files.createTempFile("data-2");
+        File staleTempFile = files.createTempFile("data-3");
+        assertThat(staleTempFile.setLastModified(System.currentTimeMillis() - 2 * 3600 * 1000))
+                .isTrue();
+
+        // a new process
+        PersistedLookupFiles.Directory directory =
+                new PersistedLookupFiles.Directory(tempDir.toFile(), Long.MAX_VALUE);
+        assertThat(directory.totalSize()).isEqualTo(10);
+        assertThat(tempFile).exists();
+        assertThat(staleTempFile).doesNotExist();
+
+        files = new PersistedLookupFiles(directory, "format");
+        assertThat(files.acquire("data-1")).hasSize(10);
+    }
+
+    @Test
+    public void testConcurrentCommit() throws IOException {
+        PersistedLookupFiles files = create(Long.MAX_VALUE, "format");
+        File tempFile1 = files.createTempFile("data-1");
+        File tempFile2 = files.createTempFile("data-1");
+        Files.write(tempFile1.toPath(), new byte[10]);
+        Files.write(tempFile2.toPath(), new byte[10]);
+
+        File file1 = files.commit("data-1", tempFile1);
+        File file2 = files.commit("data-1", tempFile2);
+        assertThat(file2).isEqualTo(file1);
+        assertThat(tempFile2).doesNotExist();
+
+        // the file is discarded after all users release it
+        files.discard(file1);
+        assertThat(file1).exists();
+        files.discard(file2);
+        assertThat(file1).doesNotExist();
+        assertThat(files.acquire("data-1")).isNull();
+    }
+
+    private PersistedLookupFiles create(long maxDiskSize, String format) {
+        return new PersistedLookupFiles(
+                new PersistedLookupFiles.Directory(tempDir.toFile(), maxDiskSize), format);
+    }
+
+    private File build(PersistedLookupFiles files, String dataFileName, int size)
+            throws IOException {
+        File tempFile = files.createTempFile(dataFileName);
+        Files.write(tempFile.toPath(), new byte[size]);
+        return files.commit(dataFileName, tempFile);
+    }
+}
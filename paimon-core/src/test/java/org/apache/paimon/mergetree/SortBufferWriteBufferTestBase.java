@@ -20,6 +20,7 @@ package org.apache.paimon.mergetree;
 
 import org.apache.paimon.KeyValue;
 import org.apache.paimon.codegen.RecordComparator;
+import org.apache.paimon.compression.Lz4BlockCompressionFactory;
 import org.apache.paimon.memory.HeapMemorySegmentPool;
 import org.apache.paimon.mergetree.compact.DeduplicateMergeFunction;
 import org.apache.paimon.mergetree.compact.MergeFunction;
@@ -59,6 +60,9 @@ public abstract class SortBufferWriteBufferTestBase {
                     new HeapMemorySegmentPool(32 * 1024 * 3L, 32 * 1024),
                     false,
                     128,
+                    1,
+                    null,
+                    new Lz4BlockCompressionFactory(),
                     null);
 
     protected abstract boolean addOnly();
@@ -27,6 +27,7 @@ import org.apache.paimon.mergetree.compact.aggregate.FieldAggregator;
 import org.apache.paimon.mergetree.compact.aggregate.FieldSumAgg;
 import org.apache.paimon.types.DataTypes;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -277,4 +278,51 @@ public class LookupChangelogMergeFunctionWrapperTest {
         assertThat(kv).isNotNull();
         assertThat(kv.value().getInt(0)).isEqualTo(2);
     }
+
+    @Test
+    public void testDeferredLookup() {
+        LookupChangelogMergeFunctionWrapper function =
+                new LookupChangelogMergeFunctionWrapper(
+                        LookupMergeFunction.wrap(DeduplicateMergeFunction.factory()),
+                        null,
+                        EQUALISER,
+                        false);
+
+        // With level-0 record, with level-x (x > 0) record, no lookup
+        function.reset();
+        function.add(new KeyValue().replace(row(1), 1, INSERT, row(1)).setLevel(1));
+        function.add(new KeyValue().replace(row(1), 2, INSERT, row(2)).setLevel(0));
+        ChangelogResult result = function.getResult();
+        assertThat(LookupChangelogMergeFunctionWrapper.lookupRequired(result)).isFalse();
+        assertThat(result.changelogs()).hasSize(2);
+
+        // With level-0 record, without level-x record, the lookup is left to the caller
+        function.reset();
+        function.add(new KeyValue().replace(row(1), 2, INSERT, row(2)).setLevel(0));
+        result = function.getResult();
+        assertThat(LookupChangelogMergeFunctionWrapper.lookupRequired(result)).isTrue();
+        assertThat(result.changelogs()).isEmpty();
+        KeyValue kv = result.result();
+        assertThat(kv).isNotNull();
+        assertThat(kv.value().getInt(0)).isEqualTo(2);
+
+        // resolve with the looked up high level record
+        result =
+                function.resolve(kv, new KeyValue().replace(row(1), 1, INSERT, row(1)).setLevel(2));
+        assertThat(LookupChangelogMergeFunctionWrapper.lookupRequired(result)).isFalse();
+        List<KeyValue> changelogs = result.changelogs();
+        assertThat(changelogs).hasSize(2);
+        assertThat(changelogs.get(0).valueKind()).isEqualTo(UPDATE_BEFORE);
+        assertThat(changelogs.get(0).value().getInt(0)).isEqualTo(1);
+        assertThat(changelogs.get(1).valueKind()).isEqualTo(UPDATE_AFTER);
+        assertThat(changelogs.get(1).value().getInt(0)).isEqualTo(2);
+        assertThat(result.result().value().getInt(0)).isEqualTo(2);
+
+        // resolve without high level record
+        result = function.resolve(kv, null);
+        changelogs = result.changelogs();
+        assertThat(changelogs).hasSize(1);
+        assertThat(changelogs.get(0).valueKind()).isEqualTo(INSERT);
+        assertThat(changelogs.get(0).value().getInt(0)).isEqualTo(2);
+    }
 }
@@ -28,13 +28,17 @@ import org.apache.paimon.fs.Path;
 import org.apache.paimon.fs.local.LocalFileIO;
 import org.apache.paimon.index.IndexFileHandler;
 import org.apache.paimon.index.IndexFileMeta;
+import org.apache.paimon.io.CompactIncrement;
+import org.apache.paimon.io.NewFilesIncrement;
 import org.apache.paimon.manifest.IndexManifestEntry;
 import org.apache.paimon.manifest.ManifestCommittable;
+import org.apache.paimon.manifest.ManifestEntry;
 import org.apache.paimon.mergetree.compact.DeduplicateMergeFunction;
 import org.apache.paimon.predicate.PredicateBuilder;
 import org.apache.paimon.schema.Schema;
 import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.schema.SchemaUtils;
+import org.apache.paimon.table.sink.CommitMessageImpl;
 import org.apache.paimon.testutils.assertj.AssertionUtils;
 import org.apache.paimon.types.RowKind;
 import org.apache.paimon.utils.FailingFileIO;
@@ -61,7 +65,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -560,6 +566,100 @@ public class FileStoreCommitTest {
         }
     }
 
+    @Test
+    public void testConflictsWithConcurrentCommit() throws Exception {
+        TestFileStore store = createStore(false, 2);
+        store.commitData(generateDataList(10), gen::getPartition, kv -> 0);
+
+        // compact a file of the latest snapshot away
+        ManifestCommittable committable =
+                compactAwayCommittable(store.newScan().plan().files().get(0));
+
+        // another job overwrites the table before the first attempt of committing, the retry
+        // should detect the conflict from the delta of the new snapshot
+        AtomicBoolean overwritten = new AtomicBoolean(false);
+        FileStoreCommit commit =
+                store.newCommit()
+                        .withLock(
+                                new Lock() {
+                                    @Override
+                                    public <T> T runWithLock(Callable<T> callable)
+                                            throws Exception {
+                                        if (!overwritten.getAndSet(true)) {
+                                            store.overwriteData(
+                                                    generateDataList(10),
+                                                    gen::getPartition,
+                                                    kv -> 0,
+                                                    Collections.emptyMap());
+                                        }
+                                        return callable.call();
+                                    }
+
+                                    @Override
+                                    public void close() {}
+                                });
+        assertThatThrownBy(() -> commit.commit(committable, Collections.emptyMap()))
+                .hasMessageContaining("File deletion conflicts detected! Give up committing.");
+        assertThat(overwritten).isTrue();
+    }
+
+    @Test
+    public void testConflictsAcrossCommits() throws Exception {
+        TestFileStore store = createStore(false, 2);
+        FileStoreCommit commit = store.newCommit();
+
+        // commits of the same committer reuse the entries checked by the last commit
+        for (int i = 0; i < 3; i++) {
+            store.commitDataImpl(
+                    generateDataList(10),
+                    gen::getPartition,
+                    kv -> 0,
+                    false,
+                    (long) i,
+                    null,
+                    Collections.emptyList(),
+                    (c, committable) -> commit.commit(committable, Collections.emptyMap()));
+        }
+        List<ManifestEntry> entries = store.newScan().plan().files();
+        assertThat(entries).isNotEmpty();
+        ManifestCommittable committable = compactAwayCommittable(entries.get(0));
+
+        // another job overwrites the table, the next commit should apply the delta of it
+        store.overwriteData(
+                generateDataList(10), gen::getPartition, kv -> 0, Collections.emptyMap());
+        assertThatThrownBy(() -> commit.commit(committable, Collections.emptyMap()))
+                .hasMessageContaining("File deletion conflicts detected! Give up committing.");
+    }
+
+    @Test
+    public void testConflictsWithCheckedEntriesOfLatestSnapshot() throws Exception {
+        TestFileStore store = createStore(false, 2);
+        store.commitData(generateDataList(10), gen::getPartition, kv -> 0);
+        ManifestEntry entry = store.newScan().plan().files().get(0);
+
+        FileStoreCommit commit = store.newCommit();
+        commit.commit(compactAwayCommittable(entry), Collections.emptyMap());
+
+        // the checked entries are at the latest snapshot, the changes must still be checked
+        assertThatThrownBy(
+                        () -> commit.commit(compactAwayCommittable(entry), Collections.emptyMap()))
+                .hasMessageContaining("File deletion conflicts detected! Give up committing.");
+    }
+
+    private ManifestCommittable compactAwayCommittable(ManifestEntry entry) {
+        ManifestCommittable committable = new ManifestCommittable(Long.MAX_VALUE);
+        committable.addFileCommittable(
+                new CommitMessageImpl(
+                        entry.partition(),
+                        entry.bucket(),
+                        NewFilesIncrement.emptyIncrement(),
+                        new CompactIncrement(
+                                Collections.singletonList(entry.file()),
+                                Collections.emptyList(),
+                                Collections.emptyList())));
+        return committable;
+    }
+
     @Test
     public void testCommitWatermarkWithValue() throws Exception {
         TestFileStore store = createStore(false, 2);
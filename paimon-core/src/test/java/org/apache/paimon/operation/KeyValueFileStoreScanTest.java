@@ -50,6 +50,7 @@ import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /** Tests for {@link KeyValueFileStoreScan}. */
 public class KeyValueFileStoreScanTest {
@@ -163,6 +164,66 @@ public class KeyValueFileStoreScanTest {
         runTestExactMatch(scan, snapshot.id(), expected);
     }
 
+    @Test
+    public void testWithBucketPruneManifests() throws Exception {
+        List<KeyValue> data1 = generateData(100);
+        store.commitData(data1, gen::getPartition, kv -> 1);
+        List<KeyValue> data2 = generateData(100);
+        Snapshot snapshot = store.commitData(data2, gen::getPartition, kv -> 7).get(0);
+
+        ManifestList manifestList = store.manifestListFactory().create();
+        List<ManifestFileMeta> deltaManifests = snapshot.deltaManifests(manifestList);
+        assertThat(deltaManifests).isNotEmpty();
+        for (ManifestFileMeta manifest : deltaManifests) {
+            assertThat(manifest.minBucket()).isEqualTo(7);
+            assertThat(manifest.maxBucket()).isEqualTo(7);
+            assertThat(manifest.minLevel()).isEqualTo(0);
+            assertThat(manifest.maxLevel()).isEqualTo(0);
+            assertThat(manifest.minTotalBuckets()).isEqualTo(NUM_BUCKETS);
+            assertThat(manifest.maxTotalBuckets()).isEqualTo(NUM_BUCKETS);
+
+            // pruned manifests should never be read
+            LocalFileIO.create()
+                    .deleteQuietly(store.pathFactory().toManifestFilePath(manifest.fileName()));
+        }
+
+        FileStoreScan scan = store.newScan();
+        scan.withSnapshot(snapshot.id());
+        scan.withBucket(1);
+        runTestExactMatch(scan, snapshot.id(), store.toKvMap(data1));
+
+        scan = store.newScan();
+        scan.withSnapshot(snapshot.id());
+        scan.withLevelFilter(level -> level > 0);
+        runTestExactMatch(scan, snapshot.id(), Collections.emptyMap());
+    }
+
+    @Test
+    public void testWithBucketAfterRescale() throws Exception {
+        List<KeyValue> data = generateData(100);
+        store.commitData(data, gen::getPartition, kv -> 1);
+
+        // the manifests only contain bucket 1 of the old bucket number, they must not be pruned
+        // by the bucket of a writer with a new bucket number
+        TestFileStore rescaled =
+                new TestFileStore.Builder(
+                                "avro",
+                                tempDir.toString(),
+                                NUM_BUCKETS * 2,
+                                TestKeyValueGenerator.DEFAULT_PART_TYPE,
+                                TestKeyValueGenerator.KEY_TYPE,
+                                TestKeyValueGenerator.DEFAULT_ROW_TYPE,
+                                TestKeyValueGenerator.TestKeyValueFieldsExtractor.EXTRACTOR,
+                                DeduplicateMergeFunction.factory())
+                        .build();
+        assertThatThrownBy(
+                        () -> rescaled.commitData(data, gen::getPartition, kv -> NUM_BUCKETS + 1))
+                .hasMessageContaining(
+                        String.format(
+                                "with a new bucket num %d, but the previous bucket num is %d",
+                                NUM_BUCKETS * 2, NUM_BUCKETS));
+    }
+
     @Test
     public void testWithSnapshot() throws Exception {
         ThreadLocalRandom random = ThreadLocalRandom.current();
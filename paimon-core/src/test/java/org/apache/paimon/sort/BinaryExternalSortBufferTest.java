@@ -18,6 +18,9 @@
 
 package org.apache.paimon.sort;
 
+import org.apache.paimon.codegen.NormalizedKeyComputer;
+import org.apache.paimon.compression.BlockCompressionFactory;
+import org.apache.paimon.compression.Lz4BlockCompressionFactory;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.BinaryRowWriter;
 import org.apache.paimon.data.BinaryString;
@@ -32,6 +35,8 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.File;
 import java.io.IOException;
@@ -56,10 +61,18 @@ public class BinaryExternalSortBufferTest {
     private MemorySegmentPool memorySegmentPool;
     private int totalPages;
     private BinaryRowSerializer serializer;
+    private int sortParallelism = 1;
+    private NormalizedKeyComputer normalizedKeyComputer = IntNormalizedKeyComputer.INSTANCE;
+    private BlockCompressionFactory compressionFactory;
+    private BlockCompressionFactory spillCompressionFactory = new Lz4BlockCompressionFactory();
 
     private static String getString(int count) {
+        return getString(count, 8);
+    }
+
+    private static String getString(int count, int repeat) {
         StringBuilder builder = new StringBuilder();
-        for (int i = 0; i < 8; i++) {
+        for (int i = 0; i < repeat; i++) {
             builder.append(count);
         }
         return builder.toString();
@@ -205,6 +218,13 @@ public class BinaryExternalSortBufferTest {
         sorter.clear();
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"zstd", "snappy"})
+    public void testSpillingWithCompression(String compression) throws Exception {
+        spillCompressionFactory = BlockCompressionFactory.create(compression, 3);
+        innerTestSpilling(createBuffer(8));
+    }
+
     @Test
     public void testMergeManyTimes() throws Exception {
         int size = 1000_000;
@@ -262,38 +282,166 @@ public class BinaryExternalSortBufferTest {
         sorter.clear();
     }
 
+    @Test
+    public void testParallelSortNoSpill() throws Exception {
+        sortParallelism = 4;
+        initMemorySegmentPool(1024 * 1024 * 101);
+        innerTestSortShuffled(createBuffer(), 100_000);
+    }
+
+    @Test
+    public void testParallelSortSpilling() throws Exception {
+        sortParallelism = 4;
+        innerTestSortShuffled(createBuffer(8), 1000_000);
+    }
+
+    @Test
+    public void testCompressedSortNoSpill() throws Exception {
+        compressionFactory = new Lz4BlockCompressionFactory();
+        innerTestSortShuffled(createBuffer(), 100_000, 64);
+    }
+
+    @Test
+    public void testCompressedSortSpilling() throws Exception {
+        compressionFactory = new Lz4BlockCompressionFactory();
+        sortParallelism = 4;
+        innerTestSortShuffled(createBuffer(8), 500_000, 64);
+    }
+
+    @Test
+    public void testCompressedSortComparingRecords() throws Exception {
+        compressionFactory = new Lz4BlockCompressionFactory();
+        // records with equal normalized keys are compared after decompression
+        normalizedKeyComputer = new NotFullyDeterminingKeyComputer();
+        int size = 10_000;
+
+        BinaryExternalSortBuffer sorter = createBuffer();
+        for (int i = 0; i < 3; i++) {
+            sorter.write(new MockBinaryRowReader(size, 64));
+        }
+        assertThat(sorter.size()).isEqualTo(size * 3);
+
+        MutableObjectIterator<BinaryRow> iterator = sorter.sortedIterator();
+        BinaryRow next = serializer.createInstance();
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < 3; j++) {
+                next = iterator.next(next);
+                assertThat(next.getInt(0)).isEqualTo(i);
+                assertThat(next.getString(1).toString()).isEqualTo(getString(i, 64));
+            }
+        }
+        assertThat(iterator.next(next)).isNull();
+
+        sorter.clear();
+    }
+
+    @Test
+    public void testCompressedBufferHoldsMoreRecords() throws Exception {
+        int size = 10_000;
+        BinaryInMemorySortBuffer raw = createInMemoryBuffer();
+        compressionFactory = new Lz4BlockCompressionFactory();
+        BinaryInMemorySortBuffer compressed = createInMemoryBuffer();
+
+        MockBinaryRowReader rawReader = new MockBinaryRowReader(size, 64);
+        MockBinaryRowReader compressedReader = new MockBinaryRowReader(size, 64);
+        for (int i = 0; i < size; i++) {
+            assertThat(raw.write(rawReader.next())).isTrue();
+            assertThat(compressed.write(compressedReader.next())).isTrue();
+        }
+        assertThat(compressed.getOccupancy()).isLessThan(raw.getOccupancy() / 2);
+
+        raw.clear();
+        compressed.clear();
+    }
+
+    private void innerTestSortShuffled(BinaryExternalSortBuffer sorter, int size) throws Exception {
+        innerTestSortShuffled(sorter, size, 8);
+    }
+
+    private void innerTestSortShuffled(BinaryExternalSortBuffer sorter, int size, int repeat)
+            throws Exception {
+        MockBinaryRowReader reader = new MockBinaryRowReader(size, repeat);
+        List<BinaryRow> data = new ArrayList<>();
+        BinaryRow row = serializer.createInstance();
+        for (int i = 0; i < size; i++) {
+            row = reader.next(row);
+            data.add(row.copy());
+        }
+        Collections.shuffle(data);
+        for (BinaryRow record : data) {
+            sorter.write(record);
+        }
+
+        MutableObjectIterator<BinaryRow> iterator = sorter.sortedIterator();
+        BinaryRow previous = null;
+        for (int i = 0; i < size; i++) {
+            BinaryRow next = iterator.next(serializer.createInstance());
+            assertThat(next.getInt(0)).isEqualTo(i);
+            assertThat(next.getString(1).toString()).isEqualTo(getString(i, repeat));
+            // the previous row is still valid after reading the next one
+            if (previous != null) {
+                assertThat(previous.getInt(0)).isEqualTo(i - 1);
+                assertThat(previous.getString(1).toString()).isEqualTo(getString(i - 1, repeat));
+            }
+            previous = next;
+        }
+        assertThat(iterator.next(serializer.createInstance())).isNull();
+
+        sorter.clear();
+    }
+
     private BinaryExternalSortBuffer createBuffer() {
         return createBuffer(128);
     }
 
     private BinaryExternalSortBuffer createBuffer(int maxNumFileHandles) {
-        @SuppressWarnings({"unchecked", "rawtypes"})
-        BinaryInMemorySortBuffer inMemorySortBuffer =
-                BinaryInMemorySortBuffer.createBuffer(
-                        IntNormalizedKeyComputer.INSTANCE,
-                        (AbstractRowDataSerializer) serializer,
-                        IntRecordComparator.INSTANCE,
-                        memorySegmentPool);
         return new BinaryExternalSortBuffer(
                 serializer,
                 IntRecordComparator.INSTANCE,
                 MemorySegmentPool.DEFAULT_PAGE_SIZE,
-                inMemorySortBuffer,
+                createInMemoryBuffer(),
                 ioManager,
-                maxNumFileHandles);
+                maxNumFileHandles,
+                spillCompressionFactory);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private BinaryInMemorySortBuffer createInMemoryBuffer() {
+        return BinaryInMemorySortBuffer.createBuffer(
+                normalizedKeyComputer,
+                (AbstractRowDataSerializer) serializer,
+                IntRecordComparator.INSTANCE,
+                memorySegmentPool,
+                sortParallelism,
+                compressionFactory);
+    }
+
+    /** A {@link IntNormalizedKeyComputer} which does not fully determine the order. */
+    private static class NotFullyDeterminingKeyComputer extends IntNormalizedKeyComputer {
+
+        @Override
+        public boolean isKeyFullyDetermines() {
+            return false;
+        }
     }
 
     /** Mock reader for binary row. */
     public static class MockBinaryRowReader implements MutableObjectIterator<BinaryRow> {
 
         private final int size;
+        private final int repeat;
         private final BinaryRow row;
         private final BinaryRowWriter writer;
 
         private int count;
 
         public MockBinaryRowReader(int size) {
+            this(size, 8);
+        }
+
+        public MockBinaryRowReader(int size, int repeat) {
             this.size = size;
+            this.repeat = repeat;
             this.row = new BinaryRow(2);
             this.writer = new BinaryRowWriter(row);
         }
@@ -310,7 +458,7 @@ public class BinaryExternalSortBufferTest {
             }
             writer.reset();
             writer.writeInt(0, count);
-            writer.writeString(1, BinaryString.fromString(getString(count)));
+            writer.writeString(1, BinaryString.fromString(getString(count, repeat)));
             writer.complete();
             count++;
             return row;
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.sort;
+
+import org.apache.paimon.codegen.CodeGenUtils;
+import org.apache.paimon.codegen.NormalizedKeyComputer;
+import org.apache.paimon.codegen.RecordComparator;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.memory.HeapMemorySegmentPool;
+import org.apache.paimon.memory.MemorySegmentPool;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.MutableObjectIterator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link RadixSort}. */
+public class RadixSortTest {
+
+    @Test
+    public void testKeyByteOffsets() {
+        // chunks of 4 and 1 bytes, the last chunk is the least significant
+        int[] expected =
+                BinaryRow.LITTLE_ENDIAN ? new int[] {4, 0, 1, 2, 3} : new int[] {4, 3, 2, 1, 0};
+        assertThat(RadixSort.keyByteOffsets(5)).containsExactly(expected);
+        assertThat(RadixSort.keyByteOffsets(14)).hasSize(14);
+    }
+
+    @Test
+    public void testFixedWidthKeys() throws Exception {
+        RowType rowType = RowType.of(DataTypes.BIGINT(), DataTypes.INT(), DataTypes.STRING());
+        Random random = new Random();
+        List<InternalRow> rows = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            rows.add(
+                    GenericRow.of(
+                            random.nextInt(10) == 0 ? null : (long) random.nextInt(1000) - 500,
+                            random.nextInt(10) == 0 ? null : random.nextInt(),
+                            BinaryString.fromString(String.valueOf(i))));
+        }
+
+        BinaryInMemorySortBuffer buffer =
+                createBuffer(rowType, Arrays.asList(DataTypes.BIGINT(), DataTypes.INT()));
+        assertThat(RadixSort.isSupported(buffer)).isTrue();
+        assertSorted(buffer, rowType, rows, 2);
+    }
+
+    @Test
+    public void testNotFullyDeterminingKeys() throws Exception {
+        RowType rowType = RowType.of(DataTypes.STRING(), DataTypes.INT());
+        BinaryInMemorySortBuffer buffer =
+                createBuffer(rowType, Arrays.asList(DataTypes.STRING(), DataTypes.INT()));
+        assertThat(RadixSort.isSupported(buffer)).isFalse();
+        buffer.clear();
+    }
+
+    private BinaryInMemorySortBuffer createBuffer(RowType rowType, List<DataType> keyTypes) {
+        NormalizedKeyComputer normalizedKeyComputer =
+                CodeGenUtils.newNormalizedKeyComputer(keyTypes, "RadixSortTestKeyComputer");
+        RecordComparator comparator =
+                CodeGenUtils.newRecordComparator(keyTypes, "RadixSortTestComparator");
+        return BinaryInMemorySortBuffer.createBuffer(
+                normalizedKeyComputer,
+                new InternalRowSerializer(rowType),
+                comparator,
+                new HeapMemorySegmentPool(32 * 1024 * 1024, MemorySegmentPool.DEFAULT_PAGE_SIZE));
+    }
+
+    private void assertSorted(
+            BinaryInMemorySortBuffer buffer, RowType rowType, List<InternalRow> rows, int numKeys)
+            throws Exception {
+        for (InternalRow row : rows) {
+            assertThat(buffer.write(row)).isTrue();
+        }
+
+        List<DataType> keyTypes = rowType.getFieldTypes().subList(0, numKeys);
+        RecordComparator comparator =
+                CodeGenUtils.newRecordComparator(keyTypes, "RadixSortTestComparator");
+        MutableObjectIterator<BinaryRow> iterator = buffer.sortedIterator();
+        BinaryRow previous = null;
+        BinaryRow row;
+        Set<String> ids = new HashSet<>();
+        while ((row = iterator.next(new BinaryRow(rowType.getFieldCount()))) != null) {
+            if (previous != null) {
+                assertThat(comparator.compare(previous, row)).isLessThanOrEqualTo(0);
+            }
+            previous = row;
+            ids.add(row.getString(numKeys).toString());
+        }
+        // every record is moved exactly once
+        assertThat(ids).hasSize(rows.size());
+        buffer.clear();
+    }
+}
@@ -35,6 +35,16 @@ import org.apache.paimon.fs.local.LocalFileIO;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.mergetree.compact.ConcatRecordReader;
 import org.apache.paimon.mergetree.compact.ConcatRecordReader.ReaderSupplier;
+import org.apache.paimon.metrics.Counter;
+import org.apache.paimon.metrics.Histogram;
+import org.apache.paimon.metrics.Metric;
+import org.apache.paimon.metrics.MetricGroup;
+import org.apache.paimon.metrics.MetricRegistry;
+import org.apache.paimon.metrics.MetricRegistryImpl;
+import org.apache.paimon.operation.AbstractFileStoreWrite;
+import org.apache.paimon.operation.metrics.CommitMetrics;
+import org.apache.paimon.operation.metrics.CompactionMetrics;
+import org.apache.paimon.operation.metrics.ScanMetrics;
 import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.predicate.PredicateBuilder;
@@ -48,6 +58,8 @@ import org.apache.paimon.table.sink.InnerTableCommit;
 import org.apache.paimon.table.sink.StreamTableCommit;
 import org.apache.paimon.table.sink.StreamTableWrite;
 import org.apache.paimon.table.sink.StreamWriteBuilder;
+import org.apache.paimon.table.sink.TableCommitImpl;
+import org.apache.paimon.table.sink.TableWriteImpl;
 import org.apache.paimon.table.source.DataSplit;
 import org.apache.paimon.table.source.OutOfRangeException;
 import org.apache.paimon.table.source.ReadBuilder;
@@ -77,6 +89,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -94,6 +107,7 @@ import static org.apache.paimon.CoreOptions.COMPACTION_MAX_FILE_NUM;
 import static org.apache.paimon.CoreOptions.FILE_FORMAT;
 import static org.apache.paimon.CoreOptions.SNAPSHOT_NUM_RETAINED_MAX;
 import static org.apache.paimon.CoreOptions.SNAPSHOT_NUM_RETAINED_MIN;
+import static org.apache.paimon.CoreOptions.WRITE_BULK_RESTORE;
 import static org.apache.paimon.CoreOptions.WRITE_ONLY;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -464,10 +478,12 @@ public abstract class FileStoreTableTestBase {
     public void testManifestCache() throws Exception {
         FileStoreTable table =
                 createFileStoreTable(
-                        conf ->
-                                conf.set(
-                                        CoreOptions.WRITE_MANIFEST_CACHE,
-                                        MemorySize.ofMebiBytes(1)));
+                        conf -> {
+                            conf.set(CoreOptions.WRITE_MANIFEST_CACHE, MemorySize.ofMebiBytes(1));
+                            conf.set(
+                                    CoreOptions.MANIFEST_CACHE_MAX_MEMORY_SIZE,
+                                    MemorySize.ofMebiBytes(1));
+                        });
         StreamTableWrite write = table.newWrite(commitUser);
         StreamTableCommit commit = table.newCommit(commitUser);
 
@@ -492,11 +508,111 @@ public abstract class FileStoreTableTestBase {
         }
         commit.commit(cnt, write.prepareCommit(false, cnt));
 
-        // check result
-        List<String> result =
-                getResult(table.newRead(), table.newScan().plan().splits(), BATCH_ROW_TO_STRING);
-        assertThat(result.size()).isEqualTo(expected.size());
-        assertThat(result).containsExactlyInAnyOrderElementsOf(expected);
+        // check result, a new table instance shares the manifest cache
+        for (FileStoreTable t : Arrays.asList(table, table.copy(Collections.emptyMap()))) {
+            List<String> result =
+                    getResult(t.newRead(), t.newScan().plan().splits(), BATCH_ROW_TO_STRING);
+            assertThat(result.size()).isEqualTo(expected.size());
+            assertThat(result).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    @Test
+    public void testBulkRestore() throws Exception {
+        FileStoreTable table =
+                createFileStoreTable(
+                        conf -> {
+                            conf.set(BUCKET, 5);
+                            conf.set(BUCKET_KEY, "a");
+                        });
+
+        StreamTableWrite write = table.newWrite(commitUser);
+        StreamTableCommit commit = table.newCommit(commitUser);
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 10; j++) {
+                write.write(rowData(1, j, (long) i));
+                write.write(rowData(2, j, (long) i));
+            }
+            commit.commit(i, write.prepareCommit(true, i));
+        }
+        write.close();
+
+        AbstractFileStoreWrite<?> expectedWrite = table.newWrite(commitUser).getWrite();
+        AbstractFileStoreWrite<?> bulkWrite =
+                table.copy(Collections.singletonMap(WRITE_BULK_RESTORE.key(), "true"))
+                        .newWrite(commitUser)
+                        .getWrite();
+        int numFiles = 0;
+        for (int pt = 1; pt <= 2; pt++) {
+            for (int bucket = 0; bucket < 5; bucket++) {
+                Collection<DataFileMeta> expected =
+                        expectedWrite
+                                .createWriterContainer(binaryRow(pt), bucket, false)
+                                .writer
+                                .dataFiles();
+                numFiles += expected.size();
+                assertThat(
+                                bulkWrite
+                                        .createWriterContainer(binaryRow(pt), bucket, false)
+                                        .writer
+                                        .dataFiles())
+                        .containsExactlyInAnyOrderElementsOf(expected);
+            }
+        }
+        assertThat(numFiles).isGreaterThan(0);
+        expectedWrite.close();
+        bulkWrite.close();
+    }
+
+    @Test
+    public void testMetrics() throws Exception {
+        FileStoreTable table = createFileStoreTable();
+        Map<String, MetricGroup> groups = new HashMap<>();
+        MetricRegistry registry =
+                new MetricRegistryImpl() {
+                    @Override
+                    protected MetricGroup createMetricGroup(
+                            String groupName, Map<String, String> variables) {
+                        MetricGroup group = super.createMetricGroup(groupName, variables);
+                        groups.put(groupName, group);
+                        return group;
+                    }
+                };
+
+        TableWriteImpl<?> write = table.newWrite(commitUser).withMetricRegistry(registry);
+        TableCommitImpl commit = table.newCommit(commitUser).withMetricRegistry(registry);
+        write.write(rowData(1, 10, 100L));
+        commit.commit(0, write.prepareCommit(true, 0));
+        // writers keep the metrics they are created with, so they cannot be replaced
+        assertThatThrownBy(() -> write.withMetricRegistry(registry))
+                .isInstanceOf(IllegalStateException.class);
+        write.write(rowData(2, 20, 200L));
+        commit.commit(1, write.prepareCommit(true, 1));
+        table.newScan().withMetricRegistry(registry).plan();
+
+        MetricGroup commitGroup = groups.get(CommitMetrics.GROUP_NAME);
+        assertThat(commitGroup.getAllVariables())
+                .containsEntry(MetricRegistry.KEY_TABLE, table.name());
+        Map<String, Metric> commitMetrics = commitGroup.getMetrics();
+        assertThat(((Counter) commitMetrics.get(CommitMetrics.COMMIT_ATTEMPTS)).getCount())
+                .isEqualTo(2);
+        assertThat(((Counter) commitMetrics.get(CommitMetrics.COMMIT_CONFLICTS)).getCount())
+                .isEqualTo(0);
+        assertThat(((Histogram) commitMetrics.get(CommitMetrics.COMMIT_DURATION)).getCount())
+                .isEqualTo(2);
+
+        Map<String, Metric> scanMetrics = groups.get(ScanMetrics.GROUP_NAME).getMetrics();
+        assertThat(((Histogram) scanMetrics.get(ScanMetrics.SCAN_DURATION)).getCount())
+                .isEqualTo(1);
+        assertThat(((Counter) scanMetrics.get(ScanMetrics.SCANNED_MANIFESTS)).getCount())
+                .isGreaterThan(0);
+        assertThat(((Counter) scanMetrics.get(ScanMetrics.SKIPPED_MANIFESTS)).getCount())
+                .isEqualTo(0);
+
+        write.close();
+        commit.close();
+        assertThat(commitGroup.getMetrics()).isEmpty();
+        assertThat(groups.get(CompactionMetrics.GROUP_NAME).getMetrics()).isEmpty();
     }
 
     @Test
@@ -50,21 +50,29 @@ public class WritePreemptMemoryTest extends FileStoreTableTestBase {
 
     @Test
     public void writeMultiplePartitions() throws Exception {
-        testWritePreemptMemory(false);
+        testWritePreemptMemory(false, false);
     }
 
     @Test
     public void writeSinglePartition() throws Exception {
-        testWritePreemptMemory(true);
+        testWritePreemptMemory(true, false);
+    }
+
+    @Test
+    public void writeMultiplePartitionsWithAsyncFlush() throws Exception {
+        testWritePreemptMemory(false, true);
     }
 
     @Override // this has been tested in ChangelogWithKeyFileStoreTableTest
     @Test
     public void testReadFilter() {}
 
-    private void testWritePreemptMemory(boolean singlePartition) throws Exception {
+    private void testWritePreemptMemory(boolean singlePartition, boolean asyncFlush)
+            throws Exception {
         // write
-        FileStoreTable table = createFileStoreTable();
+        FileStoreTable table =
+                createFileStoreTable(
+                        conf -> conf.set(CoreOptions.WRITE_BUFFER_ASYNC_FLUSH, asyncFlush));
         StreamTableWrite write = table.newWrite(commitUser);
         StreamTableCommit commit = table.newCommit(commitUser);
         Random random = new Random();
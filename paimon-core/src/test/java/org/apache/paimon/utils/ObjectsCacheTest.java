@@ -21,30 +21,38 @@ package org.apache.paimon.utils;
 import org.apache.paimon.data.BinaryString;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.Segments;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.memory.MemorySegment;
 import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.types.DataTypes;
 import org.apache.paimon.types.RowType;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 /** Test for {@link ObjectsCache}. */
 public class ObjectsCacheTest {
 
-    @Test
-    public void test() throws IOException {
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    public void test(boolean offHeap) throws IOException {
         Map<String, List<String>> map = new HashMap<>();
         ObjectsCache<String, String> cache =
                 new ObjectsCache<>(
-                        new SegmentsCache<>(1024, MemorySize.ofKibiBytes(5)),
+                        new SegmentsCache<>(1024, MemorySize.ofKibiBytes(5), offHeap),
                         new StringSerializer(),
                         k ->
                                 CloseableIterator.adapterForIterator(
@@ -89,6 +97,52 @@ public class ObjectsCacheTest {
         assertThat(values).isEmpty();
     }
 
+    @Test
+    public void testSharedCache() {
+        SegmentsCache<Path> cache = SegmentsCache.shared(1024, MemorySize.ofKibiBytes(7));
+        assertThat(SegmentsCache.shared(1024, MemorySize.ofKibiBytes(7))).isSameAs(cache);
+        assertThat(SegmentsCache.shared(1024, MemorySize.ofKibiBytes(8))).isNotSameAs(cache);
+        assertThat(SegmentsCache.shared(2048, MemorySize.ofKibiBytes(7))).isNotSameAs(cache);
+        assertThat(SegmentsCache.shared(2048, MemorySize.ofKibiBytes(7)).pageSize())
+                .isEqualTo(2048);
+        assertThat(cache.allocateSegment().isOffHeap()).isTrue();
+    }
+
+    @Test
+    public void testReleaseOffHeapSegments() {
+        SegmentsCache<String> cache = new SegmentsCache<>(1024, MemorySize.ofKibiBytes(5), true);
+        Function<String, Segments> loader =
+                k -> {
+                    ArrayList<MemorySegment> segments = new ArrayList<>();
+                    segments.add(cache.allocateSegment());
+                    segments.add(cache.allocateSegment());
+                    return new Segments(segments, 1024);
+                };
+
+        // cached segments are not released after reading
+        SegmentsCache.CachedSegments k1 = cache.getSegments("k1", loader);
+        k1.close();
+        assertThat(k1.segments().segments()).noneMatch(MemorySegment::isFreed);
+        SegmentsCache.CachedSegments cached = cache.getSegments("k1", loader);
+        assertThat(cached).isSameAs(k1);
+        cached.close();
+        assertThat(k1.segments().segments()).noneMatch(MemorySegment::isFreed);
+
+        // entries larger than the cache are evicted right away, they are released after reading
+        Function<String, Segments> largeLoader =
+                k -> {
+                    ArrayList<MemorySegment> segments = new ArrayList<>();
+                    for (int i = 0; i < 10; i++) {
+                        segments.add(cache.allocateSegment());
+                    }
+                    return new Segments(segments, 1024);
+                };
+        SegmentsCache.CachedSegments large = cache.getSegments("large", largeLoader);
+        assertThat(large.segments().segments()).noneMatch(MemorySegment::isFreed);
+        large.close();
+        assertThat(large.segments().segments()).allMatch(MemorySegment::isFreed);
+    }
+
     private static class StringSerializer extends ObjectSerializer<String> {
 
         public StringSerializer() {
@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.flink.metrics;
+
+import org.apache.paimon.metrics.Counter;
+import org.apache.paimon.metrics.DescriptiveStatisticsHistogram;
+import org.apache.paimon.metrics.Gauge;
+import org.apache.paimon.metrics.Histogram;
+import org.apache.paimon.metrics.HistogramStatistics;
+import org.apache.paimon.metrics.Metric;
+import org.apache.paimon.metrics.MetricGroup;
+import org.apache.paimon.metrics.SimpleCounter;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link MetricGroup} which registers its metrics to a {@link
+ * org.apache.flink.metrics.MetricGroup}.
+ *
+ * <p>Metrics can not be unregistered from Flink before the operator is closed, so a metric name is
+ * only registered once. Counters and histograms of the same name are reused, and the Flink gauge
+ * always reports the latest registered gauge.
+ */
+public class FlinkMetricGroup implements MetricGroup {
+
+    private final org.apache.flink.metrics.MetricGroup wrapped;
+    private final String groupName;
+    private final Map<String, String> variables;
+    private final Map<String, Metric> metrics;
+
+    public FlinkMetricGroup(
+            org.apache.flink.metrics.MetricGroup wrapped,
+            String groupName,
+            Map<String, String> variables) {
+        this.wrapped = wrapped;
+        this.groupName = groupName;
+        this.variables = variables;
+        this.metrics = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public Counter counter(String name) {
+        return (Counter)
+                metrics.computeIfAbsent(
+                        name,
+                        k -> {
+                            Counter counter = new SimpleCounter();
+                            wrapped.counter(name, new FlinkCounter(counter));
+                            return counter;
+                        });
+    }
+
+    @Override
+    public <T> Gauge<T> gauge(String name, Gauge<T> gauge) {
+        if (metrics.put(name, gauge) == null) {
+            wrapped.gauge(
+                    name,
+                    (org.apache.flink.metrics.Gauge<Object>)
+                            () -> ((Gauge<?>) metrics.get(name)).getValue());
+        }
+        return gauge;
+    }
+
+    @Override
+    public Histogram histogram(String name, int windowSize) {
+        return (Histogram)
+                metrics.computeIfAbsent(
+                        name,
+                        k -> {
+                            Histogram histogram = new DescriptiveStatisticsHistogram(windowSize);
+                            wrapped.histogram(name, new FlinkHistogram(histogram));
+                            return histogram;
+                        });
+    }
+
+    @Override
+    public Map<String, String> getAllVariables() {
+        return Collections.unmodifiableMap(variables);
+    }
+
+    @Override
+    public String getGroupName() {
+        return groupName;
+    }
+
+    @Override
+    public Map<String, Metric> getMetrics() {
+        return Collections.unmodifiableMap(metrics);
+    }
+
+    @Override
+    public void close() {
+        // the metrics are released along with the Flink metric group of the operator
+    }
+
+    /** Flink {@link org.apache.flink.metrics.Counter} of a Paimon {@link Counter}. */
+    private static class FlinkCounter implements org.apache.flink.metrics.Counter {
+
+        private final Counter counter;
+
+        private FlinkCounter(Counter counter) {
+            this.counter = counter;
+        }
+
+        @Override
+        public void inc() {
+            counter.inc();
+        }
+
+        @Override
+        public void inc(long n) {
+            counter.inc(n);
+        }
+
+        @Override
+        public void dec() {
+            counter.dec();
+        }
+
+        @Override
+        public void dec(long n) {
+            counter.dec(n);
+        }
+
+        @Override
+        public long getCount() {
+            return counter.getCount();
+        }
+    }
+
+    /** Flink {@link org.apache.flink.metrics.Histogram} of a Paimon {@link Histogram}. */
+    private static class FlinkHistogram implements org.apache.flink.metrics.Histogram {
+
+        private final Histogram histogram;
+
+        private FlinkHistogram(Histogram histogram) {
+            this.histogram = histogram;
+        }
+
+        @Override
+        public void update(long value) {
+            histogram.update(value);
+        }
+
+        @Override
+        public long getCount() {
+            return histogram.getCount();
+        }
+
+        @Override
+        public org.apache.flink.metrics.HistogramStatistics getStatistics() {
+            return new FlinkHistogramStatistics(histogram.getStatistics());
+        }
+    }
+
+    /** Flink {@link org.apache.flink.metrics.HistogramStatistics} of Paimon's statistics. */
+    private static class FlinkHistogramStatistics
+            extends org.apache.flink.metrics.HistogramStatistics {
+
+        private final HistogramStatistics statistics;
+
+        private FlinkHistogramStatistics(HistogramStatistics statistics) {
+            this.statistics = statistics;
+        }
+
+        @Override
+        public double getQuantile(double quantile) {
+            return statistics.getQuantile(quantile);
+        }
+
+        @Override
+        public long[] getValues() {
+            return statistics.getValues();
+        }
+
+        @Override
+        public int size() {
+            return statistics.size();
+        }
+
+        @Override
+        public double getMean() {
+            return statistics.getMean();
+        }
+
+        @Override
+        public double getStdDev() {
+            return statistics.getStdDev();
+        }
+
+        @Override
+        public long getMax() {
+            return statistics.getMax();
+        }
+
+        @Override
+        public long getMin() {
+            return statistics.getMin();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.flink.metrics;
+
+import org.apache.paimon.metrics.MetricGroup;
+import org.apache.paimon.metrics.MetricRegistry;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * {@link MetricRegistry} to register the metrics of Paimon to the {@link
+ * org.apache.flink.metrics.MetricGroup} of a Flink operator.
+ *
+ * <p>The metrics are registered under the sub group "paimon", with a sub group for each variable
+ * and then a sub group named by the group name, for example {@code paimon.table.T.commit}.
+ */
+public class FlinkMetricRegistry extends MetricRegistry {
+
+    public static final String PAIMON_GROUP = "paimon";
+
+    private final org.apache.flink.metrics.MetricGroup flinkGroup;
+
+    // metrics can not be unregistered from Flink, groups are reused by the components created
+    // later, for example the writers of new schemas
+    private final Map<GroupKey, FlinkMetricGroup> groups;
+
+    public FlinkMetricRegistry(org.apache.flink.metrics.MetricGroup flinkGroup) {
+        this.flinkGroup = flinkGroup;
+        this.groups = new HashMap<>();
+    }
+
+    @Override
+    protected synchronized MetricGroup createMetricGroup(
+            String groupName, Map<String, String> variables) {
+        return groups.computeIfAbsent(
+                new GroupKey(groupName, variables),
+                key -> {
+                    org.apache.flink.metrics.MetricGroup group = flinkGroup.addGroup(PAIMON_GROUP);
+                    for (Map.Entry<String, String> variable : variables.entrySet()) {
+                        group = group.addGroup(variable.getKey(), variable.getValue());
+                    }
+                    return new FlinkMetricGroup(group.addGroup(groupName), groupName, variables);
+                });
+    }
+
+    private static class GroupKey {
+
+        private final String groupName;
+        private final Map<String, String> variables;
+
+        private GroupKey(String groupName, Map<String, String> variables) {
+            this.groupName = groupName;
+            this.variables = variables;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            GroupKey that = (GroupKey) o;
+            return groupName.equals(that.groupName) && variables.equals(that.variables);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(groupName, variables);
+        }
+    }
+}
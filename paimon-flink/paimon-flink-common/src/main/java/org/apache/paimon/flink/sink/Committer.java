@@ -19,6 +19,8 @@
 
 package org.apache.paimon.flink.sink;
 
+import org.apache.paimon.metrics.MetricRegistry;
+
 import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
@@ -46,4 +48,7 @@ public interface Committer<CommitT, GlobalCommitT> extends AutoCloseable {
     int filterAndCommit(List<GlobalCommitT> globalCommittables) throws IOException;
 
     Map<Long, List<CommitT>> groupByCheckpoint(Collection<CommitT> committables);
+
+    /** Reports the metrics of commits to the given {@link MetricRegistry}. */
+    default void withMetricRegistry(MetricRegistry registry) {}
 }
@@ -17,6 +17,7 @@
 
 package org.apache.paimon.flink.sink;
 
+import org.apache.paimon.flink.metrics.FlinkMetricRegistry;
 import org.apache.paimon.utils.SerializableFunction;
 
 import org.apache.flink.runtime.state.StateInitializationContext;
@@ -106,6 +107,7 @@ public class CommitterOperator<CommitT, GlobalCommitT> extends AbstractStreamOpe
                         context, "commit_user_state", String.class, initialCommitUser);
         // parallelism of commit operator is always 1, so commitUser will never be null
         committer = committerFactory.apply(commitUser);
+        committer.withMetricRegistry(new FlinkMetricRegistry(getMetricGroup()));
 
         committableStateManager.initializeState(context, committer);
     }
@@ -18,20 +18,41 @@
 
 package org.apache.paimon.flink.sink;
 
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.disk.IOManagerImpl;
 import org.apache.paimon.index.HashBucketAssigner;
+import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.schema.TableSchema;
 import org.apache.paimon.table.AbstractFileStoreTable;
 import org.apache.paimon.table.Table;
 import org.apache.paimon.table.sink.PartitionKeyExtractor;
 import org.apache.paimon.utils.SerializableFunction;
 
+import org.apache.flink.api.common.typeutils.TypeSerializer;
 import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.runtime.state.StateInitializationContext;
 import org.apache.flink.streaming.api.operators.AbstractStreamOperator;
 import org.apache.flink.streaming.api.operators.OneInputStreamOperator;
+import org.apache.flink.streaming.api.watermark.Watermark;
 import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
 
-/** Assign bucket for the input record, output record with bucket. */
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Assign bucket for the input record, output record with bucket.
+ *
+ * <p>If partition indexes are prefetched, records of a partition whose index is being loaded are
+ * buffered and emitted once the index is available, while records of other partitions are emitted
+ * directly. The order of records is only kept within a partition.
+ */
 public class HashBucketAssignerOperator<T> extends AbstractStreamOperator<Tuple2<T, Integer>>
         implements OneInputStreamOperator<T, Tuple2<T, Integer>> {
 
@@ -42,9 +63,19 @@ public class HashBucketAssignerOperator<T> extends AbstractStreamOperator<Tuple2
     private final AbstractFileStoreTable table;
     private final SerializableFunction<TableSchema, PartitionKeyExtractor<T>> extractorFunction;
 
+    private transient IOManager ioManager;
     private transient HashBucketAssigner assigner;
     private transient PartitionKeyExtractor<T> extractor;
 
+    // records with key hash of each partition waiting for the loading index, null if not prefetch
+    private transient LinkedHashMap<BinaryRow, List<Tuple2<T, Integer>>> pendingRecords;
+    private transient int numPendingRecords;
+    private transient boolean drainTimerRegistered;
+    private transient int maxPendingRecords;
+    private transient long drainIntervalMillis;
+    // copies buffered records if the input objects are reused, null otherwise
+    @Nullable private transient TypeSerializer<T> inputSerializer;
+
     public HashBucketAssignerOperator(
             String commitUser,
             Table table,
@@ -65,6 +96,16 @@ public class HashBucketAssignerOperator<T> extends AbstractStreamOperator<Tuple2
                 StateUtils.getSingleValueFromState(
                         context, "commit_user_state", String.class, initialCommitUser);
 
+        CoreOptions options = table.coreOptions();
+        MemorySize indexMemory = options.dynamicBucketIndexMemory();
+        if (indexMemory != null) {
+            this.ioManager =
+                    new IOManagerImpl(
+                            getContainingTask()
+                                    .getEnvironment()
+                                    .getIOManager()
+                                    .getSpillingDirectoriesPaths());
+        }
         this.assigner =
                 new HashBucketAssigner(
                         table.snapshotManager(),
@@ -72,21 +113,134 @@ public class HashBucketAssignerOperator<T> extends AbstractStreamOperator<Tuple2
                         table.store().newIndexFileHandler(),
                         getRuntimeContext().getNumberOfParallelSubtasks(),
                         getRuntimeContext().getIndexOfThisSubtask(),
-                        table.coreOptions().dynamicBucketTargetRowNum());
+                        options.dynamicBucketTargetRowNum(),
+                        indexMemory == null ? Long.MAX_VALUE : indexMemory.getBytes(),
+                        ioManager,
+                        options.dynamicBucketIndexPrefetchThreads());
         this.extractor = extractorFunction.apply(table.schema());
+        if (options.dynamicBucketIndexPrefetchThreads() > 0) {
+            this.pendingRecords = new LinkedHashMap<>();
+            this.maxPendingRecords = options.dynamicBucketIndexPrefetchMaxPendingRecords();
+            this.drainIntervalMillis = options.dynamicBucketIndexPrefetchDrainInterval().toMillis();
+            if (getExecutionConfig().isObjectReuseEnabled()) {
+                this.inputSerializer =
+                        getOperatorConfig().getTypeSerializerIn(0, getUserCodeClassloader());
+            }
+        }
     }
 
     @Override
     public void processElement(StreamRecord<T> streamRecord) throws Exception {
         T value = streamRecord.getValue();
-        int bucket =
-                assigner.assign(
-                        extractor.partition(value), extractor.trimmedPrimaryKey(value).hashCode());
+        BinaryRow partition = extractor.partition(value);
+        int hash = extractor.trimmedPrimaryKey(value).hashCode();
+        if (pendingRecords == null) {
+            emit(value, assigner.assign(partition, hash));
+            return;
+        }
+
+        List<Tuple2<T, Integer>> pending = pendingRecords.get(partition);
+        if (pending == null && assigner.prefetch(partition)) {
+            emit(value, assigner.assign(partition, hash));
+        } else {
+            if (pending == null) {
+                pending = new ArrayList<>();
+                pendingRecords.put(partition.copy(), pending);
+            }
+            T record = inputSerializer == null ? value : inputSerializer.copy(value);
+            pending.add(new Tuple2<>(record, hash));
+            numPendingRecords++;
+        }
+
+        if (numPendingRecords > 0) {
+            drainPendingRecords(false);
+            registerDrainTimer();
+        }
+    }
+
+    /**
+     * Emit pending records of partitions whose index has been loaded. If waitAll is true, wait for
+     * the indexes of all pending partitions, if there are too many pending records, wait for the
+     * indexes of the earliest partitions.
+     */
+    private void drainPendingRecords(boolean waitAll) {
+        // only partitions whose loading has finished are visited
+        for (BinaryRow partition : assigner.pollLoadedPartitions()) {
+            List<Tuple2<T, Integer>> records = pendingRecords.remove(partition);
+            if (records != null) {
+                emitPendingRecords(partition, records);
+            }
+        }
+
+        Iterator<Map.Entry<BinaryRow, List<Tuple2<T, Integer>>>> iterator =
+                pendingRecords.entrySet().iterator();
+        while (iterator.hasNext() && (waitAll || numPendingRecords > maxPendingRecords)) {
+            Map.Entry<BinaryRow, List<Tuple2<T, Integer>>> entry = iterator.next();
+            iterator.remove();
+            emitPendingRecords(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void emitPendingRecords(BinaryRow partition, List<Tuple2<T, Integer>> records) {
+        for (Tuple2<T, Integer> record : records) {
+            emit(record.f0, assigner.assign(partition, record.f1));
+        }
+        numPendingRecords -= records.size();
+    }
+
+    private void registerDrainTimer() {
+        if (drainTimerRegistered || numPendingRecords == 0) {
+            return;
+        }
+
+        drainTimerRegistered = true;
+        getProcessingTimeService()
+                .registerTimer(
+                        getProcessingTimeService().getCurrentProcessingTime() + drainIntervalMillis,
+                        timestamp -> {
+                            drainTimerRegistered = false;
+                            drainPendingRecords(false);
+                            registerDrainTimer();
+                        });
+    }
+
+    private void emit(T value, int bucket) {
         output.collect(new StreamRecord<>(new Tuple2<>(value, bucket)));
     }
 
+    @Override
+    public void processWatermark(Watermark mark) throws Exception {
+        // records before the watermark must not be emitted after it
+        if (pendingRecords != null) {
+            drainPendingRecords(true);
+        }
+        super.processWatermark(mark);
+    }
+
     @Override
     public void prepareSnapshotPreBarrier(long checkpointId) {
+        if (pendingRecords != null) {
+            drainPendingRecords(true);
+        }
         assigner.prepareCommit(checkpointId);
     }
+
+    @Override
+    public void finish() throws Exception {
+        if (pendingRecords != null) {
+            drainPendingRecords(true);
+        }
+        super.finish();
+    }
+
+    @Override
+    public void close() throws Exception {
+        super.close();
+        if (assigner != null) {
+            assigner.close();
+        }
+        if (ioManager != null) {
+            ioManager.close();
+        }
+    }
 }
@@ -19,6 +19,7 @@
 package org.apache.paimon.flink.sink;
 
 import org.apache.paimon.manifest.ManifestCommittable;
+import org.apache.paimon.metrics.MetricRegistry;
 import org.apache.paimon.table.sink.CommitMessage;
 import org.apache.paimon.table.sink.TableCommit;
 import org.apache.paimon.table.sink.TableCommitImpl;
@@ -70,6 +71,11 @@ public class StoreCommitter implements Committer<Committable, ManifestCommittabl
         return commit.filterAndCommitMultiple(globalCommittables);
     }
 
+    @Override
+    public void withMetricRegistry(MetricRegistry registry) {
+        commit.withMetricRegistry(registry);
+    }
+
     @Override
     public Map<Long, List<Committable>> groupByCheckpoint(Collection<Committable> committables) {
         Map<Long, List<Committable>> grouped = new HashMap<>();
@@ -22,6 +22,7 @@ import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.memory.MemorySegmentPool;
+import org.apache.paimon.metrics.MetricRegistry;
 import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.table.sink.SinkRecord;
 import org.apache.paimon.table.sink.TableWriteImpl;
@@ -65,6 +66,9 @@ public interface StoreSinkWrite {
      */
     void replace(FileStoreTable newTable) throws Exception;
 
+    /** Reports the metrics of writers and compactions to the given {@link MetricRegistry}. */
+    void withMetricRegistry(MetricRegistry registry);
+
     /** Provider of {@link StoreSinkWrite}. */
     @FunctionalInterface
     interface Provider extends Serializable {
@@ -24,6 +24,7 @@ import org.apache.paimon.disk.IOManagerImpl;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.memory.HeapMemorySegmentPool;
 import org.apache.paimon.memory.MemorySegmentPool;
+import org.apache.paimon.metrics.MetricRegistry;
 import org.apache.paimon.operation.AbstractFileStoreWrite;
 import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.table.sink.CommitMessage;
@@ -52,6 +53,7 @@ public class StoreSinkWriteImpl implements StoreSinkWrite {
     private final boolean waitCompaction;
     private final boolean isStreamingMode;
     @Nullable private final MemorySegmentPool memoryPool;
+    @Nullable private MetricRegistry metricRegistry;
 
     protected TableWriteImpl<?> write;
 
@@ -75,19 +77,27 @@ public class StoreSinkWriteImpl implements StoreSinkWrite {
     }
 
     private TableWriteImpl<?> newTableWrite(FileStoreTable table) {
-        return table.newWrite(
-                        commitUser,
-                        (part, bucket) ->
-                                state.stateValueFilter().filter(table.name(), part, bucket))
-                .withIOManager(new IOManagerImpl(ioManager.getSpillingDirectoriesPaths()))
-                .withMemoryPool(
-                        memoryPool != null
-                                ? memoryPool
-                                : new HeapMemorySegmentPool(
-                                        table.coreOptions().writeBufferSize(),
-                                        table.coreOptions().pageSize()))
-                .withIgnorePreviousFiles(ignorePreviousFiles)
-                .isStreamingMode(isStreamingMode);
+        TableWriteImpl<?> tableWrite =
+                table.newWrite(
+                                commitUser,
+                                (part, bucket) ->
+                                        state.stateValueFilter().filter(table.name(), part, bucket))
+                        .withIOManager(
+                                new IOManagerImpl(
+                                        ioManager.getSpillingDirectoriesPaths(),
+                                        table.coreOptions().spillAsyncBlocks()))
+                        .withMemoryPool(
+                                memoryPool != null
+                                        ? memoryPool
+                                        : new HeapMemorySegmentPool(
+                                                table.coreOptions().writeBufferSize(),
+                                                table.coreOptions().pageSize()))
+                        .withIgnorePreviousFiles(ignorePreviousFiles)
+                        .isStreamingMode(isStreamingMode);
+        if (metricRegistry != null) {
+            tableWrite.withMetricRegistry(metricRegistry);
+        }
+        return tableWrite;
     }
 
     @Override
@@ -165,4 +175,10 @@ public class StoreSinkWriteImpl implements StoreSinkWrite {
         write = newTableWrite(newTable);
         write.restore((List) states);
     }
+
+    @Override
+    public void withMetricRegistry(MetricRegistry registry) {
+        this.metricRegistry = registry;
+        write.withMetricRegistry(registry);
+    }
 }
@@ -19,6 +19,7 @@
 package org.apache.paimon.flink.sink;
 
 import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.flink.metrics.FlinkMetricRegistry;
 import org.apache.paimon.flink.sink.StoreSinkWriteState.StateValueFilter;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.table.FileStoreTable;
@@ -78,6 +79,7 @@ public abstract class TableWriteOperator<IN> extends PrepareCommitOperator<IN, C
                 stateFilter,
                 getContainingTask().getEnvironment().getIOManager(),
                 commitUser);
+        write.withMetricRegistry(new FlinkMetricRegistry(getMetricGroup()));
     }
 
     @VisibleForTesting
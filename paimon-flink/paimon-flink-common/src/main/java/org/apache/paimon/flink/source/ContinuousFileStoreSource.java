@@ -19,7 +19,9 @@
 package org.apache.paimon.flink.source;
 
 import org.apache.paimon.CoreOptions;
+import org.apache.paimon.flink.metrics.FlinkMetricRegistry;
 import org.apache.paimon.table.BucketMode;
+import org.apache.paimon.table.source.InnerTableScan;
 import org.apache.paimon.table.source.ReadBuilder;
 import org.apache.paimon.table.source.StreamTableScan;
 
@@ -74,6 +76,11 @@ public class ContinuousFileStoreSource extends FlinkSource {
         }
         CoreOptions coreOptions = CoreOptions.fromMap(options);
         StreamTableScan scan = readBuilder.newStreamScan();
+        // metric group of the enumerator is not supported by some Flink versions
+        if (scan instanceof InnerTableScan && context.metricGroup() != null) {
+            ((InnerTableScan) scan)
+                    .withMetricRegistry(new FlinkMetricRegistry(context.metricGroup()));
+        }
         scan.restore(nextSnapshotId);
         return new ContinuousFileSplitEnumerator(
                 context,
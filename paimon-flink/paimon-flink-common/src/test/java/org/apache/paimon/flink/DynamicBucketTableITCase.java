@@ -74,4 +74,44 @@ public class DynamicBucketTableITCase extends CatalogITCaseBase {
         assertThat(sql("SELECT DISTINCT bucket FROM T$files"))
                 .containsExactlyInAnyOrder(Row.of(0), Row.of(1), Row.of(2));
     }
+
+    @Test
+    public void testWriteWithSpilledIndex() {
+        // the tiny index memory makes all partition indexes except the current one spilled
+        String hint = "/*+ OPTIONS('dynamic-bucket.index-memory'='1 b') */";
+        sql(
+                "INSERT INTO T %s VALUES (1, 1, 1), (2, 1, 1), (1, 2, 2), (2, 2, 2), (1, 3, 3), "
+                        + "(2, 3, 3), (1, 4, 4), (2, 4, 4)",
+                hint);
+        sql("INSERT INTO T %s VALUES (2, 4, 44), (1, 1, 11), (2, 1, 11), (1, 4, 44)", hint);
+        assertThat(sql("SELECT * FROM T"))
+                .containsExactlyInAnyOrder(
+                        Row.of(1, 1, 11),
+                        Row.of(1, 2, 2),
+                        Row.of(1, 3, 3),
+                        Row.of(1, 4, 44),
+                        Row.of(2, 1, 11),
+                        Row.of(2, 2, 2),
+                        Row.of(2, 3, 3),
+                        Row.of(2, 4, 44));
+        assertThat(sql("SELECT DISTINCT bucket FROM T$files"))
+                .containsExactlyInAnyOrder(Row.of(0), Row.of(1));
+    }
+
+    @Test
+    public void testWriteWithIndexPrefetch() {
+        sql("INSERT INTO T VALUES (1, 1, 1), (2, 1, 1), (3, 1, 1)");
+        sql(
+                "INSERT INTO T /*+ OPTIONS('dynamic-bucket.index-prefetch-threads'='2') */ "
+                        + "VALUES (1, 1, 11), (2, 1, 11), (1, 2, 2), (3, 1, 11), (2, 2, 2), "
+                        + "(1, 1, 111), (4, 1, 1)");
+        assertThat(sql("SELECT * FROM T"))
+                .containsExactlyInAnyOrder(
+                        Row.of(1, 1, 111),
+                        Row.of(1, 2, 2),
+                        Row.of(2, 1, 11),
+                        Row.of(2, 2, 2),
+                        Row.of(3, 1, 11),
+                        Row.of(4, 1, 1));
+    }
 }
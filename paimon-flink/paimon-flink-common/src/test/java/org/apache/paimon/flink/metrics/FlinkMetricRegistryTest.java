@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.flink.metrics;
+
+import org.apache.paimon.metrics.Counter;
+import org.apache.paimon.metrics.Histogram;
+import org.apache.paimon.metrics.MetricGroup;
+
+import org.apache.flink.metrics.Gauge;
+import org.apache.flink.metrics.testutils.MetricListener;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link FlinkMetricRegistry}. */
+public class FlinkMetricRegistryTest {
+
+    private static final String[] GROUP = {"paimon", "table", "T", "commit"};
+
+    @Test
+    public void testRegisterMetrics() {
+        MetricListener listener = new MetricListener();
+        FlinkMetricRegistry registry = new FlinkMetricRegistry(listener.getMetricGroup());
+
+        MetricGroup group = registry.tableMetricGroup("commit", "T");
+        assertThat(group.getAllVariables()).containsEntry("table", "T");
+        Counter counter = group.counter("attempts");
+        counter.inc(3);
+        Histogram histogram = group.histogram("duration", 10);
+        histogram.update(5);
+        histogram.update(7);
+        group.gauge("depth", () -> 1);
+
+        assertThat(listener.getCounter(identifier("attempts")).get().getCount()).isEqualTo(3);
+        org.apache.flink.metrics.Histogram flinkHistogram =
+                listener.getHistogram(identifier("duration")).get();
+        assertThat(flinkHistogram.getCount()).isEqualTo(2);
+        assertThat(flinkHistogram.getStatistics().getMax()).isEqualTo(7);
+        assertThat(listener.<Integer>getGauge(identifier("depth")).map(Gauge::getValue))
+                .hasValue(1);
+
+        // metrics can not be unregistered from Flink, components created later reuse them
+        group.close();
+        MetricGroup newGroup = registry.tableMetricGroup("commit", "T");
+        assertThat(newGroup.counter("attempts")).isSameAs(counter);
+        assertThat(newGroup.histogram("duration", 10)).isSameAs(histogram);
+        newGroup.gauge("depth", () -> 2);
+        assertThat(listener.<Integer>getGauge(identifier("depth")).map(Gauge::getValue))
+                .hasValue(2);
+    }
+
+    private static String[] identifier(String name) {
+        String[] identifier = new String[GROUP.length + 1];
+        System.arraycopy(GROUP, 0, identifier, 0, GROUP.length);
+        identifier[GROUP.length] = name;
+        return identifier;
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.flink.sink;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.local.LocalFileIO;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.schema.Schema;
+import org.apache.paimon.schema.SchemaManager;
+import org.apache.paimon.schema.SchemaUtils;
+import org.apache.paimon.schema.TableSchema;
+import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.table.FileStoreTableFactory;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowType;
+
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.streaming.api.watermark.Watermark;
+import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
+import org.apache.flink.streaming.util.OneInputStreamOperatorTestHarness;
+import org.apache.flink.table.data.GenericRowData;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.runtime.typeutils.InternalSerializers;
+import org.apache.flink.table.types.logical.IntType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link HashBucketAssignerOperator}. */
+public class HashBucketAssignerOperatorTest {
+
+    @TempDir java.nio.file.Path tempDir;
+
+    @Test
+    public void testDrainPendingRecordsBeforeWatermark() throws Exception {
+        HashBucketAssignerOperator<RowData> operator = createOperator();
+        OneInputStreamOperatorTestHarness<RowData, Tuple2<RowData, Integer>> harness =
+                new OneInputStreamOperatorTestHarness<>(operator);
+        harness.open();
+
+        // the index of the partition is loading, records wait for it
+        harness.processElement(GenericRowData.of(1, 1, 1), 1);
+        harness.processElement(GenericRowData.of(1, 2, 2), 1);
+        harness.processWatermark(new Watermark(1));
+
+        List<Object> output = new ArrayList<>(harness.getOutput());
+        assertThat(output).hasSize(3);
+        assertThat(output.get(0)).isInstanceOf(StreamRecord.class);
+        assertThat(output.get(1)).isInstanceOf(StreamRecord.class);
+        assertThat(output.get(2)).isEqualTo(new Watermark(1));
+
+        harness.close();
+    }
+
+    @Test
+    public void testCopyPendingRecordsWithObjectReuse() throws Exception {
+        HashBucketAssignerOperator<RowData> operator = createOperator();
+        OneInputStreamOperatorTestHarness<RowData, Tuple2<RowData, Integer>> harness =
+                new OneInputStreamOperatorTestHarness<>(
+                        operator,
+                        InternalSerializers.create(
+                                org.apache.flink.table.types.logical.RowType.of(
+                                        new IntType(), new IntType(), new IntType())));
+        harness.getExecutionConfig().enableObjectReuse();
+        harness.open();
+
+        // the same input object is reused for all records
+        GenericRowData row = GenericRowData.of(1, 1, 1);
+        harness.processElement(row, 1);
+        row.setField(1, 2);
+        row.setField(2, 2);
+        harness.processElement(row, 1);
+        harness.processWatermark(new Watermark(1));
+
+        List<Integer> keys = new ArrayList<>();
+        for (Object record : harness.getOutput()) {
+            if (record instanceof StreamRecord) {
+                keys.add(((StreamRecord<Tuple2<RowData, Integer>>) record).getValue().f0.getInt(1));
+            }
+        }
+        assertThat(keys).containsExactly(1, 2);
+
+        harness.close();
+    }
+
+    private HashBucketAssignerOperator<RowData> createOperator() throws Exception {
+        RowType rowType =
+                RowType.of(
+                        new DataType[] {DataTypes.INT(), DataTypes.INT(), DataTypes.INT()},
+                        new String[] {"pt", "k", "v"});
+        Options options = new Options();
+        options.set(CoreOptions.BUCKET, -1);
+        options.set(CoreOptions.DYNAMIC_BUCKET_INDEX_PREFETCH_THREADS, 1);
+        Path tablePath = new Path(tempDir.toString());
+        TableSchema tableSchema =
+                SchemaUtils.forceCommit(
+                        new SchemaManager(LocalFileIO.create(), tablePath),
+                        new Schema(
+                                rowType.getFields(),
+                                Collections.singletonList("pt"),
+                                Arrays.asList("pt", "k"),
+                                options.toMap(),
+                                ""));
+        FileStoreTable table =
+                FileStoreTableFactory.create(LocalFileIO.create(), tablePath, tableSchema);
+
+        return new HashBucketAssignerOperator<>(
+                UUID.randomUUID().toString(), table, RowDataPartitionKeyExtractor::new);
+    }
+}
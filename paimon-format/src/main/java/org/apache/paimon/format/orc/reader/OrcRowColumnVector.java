@@ -46,4 +46,9 @@ public class OrcRowColumnVector extends AbstractOrcColumnVector
         this.columnarRow.setRowId(i);
         return this.columnarRow;
     }
+
+    @Override
+    public VectorizedColumnBatch getBatch() {
+        return columnarRow.batch();
+    }
 }
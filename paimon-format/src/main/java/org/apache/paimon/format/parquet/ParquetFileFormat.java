@@ -31,6 +31,8 @@ import org.apache.paimon.statistics.FieldStatsCollector;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.Projection;
 
+import javax.annotation.Nullable;
+
 import java.util.List;
 import java.util.Optional;
 
@@ -53,11 +55,12 @@ public class ParquetFileFormat extends FileFormat {
 
     @Override
     public FormatReaderFactory createReaderFactory(
-            RowType type, int[][] projection, List<Predicate> filters) {
+            RowType type, int[][] projection, @Nullable List<Predicate> filters) {
         return new ParquetReaderFactory(
                 getParquetConfiguration(formatContext.formatOptions()),
                 Projection.of(projection).project(type),
-                formatContext.readBatchSize());
+                formatContext.readBatchSize(),
+                filters);
     }
 
     @Override
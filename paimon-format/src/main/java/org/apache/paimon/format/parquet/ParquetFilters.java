@@ -0,0 +1,356 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.format.parquet;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.Decimal;
+import org.apache.paimon.data.Timestamp;
+import org.apache.paimon.predicate.FieldRef;
+import org.apache.paimon.predicate.FunctionVisitor;
+import org.apache.paimon.predicate.Predicate;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DecimalType;
+import org.apache.paimon.types.LocalZonedTimestampType;
+import org.apache.paimon.types.TimestampType;
+
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.filter2.predicate.FilterApi;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.filter2.predicate.Operators;
+import org.apache.parquet.io.api.Binary;
+
+import javax.annotation.Nullable;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+import static org.apache.paimon.format.parquet.ParquetSchemaConverter.is32BitDecimal;
+import static org.apache.paimon.format.parquet.ParquetSchemaConverter.is64BitDecimal;
+
+/**
+ * Convert {@link Predicate}s to parquet {@link FilterPredicate}s, which are used to skip row groups
+ * by statistics, dictionaries and bloom filters.
+ */
+public class ParquetFilters {
+
+    private static final ConvertFilterToParquet CONVERTER = new ConvertFilterToParquet();
+
+    private ParquetFilters() {}
+
+    /**
+     * Convert the given predicates to a parquet {@link FilterCompat.Filter}, predicates which can
+     * not be converted are ignored.
+     */
+    public static FilterCompat.Filter convert(@Nullable List<Predicate> predicates) {
+        FilterPredicate result = null;
+        if (predicates != null) {
+            for (Predicate predicate : predicates) {
+                Optional<FilterPredicate> converted = predicate.visit(CONVERTER);
+                if (converted.isPresent()) {
+                    result =
+                            result == null
+                                    ? converted.get()
+                                    : FilterApi.and(result, converted.get());
+                }
+            }
+        }
+
+        return result == null ? FilterCompat.NOOP : FilterCompat.get(result);
+    }
+
+    /** A {@link FunctionVisitor} to convert {@link Predicate} to {@link FilterPredicate}. */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static class ConvertFilterToParquet
+            implements FunctionVisitor<Optional<FilterPredicate>> {
+
+        @Override
+        public Optional<FilterPredicate> visitIsNotNull(FieldRef fieldRef) {
+            return toParquetColumn(fieldRef)
+                    .map(
+                            column ->
+                                    FilterApi.notEq(
+                                            (Operators.Column & Operators.SupportsEqNotEq) column,
+                                            null));
+        }
+
+        @Override
+        public Optional<FilterPredicate> visitIsNull(FieldRef fieldRef) {
+            return toParquetColumn(fieldRef)
+                    .map(
+                            column ->
+                                    FilterApi.eq(
+                                            (Operators.Column & Operators.SupportsEqNotEq) column,
+                                            null));
+        }
+
+        @Override
+        public Optional<FilterPredicate> visitStartsWith(FieldRef fieldRef, Object literal) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<FilterPredicate> visitLessThan(FieldRef fieldRef, Object literal) {
+            return convertBinary(
+                    fieldRef,
+                    literal,
+                    true,
+                    (column, value) ->
+                            FilterApi.lt(
+                                    (Operators.Column & Operators.SupportsLtGt) column, value));
+        }
+
+        @Override
+        public Optional<FilterPredicate> visitGreaterOrEqual(FieldRef fieldRef, Object literal) {
+            return convertBinary(
+                    fieldRef,
+                    literal,
+                    true,
+                    (column, value) ->
+                            FilterApi.gtEq(
+                                    (Operators.Column & Operators.SupportsLtGt) column, value));
+        }
+
+        @Override
+        public Optional<FilterPredicate> visitNotEqual(FieldRef fieldRef, Object literal) {
+            return convertBinary(
+                    fieldRef,
+                    literal,
+                    false,
+                    (column, value) ->
+                            FilterApi.notEq(
+                                    (Operators.Column & Operators.SupportsEqNotEq) column, value));
+        }
+
+        @Override
+        public Optional<FilterPredicate> visitLessOrEqual(FieldRef fieldRef, Object literal) {
+            return convertBinary(
+                    fieldRef,
+                    literal,
+                    true,
+                    (column, value) ->
+                            FilterApi.ltEq(
+                                    (Operators.Column & Operators.SupportsLtGt) column, value));
+        }
+
+        @Override
+        public Optional<FilterPredicate> visitEqual(FieldRef fieldRef, Object literal) {
+            return convertBinary(
+                    fieldRef,
+                    literal,
+                    false,
+                    (column, value) ->
+                            FilterApi.eq(
+                                    (Operators.Column & Operators.SupportsEqNotEq) column, value));
+        }
+
+        @Override
+        public Optional<FilterPredicate> visitGreaterThan(FieldRef fieldRef, Object literal) {
+            return convertBinary(
+                    fieldRef,
+                    literal,
+                    true,
+                    (column, value) ->
+                            FilterApi.gt(
+                                    (Operators.Column & Operators.SupportsLtGt) column, value));
+        }
+
+        @Override
+        public Optional<FilterPredicate> visitIn(FieldRef fieldRef, List<Object> literals) {
+            FilterPredicate result = null;
+            for (Object literal : literals) {
+                if (literal == null) {
+                    // null never matches 'in', skip it
+                    continue;
+                }
+                Optional<FilterPredicate> equal = visitEqual(fieldRef, literal);
+                if (!equal.isPresent()) {
+                    return Optional.empty();
+                }
+                result = result == null ? equal.get() : FilterApi.or(result, equal.get());
+            }
+            return Optional.ofNullable(result);
+        }
+
+        @Override
+        public Optional<FilterPredicate> visitNotIn(FieldRef fieldRef, List<Object> literals) {
+            FilterPredicate result = null;
+            for (Object literal : literals) {
+                if (literal == null) {
+                    // 'not in' with null literal filters out all records, keep it conservative
+                    return Optional.empty();
+                }
+                Optional<FilterPredicate> notEqual = visitNotEqual(fieldRef, literal);
+                if (!notEqual.isPresent()) {
+                    return Optional.empty();
+                }
+                result = result == null ? notEqual.get() : FilterApi.and(result, notEqual.get());
+            }
+            return Optional.ofNullable(result);
+        }
+
+        @Override
+        public Optional<FilterPredicate> visitAnd(List<Optional<FilterPredicate>> children) {
+            if (children.size() != 2) {
+                throw new RuntimeException("Illegal and children: " + children.size());
+            }
+
+            Optional<FilterPredicate> c1 = children.get(0);
+            Optional<FilterPredicate> c2 = children.get(1);
+            if (!c1.isPresent()) {
+                // the other side can still be used to filter
+                return c2;
+            }
+            if (!c2.isPresent()) {
+                return c1;
+            }
+            return Optional.of(FilterApi.and(c1.get(), c2.get()));
+        }
+
+        @Override
+        public Optional<FilterPredicate> visitOr(List<Optional<FilterPredicate>> children) {
+            if (children.size() != 2) {
+                throw new RuntimeException("Illegal or children: " + children.size());
+            }
+
+            Optional<FilterPredicate> c1 = children.get(0);
+            if (!c1.isPresent()) {
+                return Optional.empty();
+            }
+            Optional<FilterPredicate> c2 = children.get(1);
+            return c2.map(value -> FilterApi.or(c1.get(), value));
+        }
+
+        private Optional<FilterPredicate> convertBinary(
+                FieldRef fieldRef,
+                Object literal,
+                boolean ltGt,
+                BiFunction<Operators.Column<?>, Comparable, FilterPredicate> func) {
+            if (literal == null) {
+                return Optional.empty();
+            }
+            Optional<Operators.Column<?>> column = toParquetColumn(fieldRef);
+            if (!column.isPresent()
+                    || (ltGt && !(column.get() instanceof Operators.SupportsLtGt))) {
+                return Optional.empty();
+            }
+            Comparable<?> value = toParquetObject(fieldRef.type(), literal);
+            return value == null ? Optional.empty() : Optional.of(func.apply(column.get(), value));
+        }
+    }
+
+    private static Optional<Operators.Column<?>> toParquetColumn(FieldRef fieldRef) {
+        String name = fieldRef.name();
+        if (name.contains(".")) {
+            // FilterApi splits the name on dots into a nested column path and parquet has no way
+            // to escape them, so a top-level field such as 'a.b' can not be referenced
+            return Optional.empty();
+        }
+
+        DataType type = fieldRef.type();
+        switch (type.getTypeRoot()) {
+            case BOOLEAN:
+                return Optional.of(FilterApi.booleanColumn(name));
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER:
+            case DATE:
+            case TIME_WITHOUT_TIME_ZONE:
+                return Optional.of(FilterApi.intColumn(name));
+            case BIGINT:
+                return Optional.of(FilterApi.longColumn(name));
+            case FLOAT:
+                return Optional.of(FilterApi.floatColumn(name));
+            case DOUBLE:
+                return Optional.of(FilterApi.doubleColumn(name));
+            case CHAR:
+            case VARCHAR:
+            case BINARY:
+            case VARBINARY:
+                return Optional.of(FilterApi.binaryColumn(name));
+            case DECIMAL:
+                int decimalPrecision = ((DecimalType) type).getPrecision();
+                if (is32BitDecimal(decimalPrecision)) {
+                    return Optional.of(FilterApi.intColumn(name));
+                } else if (is64BitDecimal(decimalPrecision)) {
+                    return Optional.of(FilterApi.longColumn(name));
+                }
+                // decimals stored as fixed length byte arrays are not supported
+                return Optional.empty();
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                // timestamps stored as INT96 are not supported
+                return timestampPrecision(type) <= 6
+                        ? Optional.of(FilterApi.longColumn(name))
+                        : Optional.empty();
+            default:
+                return Optional.empty();
+        }
+    }
+
+    @Nullable
+    private static Comparable<?> toParquetObject(DataType type, Object literal) {
+        switch (type.getTypeRoot()) {
+            case BOOLEAN:
+                return (Boolean) literal;
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER:
+            case DATE:
+            case TIME_WITHOUT_TIME_ZONE:
+                return ((Number) literal).intValue();
+            case BIGINT:
+                return ((Number) literal).longValue();
+            case FLOAT:
+                return ((Number) literal).floatValue();
+            case DOUBLE:
+                return ((Number) literal).doubleValue();
+            case CHAR:
+            case VARCHAR:
+                return Binary.fromConstantByteArray(((BinaryString) literal).toBytes());
+            case BINARY:
+            case VARBINARY:
+                return Binary.fromConstantByteArray((byte[]) literal);
+            case DECIMAL:
+                long unscaled = ((Decimal) literal).toUnscaledLong();
+                return is32BitDecimal(((DecimalType) type).getPrecision())
+                        ? (Comparable<?>) (int) unscaled
+                        : (Comparable<?>) unscaled;
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                Timestamp timestamp = (Timestamp) literal;
+                // the literal must be exactly representable in the stored unit, otherwise the
+                // truncated value may filter out matched row groups
+                if (timestampPrecision(type) <= 3) {
+                    return timestamp.getNanoOfMillisecond() == 0
+                            ? timestamp.getMillisecond()
+                            : null;
+                }
+                return timestamp.getNanoOfMillisecond() % 1000 == 0 ? timestamp.toMicros() : null;
+            default:
+                return null;
+        }
+    }
+
+    private static int timestampPrecision(DataType type) {
+        return type instanceof TimestampType
+                ? ((TimestampType) type).getPrecision()
+                : ((LocalZonedTimestampType) type).getPrecision();
+    }
+}
@@ -31,6 +31,7 @@ import org.apache.paimon.format.parquet.reader.ParquetTimestampVector;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.options.Options;
+import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.reader.RecordReader.RecordIterator;
 import org.apache.paimon.types.DataType;
@@ -40,6 +41,7 @@ import org.apache.paimon.utils.Pool;
 import org.apache.parquet.ParquetReadOptions;
 import org.apache.parquet.column.ColumnDescriptor;
 import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.filter2.compat.FilterCompat;
 import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetInputFormat;
 import org.apache.parquet.schema.GroupType;
@@ -77,13 +79,19 @@ public class ParquetReaderFactory implements FormatReaderFactory {
     private final String[] projectedFields;
     private final DataType[] projectedTypes;
     private final int batchSize;
-    private final Set<Integer> unknownFieldsIndices = new HashSet<>();
+    @Nullable private final List<Predicate> filters;
 
     public ParquetReaderFactory(Options conf, RowType projectedType, int batchSize) {
+        this(conf, projectedType, batchSize, null);
+    }
+
+    public ParquetReaderFactory(
+            Options conf, RowType projectedType, int batchSize, @Nullable List<Predicate> filters) {
         this.conf = conf;
         this.projectedFields = projectedType.getFieldNames().toArray(new String[0]);
         this.projectedTypes = projectedType.getFieldTypes().toArray(new DataType[0]);
         this.batchSize = batchSize;
+        this.filters = filters;
     }
 
     @Override
@@ -98,14 +106,21 @@ public class ParquetReaderFactory implements FormatReaderFactory {
         ParquetFileReader reader =
                 new ParquetFileReader(ParquetInputFile.fromPath(fileIO, filePath), builder.build());
         MessageType fileSchema = reader.getFileMetaData().getSchema();
-        MessageType requestedSchema = clipParquetSchema(fileSchema);
+        // readers may be created concurrently, so the missing fields are tracked per file
+        Set<Integer> unknownFieldsIndices = new HashSet<>();
+        MessageType requestedSchema = clipParquetSchema(fileSchema, unknownFieldsIndices);
         reader.setRequestedSchema(requestedSchema);
 
         checkSchema(fileSchema, requestedSchema);
 
         Pool<ParquetReaderBatch> poolOfBatches = createPoolOfBatches(requestedSchema);
 
-        return new ParquetReader(reader, requestedSchema, reader.getRecordCount(), poolOfBatches);
+        return new ParquetReader(
+                reader,
+                requestedSchema,
+                unknownFieldsIndices,
+                reader.getRecordCount(),
+                poolOfBatches);
     }
 
     private void setReadOptions(ParquetReadOptions.Builder builder) {
@@ -121,6 +136,12 @@ public class ParquetReaderFactory implements FormatReaderFactory {
                 conf.getBoolean(ParquetInputFormat.PAGE_VERIFY_CHECKSUM_ENABLED, false));
         builder.useBloomFilter(conf.getBoolean(ParquetInputFormat.BLOOM_FILTERING_ENABLED, true));
         builder.withMaxAllocationInBytes(conf.getInteger(ALLOCATION_SIZE, 8388608));
+        // row groups are skipped by statistics, dictionaries and bloom filters when the
+        // ParquetFileReader is created
+        FilterCompat.Filter filter = ParquetFilters.convert(filters);
+        if (filter != FilterCompat.NOOP) {
+            builder.withRecordFilter(filter);
+        }
         String badRecordThresh = conf.getString(BAD_RECORD_THRESHOLD_CONF_KEY, null);
         if (badRecordThresh != null) {
             builder.set(BAD_RECORD_THRESHOLD_CONF_KEY, badRecordThresh);
@@ -128,7 +149,8 @@ public class ParquetReaderFactory implements FormatReaderFactory {
     }
 
     /** Clips `parquetSchema` according to `fieldNames`. */
-    private MessageType clipParquetSchema(GroupType parquetSchema) {
+    private MessageType clipParquetSchema(
+            GroupType parquetSchema, Set<Integer> unknownFieldsIndices) {
         Type[] types = new Type[projectedFields.length];
         for (int i = 0; i < projectedFields.length; ++i) {
             String fieldName = projectedFields[i];
@@ -238,6 +260,8 @@ public class ParquetReaderFactory implements FormatReaderFactory {
 
         private final MessageType requestedSchema;
 
+        private final Set<Integer> unknownFieldsIndices;
+
         /**
          * The total number of rows this RecordReader will eventually read. The sum of the rows of
          * all the row groups.
@@ -262,10 +286,12 @@ public class ParquetReaderFactory implements FormatReaderFactory {
         private ParquetReader(
                 ParquetFileReader reader,
                 MessageType requestedSchema,
+                Set<Integer> unknownFieldsIndices,
                 long totalRowCount,
                 Pool<ParquetReaderBatch> pool) {
             this.reader = reader;
             this.requestedSchema = requestedSchema;
+            this.unknownFieldsIndices = unknownFieldsIndices;
             this.totalRowCount = totalRowCount;
             this.pool = pool;
             this.rowsReturned = 0;
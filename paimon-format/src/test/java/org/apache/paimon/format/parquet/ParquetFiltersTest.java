@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.format.parquet;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.Timestamp;
+import org.apache.paimon.predicate.Predicate;
+import org.apache.paimon.predicate.PredicateBuilder;
+import org.apache.paimon.types.ArrayType;
+import org.apache.paimon.types.BigIntType;
+import org.apache.paimon.types.DataField;
+import org.apache.paimon.types.IntType;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.types.TimestampType;
+import org.apache.paimon.types.VarCharType;
+
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.filter2.predicate.FilterApi;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.filter2.predicate.Operators;
+import org.apache.parquet.io.api.Binary;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link ParquetFilters}. */
+public class ParquetFiltersTest {
+
+    private static final RowType ROW_TYPE =
+            new RowType(
+                    Arrays.asList(
+                            new DataField(0, "long1", new BigIntType()),
+                            new DataField(1, "int1", new IntType()),
+                            new DataField(2, "string1", new VarCharType()),
+                            new DataField(3, "ts1", new TimestampType(3)),
+                            new DataField(4, "array1", new ArrayType(new IntType())),
+                            new DataField(5, "a.b", new IntType())));
+
+    private static final PredicateBuilder BUILDER = new PredicateBuilder(ROW_TYPE);
+
+    @Test
+    public void testLeafPredicates() {
+        Operators.LongColumn long1 = FilterApi.longColumn("long1");
+        test(BUILDER.equal(0, 5L), FilterApi.eq(long1, 5L));
+        test(BUILDER.notEqual(0, 5L), FilterApi.notEq(long1, 5L));
+        test(BUILDER.lessThan(0, 5L), FilterApi.lt(long1, 5L));
+        test(BUILDER.lessOrEqual(0, 5L), FilterApi.ltEq(long1, 5L));
+        test(BUILDER.greaterThan(0, 5L), FilterApi.gt(long1, 5L));
+        test(BUILDER.greaterOrEqual(0, 5L), FilterApi.gtEq(long1, 5L));
+        test(BUILDER.isNull(0), FilterApi.eq(long1, null));
+        test(BUILDER.isNotNull(0), FilterApi.notEq(long1, null));
+
+        test(
+                BUILDER.equal(2, BinaryString.fromString("abc")),
+                FilterApi.eq(FilterApi.binaryColumn("string1"), Binary.fromString("abc")));
+        test(
+                BUILDER.lessThan(3, Timestamp.fromEpochMillis(1000)),
+                FilterApi.lt(FilterApi.longColumn("ts1"), 1000L));
+    }
+
+    @Test
+    public void testDottedFieldName() {
+        // 'a.b' would be read as the nested field 'b' of 'a', so it is not pushed down
+        assertThat(ParquetFilters.convert(Collections.singletonList(BUILDER.equal(5, 1))))
+                .isSameAs(FilterCompat.NOOP);
+        test(
+                PredicateBuilder.and(BUILDER.equal(5, 1), BUILDER.equal(1, 2)),
+                FilterApi.eq(FilterApi.intColumn("int1"), 2));
+    }
+
+    @Test
+    public void testCompoundPredicates() {
+        Operators.IntColumn int1 = FilterApi.intColumn("int1");
+        test(
+                BUILDER.in(1, Arrays.asList(1, 2, 3)),
+                FilterApi.or(
+                        FilterApi.or(FilterApi.eq(int1, 1), FilterApi.eq(int1, 2)),
+                        FilterApi.eq(int1, 3)));
+        test(
+                BUILDER.between(1, 1, 3),
+                FilterApi.and(FilterApi.gtEq(int1, 1), FilterApi.ltEq(int1, 3)));
+
+        // the unsupported side of 'and' is ignored
+        test(PredicateBuilder.and(BUILDER.equal(1, 1), BUILDER.isNull(4)), FilterApi.eq(int1, 1));
+
+        // 'or' can not be converted if any side is unsupported
+        assertThat(
+                        ParquetFilters.convert(
+                                Collections.singletonList(
+                                        PredicateBuilder.or(
+                                                BUILDER.equal(1, 1), BUILDER.isNull(4)))))
+                .isSameAs(FilterCompat.NOOP);
+    }
+
+    @Test
+    public void testUnsupportedPredicates() {
+        assertThat(ParquetFilters.convert(null)).isSameAs(FilterCompat.NOOP);
+        assertThat(ParquetFilters.convert(Collections.singletonList(BUILDER.isNull(4))))
+                .isSameAs(FilterCompat.NOOP);
+        assertThat(
+                        ParquetFilters.convert(
+                                Collections.singletonList(
+                                        BUILDER.startsWith(2, BinaryString.fromString("a")))))
+                .isSameAs(FilterCompat.NOOP);
+        // the literal can not be represented in milliseconds
+        assertThat(
+                        ParquetFilters.convert(
+                                Collections.singletonList(
+                                        BUILDER.lessThan(3, Timestamp.fromEpochMillis(1000, 1)))))
+                .isSameAs(FilterCompat.NOOP);
+    }
+
+    private void test(Predicate predicate, FilterPredicate expected) {
+        FilterCompat.Filter filter = ParquetFilters.convert(Collections.singletonList(predicate));
+        assertThat(filter).isInstanceOf(FilterCompat.FilterPredicateCompat.class);
+        assertThat(((FilterCompat.FilterPredicateCompat) filter).getFilterPredicate())
+                .isEqualTo(expected);
+    }
+}
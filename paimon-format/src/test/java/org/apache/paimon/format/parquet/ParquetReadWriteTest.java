@@ -30,6 +30,8 @@ import org.apache.paimon.format.parquet.writer.RowDataParquetBuilder;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.fs.local.LocalFileIO;
 import org.apache.paimon.options.Options;
+import org.apache.paimon.predicate.Predicate;
+import org.apache.paimon.predicate.PredicateBuilder;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.types.ArrayType;
 import org.apache.paimon.types.BigIntType;
@@ -48,6 +50,9 @@ import org.apache.paimon.types.TinyIntType;
 import org.apache.paimon.types.VarCharType;
 import org.apache.paimon.utils.InstantiationUtil;
 
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -59,6 +64,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -67,6 +73,7 @@ import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -281,6 +288,105 @@ public class ParquetReadWriteTest {
                 });
     }
 
+    @ParameterizedTest
+    @MethodSource("parameters")
+    void testReadWithFilter(int rowGroupSize) throws IOException {
+        int number = 10000;
+        List<InternalRow> records = new ArrayList<>(number);
+        for (int i = 0; i < number; i++) {
+            Integer v = i;
+            records.add(newRow(v));
+        }
+
+        Path testPath = createTempParquetFile(folder, records, rowGroupSize);
+
+        DataType[] fieldTypes = new DataType[] {new IntType(), new VarCharType()};
+        RowType readType = RowType.builder().fields(fieldTypes, new String[] {"f4", "f99"}).build();
+        PredicateBuilder builder = new PredicateBuilder(readType);
+        // f99 not exist in parquet file, all of its values are null
+        List<Predicate> filters = Arrays.asList(builder.greaterOrEqual(0, 9000), builder.isNull(1));
+        ParquetReaderFactory format =
+                new ParquetReaderFactory(new Options(), readType, 500, filters);
+
+        List<Integer> values = new ArrayList<>();
+        RecordReader<InternalRow> reader = format.createReader(new LocalFileIO(), testPath);
+        reader.forEachRemaining(row -> values.add(row.getInt(0)));
+
+        // only the row groups with records >= 9000 are read
+        assertThat(values).containsExactlyElementsOf(rowsOfRowGroups(testPath, 9000));
+        if (rowGroupSize == 10) {
+            // every row group is very small, most of them should be skipped
+            assertThat(values.size()).isLessThan(number);
+        }
+
+        // filter out all records
+        format =
+                new ParquetReaderFactory(
+                        new Options(),
+                        readType,
+                        500,
+                        Collections.singletonList(builder.greaterThan(0, number)));
+        reader = format.createReader(new LocalFileIO(), testPath);
+        AtomicInteger cnt = new AtomicInteger(0);
+        reader.forEachRemaining(row -> cnt.incrementAndGet());
+        assertThat(cnt.get()).isEqualTo(0);
+    }
+
+    @Test
+    void testReadWithFilterOnDottedField() throws IOException {
+        RowType rowType =
+                RowType.builder()
+                        .field("a", RowType.builder().field("b", new IntType()).build())
+                        .field("a.b", new IntType())
+                        .build();
+        Path path = new Path(folder.getPath(), UUID.randomUUID().toString());
+        Options conf = new Options();
+        conf.setInteger("parquet.block.size", 10);
+        FormatWriter writer =
+                new ParquetWriterFactory(new RowDataParquetBuilder(rowType, conf))
+                        .create(new LocalFileIO().newOutputStream(path, false), "snappy");
+        for (int i = 0; i < 1000; i++) {
+            writer.addElement(GenericRow.of(GenericRow.of(999 - i), i));
+        }
+        writer.flush();
+        writer.finish();
+
+        // the filter on the top-level field 'a.b' must not be applied to the nested field 'b' of
+        // 'a', it can not be referenced in parquet filters and is not pushed down
+        ParquetReaderFactory format =
+                new ParquetReaderFactory(
+                        new Options(),
+                        rowType,
+                        500,
+                        Collections.singletonList(
+                                new PredicateBuilder(rowType).greaterOrEqual(1, 900)));
+        List<Integer> values = new ArrayList<>();
+        RecordReader<InternalRow> reader = format.createReader(new LocalFileIO(), path);
+        reader.forEachRemaining(row -> values.add(row.getInt(1)));
+        assertThat(values)
+                .containsExactlyElementsOf(
+                        IntStream.range(0, 1000).boxed().collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns the records of the row groups containing records not less than the lower bound, the
+     * records are written in ascending order.
+     */
+    private List<Integer> rowsOfRowGroups(Path path, int lowerBound) throws IOException {
+        List<Integer> rows = new ArrayList<>();
+        try (ParquetFileReader reader = ParquetUtil.getParquetReader(new LocalFileIO(), path)) {
+            int start = 0;
+            for (BlockMetaData block : reader.getFooter().getBlocks()) {
+                int end = start + (int) block.getRowCount();
+                if (end - 1 >= lowerBound) {
+                    IntStream.range(start, end).forEach(rows::add);
+                }
+                start = end;
+            }
+        }
+        return rows;
+    }
+
     private void innerTestTypes(File folder, List<Integer> records, int rowGroupSize)
             throws IOException {
         List<InternalRow> rows = records.stream().map(this::newRow).collect(Collectors.toList());
@@ -0,0 +1,303 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.spark;
+
+import org.apache.paimon.data.columnar.ArrayColumnVector;
+import org.apache.paimon.data.columnar.BooleanColumnVector;
+import org.apache.paimon.data.columnar.ByteColumnVector;
+import org.apache.paimon.data.columnar.BytesColumnVector;
+import org.apache.paimon.data.columnar.DecimalColumnVector;
+import org.apache.paimon.data.columnar.DoubleColumnVector;
+import org.apache.paimon.data.columnar.FloatColumnVector;
+import org.apache.paimon.data.columnar.IntColumnVector;
+import org.apache.paimon.data.columnar.LongColumnVector;
+import org.apache.paimon.data.columnar.MapColumnVector;
+import org.apache.paimon.data.columnar.RowColumnVector;
+import org.apache.paimon.data.columnar.ShortColumnVector;
+import org.apache.paimon.data.columnar.TimestampColumnVector;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+import org.apache.paimon.types.ArrayType;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.IntType;
+import org.apache.paimon.types.MapType;
+import org.apache.paimon.types.MultisetType;
+import org.apache.paimon.types.RowType;
+
+import org.apache.spark.sql.types.Decimal;
+import org.apache.spark.sql.vectorized.ColumnVector;
+import org.apache.spark.sql.vectorized.ColumnarArray;
+import org.apache.spark.sql.vectorized.ColumnarMap;
+import org.apache.spark.unsafe.types.UTF8String;
+
+import javax.annotation.Nullable;
+
+import static org.apache.paimon.spark.SparkInternalRow.fromPaimon;
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+import static org.apache.paimon.utils.TypeUtils.timestampPrecision;
+
+/**
+ * Spark {@link ColumnVector} to wrap paimon {@link org.apache.paimon.data.columnar.ColumnVector}
+ * without copying. The element, key, value and field vectors of arrays, maps and rows are wrapped
+ * as children, see {@link #isSupported} for the supported types.
+ */
+public class SparkColumnVector extends ColumnVector {
+
+    private final org.apache.paimon.data.columnar.ColumnVector vector;
+    private final DataType paimonType;
+    private final int numNulls;
+    @Nullable private final ColumnVector[] children;
+
+    public SparkColumnVector(
+            org.apache.paimon.data.columnar.ColumnVector vector, DataType paimonType, int numRows) {
+        super(SparkTypeUtils.fromPaimonType(paimonType));
+        checkArgument(isSupported(paimonType), "Unsupported type: %s", paimonType);
+        this.vector = vector;
+        this.paimonType = paimonType;
+        this.numNulls = countNulls(vector, numRows);
+        this.children = createChildren(vector, paimonType, numRows);
+    }
+
+    @Nullable
+    private static ColumnVector[] createChildren(
+            org.apache.paimon.data.columnar.ColumnVector vector, DataType type, int numRows) {
+        switch (type.getTypeRoot()) {
+            case ARRAY:
+                ArrayColumnVector arrayVector = (ArrayColumnVector) vector;
+                int numElements = 0;
+                for (int i = 0; i < numRows; i++) {
+                    if (!vector.isNullAt(i)) {
+                        org.apache.paimon.data.columnar.ColumnarArray array =
+                                (org.apache.paimon.data.columnar.ColumnarArray)
+                                        arrayVector.getArray(i);
+                        numElements = Math.max(numElements, array.getOffset() + array.size());
+                    }
+                }
+                return new ColumnVector[] {
+                    new SparkColumnVector(
+                            arrayVector.getColumnVector(),
+                            ((ArrayType) type).getElementType(),
+                            numElements)
+                };
+            case MAP:
+            case MULTISET:
+                MapColumnVector mapVector = (MapColumnVector) vector;
+                int numEntries = 0;
+                for (int i = 0; i < numRows; i++) {
+                    if (!vector.isNullAt(i)) {
+                        org.apache.paimon.data.columnar.ColumnarMap map =
+                                (org.apache.paimon.data.columnar.ColumnarMap) mapVector.getMap(i);
+                        numEntries = Math.max(numEntries, map.getOffset() + map.size());
+                    }
+                }
+                DataType keyType =
+                        type instanceof MapType
+                                ? ((MapType) type).getKeyType()
+                                : ((MultisetType) type).getElementType();
+                DataType valueType =
+                        type instanceof MapType
+                                ? ((MapType) type).getValueType()
+                                : new IntType(false);
+                return new ColumnVector[] {
+                    new SparkColumnVector(mapVector.getKeyColumnVector(), keyType, numEntries),
+                    new SparkColumnVector(mapVector.getValueColumnVector(), valueType, numEntries)
+                };
+            case ROW:
+                RowType rowType = (RowType) type;
+                VectorizedColumnBatch batch = ((RowColumnVector) vector).getBatch();
+                ColumnVector[] fields = new ColumnVector[rowType.getFieldCount()];
+                for (int i = 0; i < fields.length; i++) {
+                    fields[i] =
+                            new SparkColumnVector(batch.columns[i], rowType.getTypeAt(i), numRows);
+                }
+                return fields;
+            default:
+                return null;
+        }
+    }
+
+    private static int countNulls(
+            org.apache.paimon.data.columnar.ColumnVector vector, int numRows) {
+        int numNulls = 0;
+        for (int i = 0; i < numRows; i++) {
+            if (vector.isNullAt(i)) {
+                numNulls++;
+            }
+        }
+        return numNulls;
+    }
+
+    /** Returns true if all fields of the given type can be wrapped as {@link ColumnVector}s. */
+    public static boolean isSupported(RowType rowType) {
+        for (DataType type : rowType.getFieldTypes()) {
+            if (!isSupported(type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSupported(DataType type) {
+        switch (type.getTypeRoot()) {
+            case BOOLEAN:
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER:
+            case DATE:
+            case BIGINT:
+            case FLOAT:
+            case DOUBLE:
+            case CHAR:
+            case VARCHAR:
+            case BINARY:
+            case VARBINARY:
+            case DECIMAL:
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                return true;
+            case ARRAY:
+                return isSupported(((ArrayType) type).getElementType());
+            case MAP:
+                return isSupported(((MapType) type).getKeyType())
+                        && isSupported(((MapType) type).getValueType());
+            case MULTISET:
+                return isSupported(((MultisetType) type).getElementType());
+            case ROW:
+                return isSupported((RowType) type);
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {}
+
+    @Override
+    public boolean hasNull() {
+        return numNulls() > 0;
+    }
+
+    @Override
+    public int numNulls() {
+        return numNulls;
+    }
+
+    @Override
+    public boolean isNullAt(int rowId) {
+        return vector.isNullAt(rowId);
+    }
+
+    @Override
+    public boolean getBoolean(int rowId) {
+        return ((BooleanColumnVector) vector).getBoolean(rowId);
+    }
+
+    @Override
+    public byte getByte(int rowId) {
+        return ((ByteColumnVector) vector).getByte(rowId);
+    }
+
+    @Override
+    public short getShort(int rowId) {
+        return ((ShortColumnVector) vector).getShort(rowId);
+    }
+
+    @Override
+    public int getInt(int rowId) {
+        return ((IntColumnVector) vector).getInt(rowId);
+    }
+
+    @Override
+    public long getLong(int rowId) {
+        switch (paimonType.getTypeRoot()) {
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                return fromPaimon(
+                        ((TimestampColumnVector) vector)
+                                .getTimestamp(rowId, timestampPrecision(paimonType)));
+            default:
+                return ((LongColumnVector) vector).getLong(rowId);
+        }
+    }
+
+    @Override
+    public float getFloat(int rowId) {
+        return ((FloatColumnVector) vector).getFloat(rowId);
+    }
+
+    @Override
+    public double getDouble(int rowId) {
+        return ((DoubleColumnVector) vector).getDouble(rowId);
+    }
+
+    @Override
+    public ColumnarArray getArray(int rowId) {
+        if (isNullAt(rowId)) {
+            return null;
+        }
+        org.apache.paimon.data.columnar.ColumnarArray array =
+                (org.apache.paimon.data.columnar.ColumnarArray)
+                        ((ArrayColumnVector) vector).getArray(rowId);
+        return new ColumnarArray(children[0], array.getOffset(), array.size());
+    }
+
+    @Override
+    public ColumnarMap getMap(int rowId) {
+        if (isNullAt(rowId)) {
+            return null;
+        }
+        org.apache.paimon.data.columnar.ColumnarMap map =
+                (org.apache.paimon.data.columnar.ColumnarMap)
+                        ((MapColumnVector) vector).getMap(rowId);
+        return new ColumnarMap(children[0], children[1], map.getOffset(), map.size());
+    }
+
+    @Override
+    public Decimal getDecimal(int rowId, int precision, int scale) {
+        if (isNullAt(rowId)) {
+            return null;
+        }
+        org.apache.paimon.data.Decimal decimal =
+                ((DecimalColumnVector) vector).getDecimal(rowId, precision, scale);
+        return decimal.isCompact()
+                ? Decimal.apply(decimal.toUnscaledLong(), precision, scale)
+                : fromPaimon(decimal);
+    }
+
+    @Override
+    public UTF8String getUTF8String(int rowId) {
+        if (isNullAt(rowId)) {
+            return null;
+        }
+        BytesColumnVector.Bytes bytes = ((BytesColumnVector) vector).getBytes(rowId);
+        return UTF8String.fromBytes(bytes.data, bytes.offset, bytes.len);
+    }
+
+    @Override
+    public byte[] getBinary(int rowId) {
+        if (isNullAt(rowId)) {
+            return null;
+        }
+        return ((BytesColumnVector) vector).getBytes(rowId).getBytes();
+    }
+
+    @Override
+    public ColumnVector getChild(int ordinal) {
+        return children[ordinal];
+    }
+}
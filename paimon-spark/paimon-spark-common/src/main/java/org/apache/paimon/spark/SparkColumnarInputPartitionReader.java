@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.spark;
+
+import org.apache.paimon.data.DataGetters;
+import org.apache.paimon.data.InternalArray;
+import org.apache.paimon.data.InternalMap;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
+import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.reader.RecordReader.RecordIterator;
+import org.apache.paimon.reader.VectorizedRecordIterator;
+import org.apache.paimon.types.ArrayType;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DecimalType;
+import org.apache.paimon.types.IntType;
+import org.apache.paimon.types.MapType;
+import org.apache.paimon.types.MultisetType;
+import org.apache.paimon.types.RowType;
+
+import org.apache.spark.sql.connector.read.PartitionReader;
+import org.apache.spark.sql.execution.vectorized.OnHeapColumnVector;
+import org.apache.spark.sql.execution.vectorized.WritableColumnVector;
+import org.apache.spark.sql.vectorized.ColumnVector;
+import org.apache.spark.sql.vectorized.ColumnarBatch;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+
+import static org.apache.paimon.spark.SparkInternalRow.fromPaimon;
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+import static org.apache.paimon.utils.TypeUtils.timestampPrecision;
+
+/**
+ * A spark 3 {@link PartitionReader} for paimon which returns {@link ColumnarBatch}es.
+ *
+ * <p>{@link VectorizedColumnBatch}es produced by the file format readers are wrapped without
+ * copying. Records from other readers (for example, avro files or files need schema evolution) are
+ * copied into {@link OnHeapColumnVector}s.
+ */
+public class SparkColumnarInputPartitionReader implements PartitionReader<ColumnarBatch> {
+
+    private final RecordReader<InternalRow> reader;
+    private final RowType rowType;
+    private final int batchSize;
+
+    /** The iterator of the returned vectorized batch, it is released on next call. */
+    @Nullable private RecordIterator<InternalRow> vectorizedIterator;
+
+    /** The row based iterator which is not exhausted. */
+    @Nullable private RecordIterator<InternalRow> rowIterator;
+
+    @Nullable private OnHeapColumnVector[] rowVectors;
+    @Nullable private ColumnarBatch rowBatch;
+
+    private ColumnarBatch current;
+
+    public SparkColumnarInputPartitionReader(
+            RecordReader<InternalRow> reader, RowType rowType, int batchSize) {
+        checkArgument(
+                SparkColumnVector.isSupported(rowType),
+                "Unsupported type for columnar read: %s",
+                rowType);
+        this.reader = reader;
+        this.rowType = rowType;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public boolean next() throws IOException {
+        releaseVectorizedBatch();
+        while (true) {
+            if (rowIterator == null) {
+                RecordIterator<InternalRow> iterator = reader.readBatch();
+                if (iterator == null) {
+                    return false;
+                }
+
+                if (iterator instanceof VectorizedRecordIterator) {
+                    vectorizedIterator = iterator;
+                    current = wrap(((VectorizedRecordIterator) iterator).batch());
+                    return true;
+                }
+                rowIterator = iterator;
+            }
+
+            if (copyRows() > 0) {
+                current = rowBatch;
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public ColumnarBatch get() {
+        return current;
+    }
+
+    private ColumnarBatch wrap(VectorizedColumnBatch batch) {
+        int numRows = batch.getNumRows();
+        ColumnVector[] vectors = new ColumnVector[batch.getArity()];
+        for (int i = 0; i < vectors.length; i++) {
+            vectors[i] = new SparkColumnVector(batch.columns[i], rowType.getTypeAt(i), numRows);
+        }
+        return new ColumnarBatch(vectors, numRows);
+    }
+
+    /** Copies at most {@link #batchSize} rows from {@link #rowIterator} to {@link #rowBatch}. */
+    private int copyRows() throws IOException {
+        if (rowBatch == null) {
+            rowVectors =
+                    OnHeapColumnVector.allocateColumns(
+                            batchSize, SparkTypeUtils.fromPaimonRowType(rowType));
+            rowBatch = new ColumnarBatch(rowVectors);
+        }
+        for (OnHeapColumnVector vector : rowVectors) {
+            vector.reset();
+        }
+
+        int num = 0;
+        while (num < batchSize) {
+            InternalRow row = rowIterator.next();
+            if (row == null) {
+                rowIterator.releaseBatch();
+                rowIterator = null;
+                break;
+            }
+            for (int i = 0; i < rowVectors.length; i++) {
+                copyField(row, i, rowType.getTypeAt(i), rowVectors[i], num);
+            }
+            num++;
+        }
+        rowBatch.setNumRows(num);
+        return num;
+    }
+
+    private static void copyField(
+            DataGetters row, int pos, DataType type, WritableColumnVector vector, int rowId) {
+        // nested vectors grow with the number of elements, top level vectors hold a whole batch
+        vector.reserve(rowId + 1);
+        if (row.isNullAt(pos)) {
+            vector.putNull(rowId);
+            return;
+        }
+
+        switch (type.getTypeRoot()) {
+            case BOOLEAN:
+                vector.putBoolean(rowId, row.getBoolean(pos));
+                break;
+            case TINYINT:
+                vector.putByte(rowId, row.getByte(pos));
+                break;
+            case SMALLINT:
+                vector.putShort(rowId, row.getShort(pos));
+                break;
+            case INTEGER:
+            case DATE:
+                vector.putInt(rowId, row.getInt(pos));
+                break;
+            case BIGINT:
+                vector.putLong(rowId, row.getLong(pos));
+                break;
+            case FLOAT:
+                vector.putFloat(rowId, row.getFloat(pos));
+                break;
+            case DOUBLE:
+                vector.putDouble(rowId, row.getDouble(pos));
+                break;
+            case CHAR:
+            case VARCHAR:
+                vector.putByteArray(rowId, row.getString(pos).toBytes());
+                break;
+            case BINARY:
+            case VARBINARY:
+                vector.putByteArray(rowId, row.getBinary(pos));
+                break;
+            case DECIMAL:
+                DecimalType decimalType = (DecimalType) type;
+                vector.putDecimal(
+                        rowId,
+                        fromPaimon(
+                                row.getDecimal(
+                                        pos, decimalType.getPrecision(), decimalType.getScale())),
+                        decimalType.getPrecision());
+                break;
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                vector.putLong(rowId, fromPaimon(row.getTimestamp(pos, timestampPrecision(type))));
+                break;
+            case ARRAY:
+                InternalArray array = row.getArray(pos);
+                vector.putArray(
+                        rowId,
+                        copyElements(
+                                array, ((ArrayType) type).getElementType(), vector.arrayData()),
+                        array.size());
+                break;
+            case MAP:
+            case MULTISET:
+                InternalMap map = row.getMap(pos);
+                DataType keyType =
+                        type instanceof MapType
+                                ? ((MapType) type).getKeyType()
+                                : ((MultisetType) type).getElementType();
+                DataType valueType =
+                        type instanceof MapType ? ((MapType) type).getValueType() : new IntType();
+                int offset = copyElements(map.keyArray(), keyType, vector.getChild(0));
+                copyElements(map.valueArray(), valueType, vector.getChild(1));
+                vector.putArray(rowId, offset, map.size());
+                break;
+            case ROW:
+                RowType rowType = (RowType) type;
+                InternalRow nested = row.getRow(pos, rowType.getFieldCount());
+                for (int i = 0; i < rowType.getFieldCount(); i++) {
+                    copyField(nested, i, rowType.getTypeAt(i), vector.getChild(i), rowId);
+                }
+                break;
+            default:
+                // rejected by the constructor
+                throw new IllegalStateException("Unsupported type: " + type);
+        }
+    }
+
+    /** Appends all elements of the array to the vector and returns the offset of the first one. */
+    private static int copyElements(
+            InternalArray array, DataType elementType, WritableColumnVector vector) {
+        int offset = vector.getElementsAppended();
+        for (int i = 0; i < array.size(); i++) {
+            copyField(array, i, elementType, vector, offset + i);
+        }
+        vector.addElementsAppended(array.size());
+        return offset;
+    }
+
+    private void releaseVectorizedBatch() {
+        if (vectorizedIterator != null) {
+            vectorizedIterator.releaseBatch();
+            vectorizedIterator = null;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        releaseVectorizedBatch();
+        if (rowIterator != null) {
+            rowIterator.releaseBatch();
+            rowIterator = null;
+        }
+        if (rowBatch != null) {
+            rowBatch.close();
+        }
+        reader.close();
+    }
+}
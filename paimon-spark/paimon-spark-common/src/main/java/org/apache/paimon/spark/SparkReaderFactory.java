@@ -25,6 +25,7 @@ import org.apache.paimon.table.source.ReadBuilder;
 import org.apache.spark.sql.connector.read.InputPartition;
 import org.apache.spark.sql.connector.read.PartitionReader;
 import org.apache.spark.sql.connector.read.PartitionReaderFactory;
+import org.apache.spark.sql.vectorized.ColumnarBatch;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -37,26 +38,44 @@ public class SparkReaderFactory implements PartitionReaderFactory {
     private static final long serialVersionUID = 1L;
 
     private final ReadBuilder readBuilder;
+    private final boolean columnarReadEnabled;
+    private final int batchSize;
 
-    public SparkReaderFactory(ReadBuilder readBuilder) {
+    public SparkReaderFactory(ReadBuilder readBuilder, boolean columnarReadEnabled, int batchSize) {
         this.readBuilder = readBuilder;
+        this.columnarReadEnabled = columnarReadEnabled;
+        this.batchSize = batchSize;
     }
 
     @Override
     public PartitionReader<org.apache.spark.sql.catalyst.InternalRow> createReader(
             InputPartition partition) {
-        RecordReader<InternalRow> reader;
+        RecordReaderIterator<InternalRow> iterator =
+                new RecordReaderIterator<>(createPaimonReader(partition));
+        SparkInternalRow row = new SparkInternalRow(readBuilder.readType());
+        return new SparkInputPartitionReader(iterator, row);
+    }
+
+    @Override
+    public boolean supportColumnarReads(InputPartition partition) {
+        // must be same for all partitions of a scan
+        return columnarReadEnabled;
+    }
+
+    @Override
+    public PartitionReader<ColumnarBatch> createColumnarReader(InputPartition partition) {
+        return new SparkColumnarInputPartitionReader(
+                createPaimonReader(partition), readBuilder.readType(), batchSize);
+    }
+
+    private RecordReader<InternalRow> createPaimonReader(InputPartition partition) {
         try {
-            reader =
-                    readBuilder
-                            .newRead()
-                            .withIOManager(createIOManager())
-                            .createReader(((SparkInputPartition) partition).split());
+            return readBuilder
+                    .newRead()
+                    .withIOManager(createIOManager())
+                    .createReader(((SparkInputPartition) partition).split());
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
-        RecordReaderIterator<InternalRow> iterator = new RecordReaderIterator<>(reader);
-        SparkInternalRow row = new SparkInternalRow(readBuilder.readType());
-        return new SparkInputPartitionReader(iterator, row);
     }
 }
@@ -18,6 +18,7 @@
 
 package org.apache.paimon.spark;
 
+import org.apache.paimon.data.columnar.VectorizedColumnBatch;
 import org.apache.paimon.table.source.ReadBuilder;
 import org.apache.paimon.table.source.Split;
 
@@ -40,11 +41,19 @@ import java.util.OptionalLong;
 public class SparkScan implements Scan, SupportsReportStatistics {
 
     private final ReadBuilder readBuilder;
+    private final boolean columnarReadEnabled;
+    private final int batchSize;
 
     private List<Split> splits;
 
     public SparkScan(ReadBuilder readBuilder) {
+        this(readBuilder, false, VectorizedColumnBatch.DEFAULT_SIZE);
+    }
+
+    public SparkScan(ReadBuilder readBuilder, boolean columnarReadEnabled, int batchSize) {
         this.readBuilder = readBuilder;
+        this.columnarReadEnabled = columnarReadEnabled;
+        this.batchSize = batchSize;
     }
 
     @Override
@@ -70,7 +79,7 @@ public class SparkScan implements Scan, SupportsReportStatistics {
 
             @Override
             public PartitionReaderFactory createReaderFactory() {
-                return new SparkReaderFactory(readBuilder);
+                return new SparkReaderFactory(readBuilder, columnarReadEnabled, batchSize);
             }
         };
     }
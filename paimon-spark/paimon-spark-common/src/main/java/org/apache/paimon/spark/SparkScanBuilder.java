@@ -18,8 +18,11 @@
 
 package org.apache.paimon.spark;
 
+import org.apache.paimon.CoreOptions;
 import org.apache.paimon.predicate.Predicate;
+import org.apache.paimon.table.AppendOnlyFileStoreTable;
 import org.apache.paimon.table.Table;
+import org.apache.paimon.table.source.ReadBuilder;
 
 import org.apache.spark.sql.connector.read.Scan;
 import org.apache.spark.sql.connector.read.ScanBuilder;
@@ -80,7 +83,15 @@ public class SparkScanBuilder
 
     @Override
     public Scan build() {
+        ReadBuilder readBuilder =
+                table.newReadBuilder().withFilter(predicates).withProjection(projectedFields);
+        // only append only tables return the columnar batches of file formats directly
+        boolean columnarReadEnabled =
+                table instanceof AppendOnlyFileStoreTable
+                        && SparkColumnVector.isSupported(readBuilder.readType());
         return new SparkScan(
-                table.newReadBuilder().withFilter(predicates).withProjection(projectedFields));
+                readBuilder,
+                columnarReadEnabled,
+                CoreOptions.fromMap(table.options()).readBatchSize());
     }
 }
@@ -26,7 +26,11 @@ import org.apache.spark.SparkEnv;
 public class SparkUtils {
 
     public static IOManager createIOManager() {
+        return createIOManager(0);
+    }
+
+    public static IOManager createIOManager(int numAsyncBlocks) {
         String[] localDirs = SparkEnv.get().blockManager().diskBlockManager().localDirsString();
-        return new IOManagerImpl(localDirs);
+        return new IOManagerImpl(localDirs, numAsyncBlocks);
     }
 }
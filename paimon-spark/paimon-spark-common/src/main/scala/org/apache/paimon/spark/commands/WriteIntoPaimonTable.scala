@@ -109,11 +109,12 @@ case class WriteIntoPaimonTable(_table: FileStoreTable, saveMode: SaveMode, data
               withBucketDataEncoder))
       }
 
+    val numAsyncBlocks = table.coreOptions().spillAsyncBlocks()
     val commitMessages = df
       .mapPartitions {
         iter =>
           val write = writeBuilder.newWrite()
-          write.withIOManager(createIOManager)
+          write.withIOManager(createIOManager(numAsyncBlocks))
           try {
             iter.foreach {
               row =>
@@ -234,8 +235,9 @@ object WriteIntoPaimonTable {
               indexFileHandler,
               partition,
               targetBucketRowNumber,
-              (_) => true))
-          val bucket = index.assign(hash, buckFilter)
+              (_) => true,
+              buckFilter))
+          val bucket = index.assign(hash)
           val sparkInternalRow = toRow(row)
           sparkInternalRow.setInt(bucketColIndex, bucket)
           fromRow(sparkInternalRow)
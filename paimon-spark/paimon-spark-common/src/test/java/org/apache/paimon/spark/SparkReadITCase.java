@@ -72,6 +72,69 @@ public class SparkReadITCase extends SparkReadTestBase {
         innerTestNestedType(spark.table("t2"));
     }
 
+    @Test
+    public void testColumnarRead() {
+        for (String format : Arrays.asList("orc", "parquet", "avro")) {
+            String table = "columnar_" + format;
+            spark.sql(
+                    String.format(
+                            "CREATE TABLE %s (a INT, b BIGINT, c STRING, d DECIMAL(10, 2), "
+                                    + "e DECIMAL(38, 2), f TIMESTAMP, g DATE, h BOOLEAN, i DOUBLE) "
+                                    + "TBLPROPERTIES ('write-mode'='append-only', 'file.format'='%s')",
+                            table, format));
+            writeTable(
+                    table,
+                    "(1, 10L, 'a', 1.23, 4.56, TIMESTAMP '2023-01-01 00:00:00', "
+                            + "DATE '2023-01-01', true, 1.5d)",
+                    "(2, null, null, null, null, null, null, null, null)");
+
+            Dataset<Row> dataset = spark.table(table);
+            assertThat(dataset.queryExecution().executedPlan().toString())
+                    .contains("ColumnarToRow");
+            assertThat(dataset.orderBy("a").collectAsList().toString())
+                    .isEqualTo(
+                            "[[1,10,a,1.23,4.56,2023-01-01 00:00:00.0,2023-01-01,true,1.5], "
+                                    + "[2,null,null,null,null,null,null,null,null]]");
+            assertThat(dataset.filter("b = 10").select("c", "a").collectAsList().toString())
+                    .isEqualTo("[[a,1]]");
+        }
+    }
+
+    @Test
+    public void testColumnarReadNestedType() {
+        for (String format : Arrays.asList("orc", "parquet", "avro")) {
+            String table = "columnar_nested_" + format;
+            spark.sql(
+                    String.format(
+                            "CREATE TABLE %s (a INT, b ARRAY<STRING>, c MAP<STRING, BIGINT>, "
+                                    + "d STRUCT<d1: INT, d2: ARRAY<STRING>>) "
+                                    + "TBLPROPERTIES ('write-mode'='append-only', 'file.format'='%s')",
+                            table, format));
+            writeTable(
+                    table,
+                    "(1, array('x', null, 'y'), map('k1', 1L, 'k2', null), "
+                            + "struct(10, array('e', null)))",
+                    "(2, null, null, null)",
+                    "(3, array('z'), map('k3', 3L), struct(null, array('f')))");
+
+            Dataset<Row> dataset = spark.table(table);
+            assertThat(dataset.queryExecution().executedPlan().toString())
+                    .contains("ColumnarToRow");
+            assertThat(dataset.orderBy("a").collectAsList().toString())
+                    .isEqualTo(
+                            "[[1,WrappedArray(x, null, y),Map(k1 -> 1, k2 -> null),"
+                                    + "[10,WrappedArray(e, null)]], "
+                                    + "[2,null,null,null], "
+                                    + "[3,WrappedArray(z),Map(k3 -> 3),[null,WrappedArray(f)]]]");
+            assertThat(
+                            dataset.filter("a = 1")
+                                    .selectExpr("b[2]", "c['k1']", "d.d2[0]")
+                                    .collectAsList()
+                                    .toString())
+                    .isEqualTo("[[y,1,e]]");
+        }
+    }
+
     @Test
     public void testSnapshotsTable() {
         List<Row> rows =